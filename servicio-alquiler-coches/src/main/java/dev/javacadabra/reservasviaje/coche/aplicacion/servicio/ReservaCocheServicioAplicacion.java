@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.util.Random;
 
 @Service
@@ -23,15 +24,27 @@ public class ReservaCocheServicioAplicacion implements
         ReservarCochePuertoEntrada,
         CancelarCochePuertoEntrada {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /**
+     * ISO-8601 de fecha con parte horaria (y offset) opcional, parseado en una sola
+     * pasada: "2024-01-16", "2024-01-16T10:00:00" o "2024-01-16T10:00+02:00".
+     */
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .appendLiteral('T')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalStart()
+            .appendOffsetId()
+            .optionalEnd()
+            .optionalEnd()
+            .toFormatter();
 
     private final ReservaCocheRepositorioPuertoSalida repositorio;
     private final Random random = new Random();
 
     private static LocalDate parseFecha(String s) {
-        int tIndex = s.indexOf('T');
-        String datePart = tIndex > 0 ? s.substring(0, tIndex) : s;
-        return LocalDate.parse(datePart, FORMATTER);
+        return LocalDate.from(FORMATTER.parse(s));
     }
 
     @Override
@@ -0,0 +1,18 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada;
+
+import java.io.Serializable;
+
+/**
+ * DTO de entrada con un cliente a importar y su posición en el fichero de origen.
+ *
+ * @param linea número de línea en el fichero de importación (desde 1)
+ * @param cliente datos del cliente, ya validados sintácticamente
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record FilaImportacionDTO(
+        int linea,
+        CrearClienteDTO cliente
+) implements Serializable {
+}
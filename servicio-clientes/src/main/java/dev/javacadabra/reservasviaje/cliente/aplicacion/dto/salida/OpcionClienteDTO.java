@@ -0,0 +1,18 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida;
+
+import java.io.Serializable;
+
+/**
+ * DTO de salida con un cliente seleccionable en el formulario de inicio.
+ *
+ * @param clienteId identificador único del cliente
+ * @param nombreCompleto nombre completo del cliente
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record OpcionClienteDTO(
+        String clienteId,
+        String nombreCompleto
+) implements Serializable {
+}
@@ -0,0 +1,21 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO de salida con una página de clientes en versión resumida.
+ *
+ * @param clientes clientes de la página
+ * @param siguienteCursor token para pedir la página siguiente (nulo si es la última)
+ * @param hayMas indica si quedan más clientes
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record PaginaClientesDTO(
+        List<ClienteResumenDTO> clientes,
+        String siguienteCursor,
+        boolean hayMas
+) implements Serializable {
+}
@@ -0,0 +1,18 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida;
+
+import java.io.Serializable;
+
+/**
+ * DTO de salida con una fila rechazada durante la importación masiva.
+ *
+ * @param linea número de línea en el fichero de importación
+ * @param motivo motivo del rechazo
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record RechazoImportacionDTO(
+        int linea,
+        String motivo
+) implements Serializable {
+}
@@ -0,0 +1,19 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO de salida con el resultado de importar un lote de clientes.
+ *
+ * @param importados clientes insertados
+ * @param rechazos filas rechazadas, ordenadas por línea
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record ResultadoLoteImportacionDTO(
+        int importados,
+        List<RechazoImportacionDTO> rechazos
+) implements Serializable {
+}
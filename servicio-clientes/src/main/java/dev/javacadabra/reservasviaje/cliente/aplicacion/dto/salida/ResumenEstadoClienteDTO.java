@@ -0,0 +1,31 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida;
+
+import java.io.Serializable;
+
+/**
+ * DTO de salida con el estado de un cliente y su capacidad de pago.
+ *
+ * <p>Se obtiene con una consulta de proyección, sin cargar las tarjetas;
+ * pensado para workers que solo necesitan comprobar el estado.
+ *
+ * @param clienteId identificador único del cliente
+ * @param estado estado actual del cliente
+ * @param motivoBloqueo motivo del bloqueo (si aplica)
+ * @param cantidadTarjetas cantidad total de tarjetas
+ * @param tieneTarjetasValidas indica si tiene al menos una tarjeta válida
+ * @param puedeRealizarPagos indica si puede realizar Pagos
+ * @param estaBloqueado indica si el cliente está bloqueado
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record ResumenEstadoClienteDTO(
+        String clienteId,
+        String estado,
+        String motivoBloqueo,
+        int cantidadTarjetas,
+        boolean tieneTarjetasValidas,
+        boolean puedeRealizarPagos,
+        boolean estaBloqueado
+) implements Serializable {
+}
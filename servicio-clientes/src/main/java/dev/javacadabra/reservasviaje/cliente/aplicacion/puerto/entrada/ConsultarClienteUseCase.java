@@ -2,8 +2,12 @@ package dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada;
 
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteResumenDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.OpcionClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.PaginaClientesDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResumenEstadoClienteDTO;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Puerto de entrada (use case) para consultar información de clientes.
@@ -37,6 +41,20 @@ public interface ConsultarClienteUseCase {
      */
     ClienteDTO buscarPorId(String clienteId);
 
+    /**
+     * Obtiene el estado de un cliente y su capacidad de pago.
+     *
+     * <p>Consulta ligera (proyección): no carga las tarjetas ni reconstruye
+     * el agregado. Preferible a {@link #buscarPorId(String)} cuando solo se
+     * necesita comprobar el estado.
+     *
+     * @param clienteId identificador del cliente
+     * @return resumen del estado del cliente
+     * @throws dev.javacadabra.reservasviaje.cliente.dominio.excepcion.ClienteNoEncontradoExcepcion
+     *         si el cliente no existe
+     */
+    ResumenEstadoClienteDTO obtenerResumenEstado(String clienteId);
+
     /**
      * Busca un cliente por su email.
      *
@@ -64,14 +82,35 @@ public interface ConsultarClienteUseCase {
     ClienteDTO buscarPorDni(String dni);
 
     /**
-     * Lista todos los clientes del sistema (versión resumida).
+     * Lista una página de clientes (versión resumida) ordenados por fecha de
+     * creación, usando paginación por cursor.
      *
-     * <p><strong>ADVERTENCIA:</strong> Este método puede retornar una gran
-     * cantidad de datos. Se recomienda usar paginación en producción.
+     * @param cursor token devuelto en la página anterior (nulo para la primera)
+     * @param tamano número máximo de clientes (se limita a un máximo interno)
+     * @return página de clientes con el cursor de la siguiente
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    PaginaClientesDTO listarPagina(String cursor, int tamano);
+
+    /**
+     * Recorre todos los clientes (versión resumida) ordenados por fecha de
+     * creación, cargándolos por lotes a medida que se consume el stream.
+     *
+     * <p>Pensado para exportaciones y procesos internos; no mantiene en
+     * memoria más que el lote en curso.
+     *
+     * @return stream perezoso de clientes en versión resumida
+     */
+    Stream<ClienteResumenDTO> recorrerTodos();
+
+    /**
+     * Lista los clientes ACTIVO (solo ID y nombre) ordenados por nombre, para
+     * el selector del formulario de inicio de reserva.
      *
-     * @return lista de todos los clientes en versión resumida
+     * @param limite número máximo de opciones
+     * @return opciones de clientes activos
      */
-    List<ClienteResumenDTO> listarTodos();
+    List<OpcionClienteDTO> listarOpcionesClientesActivos(int limite);
 
     /**
      * Verifica si existe un cliente con el email especificado.
@@ -0,0 +1,34 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.FilaImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResultadoLoteImportacionDTO;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada (use case) para la importación masiva de clientes.
+ *
+ * <p>Aplica las mismas reglas que {@link CrearClienteUseCase}, pero por lotes:
+ * la unicidad de email y DNI se comprueba con una consulta por campo para todo
+ * el lote, las tarjetas se validan y cifran en paralelo y los clientes se
+ * insertan con JDBC batching en una sola transacción.
+ *
+ * <p>Las filas que incumplen alguna regla se rechazan individualmente sin
+ * abortar el resto del lote.
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public interface ImportarClientesUseCase {
+
+    /**
+     * Importa un lote de clientes.
+     *
+     * @param filas clientes a importar con su número de línea
+     * @return número de importados y filas rechazadas
+     * @throws org.springframework.dao.DataIntegrityViolationException si otro
+     *         proceso inserta un email o DNI del lote entretanto (el lote se
+     *         revierte completo)
+     */
+    ResultadoLoteImportacionDTO importarLote(List<FilaImportacionDTO> filas);
+}
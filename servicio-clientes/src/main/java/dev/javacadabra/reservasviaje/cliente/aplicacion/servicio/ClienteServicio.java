@@ -6,6 +6,9 @@ import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.AgregarTarje
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearClienteDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteResumenDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.OpcionClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.PaginaClientesDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResumenEstadoClienteDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.TarjetaCreditoDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.mapper.ClienteMapper;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.mapper.TarjetaCreditoMapper;
@@ -17,13 +20,16 @@ import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.*;
 import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.YearMonth;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Servicio de aplicación que implementa todos los casos de uso de Cliente.
@@ -63,6 +69,10 @@ public class ClienteServicio implements
     private final ClienteRepositorio clienteRepositorio;
     private final ClienteMapper clienteMapper;
     private final TarjetaCreditoMapper tarjetaCreditoMapper;
+    private final CifradorTarjetas cifradorTarjetas;
+
+    private static final int TAMANO_MAXIMO_PAGINA = 200;
+    private static final int TAMANO_LOTE_RECORRIDO = 500;
 
     // ==================== CREAR CLIENTE ====================
 
@@ -165,6 +175,24 @@ public class ClienteServicio implements
         return clienteMapper.aDTO(cliente);
     }
 
+    @Override
+    public ResumenEstadoClienteDTO obtenerResumenEstado(String clienteId) {
+        log.debug("🔍 Obteniendo resumen de estado del cliente: {}", clienteId);
+
+        ResumenEstadoCliente resumen = clienteRepositorio.findResumenEstadoById(ClienteId.de(clienteId))
+                .orElseThrow(() -> new ClienteNoEncontradoExcepcion(clienteId));
+
+        return new ResumenEstadoClienteDTO(
+                clienteId,
+                resumen.estado().name(),
+                resumen.motivoBloqueo(),
+                resumen.cantidadTarjetas(),
+                resumen.tieneTarjetasValidas(),
+                resumen.puedeRealizarPagos(),
+                resumen.estaBloqueado()
+        );
+    }
+
     @Override
     public ClienteDTO buscarPorEmail(String email) {
         log.debug("🔍 Buscando cliente por email: {}", email);
@@ -193,14 +221,41 @@ public class ClienteServicio implements
     }
 
     @Override
-    public List<ClienteResumenDTO> listarTodos() {
-        log.debug("🔍 Listando todos los clientes");
+    public PaginaClientesDTO listarPagina(String cursor, int tamano) {
+        log.debug("🔍 Listando página de clientes (tamaño {})", tamano);
 
-        List<Cliente> clientes = clienteRepositorio.findAll();
+        CursorCliente despuesDe = cursor == null || cursor.isBlank() ? null : CursorCliente.decodificar(cursor);
+        int tamanoEfectivo = Math.clamp(tamano, 1, TAMANO_MAXIMO_PAGINA);
 
-        log.debug("📊 Se encontraron {} clientes", clientes.size());
+        PaginaClientes pagina = clienteRepositorio.findPagina(despuesDe, tamanoEfectivo);
 
-        return clienteMapper.toResumenDTOList(clientes);
+        log.debug("📊 Página con {} clientes", pagina.clientes().size());
+
+        return new PaginaClientesDTO(
+                clienteMapper.toResumenDTOList(pagina.clientes()),
+                pagina.hayMas() ? pagina.siguiente().codificar() : null,
+                pagina.hayMas()
+        );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Stream<ClienteResumenDTO> recorrerTodos() {
+        // Sin transacción: cada lote se carga en su propia transacción corta,
+        // así que consumir el stream no retiene una conexión
+        log.debug("🔍 Recorriendo todos los clientes por lotes de {}", TAMANO_LOTE_RECORRIDO);
+
+        return clienteRepositorio.recorrerTodos(TAMANO_LOTE_RECORRIDO)
+                .map(clienteMapper::aResumenDTO);
+    }
+
+    @Override
+    public List<OpcionClienteDTO> listarOpcionesClientesActivos(int limite) {
+        log.debug("🔍 Listando opciones de clientes activos");
+
+        return clienteRepositorio.findOpcionesClientesActivos(limite).stream()
+                .map(opcion -> new OpcionClienteDTO(opcion.clienteId(), opcion.nombreCompleto()))
+                .toList();
     }
 
     @Override
@@ -349,15 +404,11 @@ public class ClienteServicio implements
     public ClienteDTO iniciarProcesoReserva(String clienteId) {
         log.info("🚀 Iniciando proceso de reserva para cliente: {}", clienteId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        cliente.iniciarProcesoReserva(clienteId);
-
-        Cliente clienteActualizado = clienteRepositorio.save(cliente);
+        transicionar(clienteId, TransicionEstadoCliente.INICIAR_PROCESO_RESERVA, clienteId);
 
         log.info("✅ Proceso de reserva iniciado para cliente: {}", clienteId);
 
-        return clienteMapper.aDTO(clienteActualizado);
+        return clienteMapper.aDTO(buscarClientePorIdOLanzarExcepcion(clienteId));
     }
 
     /**
@@ -377,16 +428,12 @@ public class ClienteServicio implements
     public ClienteDTO confirmarReserva(String clienteId) {
         log.info("✅ Confirmando reserva para cliente: {}", clienteId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        // Llamar al método con reservaId = null (uso genérico)
-        cliente.confirmarReserva(null);
-
-        Cliente clienteActualizado = clienteRepositorio.save(cliente);
+        // reservaId = null (uso genérico)
+        transicionar(clienteId, TransicionEstadoCliente.CONFIRMAR_RESERVA, null);
 
         log.info("✅ Reserva confirmada para cliente: {}", clienteId);
 
-        return clienteMapper.aDTO(clienteActualizado);
+        return clienteMapper.aDTO(buscarClientePorIdOLanzarExcepcion(clienteId));
     }
 
     /**
@@ -406,23 +453,20 @@ public class ClienteServicio implements
     public ClienteDTO finalizarReserva(String clienteId) {
         log.info("🏁 Finalizando reserva para cliente: {}", clienteId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        // Llamar al método con reservaId = null (uso genérico)
-        cliente.finalizarReserva(null);
-
-        Cliente clienteActualizado = clienteRepositorio.save(cliente);
+        // reservaId = null (uso genérico)
+        transicionar(clienteId, TransicionEstadoCliente.FINALIZAR_RESERVA, null);
 
         log.info("✅ Reserva finalizada para cliente: {}", clienteId);
 
-        return clienteMapper.aDTO(clienteActualizado);
+        return clienteMapper.aDTO(buscarClientePorIdOLanzarExcepcion(clienteId));
     }
 
     /**
      * Obtiene el estado actual de un cliente.
      *
      * <p>Este método es utilizado por workers de Camunda para consultar
-     * el estado del cliente antes de realizar transiciones.
+     * el estado del cliente antes de realizar transiciones. Solo lee la
+     * columna de estado, sin cargar tarjetas ni reconstruir el agregado.
      *
      * @param clienteId ID del cliente (UUID)
      * @return estado actual del cliente como String
@@ -431,9 +475,9 @@ public class ClienteServicio implements
     public String obtenerEstadoCliente(String clienteId) {
         log.debug("🔍 Obteniendo estado del cliente: {}", clienteId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        String estado = cliente.getEstado().name();
+        String estado = clienteRepositorio.findEstadoById(ClienteId.de(clienteId))
+                .map(EstadoCliente::name)
+                .orElseThrow(() -> new ClienteNoEncontradoExcepcion(clienteId));
 
         log.debug("📊 Estado del cliente {}: {}", clienteId, estado);
 
@@ -455,11 +499,7 @@ public class ClienteServicio implements
     public void iniciarProcesoReservaConId(String clienteId, String reservaId) {
         log.info("🚀 Iniciando proceso de reserva para cliente: {} - Reserva: {}", clienteId, reservaId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        cliente.iniciarProcesoReserva(reservaId);
-
-        clienteRepositorio.save(cliente);
+        transicionar(clienteId, TransicionEstadoCliente.INICIAR_PROCESO_RESERVA, reservaId);
 
         log.info("✅ Proceso de reserva iniciado correctamente para cliente: {}", clienteId);
     }
@@ -468,11 +508,7 @@ public class ClienteServicio implements
     public void confirmarReservaConId(String clienteId, String reservaId) {
         log.info("✅ Confirmando reserva para cliente: {} - Reserva: {}", clienteId, reservaId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        cliente.confirmarReserva(reservaId);
-
-        clienteRepositorio.save(cliente);
+        transicionar(clienteId, TransicionEstadoCliente.CONFIRMAR_RESERVA, reservaId);
 
         log.info("✅ Reserva confirmada correctamente para cliente: {}", clienteId);
     }
@@ -506,9 +542,7 @@ public class ClienteServicio implements
     public void cancelarProcesoReservaConId(String clienteId, String reservaId) {
         log.info("↩️ Cancelando proceso de reserva para cliente: {} - Reserva: {}", clienteId, reservaId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-        cliente.cancelarProcesoReserva(reservaId);
-        clienteRepositorio.save(cliente);
+        transicionar(clienteId, TransicionEstadoCliente.CANCELAR_PROCESO_RESERVA, reservaId);
 
         log.info("✅ Proceso de reserva cancelado correctamente para cliente: {}", clienteId);
     }
@@ -528,17 +562,34 @@ public class ClienteServicio implements
     public void finalizarReservaConId(String clienteId, String reservaId) {
         log.info("🏁 Finalizando reserva para cliente: {} - Reserva: {}", clienteId, reservaId);
 
-        Cliente cliente = buscarClientePorIdOLanzarExcepcion(clienteId);
-
-        cliente.finalizarReserva(reservaId);
-
-        clienteRepositorio.save(cliente);
+        transicionar(clienteId, TransicionEstadoCliente.FINALIZAR_RESERVA, reservaId);
 
         log.info("✅ Reserva finalizada correctamente para cliente: {}", clienteId);
     }
 
     // ==================== MÉTODOS PRIVADOS DE UTILIDAD ====================
 
+    /**
+     * Aplica una transición del ciclo de reserva con una única actualización
+     * condicional. Si no se aplica, consulta el estado actual solo para
+     * lanzar la misma excepción que lanzaría el agregado.
+     *
+     * @param clienteId ID del cliente (UUID)
+     * @param transicion transición a aplicar
+     * @param reservaId ID de la reserva (puede ser nulo)
+     * @throws ClienteNoEncontradoExcepcion si el cliente no existe
+     * @throws IllegalStateException si el cliente no está en el estado de origen
+     */
+    private void transicionar(String clienteId, TransicionEstadoCliente transicion, String reservaId) {
+        ClienteId id = ClienteId.de(clienteId);
+
+        if (!clienteRepositorio.aplicarTransicion(id, transicion, reservaId)) {
+            ResumenEstadoCliente actual = clienteRepositorio.findResumenEstadoById(id)
+                    .orElseThrow(() -> new ClienteNoEncontradoExcepcion(clienteId));
+            throw transicion.rechazo(id, actual);
+        }
+    }
+
     /**
      * Busca un cliente por ID o lanza excepción si no existe.
      *
@@ -559,6 +610,11 @@ public class ClienteServicio implements
      * @throws EmailDuplicadoExcepcion si el email ya existe
      */
     private void validarEmailUnico(String email, String clienteIdExcluir) {
+        // Comprobación previa barata: el caso habitual (email nuevo) no carga ningún cliente
+        if (!clienteRepositorio.existsByEmail(email)) {
+            return;
+        }
+
         clienteRepositorio.findByEmail(email).ifPresent(clienteExistente -> {
             // Si estamos actualizando y es el mismo cliente, no lanzar excepción
             if (clienteIdExcluir != null &&
@@ -577,6 +633,10 @@ public class ClienteServicio implements
      * @throws DniDuplicadoExcepcion si el DNI ya existe
      */
     private void validarDniUnico(String dni) {
+        if (!clienteRepositorio.existsByDni(dni)) {
+            return;
+        }
+
         clienteRepositorio.findByDni(dni).ifPresent(clienteExistente -> {
             // Enmascarar DNI en el mensaje de error
             String dniEnmascarado = dni.substring(0, 3) + "****" + dni.substring(dni.length() - 2);
@@ -598,7 +658,7 @@ public class ClienteServicio implements
             ClienteId clienteId,
             dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearTarjetaDTO dto) {
 
-        NumeroTarjeta numeroTarjeta = NumeroTarjeta.de(dto.numeroTarjeta());
+        NumeroTarjeta numeroTarjeta = NumeroTarjeta.de(dto.numeroTarjeta(), cifradorTarjetas);
         CVV cvv = CVV.crear(dto.cvv());
 
         // Parsear fecha de expiración MM/YY
@@ -0,0 +1,162 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearTarjetaDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.FilaImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.RechazoImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResultadoLoteImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.mapper.ClienteMapper;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada.ImportarClientesUseCase;
+import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.ClienteDominioExcepcion;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.*;
+import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación para la importación masiva de clientes.
+ *
+ * <p>Cada lote se procesa en tres fases:
+ * <ol>
+ *   <li>Unicidad: una consulta para todos los emails y otra para todos los DNI
+ *       del lote, más la detección de repetidos dentro del propio lote.</li>
+ *   <li>Construcción: los agregados se crean en paralelo, ya que la validación
+ *       Luhn y el cifrado de número de tarjeta y CVV son trabajo de CPU
+ *       independiente por fila.</li>
+ *   <li>Persistencia: inserción de todo el lote con JDBC batching.</li>
+ * </ol>
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportacionClientesServicio implements ImportarClientesUseCase {
+
+    private final ClienteRepositorio clienteRepositorio;
+    private final ClienteMapper clienteMapper;
+    private final CifradorTarjetas cifradorTarjetas;
+
+    @Override
+    @Transactional
+    public ResultadoLoteImportacionDTO importarLote(List<FilaImportacionDTO> filas) {
+        log.debug("📥 Importando lote de {} clientes", filas.size());
+
+        List<RechazoImportacionDTO> rechazos = new ArrayList<>();
+
+        // Fase 1: unicidad de email y DNI (BD y dentro del lote)
+        List<FilaImportacionDTO> candidatas = filtrarDuplicados(filas, rechazos);
+
+        // Fase 2: construcción de agregados en paralelo
+        List<Construccion> construcciones = candidatas.parallelStream()
+                .map(this::construir)
+                .toList();
+
+        List<Cliente> clientes = new ArrayList<>(construcciones.size());
+        for (Construccion construccion : construcciones) {
+            if (construccion.cliente() != null) {
+                clientes.add(construccion.cliente());
+            } else {
+                rechazos.add(new RechazoImportacionDTO(construccion.linea(), construccion.error()));
+            }
+        }
+
+        // Fase 3: inserción en lote
+        if (!clientes.isEmpty()) {
+            clienteRepositorio.guardarNuevos(clientes);
+        }
+
+        rechazos.sort(Comparator.comparingInt(RechazoImportacionDTO::linea));
+
+        log.debug("✅ Lote importado: {} clientes, {} rechazos", clientes.size(), rechazos.size());
+
+        return new ResultadoLoteImportacionDTO(clientes.size(), rechazos);
+    }
+
+    // ==================== MÉTODOS PRIVADOS ====================
+
+    /**
+     * Descarta las filas cuyo email o DNI ya existe en BD o aparece antes en el lote.
+     *
+     * @param filas filas del lote
+     * @param rechazos lista donde se añaden las filas descartadas
+     * @return filas sin duplicados
+     */
+    private List<FilaImportacionDTO> filtrarDuplicados(List<FilaImportacionDTO> filas,
+                                                       List<RechazoImportacionDTO> rechazos) {
+        Set<String> emailsExistentes = clienteRepositorio.findEmailsExistentes(filas.stream()
+                .map(fila -> fila.cliente().obtenerEmailNormalizado())
+                .collect(Collectors.toSet()));
+        Set<String> dnisExistentes = clienteRepositorio.findDnisExistentes(filas.stream()
+                .map(fila -> fila.cliente().obtenerDniNormalizado())
+                .collect(Collectors.toSet()));
+
+        Set<String> emailsLote = new HashSet<>();
+        Set<String> dnisLote = new HashSet<>();
+        List<FilaImportacionDTO> candidatas = new ArrayList<>(filas.size());
+
+        for (FilaImportacionDTO fila : filas) {
+            String email = fila.cliente().obtenerEmailNormalizado();
+            String dni = fila.cliente().obtenerDniNormalizado();
+
+            if (emailsExistentes.contains(email) || emailsLote.contains(email)) {
+                rechazos.add(new RechazoImportacionDTO(fila.linea(), "Email duplicado: " + email));
+            } else if (dnisExistentes.contains(dni) || dnisLote.contains(dni)) {
+                rechazos.add(new RechazoImportacionDTO(fila.linea(), "DNI duplicado: " + enmascararDni(dni)));
+            } else {
+                emailsLote.add(email);
+                dnisLote.add(dni);
+                candidatas.add(fila);
+            }
+        }
+        return candidatas;
+    }
+
+    private Construccion construir(FilaImportacionDTO fila) {
+        CrearClienteDTO dto = fila.cliente();
+        try {
+            DatosPersonales datosPersonales = clienteMapper.toDatosPersonales(dto);
+            Direccion direccion = clienteMapper.toDireccion(dto);
+            TarjetaCredito tarjeta = crearTarjeta(dto.tarjeta());
+            return new Construccion(fila.linea(), Cliente.crear(datosPersonales, direccion, tarjeta), null);
+        } catch (IllegalArgumentException | IllegalStateException | ClienteDominioExcepcion e) {
+            return new Construccion(fila.linea(), null, e.getMessage());
+        }
+    }
+
+    private TarjetaCredito crearTarjeta(CrearTarjetaDTO dto) {
+        NumeroTarjeta numeroTarjeta = NumeroTarjeta.de(dto.numeroTarjeta(), cifradorTarjetas);
+        CVV cvv = CVV.crear(dto.cvv());
+        YearMonth fechaExpiracion = YearMonth.of(
+                dto.obtenerAnioExpiracionCompleto(),
+                Integer.parseInt(dto.obtenerMesExpiracion())
+        );
+
+        // Mismo criterio que ClienteServicio: el ID real se asigna al crear el agregado
+        return TarjetaCredito.crear(ClienteId.generar(), numeroTarjeta, fechaExpiracion, cvv);
+    }
+
+    private static String enmascararDni(String dni) {
+        return dni.substring(0, 3) + "****" + dni.substring(dni.length() - 2);
+    }
+
+    /**
+     * Resultado de construir el agregado de una fila: el cliente o el motivo del error.
+     */
+    private record Construccion(int linea, Cliente cliente, String error) {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.evento;
+
+import org.jmolecules.event.annotation.DomainEvent;
+
+/**
+ * Evento publicado cada vez que cambia el estado persistido de un cliente,
+ * sea por una transición condicional o por un guardado del agregado completo.
+ *
+ * <p>Permite mantener al día las vistas derivadas del estado (p. ej. el
+ * selector de clientes ACTIVO del formulario de inicio) sin releerlas enteras.
+ *
+ * @param clienteId ID del cliente
+ * @param estadoAnterior estado previo (nulo si el cliente es nuevo)
+ * @param estadoNuevo estado actual (nulo si el cliente se ha eliminado)
+ */
+@DomainEvent
+public record EstadoClienteCambiadoEvento(
+        String clienteId,
+        String estadoAnterior,
+        String estadoNuevo
+) {
+}
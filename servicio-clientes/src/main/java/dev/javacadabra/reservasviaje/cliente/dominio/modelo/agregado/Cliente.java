@@ -4,6 +4,7 @@ import dev.javacadabra.reservasviaje.cliente.dominio.evento.*;
 import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.*;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.*;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.jmolecules.ddd.annotation.AggregateRoot;
@@ -101,6 +102,19 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
      */
     private String motivoBloqueo;
 
+    /**
+     * Versión de concurrencia optimista (nula mientras no se haya persistido).
+     * Si otro proceso modifica el cliente entre la lectura y el guardado,
+     * el guardado falla en lugar de sobrescribir sus cambios.
+     */
+    private Long version;
+
+    /**
+     * Indica si se han añadido o eliminado tarjetas desde la reconstrucción.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean tarjetasModificadas;
+
     // ============================================
     // FACTORY METHODS
     // ============================================
@@ -171,6 +185,7 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
      * @param fechaCreacion fecha de creación
      * @param fechaActualizacion fecha de última actualización
      * @param motivoBloqueo motivo del bloqueo (si aplica)
+     * @param version versión de concurrencia optimista leída de BD
      * @return cliente reconstruido
      */
     public static Cliente reconstruir(
@@ -181,7 +196,8 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
             List<TarjetaCredito> tarjetas,
             LocalDateTime fechaCreacion,
             LocalDateTime fechaActualizacion,
-            String motivoBloqueo
+            String motivoBloqueo,
+            Long version
     ) {
         return Cliente.builder()
                 .clienteId(clienteId)
@@ -192,6 +208,7 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
                 .fechaCreacion(fechaCreacion)
                 .fechaActualizacion(fechaActualizacion)
                 .motivoBloqueo(motivoBloqueo)
+                .version(version)
                 .build();
     }
 
@@ -478,6 +495,7 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
         }
 
         tarjetas.add(tarjeta);
+        this.tarjetasModificadas = true;
         this.fechaActualizacion = LocalDateTime.now();
 
         // Publicar evento de dominio
@@ -526,6 +544,7 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
                 ));
 
         tarjetas.remove(tarjetaAEliminar);
+        this.tarjetasModificadas = true;
         this.fechaActualizacion = LocalDateTime.now();
 
         // Publicar evento de dominio
@@ -570,6 +589,51 @@ public class Cliente extends AbstractAggregateRoot<Cliente> {
         return Collections.unmodifiableList(tarjetas);
     }
 
+    /**
+     * Registra la versión asignada al persistir el cliente y da por persistidos
+     * los cambios de tarjetas.
+     *
+     * <p>Uso exclusivo del repositorio, que devuelve el mismo agregado tras
+     * guardarlo en lugar de reconstruir uno nuevo: sin limpiar las marcas, el
+     * siguiente guardado volvería a sincronizar tarjetas que no han cambiado.
+     *
+     * @param versionPersistida versión actual en BD
+     */
+    public void confirmarPersistencia(Long versionPersistida) {
+        this.version = versionPersistida;
+        this.tarjetasModificadas = false;
+        this.tarjetas.forEach(TarjetaCredito::confirmarPersistencia);
+    }
+
+    /**
+     * Vuelve a cifrar los números de tarjeta guardados en un formato anterior.
+     *
+     * <p>Uso exclusivo del repositorio al guardar: así las filas antiguas se
+     * migran la primera vez que se escribe el cliente.
+     *
+     * @param cifrador cifrador de números de tarjeta
+     * @return número de tarjetas cifradas de nuevo
+     */
+    public int recifrarTarjetasLegadas(CifradorTarjetas cifrador) {
+        int recifradas = 0;
+        for (TarjetaCredito tarjeta : tarjetas) {
+            if (tarjeta.recifrarNumeroSiLegado(cifrador)) {
+                recifradas++;
+            }
+        }
+        return recifradas;
+    }
+
+    /**
+     * Indica si las tarjetas han cambiado desde que se reconstruyó el cliente
+     * (altas, bajas o cambios en alguna tarjeta).
+     *
+     * @return true si hay cambios de tarjetas pendientes de persistir
+     */
+    public boolean tieneCambiosEnTarjetas() {
+        return tarjetasModificadas || tarjetas.stream().anyMatch(TarjetaCredito::isModificada);
+    }
+
     /**
      * Obtiene solo las tarjetas válidas del cliente.
      *
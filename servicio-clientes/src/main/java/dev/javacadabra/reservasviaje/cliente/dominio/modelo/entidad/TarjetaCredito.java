@@ -1,6 +1,7 @@
 package dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad;
 
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.*;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
 import lombok.*;
 import org.jmolecules.ddd.annotation.Entity;
 
@@ -84,6 +85,12 @@ public class TarjetaCredito {
      */
     private String motivoRechazo;
 
+    /**
+     * Indica si la tarjeta ha cambiado desde que se creó o reconstruyó.
+     * Permite al repositorio no tocar las tarjetas que no han cambiado.
+     */
+    private boolean modificada;
+
     // ============================================
     // FACTORY METHODS
     // ============================================
@@ -209,6 +216,7 @@ public class TarjetaCredito {
 
         this.validada = true;
         this.motivoRechazo = null;
+        this.modificada = true;
     }
 
     /**
@@ -223,6 +231,7 @@ public class TarjetaCredito {
 
         this.validada = false;
         this.motivoRechazo = motivo;
+        this.modificada = true;
     }
 
     /**
@@ -241,6 +250,7 @@ public class TarjetaCredito {
         }
 
         this.fechaExpiracion = nuevaFechaExpiracion;
+        this.modificada = true;
 
         // Si se actualiza la fecha de expiración, invalidar la tarjeta para que se revalide
         if (this.validada) {
@@ -280,12 +290,37 @@ public class TarjetaCredito {
         this.numeroTarjeta = nuevoNumero;
         this.cvv = nuevoCVV;
         this.tipoTarjeta = nuevoTipo;
+        this.modificada = true;
 
         // Invalidar para revalidación
         this.validada = false;
         this.motivoRechazo = "Número de tarjeta actualizado - requiere revalidación";
     }
 
+    /**
+     * Vuelve a cifrar el número si está guardado en un formato anterior.
+     *
+     * @param cifrador cifrador de números de tarjeta
+     * @return true si se ha vuelto a cifrar (la tarjeta queda modificada)
+     */
+    public boolean recifrarNumeroSiLegado(CifradorTarjetas cifrador) {
+        if (cifrador.esFormatoActual(numeroTarjeta.getValorEncriptado())) {
+            return false;
+        }
+
+        this.numeroTarjeta = numeroTarjeta.recifrado(cifrador);
+        this.modificada = true;
+        return true;
+    }
+
+    /**
+     * Limpia la marca de modificación una vez persistida la tarjeta.
+     * Uso exclusivo de {@code Cliente#confirmarPersistencia(Long)}.
+     */
+    public void confirmarPersistencia() {
+        this.modificada = false;
+    }
+
     /**
      * Obtiene el número de tarjeta enmascarado para mostrar.
      *
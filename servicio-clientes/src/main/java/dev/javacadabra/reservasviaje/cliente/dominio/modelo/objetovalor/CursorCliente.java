@@ -0,0 +1,69 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Posición dentro del recorrido de clientes ordenado por (fecha de creación, ID).
+ *
+ * <p>Identifica el último cliente devuelto: la página siguiente empieza en el
+ * primer cliente estrictamente posterior (paginación por clave, sin OFFSET).
+ * Se expone a los clientes de la API como un token opaco en Base64 URL-safe.
+ *
+ * @param fechaCreacion fecha de creación del último cliente devuelto
+ * @param clienteId ID del último cliente devuelto
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@ValueObject
+public record CursorCliente(
+        LocalDateTime fechaCreacion,
+        String clienteId
+) {
+
+    private static final String SEPARADOR = "|";
+
+    public CursorCliente {
+        Objects.requireNonNull(fechaCreacion, "La fecha de creación del cursor no puede ser nula");
+        Objects.requireNonNull(clienteId, "El ID de cliente del cursor no puede ser nulo");
+    }
+
+    /**
+     * Codifica el cursor como token opaco.
+     *
+     * @return token Base64 URL-safe
+     */
+    public String codificar() {
+        String valor = fechaCreacion + SEPARADOR + clienteId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstruye un cursor a partir de su token.
+     *
+     * @param token token generado por {@link #codificar()}
+     * @return cursor decodificado
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorCliente decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor de paginación no válido");
+            }
+            return new CursorCliente(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    valor.substring(separador + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginación no válido", e);
+        }
+    }
+}
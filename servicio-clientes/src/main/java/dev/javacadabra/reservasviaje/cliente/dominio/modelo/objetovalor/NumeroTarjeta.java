@@ -1,5 +1,6 @@
 package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
 
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.jmolecules.ddd.annotation.ValueObject;
@@ -14,11 +15,16 @@ import java.util.Base64;
  *
  * <p><strong>Seguridad:</strong>
  * <ul>
- *   <li>El número completo se encripta con Base64 (en producción usar AES-256)</li>
+ *   <li>El número completo se cifra con {@link CifradorTarjetas} (AES-GCM)</li>
  *   <li>Solo se exponen los últimos 4 dígitos enmascarados</li>
  *   <li>Se valida con el algoritmo de Luhn</li>
  * </ul>
  *
+ * <p>El BIN y los últimos dígitos se guardan aparte, así que reconstruir el
+ * número desde persistencia no descifra nada; el número completo solo se
+ * descifra bajo demanda con {@link #desencriptarNumero(CifradorTarjetas)}, por
+ * ejemplo para volver a cifrarlo con {@link #recifrado(CifradorTarjetas)}.
+ *
  * @author javacadabra
  * @version 1.0.0
  */
@@ -28,7 +34,7 @@ import java.util.Base64;
 public class NumeroTarjeta {
 
     /**
-     * Número de tarjeta encriptado (Base64).
+     * Número de tarjeta cifrado.
      */
     private final String valorEncriptado;
 
@@ -56,28 +62,50 @@ public class NumeroTarjeta {
      * Crea un NumeroTarjeta desde texto plano (para nuevas tarjetas).
      *
      * @param numeroPlano número de tarjeta en texto plano
+     * @param cifrador cifrador de números de tarjeta
      * @return NumeroTarjeta validado y encriptado
      * @throws IllegalArgumentException si el número no es válido
      */
-    public static NumeroTarjeta de(String numeroPlano) {
+    public static NumeroTarjeta de(String numeroPlano, CifradorTarjetas cifrador) {
         validar(numeroPlano);
 
         String numeroLimpio = numeroPlano.replaceAll("\\s|-", "");
 
         return new NumeroTarjeta(
-                encriptar(numeroLimpio),
+                cifrador.cifrar(numeroLimpio),
                 extraerUltimosDigitos(numeroLimpio),
                 extraerPrimerosDigitos(numeroLimpio)
         );
     }
 
     /**
-     * Reconstruye un NumeroTarjeta desde persistencia (ya encriptado).
+     * Reconstruye un NumeroTarjeta desde persistencia sin descifrarlo.
+     *
+     * @param valorEncriptado número cifrado tal como está almacenado
+     * @param primerosDigitos BIN guardado junto al número
+     * @param ultimosDigitos últimos 4 dígitos guardados junto al número
+     * @return NumeroTarjeta reconstruido
+     * @throws IllegalArgumentException si falta algún valor
+     */
+    public static NumeroTarjeta reconstruido(String valorEncriptado, String primerosDigitos, String ultimosDigitos) {
+        if (valorEncriptado == null || valorEncriptado.isBlank()) {
+            throw new IllegalArgumentException("El número encriptado no puede estar vacío");
+        }
+        if (primerosDigitos == null || ultimosDigitos == null) {
+            throw new IllegalArgumentException("El BIN y los últimos dígitos son obligatorios");
+        }
+
+        return new NumeroTarjeta(valorEncriptado, ultimosDigitos, primerosDigitos);
+    }
+
+    /**
+     * Reconstruye un NumeroTarjeta de una fila anterior al almacenamiento del
+     * BIN, cuyo número solo está codificado en Base64.
      *
-     * <p>Este método se usa para reconstruir desde la base de datos,
-     * donde el número ya está almacenado encriptado.
+     * <p>Decodifica el valor para extraer los dígitos; las filas nuevas usan
+     * {@link #reconstruido(String, String, String)}.
      *
-     * @param valorEncriptado número ya encriptado en Base64
+     * @param valorEncriptado número codificado en Base64
      * @return NumeroTarjeta reconstruido
      * @throws IllegalArgumentException si el valor encriptado no es válido
      */
@@ -121,12 +149,23 @@ public class NumeroTarjeta {
     }
 
     /**
-     * Desencripta el número completo (solo para uso interno).
+     * Desencripta el número completo (solo cuando un pago lo necesita).
      *
+     * @param cifrador cifrador de números de tarjeta
      * @return número desencriptado
      */
-    public String desencriptarNumero() {
-        return desencriptar(valorEncriptado);
+    public String desencriptarNumero(CifradorTarjetas cifrador) {
+        return cifrador.descifrar(valorEncriptado);
+    }
+
+    /**
+     * Devuelve el mismo número cifrado con el formato actual del cifrador.
+     *
+     * @param cifrador cifrador de números de tarjeta
+     * @return número con el nuevo valor cifrado y los mismos dígitos visibles
+     */
+    public NumeroTarjeta recifrado(CifradorTarjetas cifrador) {
+        return new NumeroTarjeta(cifrador.cifrar(desencriptarNumero(cifrador)), ultimosDigitos, primerosDigitos);
     }
 
     // ==================== VALIDACIONES ====================
@@ -195,24 +234,9 @@ public class NumeroTarjeta {
     }
 
     /**
-     * Encripta el número de tarjeta usando Base64.
-     *
-     * <p><strong>NOTA:</strong> En producción, usar AES-256 con clave segura
-     * almacenada en un gestor de secretos (AWS KMS, Azure Key Vault, etc.).
-     *
-     * @param numero número en texto plano
-     * @return número encriptado en Base64
-     */
-    private static String encriptar(String numero) {
-        // ADVERTENCIA: Esta es una encriptación básica solo para demostración
-        // En producción, implementar AES-256-GCM con clave rotativa
-        return Base64.getEncoder().encodeToString(numero.getBytes());
-    }
-
-    /**
-     * Desencripta el número de tarjeta desde Base64.
+     * Decodifica un número en el formato anterior (solo Base64).
      *
-     * @param encriptado número encriptado
+     * @param encriptado número codificado
      * @return número en texto plano
      */
     private static String desencriptar(String encriptado) {
@@ -0,0 +1,19 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+/**
+ * Cliente seleccionable en un formulario: solo identificador y nombre.
+ *
+ * @param clienteId identificador del cliente
+ * @param nombreCompleto nombre y apellidos
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@ValueObject
+public record OpcionCliente(
+        String clienteId,
+        String nombreCompleto
+) {
+}
@@ -0,0 +1,28 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
+
+import java.util.List;
+
+/**
+ * Página de clientes obtenida por paginación por clave.
+ *
+ * @param clientes clientes de la página, ordenados por (fecha de creación, ID)
+ * @param siguiente cursor para pedir la página siguiente (nulo si es la última)
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public record PaginaClientes(
+        List<Cliente> clientes,
+        CursorCliente siguiente
+) {
+
+    public PaginaClientes {
+        clientes = List.copyOf(clientes);
+    }
+
+    public boolean hayMas() {
+        return siguiente != null;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.util.Objects;
+
+/**
+ * Resumen del estado de un cliente para comprobaciones rápidas.
+ *
+ * <p>Contiene solo lo necesario para decidir si un cliente puede operar,
+ * sin reconstruir el agregado completo ni descifrar sus tarjetas.
+ * Aplica las mismas reglas que {@code Cliente#puedeRealizarPagos()}.
+ *
+ * @param estado estado actual del cliente
+ * @param motivoBloqueo motivo del bloqueo (solo si está bloqueado)
+ * @param cantidadTarjetas cantidad total de tarjetas
+ * @param cantidadTarjetasValidas tarjetas validadas, sin rechazo y no expiradas
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@ValueObject
+public record ResumenEstadoCliente(
+        EstadoCliente estado,
+        String motivoBloqueo,
+        int cantidadTarjetas,
+        int cantidadTarjetasValidas
+) {
+
+    public ResumenEstadoCliente {
+        Objects.requireNonNull(estado, "El estado no puede ser nulo");
+    }
+
+    public boolean tieneTarjetasValidas() {
+        return cantidadTarjetasValidas > 0;
+    }
+
+    public boolean puedeRealizarPagos() {
+        return estado.puedeRealizarPagos() && tieneTarjetasValidas();
+    }
+
+    public boolean estaBloqueado() {
+        return estado == EstadoCliente.BLOQUEADO;
+    }
+}
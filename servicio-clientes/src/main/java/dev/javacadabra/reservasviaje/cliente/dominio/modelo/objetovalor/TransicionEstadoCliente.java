@@ -0,0 +1,109 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.ProcesoReservaIniciadoEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.ReservaConfirmadaEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.ReservaFinalizadaEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.ClienteBloqueadoExcepcion;
+import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.ClienteInactivoExcepcion;
+import lombok.Getter;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Transiciones de estado del ciclo de reserva que pueden aplicarse sin
+ * cargar el agregado Cliente.
+ *
+ * <p>Cada transición recoge las mismas reglas que el método equivalente de
+ * {@code Cliente}: estado de origen permitido, estado destino, evento de
+ * dominio y excepción cuando el cliente no está en el estado de origen.
+ * El repositorio la aplica como una actualización condicional
+ * ({@code WHERE estado = origen}), de modo que dos procesos concurrentes
+ * sobre el mismo cliente no pueden pisarse.
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@ValueObject
+@Getter
+public enum TransicionEstadoCliente {
+
+    INICIAR_PROCESO_RESERVA(
+            EstadoCliente.ACTIVO,
+            EstadoCliente.EN_PROCESO_RESERVA,
+            "Solo se puede iniciar una reserva con un cliente ACTIVO."
+    ),
+
+    CONFIRMAR_RESERVA(
+            EstadoCliente.EN_PROCESO_RESERVA,
+            EstadoCliente.RESERVA_CONFIRMADA,
+            "Solo se puede confirmar una reserva si está EN_PROCESO_RESERVA."
+    ),
+
+    CANCELAR_PROCESO_RESERVA(
+            EstadoCliente.EN_PROCESO_RESERVA,
+            EstadoCliente.ACTIVO,
+            "Solo se puede cancelar un proceso de reserva en estado EN_PROCESO_RESERVA."
+    ),
+
+    FINALIZAR_RESERVA(
+            EstadoCliente.RESERVA_CONFIRMADA,
+            EstadoCliente.ACTIVO,
+            "Solo se puede finalizar una reserva si está CONFIRMADA."
+    );
+
+    private final EstadoCliente origen;
+    private final EstadoCliente destino;
+    private final String mensajeRechazo;
+
+    TransicionEstadoCliente(EstadoCliente origen, EstadoCliente destino, String mensajeRechazo) {
+        this.origen = origen;
+        this.destino = destino;
+        this.mensajeRechazo = mensajeRechazo;
+    }
+
+    /**
+     * Crea el evento de dominio de la transición (la cancelación no publica evento).
+     *
+     * @param clienteId cliente afectado
+     * @param reservaId reserva que provoca la transición
+     * @param fecha momento de la transición
+     * @return evento a registrar, si la transición lo tiene
+     */
+    public Optional<Object> crearEvento(ClienteId clienteId, String reservaId, LocalDateTime fecha) {
+        return Optional.ofNullable(switch (this) {
+            case INICIAR_PROCESO_RESERVA -> new ProcesoReservaIniciadoEvento(
+                    clienteId.valor(), reservaId, origen.name(), destino.name(), fecha);
+            case CONFIRMAR_RESERVA -> new ReservaConfirmadaEvento(
+                    clienteId.valor(), reservaId, origen.name(), destino.name(), fecha);
+            case FINALIZAR_RESERVA -> new ReservaFinalizadaEvento(
+                    clienteId.valor(), reservaId, origen.name(), destino.name(), fecha);
+            case CANCELAR_PROCESO_RESERVA -> null;
+        });
+    }
+
+    /**
+     * Excepción que habría lanzado el agregado al intentar la transición
+     * desde el estado actual.
+     *
+     * @param clienteId cliente afectado
+     * @param actual estado actual del cliente
+     * @return excepción a lanzar
+     */
+    public RuntimeException rechazo(ClienteId clienteId, ResumenEstadoCliente actual) {
+        if (this == INICIAR_PROCESO_RESERVA) {
+            if (actual.estado() == EstadoCliente.BLOQUEADO) {
+                return new ClienteBloqueadoExcepcion(
+                        clienteId.valor(),
+                        actual.motivoBloqueo() != null ? actual.motivoBloqueo() : "Cliente bloqueado"
+                );
+            }
+            if (actual.estado() == EstadoCliente.INACTIVO) {
+                return new ClienteInactivoExcepcion(clienteId.valor(), "iniciar proceso de reserva");
+            }
+        }
+
+        return new IllegalStateException(mensajeRechazo + " Estado actual: " + actual.estado());
+    }
+}
@@ -2,9 +2,18 @@ package dev.javacadabra.reservasviaje.cliente.dominio.repositorio;
 
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.CursorCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.EstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.OpcionCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.PaginaClientes;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ResumenEstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TransicionEstadoCliente;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Puerto de salida (repositorio) para el agregado Cliente.
@@ -42,12 +51,31 @@ public interface ClienteRepositorio {
      * <p>Esta operación es transaccional: se persiste el agregado completo
      * (cliente + tarjetas) en una sola transacción.
      *
+     * <p>Si el cliente se leyó con una versión y en BD hay otra distinta
+     * (otro proceso lo modificó entretanto), el guardado falla.
+     *
      * @param cliente agregado cliente a guardar
-     * @return cliente guardado con datos actualizados (ej: timestamps)
+     * @return cliente guardado con datos actualizados (ej: timestamps, versión)
      * @throws IllegalArgumentException si el cliente es nulo
+     * @throws org.springframework.dao.OptimisticLockingFailureException si la versión no coincide
      */
     Cliente save(Cliente cliente);
 
+    /**
+     * Aplica una transición de estado sin cargar el agregado.
+     *
+     * <p>El cambio solo se produce si el cliente está en el estado de origen
+     * de la transición; en ese caso se registra también su evento de dominio
+     * en la misma transacción.
+     *
+     * @param clienteId identificador del cliente
+     * @param transicion transición a aplicar
+     * @param reservaId reserva que provoca la transición (para el evento)
+     * @return true si se aplicó; false si el cliente no existe o no estaba en el estado de origen
+     * @throws IllegalArgumentException si el clienteId o la transición son nulos
+     */
+    boolean aplicarTransicion(ClienteId clienteId, TransicionEstadoCliente transicion, String reservaId);
+
     /**
      * Busca un cliente por su identificador único.
      *
@@ -57,6 +85,35 @@ public interface ClienteRepositorio {
      */
     Optional<Cliente> findById(ClienteId clienteId);
 
+    /**
+     * Obtiene solo el estado de un cliente, sin cargar el agregado.
+     *
+     * @param clienteId identificador del cliente
+     * @return Optional con el estado si el cliente existe
+     * @throws IllegalArgumentException si el clienteId es nulo
+     */
+    Optional<EstadoCliente> findEstadoById(ClienteId clienteId);
+
+    /**
+     * Obtiene el estado del cliente y el recuento de sus tarjetas (totales y
+     * válidas), sin cargar el agregado ni descifrar las tarjetas.
+     *
+     * @param clienteId identificador del cliente
+     * @return Optional con el resumen si el cliente existe
+     * @throws IllegalArgumentException si el clienteId es nulo
+     */
+    Optional<ResumenEstadoCliente> findResumenEstadoById(ClienteId clienteId);
+
+    /**
+     * Obtiene id y nombre de los clientes ACTIVO, ordenados por nombre, para
+     * presentarlos en un selector sin cargar los agregados.
+     *
+     * @param limite número máximo de opciones
+     * @return opciones ordenadas por nombre completo
+     * @throws IllegalArgumentException si el límite no es positivo
+     */
+    List<OpcionCliente> findOpcionesClientesActivos(int limite);
+
     /**
      * Busca un cliente por su email.
      *
@@ -129,15 +186,59 @@ public interface ClienteRepositorio {
     void deleteById(ClienteId clienteId);
 
     /**
-     * Obtiene todos los clientes del sistema.
+     * Inserta en bloque clientes nuevos (que no existen en persistencia).
+     *
+     * <p>A diferencia de {@link #save(Cliente)}, no consulta cada cliente antes
+     * de escribirlo ni vacía la sesión por fila, de modo que las inserciones se
+     * agrupan en lotes JDBC.
+     *
+     * @param clientes clientes recién creados
+     * @throws IllegalArgumentException si la lista es nula
+     */
+    void guardarNuevos(List<Cliente> clientes);
+
+    /**
+     * Devuelve cuáles de los emails indicados ya están registrados.
+     *
+     * @param emails emails normalizados (minúsculas)
+     * @return subconjunto de emails existentes
+     */
+    Set<String> findEmailsExistentes(Collection<String> emails);
+
+    /**
+     * Devuelve cuáles de los DNI indicados ya están registrados.
+     *
+     * @param dnis DNI normalizados
+     * @return subconjunto de DNI existentes
+     */
+    Set<String> findDnisExistentes(Collection<String> dnis);
+
+    /**
+     * Obtiene una página de clientes ordenados por (fecha de creación, ID).
+     *
+     * <p>Paginación por clave: la página empieza justo después del cursor, así
+     * que el coste no depende de cuántos clientes se hayan recorrido antes.
+     *
+     * @param despuesDe cursor de la página anterior (nulo para la primera)
+     * @param tamano número máximo de clientes en la página
+     * @return página de clientes con el cursor de la siguiente
+     * @throws IllegalArgumentException si el tamaño no es positivo
+     */
+    PaginaClientes findPagina(CursorCliente despuesDe, int tamano);
+
+    /**
+     * Recorre todos los clientes ordenados por (fecha de creación, ID).
      *
-     * <p><strong>ADVERTENCIA:</strong> Este método puede retornar una cantidad
-     * grande de datos. Considerar usar paginación en capa de aplicación
-     * para consultas de listados.
+     * <p>El stream es perezoso: carga los clientes por lotes de
+     * {@code tamanoLote} a medida que se consumen y no retiene los ya
+     * entregados, por lo que no requiere una transacción abierta durante
+     * todo el recorrido.
      *
-     * @return lista de todos los clientes (puede estar vacía)
+     * @param tamanoLote clientes cargados por consulta
+     * @return stream de clientes
+     * @throws IllegalArgumentException si el tamaño de lote no es positivo
      */
-    List<Cliente> findAll();
+    Stream<Cliente> recorrerTodos(int tamanoLote);
 
     /**
      * Cuenta la cantidad total de clientes en el sistema.
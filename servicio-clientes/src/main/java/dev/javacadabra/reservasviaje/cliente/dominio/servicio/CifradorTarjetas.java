@@ -0,0 +1,40 @@
+package dev.javacadabra.reservasviaje.cliente.dominio.servicio;
+
+/**
+ * Puerto de salida para cifrar y descifrar números de tarjeta.
+ *
+ * <p>El dominio solo necesita el número en claro al crear una tarjeta y, de
+ * forma excepcional, al procesar un pago; el resto de operaciones trabajan con
+ * el BIN y los últimos dígitos guardados aparte.
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+public interface CifradorTarjetas {
+
+    /**
+     * Cifra un número de tarjeta.
+     *
+     * @param numeroPlano número sin espacios ni guiones
+     * @return texto cifrado apto para persistir
+     */
+    String cifrar(String numeroPlano);
+
+    /**
+     * Descifra un número de tarjeta.
+     *
+     * @param valorCifrado valor devuelto por {@link #cifrar(String)}
+     * @return número en claro
+     * @throws IllegalArgumentException si el valor no se puede descifrar
+     */
+    String descifrar(String valorCifrado);
+
+    /**
+     * Indica si un valor está cifrado con el formato actual o es una fila
+     * anterior que hay que volver a cifrar al guardarla.
+     *
+     * @param valorCifrado valor persistido
+     * @return true si no hace falta volver a cifrarlo
+     */
+    boolean esFormatoActual(String valorCifrado);
+}
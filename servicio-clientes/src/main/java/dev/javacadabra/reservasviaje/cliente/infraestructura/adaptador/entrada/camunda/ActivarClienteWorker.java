@@ -56,7 +56,7 @@ public class ActivarClienteWorker {
      * @param job job activado por Zeebe
      * @return variables de salida para el proceso BPMN
      */
-    @JobWorker(type = "activar-cliente", autoComplete = true)
+    @JobWorker(type = "activar-cliente", autoComplete = false, fetchVariables = {"clienteId"})
     public Map<String, Object> manejarActivarCliente(ActivatedJob job) {
         log.info("✅ Procesando job activar-cliente: {}", job.getKey());
 
@@ -69,7 +69,7 @@ public class ActualizarEstadoClienteWorker {
      * @return mapa con variables de salida
      * @throws BpmnError si ocurre algún error durante la actualización
      */
-    @JobWorker(type = "actualizar-estado-cliente", autoComplete = true)
+    @JobWorker(type = "actualizar-estado-cliente", autoComplete = false, fetchVariables = {"clienteId", "nuevoEstado", "reservaId"})
     public Map<String, Object> actualizarEstado(ActivatedJob job) {
 
         log.info("🔄 Iniciando actualización de estado de cliente - Job: {}", job.getKey());
@@ -11,6 +11,7 @@ import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteI
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.NumeroTarjeta;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TarjetaId;
 import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
 import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.annotation.JobWorker;
 import io.camunda.client.exception.BpmnError;
@@ -77,6 +78,7 @@ import java.util.Map;
 public class ActualizarInformacionTarjetaWorker {
 
     private final ClienteRepositorio clienteRepositorio;
+    private final CifradorTarjetas cifradorTarjetas;
     private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("MM/yyyy");
 
     /**
@@ -86,7 +88,10 @@ public class ActualizarInformacionTarjetaWorker {
      * @return mapa con variables de salida
      * @throws BpmnError si ocurre algún error durante la actualización
      */
-    @JobWorker(type = "actualizar-informacion-tarjeta", autoComplete = true)
+    @JobWorker(type = "actualizar-informacion-tarjeta", autoComplete = false, fetchVariables = {
+            "clienteId", "tarjetaId", "nuevoNumeroTarjeta", "nuevoCvv",
+            "nuevaFechaExpiracion"
+    })
     @Transactional
     public Map<String, Object> actualizarInformacionTarjeta(ActivatedJob job) {
         log.info("💳 Iniciando actualización de información de tarjeta - Job: {}", job.getKey());
@@ -311,7 +316,7 @@ public class ActualizarInformacionTarjetaWorker {
     private void actualizarNumeroYCvv(TarjetaCredito tarjeta, String nuevoNumeroStr, String nuevoCvvStr) {
         try {
             // Crear value objects
-            NumeroTarjeta nuevoNumero = NumeroTarjeta.de(nuevoNumeroStr);
+            NumeroTarjeta nuevoNumero = NumeroTarjeta.de(nuevoNumeroStr, cifradorTarjetas);
             CVV nuevoCvv = CVV.crear(nuevoCvvStr);
 
             // Actualizar en la entidad
@@ -57,7 +57,7 @@ public class ActualizarRegistroClienteWorker {
 
     private final GestionarTarjetasUseCase gestionarTarjetasUseCase;
 
-    @JobWorker(type = "actualizar-registro-cliente", autoComplete = true)
+    @JobWorker(type = "actualizar-registro-cliente", autoComplete = false, fetchVariables = {"clienteId", "numeroTarjeta", "cvv", "fechaExpiracion"})
     public Map<String, Object> manejarActualizarRegistroCliente(ActivatedJob job) {
         log.info("💳 Procesando job actualizar-registro-cliente: {}", job.getKey());
 
@@ -1,6 +1,7 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.camunda;
 
 import dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada.ConsultarClienteUseCase;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion.OpcionesClientesPropiedades;
 import io.camunda.client.annotation.JobWorker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,9 @@ import java.util.Map;
  *       clientes en estado ACTIVO, lista para usar en un componente {@code select} de
  *       Camunda Forms.</li>
  * </ul>
+ *
+ * <p>Los clientes salen de una lista en memoria mantenida por eventos de cambio de
+ * estado (solo ID y nombre), limitada a {@code reservasviaje.clientes.formulario.max-opciones}.
  */
 @Component
 @RequiredArgsConstructor
@@ -33,6 +37,7 @@ import java.util.Map;
 public class CargarDatosFormularioWorker {
 
     private final ConsultarClienteUseCase consultarClienteUseCase;
+    private final OpcionesClientesPropiedades propiedades;
 
     private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter FORMATO_DATETIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
@@ -42,9 +47,9 @@ public class CargarDatosFormularioWorker {
     public Map<String, Object> cargarDatos() {
         log.info("📋 Cargando clientes ACTIVO para formulario de inicio");
 
-        List<Map<String, String>> clientesDisponibles = consultarClienteUseCase.listarTodos()
+        List<Map<String, String>> clientesDisponibles = consultarClienteUseCase
+                .listarOpcionesClientesActivos(propiedades.maxOpciones())
                 .stream()
-                .filter(c -> "ACTIVO".equals(c.estado()))
                 .map(c -> Map.of(
                         "label", c.nombreCompleto(),
                         "value", c.clienteId()
@@ -44,7 +44,7 @@ public class ConfirmarReservaWorker {
 
     private final GestionarEstadoClienteUseCase gestionarEstadoClienteUseCase;
 
-    @JobWorker(type = "confirmar-reserva-cliente", autoComplete = true)
+    @JobWorker(type = "confirmar-reserva-cliente", autoComplete = false, fetchVariables = {"clienteId", "reservaId"})
     public Map<String, Object> manejarConfirmarReserva(ActivatedJob job) {
         log.info("✅ Procesando job confirmar-reserva-cliente: {}", job.getKey());
 
@@ -75,7 +75,11 @@ public class CrearClienteWorker {
      * @param job job activado por Zeebe
      * @return variables de salida para el proceso BPMN
      */
-    @JobWorker(type = "crear-cliente", autoComplete = true)
+    @JobWorker(type = "crear-cliente", autoComplete = false, fetchVariables = {
+            "dni", "nombre", "apellidos", "email", "telefono", "fechaNacimiento",
+            "calle", "ciudad", "codigoPostal", "provincia", "pais",
+            "numeroTarjeta", "cvv", "fechaExpiracion"
+    })
     public Map<String, Object> manejarCrearCliente(ActivatedJob job) {
         log.info("🚀 Procesando job crear-cliente: {}", job.getKey());
 
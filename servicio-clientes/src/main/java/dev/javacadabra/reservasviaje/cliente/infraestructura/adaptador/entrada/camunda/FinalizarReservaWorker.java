@@ -44,7 +44,7 @@ public class FinalizarReservaWorker {
 
     private final GestionarEstadoClienteUseCase gestionarEstadoClienteUseCase;
 
-    @JobWorker(type = "finalizar-reserva-cliente", autoComplete = true)
+    @JobWorker(type = "finalizar-reserva-cliente", autoComplete = false, fetchVariables = {"clienteId", "reservaId"})
     public Map<String, Object> manejarFinalizarReserva(ActivatedJob job) {
         log.info("🏁 Procesando job finalizar-reserva-cliente: {}", job.getKey());
 
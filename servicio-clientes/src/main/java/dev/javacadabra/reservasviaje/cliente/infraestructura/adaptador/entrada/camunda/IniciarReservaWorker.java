@@ -60,7 +60,7 @@ public class IniciarReservaWorker {
      * @param job job activado por Zeebe
      * @return variables de salida para el proceso BPMN
      */
-    @JobWorker(type = "iniciar-reserva-cliente", autoComplete = true)
+    @JobWorker(type = "iniciar-reserva-cliente", autoComplete = false, fetchVariables = {"clienteId", "reservaId"})
     public Map<String, Object> manejarIniciarReserva(ActivatedJob job) {
         log.info("🚀 Procesando job iniciar-reserva-cliente: {}", job.getKey());
 
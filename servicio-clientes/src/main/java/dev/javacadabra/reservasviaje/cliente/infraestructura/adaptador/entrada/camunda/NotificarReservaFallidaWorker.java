@@ -80,7 +80,10 @@ public class NotificarReservaFallidaWorker {
      * @return mapa con variables de salida
      * @throws BpmnError si ocurre un error durante el procesamiento
      */
-    @JobWorker(type = "notificar-reserva-fallida", autoComplete = true)
+    @JobWorker(type = "notificar-reserva-fallida", autoComplete = false, fetchVariables = {
+            "clienteId", "reservaId", "motivoFallo", "codigoError", "emailCliente",
+            "nombreCliente"
+    })
     public Map<String, Object> notificarReservaFallida(ActivatedJob job) {
         log.info("📨 Iniciando notificación de reserva fallida - Job: {}", job.getKey());
 
@@ -87,7 +87,10 @@ public class NotificarTarjetaInvalidaWorker {
      * @return mapa con variables de salida
      * @throws BpmnError si ocurre un error durante el procesamiento
      */
-    @JobWorker(type = "notificar-tarjeta-invalida", autoComplete = true)
+    @JobWorker(type = "notificar-tarjeta-invalida", autoComplete = false, fetchVariables = {
+            "clienteId", "tarjetaId", "motivoInvalidez", "motivoFallo",
+            "numeroEnmascarado", "emailCliente", "nombreCliente", "intentosPago"
+    })
     public Map<String, Object> notificarTarjetaInvalida(ActivatedJob job) {
         log.info("💳 Iniciando notificación de tarjeta inválida - Job: {}", job.getKey());
 
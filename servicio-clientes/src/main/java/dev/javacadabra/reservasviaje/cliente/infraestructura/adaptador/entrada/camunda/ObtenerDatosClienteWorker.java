@@ -79,7 +79,7 @@ public class ObtenerDatosClienteWorker {
      * @return mapa con las variables de salida para el proceso BPMN
      * @throws BpmnError si ocurre un error inesperado al consultar el cliente
      */
-    @JobWorker(type = "obtener-datos-cliente", autoComplete = true)
+    @JobWorker(type = "obtener-datos-cliente", autoComplete = false, fetchVariables = {"clienteId"})
     public Map<String, Object> manejarObtenerDatosCliente(ActivatedJob job) {
         log.info("🚀 Iniciando worker obtener-datos-cliente - Job Key: {}", job.getKey());
 
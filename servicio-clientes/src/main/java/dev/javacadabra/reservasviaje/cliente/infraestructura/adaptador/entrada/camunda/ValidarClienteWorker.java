@@ -1,6 +1,6 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.camunda;
 
-import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResumenEstadoClienteDTO;
 import dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada.ConsultarClienteUseCase;
 import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.ClienteNoEncontradoExcepcion;
 import io.camunda.client.api.response.ActivatedJob;
@@ -57,7 +57,7 @@ public class ValidarClienteWorker {
      * @param job job activado por Zeebe
      * @return variables de salida para el proceso BPMN
      */
-    @JobWorker(type = "validar-cliente", autoComplete = true)
+    @JobWorker(type = "validar-cliente", autoComplete = false, fetchVariables = {"clienteId"})
     public Map<String, Object> manejarValidarCliente(ActivatedJob job) {
         log.info("🔍 Procesando job validar-cliente: {}", job.getKey());
 
@@ -67,8 +67,8 @@ public class ValidarClienteWorker {
         log.info("🔍 Validando cliente: {}", clienteId);
 
         try {
-            // Consultar cliente
-            ClienteDTO cliente = consultarClienteUseCase.buscarPorId(clienteId);
+            // Consultar estado del cliente (proyección, sin cargar tarjetas)
+            ResumenEstadoClienteDTO cliente = consultarClienteUseCase.obtenerResumenEstado(clienteId);
 
             // Ejecutar validaciones
             ResultadoValidacion resultado = ejecutarValidaciones(cliente);
@@ -119,7 +119,7 @@ public class ValidarClienteWorker {
      * @param cliente cliente a validar
      * @return resultado de la validación
      */
-    private ResultadoValidacion ejecutarValidaciones(ClienteDTO cliente) {
+    private ResultadoValidacion ejecutarValidaciones(ResumenEstadoClienteDTO cliente) {
         // Validación 1: Cliente no debe estar bloqueado
         if (cliente.estaBloqueado()) {
             return ResultadoValidacion.rechazado(
@@ -1,5 +1,6 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.camunda;
 
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.camunda.codec.VariablesJob;
 import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.annotation.JobWorker;
 import io.camunda.client.exception.BpmnError;
@@ -9,8 +10,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -80,15 +79,6 @@ public class ValidarDatosEntradaWorker {
             Pattern.CASE_INSENSITIVE
     );
 
-    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-    private static LocalDate parseFecha(String s) {
-        // Camunda Forms datetime fields send ISO-8601 strings (e.g. "2024-01-16T10:00:00")
-        int tIndex = s.indexOf('T');
-        String datePart = tIndex > 0 ? s.substring(0, tIndex) : s;
-        return LocalDate.parse(datePart, FORMATO_FECHA);
-    }
-
     // Constantes de validación
     private static final int MIN_PASAJEROS = 1;
     private static final int MAX_PASAJEROS = 10;
@@ -103,7 +93,10 @@ public class ValidarDatosEntradaWorker {
      * @return mapa con variables de salida
      * @throws BpmnError si los datos son inválidos
      */
-    @JobWorker(type = "validar-datos-entrada", autoComplete = true)
+    @JobWorker(type = "validar-datos-entrada", autoComplete = false, fetchVariables = {
+            "clienteId", "fechaInicio", "fechaFin", "destino", "numeroPasajeros",
+            "emailContacto", "telefonoContacto"
+    })
     public Map<String, Object> validarDatosEntrada(ActivatedJob job) {
         log.info("✅ Iniciando validación de datos de entrada - Job: {}", job.getKey());
 
@@ -249,10 +242,9 @@ public class ValidarDatosEntradaWorker {
             return null;
         }
 
-        String fechaInicioStr = fechaInicioObj.toString().trim();
-
         try {
-            LocalDate fechaInicio = parseFecha(fechaInicioStr);
+            // Camunda Forms envía los datetime como ISO-8601 ("2024-01-16T10:00:00")
+            LocalDate fechaInicio = VariablesJob.de(variables).fecha("fechaInicio");
 
             // Validar que no esté en el pasado
             if (fechaInicio.isBefore(LocalDate.now())) {
@@ -262,7 +254,7 @@ public class ValidarDatosEntradaWorker {
 
             return fechaInicio;
 
-        } catch (DateTimeParseException e) {
+        } catch (IllegalArgumentException e) {
             errores.add("El formato de 'fechaInicio' es inválido. Use yyyy-MM-dd (ejemplo: 2025-12-15)");
             return null;
         }
@@ -288,10 +280,9 @@ public class ValidarDatosEntradaWorker {
             return null;
         }
 
-        String fechaFinStr = fechaFinObj.toString().trim();
-
         try {
-            LocalDate fechaFin = parseFecha(fechaFinStr);
+            // Camunda Forms envía los datetime como ISO-8601 ("2024-01-16T10:00:00")
+            LocalDate fechaFin = VariablesJob.de(variables).fecha("fechaFin");
 
             // Validar que no esté en el pasado
             if (fechaFin.isBefore(LocalDate.now())) {
@@ -301,7 +292,7 @@ public class ValidarDatosEntradaWorker {
 
             return fechaFin;
 
-        } catch (DateTimeParseException e) {
+        } catch (IllegalArgumentException e) {
             errores.add("El formato de 'fechaFin' es inválido. Use yyyy-MM-dd (ejemplo: 2025-12-22)");
             return null;
         }
@@ -409,13 +400,7 @@ public class ValidarDatosEntradaWorker {
         }
 
         try {
-            int numeroPasajeros;
-
-            if (numeroPasajerosObj instanceof Number) {
-                numeroPasajeros = ((Number) numeroPasajerosObj).intValue();
-            } else {
-                numeroPasajeros = Integer.parseInt(numeroPasajerosObj.toString());
-            }
+            int numeroPasajeros = VariablesJob.de(variables).entero("numeroPasajeros");
 
             if (numeroPasajeros < MIN_PASAJEROS) {
                 errores.add("El 'numeroPasajeros' debe ser al menos " + MIN_PASAJEROS);
@@ -432,7 +417,7 @@ public class ValidarDatosEntradaWorker {
                 advertencias.add("Reserva para grupo grande (" + numeroPasajeros + " pasajeros)");
             }
 
-        } catch (NumberFormatException e) {
+        } catch (IllegalArgumentException e) {
             errores.add("El 'numeroPasajeros' debe ser un número entero válido");
         }
     }
@@ -98,7 +98,7 @@ public class ValidarTarjetaCreditoWorker {
      * @return mapa con las variables de salida para el proceso BPMN
      * @throws BpmnError si la tarjeta es inválida o hay error en la validación
      */
-    @JobWorker(type = "validar-tarjeta-credito", autoComplete = true)
+    @JobWorker(type = "validar-tarjeta-credito", autoComplete = false, fetchVariables = {"clienteId", "tarjetaId", "montoReserva"})
     public Map<String, Object> manejarValidarTarjetaCredito(ActivatedJob job) {
         log.info("🚀 Iniciando worker validar-tarjeta-credito - Job Key: {}", job.getKey());
 
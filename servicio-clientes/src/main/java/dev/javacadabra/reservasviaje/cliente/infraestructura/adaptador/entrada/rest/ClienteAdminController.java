@@ -0,0 +1,109 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteResumenDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.PaginaClientesDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada.ConsultarClienteUseCase;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Endpoints de administración para recorrer la base de clientes.
+ *
+ * <p>El listado usa paginación por cursor y la exportación escribe NDJSON
+ * directamente en la respuesta a medida que se cargan los lotes, de modo que
+ * ninguno de los dos materializa la tabla completa. La importación masiva se
+ * delega en {@link ImportacionClientesProcesador}.
+ */
+@RestController
+@RequestMapping("/admin/clientes")
+@RequiredArgsConstructor
+@Slf4j
+public class ClienteAdminController {
+
+    private static final String CSV = "text/csv";
+    private static final byte[] SALTO_LINEA = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ConsultarClienteUseCase consultarClienteUseCase;
+    private final ObjectMapper objectMapper;
+    private final ImportacionClientesProcesador importacionProcesador;
+
+    /**
+     * Devuelve una página de clientes; para la siguiente se reenvía el
+     * {@code siguienteCursor} recibido.
+     */
+    @GetMapping
+    public ResponseEntity<PaginaClientesDTO> listar(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int tamano) {
+        try {
+            return ResponseEntity.ok(consultarClienteUseCase.listarPagina(cursor, tamano));
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Cursor de paginación no válido: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exporta todos los clientes (versión resumida) como NDJSON, un cliente por línea.
+     */
+    @GetMapping(value = "/exportar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody cuerpo = salida -> {
+            long exportados = 0;
+            OutputStream buffer = new BufferedOutputStream(salida);
+            try (Stream<ClienteResumenDTO> clientes = consultarClienteUseCase.recorrerTodos()) {
+                Iterator<ClienteResumenDTO> iterador = clientes.iterator();
+                while (iterador.hasNext()) {
+                    buffer.write(objectMapper.writeValueAsBytes(iterador.next()));
+                    buffer.write(SALTO_LINEA);
+                    exportados++;
+                }
+            }
+            buffer.flush();
+            log.info("📤 Exportación de clientes completada: {} clientes", exportados);
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clientes.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(cuerpo);
+    }
+
+    /**
+     * Importa clientes en bloque desde un fichero CSV (con cabecera) o NDJSON.
+     * La respuesta es NDJSON con los rechazos, una línea de progreso por lote y
+     * un resumen final, y se va escribiendo mientras avanza la importación.
+     */
+    @PostMapping(value = "/importar", consumes = {CSV, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importar(HttpServletRequest request) throws IOException {
+        ImportacionClientesProcesador.Formato formato = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? ImportacionClientesProcesador.Formato.NDJSON
+                : ImportacionClientesProcesador.Formato.CSV;
+        InputStream entrada = request.getInputStream();
+        StreamingResponseBody cuerpo = salida -> importacionProcesador.procesar(entrada, formato, salida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(cuerpo);
+    }
+}
@@ -1,9 +1,13 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.rest;
 
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.EstadoClienteCambiadoEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache.CacheClientes;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.repositorio.ClienteRepositorioSpringData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,6 +29,8 @@ import java.util.Map;
 public class DevAdminController {
 
     private final ClienteRepositorioSpringData clienteRepositorio;
+    private final CacheClientes cacheClientes;
+    private final ApplicationEventPublisher eventPublisher;
 
     @GetMapping("/clientes/atascados")
     public ResponseEntity<List<Map<String, String>>> listarClientesAtascados() {
@@ -52,6 +58,8 @@ public class DevAdminController {
                     String estadoAnterior = cliente.getEstado().name();
                     cliente.setEstado(ClienteEntidad.EstadoClienteEnum.ACTIVO);
                     clienteRepositorio.save(cliente);
+                    cacheClientes.invalidar(ClienteId.de(id));
+                    eventPublisher.publishEvent(new EstadoClienteCambiadoEvento(id, estadoAnterior, "ACTIVO"));
                     log.warn("🔧 [DEV] Estado reseteado a ACTIVO para cliente {} (era: {})", id, estadoAnterior);
                     return ResponseEntity.ok(Map.of(
                             "clienteId", id,
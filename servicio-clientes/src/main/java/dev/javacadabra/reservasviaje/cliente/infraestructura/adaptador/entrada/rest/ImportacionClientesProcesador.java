@@ -0,0 +1,304 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.entrada.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.CrearTarjetaDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.entrada.FilaImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.RechazoImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResultadoLoteImportacionDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.puerto.entrada.ImportarClientesUseCase;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Procesa una importación masiva de clientes en CSV o NDJSON.
+ *
+ * <p>La entrada se lee línea a línea; cada fila se deserializa y valida de
+ * forma independiente y las válidas se agrupan en lotes de
+ * {@code reservasviaje.clientes.importacion.tamano-lote} que se importan cada
+ * uno en su propia transacción. Tras cada lote se escriben en la respuesta
+ * (NDJSON) sus rechazos y una línea de progreso, así que ni la entrada ni el
+ * informe se acumulan en memoria.
+ *
+ * <p>En CSV la primera línea es la cabecera, con los nombres de campo de
+ * {@link CrearClienteDTO} y, para la tarjeta, {@code numeroTarjeta},
+ * {@code fechaExpiracion} y {@code cvv}.
+ *
+ * <p>Si un lote choca con una inserción concurrente (email o DNI duplicado en
+ * BD), se reintenta fila a fila para aislar las filas en conflicto.
+ */
+@Component
+@Slf4j
+public class ImportacionClientesProcesador {
+
+    private static final byte[] SALTO_LINEA = "\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Formato del fichero de importación.
+     */
+    public enum Formato {
+        CSV,
+        NDJSON
+    }
+
+    private final ImportarClientesUseCase importarClientesUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int tamanoLote;
+
+    public ImportacionClientesProcesador(ImportarClientesUseCase importarClientesUseCase,
+                                         ObjectMapper objectMapper,
+                                         Validator validator,
+                                         @Value("${reservasviaje.clientes.importacion.tamano-lote:500}") int tamanoLote) {
+        this.importarClientesUseCase = importarClientesUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.tamanoLote = tamanoLote;
+    }
+
+    /**
+     * Lee los clientes de {@code entrada} y escribe el informe de la importación en {@code salida}.
+     *
+     * @param entrada fichero CSV (con cabecera) o NDJSON
+     * @param formato formato de la entrada
+     * @param salida flujo de respuesta NDJSON
+     */
+    public void procesar(InputStream entrada, Formato formato, OutputStream salida) throws IOException {
+        Progreso progreso = new Progreso();
+        List<FilaImportacionDTO> lote = new ArrayList<>(tamanoLote);
+        String[] cabecera = null;
+        int numeroLinea = 0;
+
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+
+                if (formato == Formato.CSV && cabecera == null) {
+                    cabecera = dividirCsv(linea);
+                    continue;
+                }
+
+                progreso.procesadas++;
+                try {
+                    CrearClienteDTO dto = formato == Formato.CSV
+                            ? leerCsv(cabecera, linea)
+                            : objectMapper.readValue(linea, CrearClienteDTO.class);
+                    String errores = validar(dto);
+                    if (errores != null) {
+                        rechazar(new RechazoImportacionDTO(numeroLinea, errores), progreso, salida);
+                        continue;
+                    }
+                    lote.add(new FilaImportacionDTO(numeroLinea, dto));
+                } catch (JacksonException e) {
+                    rechazar(new RechazoImportacionDTO(numeroLinea, "JSON no válido: " + e.getOriginalMessage()),
+                            progreso, salida);
+                    continue;
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    rechazar(new RechazoImportacionDTO(numeroLinea, "CSV no válido: " + e.getMessage()),
+                            progreso, salida);
+                    continue;
+                }
+
+                if (lote.size() >= tamanoLote) {
+                    importar(lote, progreso, salida);
+                    lote.clear();
+                }
+            }
+        }
+
+        if (!lote.isEmpty()) {
+            importar(lote, progreso, salida);
+        }
+
+        escribir(LineaInforme.resumen(progreso), salida);
+        log.info("📥 Importación de clientes terminada: {} procesadas, {} importadas, {} rechazadas",
+                progreso.procesadas, progreso.importadas, progreso.rechazadas);
+    }
+
+    private void importar(List<FilaImportacionDTO> lote, Progreso progreso, OutputStream salida) throws IOException {
+        ResultadoLoteImportacionDTO resultado;
+        try {
+            resultado = importarClientesUseCase.importarLote(List.copyOf(lote));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("⚠️ Conflicto de unicidad en lote de {} clientes, reintentando fila a fila", lote.size());
+            resultado = importarFilaAFila(lote);
+        }
+
+        progreso.importadas += resultado.importados();
+        for (RechazoImportacionDTO rechazo : resultado.rechazos()) {
+            rechazar(rechazo, progreso, salida);
+        }
+        escribir(LineaInforme.progreso(progreso), salida);
+    }
+
+    private ResultadoLoteImportacionDTO importarFilaAFila(List<FilaImportacionDTO> lote) {
+        int importados = 0;
+        List<RechazoImportacionDTO> rechazos = new ArrayList<>();
+
+        for (FilaImportacionDTO fila : lote) {
+            try {
+                ResultadoLoteImportacionDTO resultado = importarClientesUseCase.importarLote(List.of(fila));
+                importados += resultado.importados();
+                rechazos.addAll(resultado.rechazos());
+            } catch (DataIntegrityViolationException e) {
+                rechazos.add(new RechazoImportacionDTO(fila.linea(), "Email o DNI ya registrado"));
+            }
+        }
+        return new ResultadoLoteImportacionDTO(importados, rechazos);
+    }
+
+    private void rechazar(RechazoImportacionDTO rechazo, Progreso progreso, OutputStream salida) throws IOException {
+        progreso.rechazadas++;
+        escribir(LineaInforme.rechazo(rechazo), salida);
+    }
+
+    private String validar(CrearClienteDTO dto) {
+        Set<ConstraintViolation<CrearClienteDTO>> violaciones = validator.validate(dto);
+        if (violaciones.isEmpty()) {
+            return null;
+        }
+        return violaciones.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void escribir(LineaInforme linea, OutputStream salida) throws IOException {
+        salida.write(objectMapper.writeValueAsBytes(linea));
+        salida.write(SALTO_LINEA);
+        salida.flush();
+    }
+
+    // ==================== CSV ====================
+
+    private CrearClienteDTO leerCsv(String[] cabecera, String linea) {
+        String[] valores = dividirCsv(linea);
+        if (valores.length != cabecera.length) {
+            throw new IllegalArgumentException(
+                    "se esperaban " + cabecera.length + " columnas y hay " + valores.length);
+        }
+
+        Map<String, String> campos = new HashMap<>();
+        for (int i = 0; i < cabecera.length; i++) {
+            campos.put(cabecera[i], valores[i].isEmpty() ? null : valores[i]);
+        }
+
+        String fechaNacimiento = campos.get("fechaNacimiento");
+        return new CrearClienteDTO(
+                campos.get("dni"),
+                campos.get("nombre"),
+                campos.get("apellidos"),
+                campos.get("email"),
+                campos.get("telefono"),
+                fechaNacimiento != null ? LocalDate.parse(fechaNacimiento) : null,
+                campos.get("calle"),
+                campos.get("ciudad"),
+                campos.get("codigoPostal"),
+                campos.get("provincia"),
+                campos.get("pais"),
+                new CrearTarjetaDTO(
+                        campos.get("numeroTarjeta"),
+                        campos.get("fechaExpiracion"),
+                        campos.get("cvv")
+                )
+        );
+    }
+
+    /**
+     * Divide una línea CSV separada por comas, admitiendo campos entre comillas
+     * dobles (con {@code ""} como comilla escapada).
+     */
+    private static String[] dividirCsv(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder actual = new StringBuilder();
+        boolean entreComillas = false;
+
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    actual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    actual.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(actual.toString().trim());
+                actual.setLength(0);
+            } else {
+                actual.append(c);
+            }
+        }
+        if (entreComillas) {
+            throw new IllegalArgumentException("comillas sin cerrar");
+        }
+        campos.add(actual.toString().trim());
+        return campos.toArray(String[]::new);
+    }
+
+    // ==================== INFORME ====================
+
+    private static final class Progreso {
+        private long procesadas;
+        private long importadas;
+        private long rechazadas;
+    }
+
+    /**
+     * Línea del informe NDJSON: un rechazo, el progreso tras un lote o el resumen final.
+     *
+     * @param tipo RECHAZO, PROGRESO o RESUMEN
+     * @param linea línea rechazada (solo en RECHAZO)
+     * @param motivo motivo del rechazo (solo en RECHAZO)
+     * @param procesadas filas leídas hasta el momento
+     * @param importadas clientes importados hasta el momento
+     * @param rechazadas filas rechazadas hasta el momento
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LineaInforme(String tipo, Integer linea, String motivo,
+                               Long procesadas, Long importadas, Long rechazadas) {
+
+        static LineaInforme rechazo(RechazoImportacionDTO rechazo) {
+            return new LineaInforme("RECHAZO", rechazo.linea(), rechazo.motivo(), null, null, null);
+        }
+
+        static LineaInforme progreso(Progreso progreso) {
+            return new LineaInforme("PROGRESO", null, null,
+                    progreso.procesadas, progreso.importadas, progreso.rechazadas);
+        }
+
+        static LineaInforme resumen(Progreso progreso) {
+            return new LineaInforme("RESUMEN", null, null,
+                    progreso.procesadas, progreso.importadas, progreso.rechazadas);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.cifrado;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion.CifradoTarjetasPropiedades;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Cifrador de números de tarjeta con AES-256-GCM.
+ *
+ * <p>La clave se decodifica una sola vez al arrancar y se reutiliza; cada
+ * cifrado usa un IV aleatorio de 12 bytes. Formato almacenado:
+ * {@code v1:} + Base64(IV ‖ texto cifrado ‖ etiqueta GCM).
+ *
+ * <p>Los valores sin prefijo de versión son filas anteriores codificadas solo
+ * en Base64; se siguen pudiendo leer y el repositorio los vuelve a cifrar la
+ * próxima vez que guarda el cliente.
+ *
+ * <p>Sin clave válida el contexto no arranca: no hay clave por defecto fuera
+ * del perfil {@code dev}.
+ */
+@Component
+@Slf4j
+public class CifradorTarjetasAesGcm implements CifradorTarjetas {
+
+    private static final String ALGORITMO = "AES/GCM/NoPadding";
+    private static final String PREFIJO_V1 = "v1:";
+    private static final int LONGITUD_IV = 12;
+    private static final int LONGITUD_ETIQUETA_BITS = 128;
+
+    private final SecretKey clave;
+    private final SecureRandom aleatorio = new SecureRandom();
+
+    public CifradorTarjetasAesGcm(CifradoTarjetasPropiedades propiedades) {
+        if (propiedades.clave() == null || propiedades.clave().isBlank()) {
+            throw new IllegalStateException("Falta la clave de cifrado de tarjetas (reservasviaje.clientes.cifrado.clave)");
+        }
+
+        byte[] bytesClave;
+        try {
+            bytesClave = Base64.getDecoder().decode(propiedades.clave());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("La clave de cifrado de tarjetas no es Base64 válido", e);
+        }
+        if (bytesClave.length != 32) {
+            throw new IllegalStateException("La clave de cifrado de tarjetas debe ser de 256 bits");
+        }
+        this.clave = new SecretKeySpec(bytesClave, "AES");
+    }
+
+    @Override
+    public String cifrar(String numeroPlano) {
+        try {
+            byte[] iv = new byte[LONGITUD_IV];
+            aleatorio.nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(ALGORITMO);
+            cipher.init(Cipher.ENCRYPT_MODE, clave, new GCMParameterSpec(LONGITUD_ETIQUETA_BITS, iv));
+            byte[] cifrado = cipher.doFinal(numeroPlano.getBytes(StandardCharsets.UTF_8));
+
+            byte[] resultado = ByteBuffer.allocate(iv.length + cifrado.length)
+                    .put(iv)
+                    .put(cifrado)
+                    .array();
+            return PREFIJO_V1 + Base64.getEncoder().encodeToString(resultado);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error al cifrar el número de tarjeta", e);
+        }
+    }
+
+    @Override
+    public boolean esFormatoActual(String valorCifrado) {
+        return valorCifrado != null && valorCifrado.startsWith(PREFIJO_V1);
+    }
+
+    @Override
+    public String descifrar(String valorCifrado) {
+        if (valorCifrado == null || valorCifrado.isBlank()) {
+            throw new IllegalArgumentException("El número cifrado no puede estar vacío");
+        }
+
+        if (!valorCifrado.startsWith(PREFIJO_V1)) {
+            // Formato anterior: solo Base64
+            return new String(Base64.getDecoder().decode(valorCifrado), StandardCharsets.UTF_8);
+        }
+
+        try {
+            byte[] datos = Base64.getDecoder().decode(valorCifrado.substring(PREFIJO_V1.length()));
+
+            Cipher cipher = Cipher.getInstance(ALGORITMO);
+            cipher.init(Cipher.DECRYPT_MODE, clave, new GCMParameterSpec(LONGITUD_ETIQUETA_BITS, datos, 0, LONGITUD_IV));
+            byte[] plano = cipher.doFinal(datos, LONGITUD_IV, datos.length - LONGITUD_IV);
+            return new String(plano, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("No se pudo descifrar el número de tarjeta", e);
+        }
+    }
+}
@@ -1,20 +1,61 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.adaptador;
 
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.EstadoClienteCambiadoEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.DniDuplicadoExcepcion;
+import dev.javacadabra.reservasviaje.cliente.dominio.excepcion.EmailDuplicadoExcepcion;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
 import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.CursorCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.EstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.OpcionCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.PaginaClientes;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ResumenEstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TransicionEstadoCliente;
 import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache.CacheClientes;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache.CacheOpcionesClientes;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache.IndiceUnicidadClientes;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache.IndiceUnicidadClientes.Campo;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.TarjetaCreditoEntidad;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.mapper.ClienteEntidadMapper;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.mapper.TarjetaCreditoEntidadMapper;
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.repositorio.ClienteRepositorioSpringData;
 import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adaptador de persistencia que implementa el puerto ClienteRepositorio usando Spring Data JPA.
@@ -31,6 +72,22 @@ import java.util.Optional;
  *   <li>Mantener la consistencia del agregado en persistencia</li>
  * </ul>
  *
+ * <p>Las lecturas por ID pasan por {@link CacheClientes}; toda escritura o
+ * borrado invalida la entrada del cliente afectado. Los cambios de estado se
+ * publican como {@link EstadoClienteCambiadoEvento} para mantener
+ * {@link CacheOpcionesClientes} sin recargarla. Las comprobaciones de email y
+ * DNI consultan antes {@link IndiceUnicidadClientes} y omiten la consulta a BD
+ * cuando el valor seguro que no existe.
+ *
+ * <p>Al guardar un cliente, las tarjetas con el número en un formato de cifrado
+ * anterior se vuelven a cifrar, de modo que las filas antiguas se migran en su
+ * primera escritura sin un proceso aparte.
+ *
+ * <p><strong>Unidad de trabajo:</strong> dentro de una transacción de escritura,
+ * las lecturas registran la entidad JPA de la que se reconstruye cada cliente.
+ * Al guardar ese mismo cliente se aplican los cambios sobre la entidad ya
+ * gestionada (sin volver a consultarla) y se devuelve el mismo agregado.
+ *
  * <p><strong>Patrón Arquitectónico:</strong>
  * Este componente es un <strong>Adaptador de Salida</strong> en arquitectura hexagonal,
  * implementando un puerto de salida definido en el dominio.
@@ -47,6 +104,15 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
     private final ClienteRepositorioSpringData repositorioSpringData;
     private final ClienteEntidadMapper clienteMapper;
     private final TarjetaCreditoEntidadMapper tarjetaMapper;
+    private final CacheClientes cacheClientes;
+    private final EventoOutboxAdaptador eventoOutbox;
+    private final EntityManager entityManager;
+    private final CacheOpcionesClientes cacheOpciones;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IndiceUnicidadClientes indiceUnicidad;
+    private final CifradorTarjetas cifradorTarjetas;
+
+    private static final int TAMANO_BATCH_INSERCION = 100;
 
     // ==================== OPERACIONES DE ESCRITURA ====================
 
@@ -59,16 +125,26 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
 
         log.debug("💾 Guardando cliente: {}", cliente.getClienteId());
 
-        // Buscar si ya existe la entidad JPA
-        Optional<ClienteEntidad> entidadExistente =
-                repositorioSpringData.findByIdWithTarjetas(cliente.getClienteId().valor());
+        cacheClientes.invalidar(cliente.getClienteId());
+
+        int recifradas = cliente.recifrarTarjetasLegadas(cifradorTarjetas);
+        if (recifradas > 0) {
+            log.info("🔐 {} tarjetas del cliente {} cifradas de nuevo con AES-GCM", recifradas, cliente.getClienteId());
+        }
+
+        // Entidad leída en esta transacción o, si no, buscarla en BD
+        Optional<ClienteEntidad> entidadExistente = entidadRegistrada(cliente.getClienteId())
+                .or(() -> repositorioSpringData.findByIdWithTarjetas(cliente.getClienteId().valor()));
 
         ClienteEntidad entidadJPA;
+        String estadoAnterior = null;
 
         if (entidadExistente.isPresent()) {
             // Actualizar entidad existente
             log.debug("🔄 Actualizando cliente existente: {}", cliente.getClienteId());
             entidadJPA = entidadExistente.get();
+            estadoAnterior = entidadJPA.getEstado().name();
+            verificarVersion(cliente, entidadJPA);
             actualizarEntidadExistente(cliente, entidadJPA);
         } else {
             // Crear nueva entidad
@@ -81,13 +157,107 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             }
         }
 
-        // Persistir
-        ClienteEntidad entidadGuardada = repositorioSpringData.save(entidadJPA);
+        // Persistir (flush para que la versión devuelta sea la incrementada)
+        ClienteEntidad entidadGuardada;
+        try {
+            entidadGuardada = repositorioSpringData.saveAndFlush(entidadJPA);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacionUnicidad(cliente, e);
+        }
+
+        registrar(entidadGuardada);
+        indiceUnicidad.registrar(entidadGuardada.getEmail(), entidadGuardada.getDni());
+        cliente.confirmarPersistencia(entidadGuardada.getVersion());
+
+        String estadoNuevo = entidadGuardada.getEstado().name();
+        if (!estadoNuevo.equals(estadoAnterior)) {
+            eventPublisher.publishEvent(
+                    new EstadoClienteCambiadoEvento(entidadGuardada.getId(), estadoAnterior, estadoNuevo));
+        }
 
         log.debug("✅ Cliente guardado exitosamente: {}", entidadGuardada.getId());
 
-        // ✅ Convertir de vuelta a dominio pasando tarjetaMapper
-        return clienteMapper.aDominio(entidadGuardada, tarjetaMapper);
+        return cliente;
+    }
+
+    @Override
+    @Transactional
+    public void guardarNuevos(List<Cliente> clientes) {
+        if (clientes == null) {
+            throw new IllegalArgumentException("La lista de clientes no puede ser nula");
+        }
+
+        log.debug("💾 Insertando {} clientes nuevos en bloque", clientes.size());
+
+        // persist() en lugar de save(): sin SELECT previo por ID ni flush por fila,
+        // así Hibernate agrupa los INSERT de clientes y de tarjetas en lotes JDBC
+        Session sesion = entityManager.unwrap(Session.class);
+        Integer tamanoBatchAnterior = sesion.getJdbcBatchSize();
+        sesion.setJdbcBatchSize(TAMANO_BATCH_INSERCION);
+
+        List<ClienteEntidad> entidades = new ArrayList<>(clientes.size());
+        try {
+            for (Cliente cliente : clientes) {
+                ClienteEntidad entidad = clienteMapper.aEntidad(cliente);
+                if (entidad.getTarjetas() != null) {
+                    entidad.getTarjetas().forEach(tarjeta -> tarjeta.setCliente(entidad));
+                }
+                entityManager.persist(entidad);
+                entidades.add(entidad);
+                indiceUnicidad.registrar(entidad.getEmail(), entidad.getDni());
+            }
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (!ViolacionesRestriccion.esViolacion(e)) {
+                throw e;
+            }
+            throw new DataIntegrityViolationException("Email o DNI duplicado al insertar el lote", e);
+        } finally {
+            sesion.setJdbcBatchSize(tamanoBatchAnterior);
+        }
+
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            cliente.confirmarPersistencia(entidades.get(i).getVersion());
+            eventPublisher.publishEvent(new EstadoClienteCambiadoEvento(
+                    cliente.getClienteId().valor(), null, cliente.getEstado().name()));
+        }
+
+        // Liberar el lote del contexto de persistencia: no se vuelve a usar
+        entidades.forEach(entityManager::detach);
+
+        log.debug("✅ {} clientes insertados", clientes.size());
+    }
+
+    @Override
+    @Transactional
+    public boolean aplicarTransicion(ClienteId clienteId, TransicionEstadoCliente transicion, String reservaId) {
+        if (clienteId == null || transicion == null) {
+            throw new IllegalArgumentException("El clienteId y la transición no pueden ser nulos");
+        }
+
+        LocalDateTime ahora = LocalDateTime.now();
+        int actualizados = repositorioSpringData.actualizarEstadoSiCoincide(
+                clienteId.valor(),
+                ClienteEntidad.EstadoClienteEnum.valueOf(transicion.getOrigen().name()),
+                ClienteEntidad.EstadoClienteEnum.valueOf(transicion.getDestino().name()),
+                ahora
+        );
+
+        if (actualizados == 0) {
+            log.debug("⚠️ Transición {} no aplicada al cliente {}", transicion, clienteId);
+            return false;
+        }
+
+        cacheClientes.invalidar(clienteId);
+        transicion.crearEvento(clienteId, reservaId, ahora)
+                .ifPresent(evento -> eventoOutbox.registrar(clienteId.valor(), evento));
+        eventPublisher.publishEvent(new EstadoClienteCambiadoEvento(
+                clienteId.valor(), transicion.getOrigen().name(), transicion.getDestino().name()));
+
+        log.debug("✅ Transición {} aplicada al cliente {}: {} → {}",
+                transicion, clienteId, transicion.getOrigen(), transicion.getDestino());
+        return true;
     }
 
     @Override
@@ -99,7 +269,10 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
 
         log.debug("🗑️ Eliminando cliente: {}", cliente.getClienteId());
 
+        cacheClientes.invalidar(cliente.getClienteId());
         repositorioSpringData.deleteById(cliente.getClienteId().valor());
+        eventPublisher.publishEvent(new EstadoClienteCambiadoEvento(
+                cliente.getClienteId().valor(), cliente.getEstado().name(), null));
 
         log.debug("✅ Cliente eliminado exitosamente: {}", cliente.getClienteId());
     }
@@ -113,7 +286,9 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             throw new IllegalArgumentException("El clienteId no puede ser nulo");
         }
 
+        cacheClientes.invalidar(clienteId);
         repositorioSpringData.deleteById(clienteId.valor());
+        eventPublisher.publishEvent(new EstadoClienteCambiadoEvento(clienteId.valor(), null, null));
 
         log.debug("✅ Cliente eliminado exitosamente: {}", clienteId);
     }
@@ -128,12 +303,50 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             throw new IllegalArgumentException("El clienteId no puede ser nulo");
         }
 
-        return repositorioSpringData.findByIdWithTarjetas(clienteId.valor())
+        // En transacciones de escritura se lee de BD para registrar la entidad
+        // en la unidad de trabajo (el save posterior no vuelve a consultarla)
+        if (hayTransaccionEscritura()) {
+            return repositorioSpringData.findByIdWithTarjetas(clienteId.valor())
+                    .map(this::registrarYReconstruir);
+        }
+
+        return cacheClientes.obtener(clienteId, () -> repositorioSpringData.findByIdWithTarjetas(clienteId.valor())
                 .map(entidad -> {
                     log.debug("✅ Cliente encontrado: {}", clienteId);
                     // ✅ Pasar tarjetaMapper como segundo parámetro
                     return clienteMapper.aDominio(entidad, tarjetaMapper);
-                });
+                }));
+    }
+
+    @Override
+    public Optional<EstadoCliente> findEstadoById(ClienteId clienteId) {
+        log.debug("🔍 Consultando estado del cliente: {}", clienteId);
+
+        if (clienteId == null) {
+            throw new IllegalArgumentException("El clienteId no puede ser nulo");
+        }
+
+        return repositorioSpringData.findEstadoById(clienteId.valor())
+                .map(estado -> EstadoCliente.valueOf(estado.name()));
+    }
+
+    @Override
+    public Optional<ResumenEstadoCliente> findResumenEstadoById(ClienteId clienteId) {
+        log.debug("🔍 Consultando resumen de estado del cliente: {}", clienteId);
+
+        if (clienteId == null) {
+            throw new IllegalArgumentException("El clienteId no puede ser nulo");
+        }
+
+        YearMonth mesActual = YearMonth.now();
+        return repositorioSpringData.findResumenEstadoById(
+                        clienteId.valor(), mesActual.getYear(), mesActual.getMonthValue())
+                .map(fila -> new ResumenEstadoCliente(
+                        EstadoCliente.valueOf(fila.estado().name()),
+                        fila.motivoBloqueo(),
+                        fila.cantidadTarjetas().intValue(),
+                        fila.cantidadTarjetasValidas().intValue()
+                ));
     }
 
     @Override
@@ -144,11 +357,11 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             throw new IllegalArgumentException("El email no puede ser nulo o vacío");
         }
 
+        // Siempre a BD: el filtro de unicidad solo sirve a las comprobaciones existsBy*
         return repositorioSpringData.findByEmailIgnoreCase(email)
                 .map(entidad -> {
                     log.debug("✅ Cliente encontrado por email: {}", email);
-                    // ✅ Pasar tarjetaMapper como segundo parámetro
-                    return clienteMapper.aDominio(entidad, tarjetaMapper);
+                    return registrarYReconstruir(entidad);
                 });
     }
 
@@ -163,8 +376,7 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
         return repositorioSpringData.findByDni(dni)
                 .map(entidad -> {
                     log.debug("✅ Cliente encontrado por DNI");
-                    // ✅ Pasar tarjetaMapper como segundo parámetro
-                    return clienteMapper.aDominio(entidad, tarjetaMapper);
+                    return registrarYReconstruir(entidad);
                 });
     }
 
@@ -176,7 +388,23 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             throw new IllegalArgumentException("El email no puede ser nulo o vacío");
         }
 
-        return repositorioSpringData.existsByEmailIgnoreCase(email);
+        if (indiceUnicidad.descarta(Campo.EMAIL, email)) {
+            return false;
+        }
+
+        boolean existe = repositorioSpringData.existsByEmailIgnoreCase(email);
+        indiceUnicidad.registrarResultado(Campo.EMAIL, existe);
+        return existe;
+    }
+
+    @Override
+    public Set<String> findEmailsExistentes(Collection<String> emails) {
+        return comprobarExistentes(Campo.EMAIL, emails, repositorioSpringData::findEmailsExistentes);
+    }
+
+    @Override
+    public Set<String> findDnisExistentes(Collection<String> dnis) {
+        return comprobarExistentes(Campo.DNI, dnis, repositorioSpringData::findDnisExistentes);
     }
 
     @Override
@@ -187,19 +415,88 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
             throw new IllegalArgumentException("El DNI no puede ser nulo o vacío");
         }
 
-        return repositorioSpringData.existsByDni(dni);
+        if (indiceUnicidad.descarta(Campo.DNI, dni)) {
+            return false;
+        }
+
+        boolean existe = repositorioSpringData.existsByDni(dni);
+        indiceUnicidad.registrarResultado(Campo.DNI, existe);
+        return existe;
     }
 
     @Override
-    public List<Cliente> findAll() {
-        log.debug("🔍 Obteniendo todos los clientes");
+    public PaginaClientes findPagina(CursorCliente despuesDe, int tamano) {
+        log.debug("🔍 Obteniendo página de clientes (tamaño {}) tras {}", tamano, despuesDe);
+
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+        }
+
+        // Se pide un ID de más para saber si hay página siguiente sin contar
+        Limit limite = Limit.of(tamano + 1);
+        List<String> ids = despuesDe == null
+                ? repositorioSpringData.findIdsPrimeraPagina(limite)
+                : repositorioSpringData.findIdsDespuesDe(despuesDe.fechaCreacion(), despuesDe.clienteId(), limite);
+
+        boolean hayMas = ids.size() > tamano;
+        List<Cliente> clientes = cargarLote(hayMas ? ids.subList(0, tamano) : ids);
+
+        CursorCliente siguiente = null;
+        if (hayMas) {
+            Cliente ultimo = clientes.getLast();
+            siguiente = new CursorCliente(ultimo.getFechaCreacion(), ultimo.getClienteId().valor());
+        }
+
+        log.debug("✅ Página con {} clientes (hay más: {})", clientes.size(), hayMas);
+        return new PaginaClientes(clientes, siguiente);
+    }
+
+    @Override
+    public Stream<Cliente> recorrerTodos(int tamanoLote) {
+        log.debug("🔍 Recorriendo clientes por lotes de {}", tamanoLote);
+
+        if (tamanoLote <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo");
+        }
 
-        List<ClienteEntidad> entidades = repositorioSpringData.findAll();
+        Iterator<Cliente> iterador = new Iterator<>() {
+            private Iterator<Cliente> lote = Collections.emptyIterator();
+            private CursorCliente cursor;
+            private boolean agotado;
+
+            @Override
+            public boolean hasNext() {
+                while (!lote.hasNext() && !agotado) {
+                    PaginaClientes pagina = findPagina(cursor, tamanoLote);
+                    lote = pagina.clientes().iterator();
+                    cursor = pagina.siguiente();
+                    agotado = !pagina.hayMas();
+                }
+                return lote.hasNext();
+            }
+
+            @Override
+            public Cliente next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return lote.next();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterador, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
 
-        log.debug("✅ Se encontraron {} clientes", entidades.size());
+    @Override
+    public List<OpcionCliente> findOpcionesClientesActivos(int limite) {
+        log.debug("🔍 Obteniendo opciones de clientes activos (límite {})", limite);
+
+        if (limite <= 0) {
+            throw new IllegalArgumentException("El límite debe ser positivo");
+        }
 
-        // ✅ Pasar tarjetaMapper como segundo parámetro
-        return clienteMapper.aDominioList(entidades, tarjetaMapper);
+        return cacheOpciones.obtener(limite);
     }
 
     @Override
@@ -220,6 +517,166 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
 
     // ==================== MÉTODOS PRIVADOS ====================
 
+    /**
+     * Carga un lote de clientes con sus tarjetas y lo desvincula del contexto
+     * de persistencia, para que un recorrido largo dentro de una transacción
+     * no acumule entidades gestionadas.
+     *
+     * @param ids IDs del lote, en orden de recorrido
+     * @return clientes del lote en el mismo orden
+     */
+    private List<Cliente> cargarLote(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClienteEntidad> entidades = repositorioSpringData.findByIdInWithTarjetas(ids);
+        List<Cliente> clientes = clienteMapper.aDominioList(entidades, tarjetaMapper);
+
+        // Los cambios pendientes ya se vaciaron antes de la consulta (FlushMode AUTO)
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entidades.forEach(entityManager::detach);
+        }
+        return clientes;
+    }
+
+    /**
+     * Consulta en BD solo los valores que el índice de unicidad no descarta.
+     *
+     * @param campo campo consultado
+     * @param valores valores a comprobar
+     * @param consulta consulta IN sobre el campo
+     * @return valores existentes
+     */
+    private Set<String> comprobarExistentes(Campo campo, Collection<String> valores,
+                                            Function<Collection<String>, List<String>> consulta) {
+        if (valores == null || valores.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> posibles = valores.stream()
+                .filter(valor -> !indiceUnicidad.descarta(campo, valor))
+                .toList();
+        if (posibles.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> existentes = new HashSet<>(consulta.apply(posibles));
+        posibles.forEach(valor -> indiceUnicidad.registrarResultado(campo, existentes.contains(valor)));
+        return existentes;
+    }
+
+    /**
+     * Convierte la violación de las restricciones únicas de email o DNI en la
+     * excepción de dominio correspondiente.
+     *
+     * <p>El índice de unicidad es local a cada réplica: un email o DNI dado de
+     * alta en otra puede no estar aún en él, y entonces es la restricción de BD
+     * la que detecta el duplicado.
+     *
+     * @param cliente cliente que se intentaba guardar
+     * @param e violación de integridad
+     * @return excepción a lanzar
+     */
+    private RuntimeException traducirViolacionUnicidad(Cliente cliente, DataIntegrityViolationException e) {
+        String mensaje = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (mensaje.contains("uk_cliente_email")) {
+            return new EmailDuplicadoExcepcion(cliente.getDatosPersonales().getEmail());
+        }
+        if (mensaje.contains("uk_cliente_dni")) {
+            return new DniDuplicadoExcepcion(cliente.getDatosPersonales().obtenerDniEnmascarado());
+        }
+        return e;
+    }
+
+    // ---------- Unidad de trabajo ----------
+
+    private Cliente registrarYReconstruir(ClienteEntidad entidad) {
+        registrar(entidad);
+        return clienteMapper.aDominio(entidad, tarjetaMapper);
+    }
+
+    /**
+     * Registra la entidad en la unidad de trabajo de la transacción de escritura
+     * en curso (no hace nada fuera de ella).
+     *
+     * @param entidad entidad JPA gestionada
+     */
+    private void registrar(ClienteEntidad entidad) {
+        Map<String, ClienteEntidad> unidad = unidadDeTrabajo();
+        if (unidad != null) {
+            unidad.put(entidad.getId(), entidad);
+        }
+    }
+
+    /**
+     * Devuelve la entidad leída antes en esta transacción, si sigue gestionada.
+     *
+     * @param clienteId identificador del cliente
+     * @return entidad registrada
+     */
+    private Optional<ClienteEntidad> entidadRegistrada(ClienteId clienteId) {
+        Map<String, ClienteEntidad> unidad = unidadDeTrabajo();
+        if (unidad == null) {
+            return Optional.empty();
+        }
+
+        ClienteEntidad entidad = unidad.get(clienteId.valor());
+        if (entidad == null || !entityManager.contains(entidad)) {
+            return Optional.empty();
+        }
+
+        log.debug("♻️ Reutilizando entidad gestionada del cliente: {}", clienteId);
+        return Optional.of(entidad);
+    }
+
+    /**
+     * Mapa de entidades leídas en la transacción de escritura en curso; se
+     * libera al terminar la transacción.
+     *
+     * @return mapa por ID de cliente, o null fuera de una transacción de escritura
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, ClienteEntidad> unidadDeTrabajo() {
+        if (!hayTransaccionEscritura() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<String, ClienteEntidad> unidad =
+                (Map<String, ClienteEntidad>) TransactionSynchronizationManager.getResource(this);
+        if (unidad == null) {
+            unidad = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, unidad);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ClienteRepositorioAdaptador.this);
+                }
+            });
+        }
+        return unidad;
+    }
+
+    private static boolean hayTransaccionEscritura() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Rechaza el guardado si el cliente se leyó con una versión distinta de la
+     * actual en BD (otro proceso lo ha modificado entretanto).
+     *
+     * @param cliente agregado de dominio a guardar
+     * @param entidad entidad JPA recién cargada
+     */
+    private void verificarVersion(Cliente cliente, ClienteEntidad entidad) {
+        if (cliente.getVersion() != null && !cliente.getVersion().equals(entidad.getVersion())) {
+            log.warn("⚠️ Conflicto de versión al guardar cliente {}: leída {}, actual {}",
+                    cliente.getClienteId(), cliente.getVersion(), entidad.getVersion());
+            throw new ObjectOptimisticLockingFailureException(ClienteEntidad.class, entidad.getId());
+        }
+    }
+
     /**
      * Actualiza una entidad JPA existente con datos del agregado de dominio.
      *
@@ -273,35 +730,69 @@ public class ClienteRepositorioAdaptador implements ClienteRepositorio {
     }
 
     /**
-     * Sincroniza la colección de tarjetas entre dominio y JPA.
+     * Sincroniza la colección de tarjetas entre dominio y JPA comparando por TarjetaId.
      *
-     * <p>Este método maneja correctamente la bidireccionalidad y el orphan removal:
+     * <p>Solo genera SQL para las tarjetas que cambian:
      * <ul>
-     *   <li>Elimina tarjetas que ya no están en el dominio</li>
+     *   <li>Elimina tarjetas que ya no están en el dominio (orphan removal)</li>
      *   <li>Agrega nuevas tarjetas del dominio</li>
-     *   <li>Actualiza tarjetas existentes</li>
+     *   <li>Copia los datos a las existentes; el dirty checking de Hibernate
+     *       solo emite UPDATE si algún valor ha cambiado</li>
      *   <li>Mantiene la relación bidireccional cliente-tarjeta</li>
      * </ul>
      *
+     * <p>Si el agregado no informa cambios en tarjetas, la colección no se toca.
+     *
      * @param cliente agregado de dominio
      * @param entidadJPA entidad JPA
      */
     private void sincronizarTarjetas(Cliente cliente, ClienteEntidad entidadJPA) {
-        log.debug("🔄 Sincronizando tarjetas del cliente");
+        if (!cliente.tieneCambiosEnTarjetas()) {
+            log.debug("⏭️ Tarjetas sin cambios, no se sincronizan");
+            return;
+        }
 
-        // Limpiar tarjetas existentes (orphan removal las eliminará de BD)
-        entidadJPA.getTarjetas().clear();
+        log.debug("🔄 Sincronizando tarjetas del cliente");
 
-        // Agregar tarjetas del dominio
         List<TarjetaCreditoEntidad> nuevasTarjetasJPA =
                 tarjetaMapper.aEntidadList(cliente.obtenerTarjetas());
 
-        // Establecer bidireccionalidad y agregar a la colección
-        nuevasTarjetasJPA.forEach(tarjeta -> {
-            tarjeta.setCliente(entidadJPA);
-            entidadJPA.getTarjetas().add(tarjeta);
-        });
+        Map<String, TarjetaCreditoEntidad> existentes = entidadJPA.getTarjetas().stream()
+                .collect(Collectors.toMap(TarjetaCreditoEntidad::getId, Function.identity()));
+        Map<String, TarjetaCreditoEntidad> delDominio = nuevasTarjetasJPA.stream()
+                .collect(Collectors.toMap(TarjetaCreditoEntidad::getId, Function.identity()));
+
+        // Eliminar las que ya no están en el dominio (orphan removal las borra de BD)
+        entidadJPA.getTarjetas().removeIf(tarjeta -> !delDominio.containsKey(tarjeta.getId()));
+
+        for (TarjetaCreditoEntidad nueva : nuevasTarjetasJPA) {
+            TarjetaCreditoEntidad existente = existentes.get(nueva.getId());
+            if (existente == null) {
+                // Alta: establecer bidireccionalidad y agregar a la colección
+                nueva.setCliente(entidadJPA);
+                entidadJPA.getTarjetas().add(nueva);
+            } else {
+                actualizarTarjetaExistente(nueva, existente);
+            }
+        }
 
         log.debug("✅ Tarjetas sincronizadas: {} tarjetas", entidadJPA.getTarjetas().size());
     }
+
+    /**
+     * Copia los datos modificables de una tarjeta mapeada a la entidad gestionada.
+     *
+     * @param origen tarjeta mapeada desde el dominio
+     * @param destino entidad JPA gestionada
+     */
+    private void actualizarTarjetaExistente(TarjetaCreditoEntidad origen, TarjetaCreditoEntidad destino) {
+        destino.setNumeroEncriptado(origen.getNumeroEncriptado());
+        destino.setUltimosDigitos(origen.getUltimosDigitos());
+        destino.setPrimerosDigitos(origen.getPrimerosDigitos());
+        destino.setAnioExpiracion(origen.getAnioExpiracion());
+        destino.setMesExpiracion(origen.getMesExpiracion());
+        destino.setTipoTarjeta(origen.getTipoTarjeta());
+        destino.setValidada(origen.getValidada());
+        destino.setMotivoRechazo(origen.getMotivoRechazo());
+    }
 }
\ No newline at end of file
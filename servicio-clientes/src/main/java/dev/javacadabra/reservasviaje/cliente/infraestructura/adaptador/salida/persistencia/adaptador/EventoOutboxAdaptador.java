@@ -0,0 +1,51 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.EventoOutboxEntidad;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registra eventos de dominio en la tabla {@code evento_outbox}.
+ *
+ * <p>Exige una transacción en curso: el evento solo existe si el cambio
+ * de estado que lo provoca se confirma.
+ *
+ * <p>El evento se inserta con {@link EntityManager#persist(Object)}: su id es
+ * asignado, y {@code save} lo trataría como existente y haría un {@code merge}
+ * con un SELECT previo al INSERT.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventoOutboxAdaptador {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Añade un evento a la bandeja de salida.
+     *
+     * @param agregadoId identificador del agregado que emite el evento
+     * @param evento evento de dominio (se serializa a JSON)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(String agregadoId, Object evento) {
+        entityManager.persist(EventoOutboxEntidad.builder()
+                .id(UUID.randomUUID().toString())
+                .agregadoId(agregadoId)
+                .tipoEvento(evento.getClass().getSimpleName())
+                .payload(objectMapper.writeValueAsString(evento))
+                .fechaRegistro(LocalDateTime.now())
+                .build());
+
+        log.debug("📮 Evento {} registrado en outbox para {}", evento.getClass().getSimpleName(), agregadoId);
+    }
+}
@@ -0,0 +1,271 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.DatosPersonales;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.Direccion;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.EstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.NumeroTarjeta;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TarjetaId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TipoTarjeta;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion.CacheClientesPropiedades;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura de clientes (con sus tarjetas) para el adaptador de persistencia.
+ *
+ * <p>Una misma reserva carga el mismo cliente desde varios workers seguidos
+ * (obtener datos, validar tarjeta, actualizar estado...). La caché guarda una
+ * instantánea inmutable del agregado y devuelve a cada lector un {@link Cliente}
+ * recién reconstruido, de modo que ningún worker ve las mutaciones de otro.
+ *
+ * <p><strong>Consistencia:</strong>
+ * <ul>
+ *   <li>Las escrituras invalidan la entrada al momento y de nuevo al terminar
+ *       la transacción (commit o rollback)</li>
+ *   <li>Solo se rellena desde transacciones de solo lectura, nunca con datos
+ *       sin confirmar</li>
+ *   <li>Una lectura que empezó antes de una invalidación no guarda su resultado</li>
+ * </ul>
+ *
+ * <p>La invalidación es local: con varias réplicas, cada una puede servir datos
+ * con una antigüedad de hasta el TTL configurado.
+ */
+@Component
+@Slf4j
+public class CacheClientes {
+
+    private final boolean habilitada;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entrada> entradas;
+
+    /**
+     * Se incrementa con cada invalidación; una carga solo se guarda si no ha
+     * cambiado desde que empezó.
+     */
+    private long generacion;
+
+    private final Counter aciertos;
+    private final Counter fallos;
+    private final Counter desalojosCapacidad;
+    private final Counter desalojosExpiracion;
+    private final Counter invalidaciones;
+
+    public CacheClientes(CacheClientesPropiedades propiedades, MeterRegistry meterRegistry) {
+        this.habilitada = propiedades.habilitada();
+        this.ttlNanos = propiedades.ttl().toNanos();
+
+        int capacidad = propiedades.capacidad();
+        this.desalojosCapacidad = Counter.builder("reservasviaje.clientes.cache.desalojos")
+                .tag("motivo", "capacidad")
+                .register(meterRegistry);
+        this.desalojosExpiracion = Counter.builder("reservasviaje.clientes.cache.desalojos")
+                .tag("motivo", "expiracion")
+                .register(meterRegistry);
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> eldest) {
+                boolean desalojar = size() > capacidad;
+                if (desalojar) {
+                    desalojosCapacidad.increment();
+                }
+                return desalojar;
+            }
+        };
+
+        this.aciertos = Counter.builder("reservasviaje.clientes.cache.accesos")
+                .tag("resultado", "acierto")
+                .register(meterRegistry);
+        this.fallos = Counter.builder("reservasviaje.clientes.cache.accesos")
+                .tag("resultado", "fallo")
+                .register(meterRegistry);
+        this.invalidaciones = Counter.builder("reservasviaje.clientes.cache.invalidaciones")
+                .register(meterRegistry);
+        Gauge.builder("reservasviaje.clientes.cache.tamano", this, CacheClientes::tamano)
+                .register(meterRegistry);
+
+        log.info("🗃️ Caché de clientes {} (capacidad: {}, ttl: {})",
+                habilitada ? "habilitada" : "deshabilitada", capacidad, propiedades.ttl());
+    }
+
+    /**
+     * Devuelve el cliente desde la caché o lo carga con {@code cargador}.
+     *
+     * @param clienteId identificador del cliente
+     * @param cargador lectura de base de datos si no está en caché
+     * @return cliente reconstruido (una instancia nueva en cada llamada)
+     */
+    public Optional<Cliente> obtener(ClienteId clienteId, Supplier<Optional<Cliente>> cargador) {
+        if (!habilitada) {
+            return cargador.get();
+        }
+
+        String clave = clienteId.valor();
+        long generacionInicial;
+        synchronized (this) {
+            Entrada entrada = entradas.get(clave);
+            if (entrada != null) {
+                if (System.nanoTime() - entrada.guardadaNanos() <= ttlNanos) {
+                    aciertos.increment();
+                    return Optional.of(entrada.cliente().aCliente());
+                }
+                entradas.remove(clave);
+                desalojosExpiracion.increment();
+            }
+            generacionInicial = generacion;
+        }
+
+        fallos.increment();
+        Optional<Cliente> cargado = cargador.get();
+
+        if (cargado.isPresent() && puedeRellenar()) {
+            InstantaneaCliente instantanea = InstantaneaCliente.de(cargado.get());
+            synchronized (this) {
+                if (generacion == generacionInicial) {
+                    entradas.put(clave, new Entrada(instantanea, System.nanoTime()));
+                }
+            }
+        }
+        return cargado;
+    }
+
+    /**
+     * Invalida la entrada de un cliente ahora y, si hay una transacción en curso,
+     * otra vez cuando termine.
+     *
+     * @param clienteId identificador del cliente modificado o eliminado
+     */
+    public void invalidar(ClienteId clienteId) {
+        if (!habilitada) {
+            return;
+        }
+
+        String clave = clienteId.valor();
+        eliminar(clave);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eliminar(clave);
+                }
+            });
+        }
+    }
+
+    private synchronized void eliminar(String clave) {
+        generacion++;
+        entradas.remove(clave);
+        invalidaciones.increment();
+        log.trace("🗃️ Cliente {} invalidado en caché", clave);
+    }
+
+    private synchronized int tamano() {
+        return entradas.size();
+    }
+
+    private static boolean puedeRellenar() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private record Entrada(InstantaneaCliente cliente, long guardadaNanos) {
+    }
+
+    /**
+     * Copia inmutable del agregado y sus tarjetas.
+     */
+    private record InstantaneaCliente(
+            ClienteId clienteId,
+            DatosPersonales datosPersonales,
+            Direccion direccion,
+            EstadoCliente estado,
+            List<InstantaneaTarjeta> tarjetas,
+            LocalDateTime fechaCreacion,
+            LocalDateTime fechaActualizacion,
+            String motivoBloqueo,
+            Long version
+    ) {
+
+        static InstantaneaCliente de(Cliente cliente) {
+            return new InstantaneaCliente(
+                    cliente.getClienteId(),
+                    cliente.getDatosPersonales(),
+                    cliente.getDireccion(),
+                    cliente.getEstado(),
+                    cliente.obtenerTarjetas().stream().map(InstantaneaTarjeta::de).toList(),
+                    cliente.getFechaCreacion(),
+                    cliente.getFechaActualizacion(),
+                    cliente.getMotivoBloqueo(),
+                    cliente.getVersion()
+            );
+        }
+
+        Cliente aCliente() {
+            return Cliente.reconstruir(
+                    clienteId,
+                    datosPersonales,
+                    direccion,
+                    estado,
+                    tarjetas.stream().map(InstantaneaTarjeta::aTarjeta).toList(),
+                    fechaCreacion,
+                    fechaActualizacion,
+                    motivoBloqueo,
+                    version
+            );
+        }
+    }
+
+    private record InstantaneaTarjeta(
+            TarjetaId tarjetaId,
+            ClienteId clienteId,
+            NumeroTarjeta numeroTarjeta,
+            YearMonth fechaExpiracion,
+            TipoTarjeta tipoTarjeta,
+            LocalDateTime fechaCreacion,
+            boolean validada,
+            String motivoRechazo
+    ) {
+
+        static InstantaneaTarjeta de(TarjetaCredito tarjeta) {
+            return new InstantaneaTarjeta(
+                    tarjeta.getTarjetaId(),
+                    tarjeta.getClienteId(),
+                    tarjeta.getNumeroTarjeta(),
+                    tarjeta.getFechaExpiracion(),
+                    tarjeta.getTipoTarjeta(),
+                    tarjeta.getFechaCreacion(),
+                    tarjeta.isValidada(),
+                    tarjeta.getMotivoRechazo()
+            );
+        }
+
+        TarjetaCredito aTarjeta() {
+            return TarjetaCredito.reconstruir(
+                    tarjetaId,
+                    clienteId,
+                    numeroTarjeta,
+                    fechaExpiracion,
+                    tipoTarjeta,
+                    fechaCreacion,
+                    validada,
+                    motivoRechazo
+            );
+        }
+    }
+}
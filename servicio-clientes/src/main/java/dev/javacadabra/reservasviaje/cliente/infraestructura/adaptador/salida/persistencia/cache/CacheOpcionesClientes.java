@@ -0,0 +1,148 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.evento.EstadoClienteCambiadoEvento;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.EstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.OpcionCliente;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.OpcionClienteFila;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.repositorio.ClienteRepositorioSpringData;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion.OpcionesClientesPropiedades;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Lista en memoria de los clientes ACTIVO para el selector del formulario de inicio.
+ *
+ * <p>Se carga con una consulta de proyección (id y nombre) sobre el índice de
+ * estado, ordenada por nombre y limitada a {@code max-opciones}. Después se
+ * mantiene de forma incremental con {@link EstadoClienteCambiadoEvento} tras
+ * cada commit: un cliente que pasa a ACTIVO se añade y uno que deja de estarlo
+ * se quita.
+ *
+ * <p>Si la lista está truncada (hay más clientes ACTIVO que el límite) sigue
+ * siendo un prefijo correcto del orden por nombre: un cliente que sale se quita
+ * sin más, dejando un hueco al final hasta la siguiente recarga, y uno que entra
+ * por detrás de la última opción no se añade, porque puede haber clientes sin
+ * listar antes que él. La lista se recarga entera al superar el TTL.
+ */
+@Component
+@Slf4j
+public class CacheOpcionesClientes {
+
+    private static final Comparator<OpcionCliente> ORDEN = Comparator
+            .comparing(OpcionCliente::nombreCompleto)
+            .thenComparing(OpcionCliente::clienteId);
+
+    private final ClienteRepositorioSpringData repositorioSpringData;
+    private final int maxOpciones;
+    private final long ttlNanos;
+
+    private final TreeMap<OpcionCliente, Boolean> opciones = new TreeMap<>(ORDEN);
+    private final Map<String, OpcionCliente> porId = new HashMap<>();
+    private volatile boolean cargada;
+    private boolean truncada;
+    private long cargadaNanos;
+
+    public CacheOpcionesClientes(ClienteRepositorioSpringData repositorioSpringData,
+                                 OpcionesClientesPropiedades propiedades) {
+        this.repositorioSpringData = repositorioSpringData;
+        this.maxOpciones = propiedades.maxOpciones();
+        this.ttlNanos = propiedades.ttl().toNanos();
+    }
+
+    /**
+     * Devuelve los clientes ACTIVO ordenados por nombre.
+     *
+     * @param limite máximo de opciones (se aplica además el límite configurado)
+     * @return opciones para el selector
+     */
+    public synchronized List<OpcionCliente> obtener(int limite) {
+        if (!cargada || System.nanoTime() - cargadaNanos > ttlNanos) {
+            recargar();
+        }
+        return opciones.keySet().stream()
+                .limit(Math.min(limite, maxOpciones))
+                .toList();
+    }
+
+    /**
+     * Aplica un cambio de estado confirmado a la lista.
+     *
+     * @param evento cambio de estado de un cliente
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCambiarEstado(EstadoClienteCambiadoEvento evento) {
+        if (!cargada) {
+            // Sin lista que mantener: la próxima lectura la cargará entera
+            return;
+        }
+
+        boolean activo = EstadoCliente.ACTIVO.name().equals(evento.estadoNuevo());
+
+        // Lectura del nombre fuera del bloqueo
+        OpcionClienteFila fila = activo
+                ? repositorioSpringData.findOpcionPorIdYEstado(evento.clienteId(), ClienteEntidad.EstadoClienteEnum.ACTIVO)
+                        .orElse(null)
+                : null;
+
+        synchronized (this) {
+            if (!cargada) {
+                return;
+            }
+
+            quitar(evento.clienteId());
+            if (fila != null) {
+                poner(new OpcionCliente(fila.id(), fila.nombreCompleto()));
+            }
+        }
+    }
+
+    private void recargar() {
+        List<OpcionClienteFila> filas = repositorioSpringData.findOpcionesPorEstado(
+                ClienteEntidad.EstadoClienteEnum.ACTIVO, Limit.of(maxOpciones + 1));
+
+        opciones.clear();
+        porId.clear();
+        filas.stream()
+                .limit(maxOpciones)
+                .forEach(fila -> poner(new OpcionCliente(fila.id(), fila.nombreCompleto())));
+
+        truncada = filas.size() > maxOpciones;
+        cargada = true;
+        cargadaNanos = System.nanoTime();
+
+        log.debug("📋 Selector de clientes recargado: {} opciones{}",
+                opciones.size(), truncada ? " (truncado)" : "");
+    }
+
+    private void poner(OpcionCliente opcion) {
+        if (truncada && (opciones.isEmpty() || ORDEN.compare(opcion, opciones.lastKey()) > 0)) {
+            // Fuera del prefijo conocido: puede haber clientes sin listar antes que él
+            return;
+        }
+
+        opciones.put(opcion, Boolean.TRUE);
+        porId.put(opcion.clienteId(), opcion);
+
+        if (opciones.size() > maxOpciones) {
+            OpcionCliente descartada = opciones.pollLastEntry().getKey();
+            porId.remove(descartada.clienteId());
+            truncada = true;
+        }
+    }
+
+    private void quitar(String clienteId) {
+        OpcionCliente anterior = porId.remove(clienteId);
+        if (anterior != null) {
+            opciones.remove(anterior);
+        }
+    }
+}
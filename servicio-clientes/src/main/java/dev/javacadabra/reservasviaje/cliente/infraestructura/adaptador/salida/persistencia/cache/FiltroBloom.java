@@ -0,0 +1,90 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente sobre cadenas.
+ *
+ * <p>Responde "seguro que no está" o "puede estar". Las posiciones de cada
+ * clave salen de un resumen SHA-256 (doble hashing con sus dos primeros
+ * {@code long}), así que el filtro no guarda los valores en claro.
+ *
+ * <p>Las inserciones son atómicas por palabra y no hay borrados: un valor que
+ * deja de existir solo provoca algún falso positivo más.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long numeroBits;
+    private final int numeroFunciones;
+    private final AtomicLong insertados = new AtomicLong();
+
+    /**
+     * @param capacidad número de claves previsto
+     * @param probabilidadFalsoPositivo tasa de falsos positivos objetivo con esa capacidad
+     */
+    FiltroBloom(int capacidad, double probabilidadFalsoPositivo) {
+        if (capacidad <= 0 || probabilidadFalsoPositivo <= 0 || probabilidadFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidad o probabilidad de falso positivo no válidas");
+        }
+
+        // m = -n·ln(p) / ln(2)²  ;  k = (m/n)·ln(2)
+        long m = (long) Math.ceil(-capacidad * Math.log(probabilidadFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        this.numeroBits = Math.max(64, (m + 63) / 64 * 64);
+        this.numeroFunciones = Math.max(1, (int) Math.round((double) numeroBits / capacidad * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact(numeroBits / 64));
+    }
+
+    void agregar(String clave) {
+        long[] hash = resumen(clave);
+        for (int i = 0; i < numeroFunciones; i++) {
+            long posicion = posicion(hash, i);
+            long mascara = 1L << (posicion & 63);
+            bits.getAndAccumulate((int) (posicion >>> 6), mascara, (actual, m) -> actual | m);
+        }
+        insertados.incrementAndGet();
+    }
+
+    boolean puedeContener(String clave) {
+        long[] hash = resumen(clave);
+        for (int i = 0; i < numeroFunciones; i++) {
+            long posicion = posicion(hash, i);
+            if ((bits.get((int) (posicion >>> 6)) & (1L << (posicion & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probabilidad teórica de falso positivo con las claves insertadas hasta
+     * ahora: (1 - e^(-k·n/m))^k.
+     */
+    double probabilidadFalsoPositivoEstimada() {
+        double n = insertados.get();
+        return Math.pow(1 - Math.exp(-numeroFunciones * n / numeroBits), numeroFunciones);
+    }
+
+    long insertados() {
+        return insertados.get();
+    }
+
+    private long posicion(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], numeroBits);
+    }
+
+    private static long[] resumen(String clave) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(clave.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new long[]{buffer.getLong(), buffer.getLong() | 1};
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
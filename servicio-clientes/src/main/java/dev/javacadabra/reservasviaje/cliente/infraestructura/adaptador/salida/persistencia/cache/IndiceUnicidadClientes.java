@@ -0,0 +1,217 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.cache;
+
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.ClaveUnicidadFila;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.repositorio.ClienteRepositorioSpringData;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion.IndiceUnicidadPropiedades;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Índice en memoria (filtros de Bloom) de los emails y DNI registrados.
+ *
+ * <p>Permite responder sin consultar la base de datos cuando un email o DNI
+ * seguro que no existe, que es el caso habitual al crear un cliente o cambiar
+ * su email. Un "puede existir" se confirma siempre contra el índice único de BD.
+ * Solo lo consultan las comprobaciones {@code existsBy*}: las búsquedas
+ * {@code findBy*} van siempre a BD.
+ *
+ * <p>Se carga al arrancar recorriendo la tabla de clientes por lotes y el
+ * adaptador de persistencia le añade cada email y DNI que escribe. Mientras no
+ * termina la carga, todas las comprobaciones van a BD. Los valores eliminados o
+ * sustituidos no se quitan: solo aumentan los falsos positivos, que se miden en
+ * {@code reservasviaje.clientes.unicidad.comprobaciones}.
+ */
+@Component
+@Slf4j
+public class IndiceUnicidadClientes {
+
+    private static final int TAMANO_LOTE_CARGA = 1000;
+
+    /**
+     * Campo único indexado.
+     */
+    public enum Campo {
+        EMAIL,
+        DNI
+    }
+
+    private final ClienteRepositorioSpringData repositorioSpringData;
+    private final boolean habilitado;
+    private final int capacidad;
+    private final FiltroBloom emails;
+    private final FiltroBloom dnis;
+    private final Metricas metricasEmail;
+    private final Metricas metricasDni;
+
+    private volatile boolean cargado;
+
+    public IndiceUnicidadClientes(ClienteRepositorioSpringData repositorioSpringData,
+                                  IndiceUnicidadPropiedades propiedades,
+                                  MeterRegistry meterRegistry) {
+        this.repositorioSpringData = repositorioSpringData;
+        this.habilitado = propiedades.habilitado();
+        this.capacidad = propiedades.capacidad();
+        this.emails = new FiltroBloom(capacidad, propiedades.probabilidadFalsoPositivo());
+        this.dnis = new FiltroBloom(capacidad, propiedades.probabilidadFalsoPositivo());
+        this.metricasEmail = new Metricas(Campo.EMAIL, emails, meterRegistry);
+        this.metricasDni = new Metricas(Campo.DNI, dnis, meterRegistry);
+    }
+
+    /**
+     * Carga el índice en segundo plano para no retrasar el arranque. Las
+     * escrituras concurrentes se añaden igualmente, así que no se pierde ninguna.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlArrancar() {
+        if (!habilitado) {
+            log.info("⏭️ Índice de unicidad de clientes deshabilitado");
+            return;
+        }
+        Thread.ofVirtual().name("carga-indice-unicidad").start(this::cargar);
+    }
+
+    /**
+     * Indica si el valor seguro que no está registrado.
+     *
+     * <p>Si devuelve {@code false} hay que consultar la BD y comunicar el
+     * resultado con {@link #registrarResultado(Campo, boolean)}.
+     *
+     * @param campo campo consultado
+     * @param valor email o DNI
+     * @return {@code true} si se puede omitir la consulta
+     */
+    public boolean descarta(Campo campo, String valor) {
+        if (!cargado || valor == null) {
+            return false;
+        }
+
+        if (filtro(campo).puedeContener(normalizar(campo, valor))) {
+            return false;
+        }
+        metricas(campo).descartadas.increment();
+        return true;
+    }
+
+    /**
+     * Anota el resultado de la consulta a BD tras un "puede existir".
+     *
+     * @param campo campo consultado
+     * @param existe si la BD encontró el valor
+     */
+    public void registrarResultado(Campo campo, boolean existe) {
+        if (!cargado) {
+            return;
+        }
+        (existe ? metricas(campo).coincidencias : metricas(campo).falsosPositivos).increment();
+    }
+
+    /**
+     * Añade el email y el DNI de un cliente escrito en BD.
+     *
+     * @param email email del cliente
+     * @param dni DNI del cliente
+     */
+    public void registrar(String email, String dni) {
+        if (!habilitado) {
+            return;
+        }
+        if (email != null) {
+            emails.agregar(normalizar(Campo.EMAIL, email));
+        }
+        if (dni != null) {
+            dnis.agregar(normalizar(Campo.DNI, dni));
+        }
+    }
+
+    private void cargar() {
+        long inicio = System.nanoTime();
+        try {
+            String ultimoId = "";
+            List<ClaveUnicidadFila> lote;
+            do {
+                lote = repositorioSpringData.findClavesUnicidadDespuesDe(ultimoId, Limit.of(TAMANO_LOTE_CARGA));
+                for (ClaveUnicidadFila fila : lote) {
+                    registrar(fila.email(), fila.dni());
+                }
+                if (!lote.isEmpty()) {
+                    ultimoId = lote.getLast().id();
+                }
+            } while (lote.size() == TAMANO_LOTE_CARGA);
+
+            cargado = true;
+            log.info("✅ Índice de unicidad cargado: {} clientes en {} ms",
+                    emails.insertados(), (System.nanoTime() - inicio) / 1_000_000);
+
+            if (emails.insertados() > capacidad) {
+                log.warn("⚠️ Hay más clientes ({}) que la capacidad del índice de unicidad ({}): "
+                                + "subir reservasviaje.clientes.unicidad.capacidad",
+                        emails.insertados(), capacidad);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Error cargando el índice de unicidad, las comprobaciones irán a BD", e);
+        }
+    }
+
+    private FiltroBloom filtro(Campo campo) {
+        return campo == Campo.EMAIL ? emails : dnis;
+    }
+
+    private Metricas metricas(Campo campo) {
+        return campo == Campo.EMAIL ? metricasEmail : metricasDni;
+    }
+
+    private static String normalizar(Campo campo, String valor) {
+        return campo == Campo.EMAIL
+                ? valor.trim().toLowerCase(Locale.ROOT)
+                : valor.trim().toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "");
+    }
+
+    /**
+     * Contadores y gauges de un campo.
+     */
+    private static final class Metricas {
+
+        private final Counter descartadas;
+        private final Counter coincidencias;
+        private final Counter falsosPositivos;
+
+        Metricas(Campo campo, FiltroBloom filtro, MeterRegistry meterRegistry) {
+            String tagCampo = campo.name().toLowerCase(Locale.ROOT);
+            this.descartadas = contador(meterRegistry, tagCampo, "descartada");
+            this.coincidencias = contador(meterRegistry, tagCampo, "coincidencia");
+            this.falsosPositivos = contador(meterRegistry, tagCampo, "falso_positivo");
+
+            Gauge.builder("reservasviaje.clientes.unicidad.falsos.positivos.estimados",
+                            filtro, FiltroBloom::probabilidadFalsoPositivoEstimada)
+                    .description("Probabilidad teórica de falso positivo con las claves actuales")
+                    .tag("campo", tagCampo)
+                    .register(meterRegistry);
+            Gauge.builder("reservasviaje.clientes.unicidad.falsos.positivos.observados",
+                            this, Metricas::tasaFalsosPositivosObservada)
+                    .description("Falsos positivos sobre el total de valores no registrados comprobados")
+                    .tag("campo", tagCampo)
+                    .register(meterRegistry);
+        }
+
+        private double tasaFalsosPositivosObservada() {
+            double negativos = descartadas.count() + falsosPositivos.count();
+            return negativos == 0 ? 0 : falsosPositivos.count() / negativos;
+        }
+
+        private static Counter contador(MeterRegistry meterRegistry, String campo, String resultado) {
+            return Counter.builder("reservasviaje.clientes.unicidad.comprobaciones")
+                    .tag("campo", campo)
+                    .tag("resultado", resultado)
+                    .register(meterRegistry);
+        }
+    }
+}
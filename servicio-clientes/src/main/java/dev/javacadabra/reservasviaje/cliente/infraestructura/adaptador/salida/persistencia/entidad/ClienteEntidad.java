@@ -46,9 +46,10 @@ import java.util.List;
         },
         indexes = {
                 @Index(name = "idx_cliente_estado", columnList = "estado"),
+                @Index(name = "idx_cliente_estado_nombre", columnList = "estado, nombre, apellidos"),
                 @Index(name = "idx_cliente_email", columnList = "email"),
                 @Index(name = "idx_cliente_dni", columnList = "dni"),
-                @Index(name = "idx_cliente_fecha_creacion", columnList = "fecha_creacion")
+                @Index(name = "idx_cliente_fecha_creacion", columnList = "fecha_creacion, id")
         }
 )
 @EntityListeners(AuditingEntityListener.class)
@@ -156,6 +157,16 @@ public class ClienteEntidad {
     @Column(name = "motivo_bloqueo", length = 500)
     private String motivoBloqueo;
 
+    /**
+     * Versión para control de concurrencia optimista.
+     *
+     * <p>La incrementan tanto los guardados del agregado completo como las
+     * transiciones de estado condicionales.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     // ==================== RELACIONES ====================
 
     /**
@@ -0,0 +1,55 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de la bandeja de salida (outbox) de eventos de dominio.
+ *
+ * <p>Los eventos se guardan en la misma transacción que el cambio de estado
+ * que los provoca; {@code fechaPublicacion} queda a nulo hasta que un
+ * publicador los entregue.
+ *
+ * @author javacadabra
+ * @version 1.0.0
+ */
+@Entity
+@Table(
+        name = "evento_outbox",
+        indexes = {
+                @Index(name = "idx_evento_outbox_pendiente", columnList = "fecha_publicacion, fecha_registro"),
+                @Index(name = "idx_evento_outbox_agregado", columnList = "agregado_id")
+        }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoOutboxEntidad {
+
+    @Id
+    @Column(name = "id", nullable = false, length = 36)
+    private String id;
+
+    @Column(name = "agregado_id", nullable = false, length = 36)
+    private String agregadoId;
+
+    @Column(name = "tipo_evento", nullable = false, length = 100)
+    private String tipoEvento;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "fecha_registro", nullable = false)
+    private LocalDateTime fechaRegistro;
+
+    @Column(name = "fecha_publicacion")
+    private LocalDateTime fechaPublicacion;
+}
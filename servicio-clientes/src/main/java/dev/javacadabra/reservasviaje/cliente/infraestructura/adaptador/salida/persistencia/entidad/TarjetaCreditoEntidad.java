@@ -66,7 +66,7 @@ public class TarjetaCreditoEntidad {
     /**
      * Número de tarjeta encriptado.
      *
-     * <p>Se almacena encriptado en base de datos usando un algoritmo seguro (AES-256).
+     * <p>Se almacena cifrado con AES-256-GCM (formato {@code v1:<Base64>}).
      * Este campo contiene el número completo de la tarjeta en formato encriptado.
      */
     @Column(name = "numero_encriptado", nullable = false, length = 500)
@@ -81,6 +81,15 @@ public class TarjetaCreditoEntidad {
     @Column(name = "ultimos_digitos", nullable = false, length = 4)
     private String ultimosDigitos;
 
+    /**
+     * Primeros 6 dígitos (BIN) de la tarjeta (sin encriptar).
+     *
+     * <p>Junto con los últimos dígitos permite reconstruir el número sin
+     * descifrarlo. Nulo en filas anteriores a esta columna.
+     */
+    @Column(name = "primeros_digitos", length = 6)
+    private String primerosDigitos;
+
     /**
      * Año de expiración de la tarjeta (YYYY).
      */
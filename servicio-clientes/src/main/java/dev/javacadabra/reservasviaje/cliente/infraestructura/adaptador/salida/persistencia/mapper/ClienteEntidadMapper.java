@@ -119,7 +119,8 @@ public interface ClienteEntidadMapper {
                 tarjetas,
                 entidad.getFechaCreacion(),
                 entidad.getFechaModificacion(),
-                entidad.getMotivoBloqueo()
+                entidad.getMotivoBloqueo(),
+                entidad.getVersion()
         );
     }
 
@@ -46,9 +46,12 @@ public interface TarjetaCreditoEntidadMapper {
         // ✅ ID de la tarjeta
         entidad.setId(tarjetaIdToString(tarjeta.getTarjetaId()));
 
-        // ✅ CRÍTICO: Número encriptado en Base64 (SIN procesar)
+        // ✅ CRÍTICO: Número cifrado (SIN procesar)
         entidad.setNumeroEncriptado(tarjeta.getNumeroTarjeta().getValorEncriptado());
 
+        // BIN en claro para reconstruir sin descifrar
+        entidad.setPrimerosDigitos(tarjeta.getNumeroTarjeta().getPrimerosDigitos());
+
         // ✅ CRÍTICO: Últimos dígitos extraídos del número enmascarado
         entidad.setUltimosDigitos(extraerUltimosDigitos(tarjeta.obtenerNumeroEnmascarado()));
 
@@ -92,7 +95,7 @@ public interface TarjetaCreditoEntidadMapper {
         return TarjetaCredito.reconstruir(
                 stringToTarjetaId(entidad.getId()),
                 stringToClienteId(entidad.getCliente().getId()),
-                stringToNumeroTarjeta(entidad.getNumeroEncriptado()),
+                aNumeroTarjeta(entidad),
                 YearMonth.of(entidad.getAnioExpiracion(), entidad.getMesExpiracion()),
                 enumToTipo(entidad.getTipoTarjeta()),
                 // ✅ CORREGIDO: Convertir LocalDateTime a LocalDate
@@ -129,7 +132,30 @@ public interface TarjetaCreditoEntidadMapper {
     }
 
     /**
-     * Convierte el número encriptado (Base64) a NumeroTarjeta.
+     * Reconstruye el NumeroTarjeta de una entidad sin descifrar el número
+     * cuando la fila ya tiene BIN y últimos dígitos.
+     *
+     * <p>Las filas anteriores a la columna {@code primeros_digitos} siguen
+     * el camino Base64 de {@link #stringToNumeroTarjeta(String)}.
+     *
+     * @param entidad entidad JPA de la tarjeta
+     * @return NumeroTarjeta reconstruido
+     */
+    default NumeroTarjeta aNumeroTarjeta(TarjetaCreditoEntidad entidad) {
+        if (entidad.getNumeroEncriptado() != null
+                && entidad.getPrimerosDigitos() != null
+                && entidad.getUltimosDigitos() != null) {
+            return NumeroTarjeta.reconstruido(
+                    entidad.getNumeroEncriptado(),
+                    entidad.getPrimerosDigitos(),
+                    entidad.getUltimosDigitos()
+            );
+        }
+        return stringToNumeroTarjeta(entidad.getNumeroEncriptado());
+    }
+
+    /**
+     * Convierte un número en el formato anterior (solo Base64) a NumeroTarjeta.
      *
      * <p><strong>Validación:</strong> Verifica que el valor sea Base64 válido
      * antes de intentar reconstruir el Value Object.
@@ -0,0 +1,15 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion;
+
+/**
+ * Proyección JPQL con los campos únicos de un cliente.
+ *
+ * @param id identificador del cliente
+ * @param email email normalizado
+ * @param dni DNI normalizado
+ */
+public record ClaveUnicidadFila(
+        String id,
+        String email,
+        String dni
+) {
+}
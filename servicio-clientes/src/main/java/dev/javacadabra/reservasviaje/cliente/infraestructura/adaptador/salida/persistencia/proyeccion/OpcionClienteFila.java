@@ -0,0 +1,19 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion;
+
+/**
+ * Proyección JPQL con el identificador y el nombre de un cliente.
+ *
+ * @param id identificador del cliente
+ * @param nombre nombre
+ * @param apellidos apellidos
+ */
+public record OpcionClienteFila(
+        String id,
+        String nombre,
+        String apellidos
+) {
+
+    public String nombreCompleto() {
+        return nombre + " " + apellidos;
+    }
+}
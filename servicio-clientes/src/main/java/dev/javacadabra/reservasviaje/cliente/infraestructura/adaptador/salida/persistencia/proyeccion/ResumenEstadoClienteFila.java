@@ -0,0 +1,19 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion;
+
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
+
+/**
+ * Proyección JPQL con el estado de un cliente y el recuento de sus tarjetas.
+ *
+ * @param estado estado persistido del cliente
+ * @param motivoBloqueo motivo del bloqueo
+ * @param cantidadTarjetas cantidad total de tarjetas
+ * @param cantidadTarjetasValidas tarjetas validadas, sin rechazo y no expiradas
+ */
+public record ResumenEstadoClienteFila(
+        ClienteEntidad.EstadoClienteEnum estado,
+        String motivoBloqueo,
+        Long cantidadTarjetas,
+        Long cantidadTarjetasValidas
+) {
+}
@@ -1,10 +1,20 @@
 package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.repositorio;
 
 import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.ClaveUnicidadFila;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.OpcionClienteFila;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenEstadoClienteFila;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +52,42 @@ public interface ClienteRepositorioSpringData extends JpaRepository<ClienteEntid
      */
     boolean existsByDni(String dni);
 
+    /**
+     * Obtiene los emails de la lista que ya están registrados.
+     *
+     * @param emails emails normalizados
+     * @return emails existentes
+     */
+    @Query("SELECT c.email FROM ClienteEntidad c WHERE c.email IN :emails")
+    List<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    /**
+     * Obtiene los DNI de la lista que ya están registrados.
+     *
+     * @param dnis DNI normalizados
+     * @return DNI existentes
+     */
+    @Query("SELECT c.dni FROM ClienteEntidad c WHERE c.dni IN :dnis")
+    List<String> findDnisExistentes(@Param("dnis") Collection<String> dnis);
+
+    /**
+     * Recorre por ID los campos únicos de todos los clientes (carga del índice
+     * de unicidad en memoria).
+     *
+     * @param id último ID leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.ClaveUnicidadFila(
+                c.id, c.email, c.dni)
+            FROM ClienteEntidad c
+            WHERE c.id > :id
+            ORDER BY c.id
+            """)
+    List<ClaveUnicidadFila> findClavesUnicidadDespuesDe(@Param("id") String id, Limit limite);
+
     /**
      * Busca un cliente por su ID con todas sus tarjetas cargadas (fetch join).
      *
@@ -54,6 +100,148 @@ public interface ClienteRepositorioSpringData extends JpaRepository<ClienteEntid
     @Query("SELECT c FROM ClienteEntidad c LEFT JOIN FETCH c.tarjetas WHERE c.id = :id")
     Optional<ClienteEntidad> findByIdWithTarjetas(@Param("id") String id);
 
+    /**
+     * Obtiene solo la columna de estado de un cliente.
+     *
+     * @param id identificador del cliente
+     * @return Optional con el estado si el cliente existe
+     */
+    @Query("SELECT c.estado FROM ClienteEntidad c WHERE c.id = :id")
+    Optional<ClienteEntidad.EstadoClienteEnum> findEstadoById(@Param("id") String id);
+
+    /**
+     * Obtiene el estado del cliente y el recuento de tarjetas en una sola consulta
+     * agregada, sin materializar las tarjetas.
+     *
+     * <p>Una tarjeta cuenta como válida con los mismos criterios que
+     * {@code TarjetaCredito#esValida()}: validada, sin motivo de rechazo y con
+     * expiración igual o posterior al mes indicado.
+     *
+     * @param id identificador del cliente
+     * @param anio año actual
+     * @param mes mes actual (1-12)
+     * @return Optional con el resumen si el cliente existe
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenEstadoClienteFila(
+                c.estado,
+                c.motivoBloqueo,
+                COUNT(t),
+                COALESCE(SUM(CASE WHEN t.validada = true
+                                   AND t.motivoRechazo IS NULL
+                                   AND (t.anioExpiracion > :anio
+                                        OR (t.anioExpiracion = :anio AND t.mesExpiracion >= :mes))
+                                  THEN 1 ELSE 0 END), 0))
+            FROM ClienteEntidad c LEFT JOIN c.tarjetas t
+            WHERE c.id = :id
+            GROUP BY c.estado, c.motivoBloqueo
+            """)
+    Optional<ResumenEstadoClienteFila> findResumenEstadoById(@Param("id") String id,
+                                                             @Param("anio") int anio,
+                                                             @Param("mes") int mes);
+
+    /**
+     * Cambia el estado del cliente solo si está en el estado de origen indicado
+     * (compare-and-set), incrementando la versión optimista.
+     *
+     * @param id identificador del cliente
+     * @param origen estado que debe tener el cliente
+     * @param destino nuevo estado
+     * @param fecha fecha de modificación
+     * @return filas actualizadas (0 si no existe o no estaba en el estado de origen)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClienteEntidad c
+               SET c.estado = :destino, c.fechaModificacion = :fecha, c.version = c.version + 1
+             WHERE c.id = :id AND c.estado = :origen
+            """)
+    int actualizarEstadoSiCoincide(@Param("id") String id,
+                                   @Param("origen") ClienteEntidad.EstadoClienteEnum origen,
+                                   @Param("destino") ClienteEntidad.EstadoClienteEnum destino,
+                                   @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Obtiene id y nombre de los clientes en un estado, ordenados por nombre,
+     * sin materializar entidades ni tarjetas.
+     *
+     * @param estado estado de los clientes
+     * @param limite número máximo de filas
+     * @return filas de proyección ordenadas por nombre, apellidos e id
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.OpcionClienteFila(
+                c.id, c.nombre, c.apellidos)
+            FROM ClienteEntidad c
+            WHERE c.estado = :estado
+            ORDER BY c.nombre, c.apellidos, c.id
+            """)
+    List<OpcionClienteFila> findOpcionesPorEstado(@Param("estado") ClienteEntidad.EstadoClienteEnum estado,
+                                                  Limit limite);
+
+    /**
+     * Obtiene id y nombre de un cliente si está en el estado indicado.
+     *
+     * @param id identificador del cliente
+     * @param estado estado requerido
+     * @return Optional con la fila si el cliente existe y está en ese estado
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.proyeccion.OpcionClienteFila(
+                c.id, c.nombre, c.apellidos)
+            FROM ClienteEntidad c
+            WHERE c.id = :id AND c.estado = :estado
+            """)
+    Optional<OpcionClienteFila> findOpcionPorIdYEstado(@Param("id") String id,
+                                                       @Param("estado") ClienteEntidad.EstadoClienteEnum estado);
+
+    /**
+     * Primera página de IDs en el orden de recorrido (fecha de creación, ID).
+     *
+     * @param limite número máximo de IDs
+     * @return IDs ordenados
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c.id FROM ClienteEntidad c ORDER BY c.fechaCreacion, c.id")
+    List<String> findIdsPrimeraPagina(Limit limite);
+
+    /**
+     * Página de IDs posteriores a la clave (fecha de creación, ID) indicada.
+     *
+     * <p>Paginación por clave sobre {@code idx_cliente_fecha_creacion}: el coste
+     * no crece con la posición en el recorrido, a diferencia de OFFSET.
+     *
+     * @param fechaCreacion fecha de creación del último cliente devuelto
+     * @param id ID del último cliente devuelto
+     * @param limite número máximo de IDs
+     * @return IDs ordenados
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT c.id FROM ClienteEntidad c
+            WHERE c.fechaCreacion > :fechaCreacion
+               OR (c.fechaCreacion = :fechaCreacion AND c.id > :id)
+            ORDER BY c.fechaCreacion, c.id
+            """)
+    List<String> findIdsDespuesDe(@Param("fechaCreacion") LocalDateTime fechaCreacion,
+                                  @Param("id") String id,
+                                  Limit limite);
+
+    /**
+     * Carga los clientes indicados con sus tarjetas (fetch join), en el orden
+     * de recorrido.
+     *
+     * @param ids IDs de una página
+     * @return clientes con tarjetas
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT DISTINCT c FROM ClienteEntidad c LEFT JOIN FETCH c.tarjetas
+            WHERE c.id IN :ids
+            ORDER BY c.fechaCreacion, c.id
+            """)
+    List<ClienteEntidad> findByIdInWithTarjetas(@Param("ids") List<String> ids);
+
     List<ClienteEntidad> findByEstado(ClienteEntidad.EstadoClienteEnum estado);
 
     List<ClienteEntidad> findByEstadoIn(List<ClienteEntidad.EstadoClienteEnum> estados);
@@ -0,0 +1,18 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la caché de clientes del adaptador de persistencia.
+ *
+ * @author javacadabra
+ */
+@Configuration
+@EnableConfigurationProperties({
+        CacheClientesPropiedades.class,
+        OpcionesClientesPropiedades.class,
+        IndiceUnicidadPropiedades.class
+})
+public class CacheClientesConfiguracion {
+}
@@ -0,0 +1,35 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la caché de clientes del adaptador de persistencia.
+ *
+ * <pre>
+ * reservasviaje:
+ *   clientes:
+ *     cache:
+ *       habilitada: true
+ *       capacidad: 1000
+ *       ttl: 30s
+ * </pre>
+ *
+ * @param habilitada si {@code false}, todas las lecturas van a base de datos
+ * @param capacidad clientes máximos en memoria (se descartan los menos usados)
+ * @param ttl tiempo que un cliente permanece en memoria
+ */
+@ConfigurationProperties(prefix = "reservasviaje.clientes.cache")
+public record CacheClientesPropiedades(
+        Boolean habilitada,
+        Integer capacidad,
+        Duration ttl
+) {
+
+    public CacheClientesPropiedades {
+        habilitada = habilitada != null ? habilitada : Boolean.TRUE;
+        capacidad = capacidad != null ? capacidad : 1000;
+        ttl = ttl != null ? ttl : Duration.ofSeconds(30);
+    }
+}
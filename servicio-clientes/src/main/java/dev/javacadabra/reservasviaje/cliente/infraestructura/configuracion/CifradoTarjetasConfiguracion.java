@@ -0,0 +1,14 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del cifrado de números de tarjeta.
+ *
+ * @author javacadabra
+ */
+@Configuration
+@EnableConfigurationProperties(CifradoTarjetasPropiedades.class)
+public class CifradoTarjetasConfiguracion {
+}
@@ -0,0 +1,21 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del cifrado de números de tarjeta.
+ *
+ * <pre>
+ * reservasviaje:
+ *   clientes:
+ *     cifrado:
+ *       clave: ${CLIENTES_CLAVE_CIFRADO}
+ * </pre>
+ *
+ * @param clave clave AES de 256 bits codificada en Base64
+ */
+@ConfigurationProperties(prefix = "reservasviaje.clientes.cifrado")
+public record CifradoTarjetasPropiedades(
+        String clave
+) {
+}
@@ -0,0 +1,81 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import io.camunda.client.annotation.JobWorker;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.api.worker.JobClient;
+import io.camunda.client.exception.BpmnError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Delega el completado de los jobs en {@link PipelineCompletadoJobs}.
+ *
+ * <p>Se aplica a los {@code @JobWorker} con {@code autoComplete = false} que no
+ * reciben un {@link JobClient} (los que lo reciben completan el job ellos mismos).
+ * Traduce el resultado del handler a un comando:
+ * <ul>
+ *   <li>retorno normal - completar con las variables devueltas</li>
+ *   <li>{@link BpmnError} - lanzar el error BPMN con su código y variables</li>
+ *   <li>cualquier otra excepción - fallar el job descontando un reintento</li>
+ * </ul>
+ *
+ * <p>Es el aspecto más externo: el job ya ha dejado de contar como en curso en
+ * {@link WorkerConcurrenciaAspect} cuando se encola el comando.
+ *
+ * @author javacadabra
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class CompletadoAsincronoAspect {
+
+    private final PipelineCompletadoJobs pipeline;
+
+    @Around("@annotation(jobWorker)")
+    public Object completarAsincrono(ProceedingJoinPoint joinPoint, JobWorker jobWorker) throws Throwable {
+        if (jobWorker.autoComplete() || recibeJobClient(joinPoint)) {
+            return joinPoint.proceed();
+        }
+
+        ActivatedJob job = Arrays.stream(joinPoint.getArgs())
+                .filter(arg -> arg instanceof ActivatedJob)
+                .map(arg -> (ActivatedJob) arg)
+                .findFirst()
+                .orElse(null);
+
+        if (job == null) {
+            log.warn("⚠️ {} no recibe ActivatedJob; no se puede completar de forma asíncrona",
+                    joinPoint.getSignature().toShortString());
+            return joinPoint.proceed();
+        }
+
+        try {
+            Object resultado = joinPoint.proceed();
+            pipeline.completar(job, resultado);
+        } catch (BpmnError e) {
+            pipeline.lanzarErrorBpmn(job, e.getErrorCode(), e.getErrorMessage(), e.getVariables());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("❌ Handler del job {} ({}) terminó con error, se marcará como fallido: {}",
+                    job.getKey(), job.getType(), e.getMessage());
+            pipeline.fallar(job, e.getMessage());
+        }
+
+        return null;
+    }
+
+    private boolean recibeJobClient(ProceedingJoinPoint joinPoint) {
+        return Arrays.stream(joinPoint.getArgs()).anyMatch(arg -> arg instanceof JobClient);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del índice en memoria de emails y DNI registrados.
+ *
+ * <pre>
+ * reservasviaje:
+ *   clientes:
+ *     unicidad:
+ *       habilitado: true
+ *       capacidad: 100000
+ *       probabilidad-falso-positivo: 0.01
+ * </pre>
+ *
+ * @param habilitado si {@code false}, todas las comprobaciones van a base de datos
+ * @param capacidad clientes previstos; por encima, la tasa de falsos positivos crece
+ * @param probabilidadFalsoPositivo tasa de falsos positivos objetivo con la capacidad prevista
+ */
+@ConfigurationProperties(prefix = "reservasviaje.clientes.unicidad")
+public record IndiceUnicidadPropiedades(
+        Boolean habilitado,
+        Integer capacidad,
+        Double probabilidadFalsoPositivo
+) {
+
+    public IndiceUnicidadPropiedades {
+        habilitado = habilitado != null ? habilitado : Boolean.TRUE;
+        capacidad = capacidad != null ? capacidad : 100_000;
+        probabilidadFalsoPositivo = probabilidadFalsoPositivo != null ? probabilidadFalsoPositivo : 0.01;
+    }
+}
@@ -0,0 +1,31 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del selector de clientes del formulario de inicio de reserva.
+ *
+ * <pre>
+ * reservasviaje:
+ *   clientes:
+ *     formulario:
+ *       max-opciones: 200
+ *       ttl: 10m
+ * </pre>
+ *
+ * @param maxOpciones clientes ACTIVO máximos que se envían al formulario
+ * @param ttl antigüedad máxima de la lista antes de recargarla entera
+ */
+@ConfigurationProperties(prefix = "reservasviaje.clientes.formulario")
+public record OpcionesClientesPropiedades(
+        Integer maxOpciones,
+        Duration ttl
+) {
+
+    public OpcionesClientesPropiedades {
+        maxOpciones = maxOpciones != null ? maxOpciones : 200;
+        ttl = ttl != null ? ttl : Duration.ofMinutes(10);
+    }
+}
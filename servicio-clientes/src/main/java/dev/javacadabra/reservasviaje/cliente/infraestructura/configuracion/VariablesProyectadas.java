@@ -0,0 +1,70 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Vista de solo lectura sobre las variables de un job que detecta lecturas de
+ * variables no declaradas en {@code fetchVariables} del {@code @JobWorker}.
+ *
+ * <p>Con la proyección activa Zeebe solo envía las variables declaradas, así que
+ * leer cualquier otra devuelve {@code null} en silencio. Esta vista registra un
+ * WARN la primera vez que ocurre para cada par (tipo de job, variable).
+ */
+@Slf4j
+final class VariablesProyectadas extends AbstractMap<String, Object> {
+
+    private static final Set<String> LECTURAS_NOTIFICADAS = ConcurrentHashMap.newKeySet();
+
+    private final String tipoJob;
+    private final Set<String> declaradas;
+    private final Map<String, Object> variables;
+
+    VariablesProyectadas(String tipoJob, Set<String> declaradas, Map<String, Object> variables) {
+        this.tipoJob = tipoJob;
+        this.declaradas = declaradas;
+        this.variables = variables;
+    }
+
+    @Override
+    public Object get(Object clave) {
+        verificar(clave);
+        return variables.get(clave);
+    }
+
+    @Override
+    public Object getOrDefault(Object clave, Object porDefecto) {
+        verificar(clave);
+        return variables.getOrDefault(clave, porDefecto);
+    }
+
+    @Override
+    public boolean containsKey(Object clave) {
+        verificar(clave);
+        return variables.containsKey(clave);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return variables.entrySet();
+    }
+
+    /**
+     * Comprueba que la variable leída forma parte de la proyección declarada.
+     *
+     * @param clave nombre de la variable
+     */
+    void verificar(Object clave) {
+        if (declaradas.contains(clave)) {
+            return;
+        }
+        if (LECTURAS_NOTIFICADAS.add(tipoJob + "#" + clave)) {
+            log.warn("⚠️ El worker '{}' lee la variable '{}' que no está declarada en fetchVariables {}",
+                    tipoJob, clave, declaradas);
+        }
+    }
+}
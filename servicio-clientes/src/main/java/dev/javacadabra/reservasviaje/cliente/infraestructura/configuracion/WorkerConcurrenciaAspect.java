@@ -0,0 +1,104 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.configuracion;
+
+import io.camunda.client.api.response.ActivatedJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Expone métricas de concurrencia de los job workers por tipo de job cuando se
+ * ejecutan en hilos virtuales.
+ *
+ * <p>No limita nada: cada job activado ya tiene su hilo virtual y el número de
+ * jobs en curso lo acota el cliente de Camunda con {@code maxJobsActive}, que se
+ * publica como límite para poder compararlo con los jobs en curso.
+ *
+ * <p>Métricas publicadas (etiqueta {@code tipo}):
+ * <ul>
+ *   <li>{@code reservasviaje.worker.jobs.en.curso} - jobs ejecutándose ahora mismo</li>
+ *   <li>{@code reservasviaje.worker.jobs.limite} - {@code maxJobsActive} efectivo del tipo</li>
+ * </ul>
+ *
+ * @author javacadabra
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "reservasviaje.worker.ejecucion", name = "modo", havingValue = "virtual")
+@RequiredArgsConstructor
+@Slf4j
+public class WorkerConcurrenciaAspect {
+
+    private static final int MAX_JOBS_ACTIVE_POR_DEFECTO = 32;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    /** Mantiene vivos los valores de los gauges: Micrometer solo guarda referencias débiles. */
+    private final Map<String, ContadoresTipoJob> contadores = new ConcurrentHashMap<>();
+
+    @Around("@annotation(io.camunda.client.annotation.JobWorker)")
+    public Object medirConcurrencia(ProceedingJoinPoint joinPoint) throws Throwable {
+        ActivatedJob job = Arrays.stream(joinPoint.getArgs())
+                .filter(arg -> arg instanceof ActivatedJob)
+                .map(arg -> (ActivatedJob) arg)
+                .findFirst()
+                .orElse(null);
+
+        if (job == null) {
+            return joinPoint.proceed();
+        }
+
+        ContadoresTipoJob tipo = contadores.computeIfAbsent(job.getType(), this::registrar);
+
+        tipo.enCurso().incrementAndGet();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            tipo.enCurso().decrementAndGet();
+        }
+    }
+
+    private ContadoresTipoJob registrar(String tipo) {
+        ContadoresTipoJob contadoresTipo = new ContadoresTipoJob(
+                new AtomicInteger(), new AtomicInteger(maxJobsActive(tipo)));
+        Tags tags = Tags.of("tipo", tipo);
+
+        Gauge.builder("reservasviaje.worker.jobs.en.curso", contadoresTipo.enCurso(), AtomicInteger::get)
+                .description("Jobs del tipo ejecutándose ahora mismo")
+                .tags(tags)
+                .register(meterRegistry);
+        Gauge.builder("reservasviaje.worker.jobs.limite", contadoresTipo.limite(), AtomicInteger::get)
+                .description("maxJobsActive efectivo del worker del tipo")
+                .tags(tags)
+                .register(meterRegistry);
+
+        log.debug("🚦 maxJobsActive para '{}': {} jobs", tipo, contadoresTipo.limite().get());
+        return contadoresTipo;
+    }
+
+    private int maxJobsActive(String tipo) {
+        Integer porDefecto = environment.getProperty(
+                "camunda.client.worker.defaults.max-jobs-active", Integer.class, MAX_JOBS_ACTIVE_POR_DEFECTO);
+        return environment.getProperty(
+                "camunda.client.worker.override." + tipo + ".max-jobs-active", Integer.class, porDefecto);
+    }
+
+    private record ContadoresTipoJob(AtomicInteger enCurso, AtomicInteger limite) {
+    }
+}
@@ -0,0 +1,139 @@
+package dev.javacadabra.reservasviaje.cliente.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.cliente.ServicioClientesApplication;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.aplicacion.dto.salida.ResumenEstadoClienteDTO;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la consulta de estado de un cliente antes y después de las proyecciones
+ * de {@link ClienteRepositorio}.
+ *
+ * <ul>
+ *   <li>{@code agregadoLegado} - lo que hacía {@code obtenerEstadoCliente}: cargar el
+ *       agregado con sus tarjetas y leer el estado</li>
+ *   <li>{@code dtoCompleto} - lo que hacía {@code ValidarClienteWorker}: el
+ *       {@link ClienteDTO} completo vía MapStruct</li>
+ *   <li>{@code proyeccionEstado} y {@code proyeccionResumen} - las consultas
+ *       estrechas actuales</li>
+ * </ul>
+ *
+ * <p>Arranca el contexto completo sobre H2 con los datos de {@code data.sql} y los
+ * job workers desactivados. Las asignaciones por llamada salen del perfilador de GC
+ * ({@code gc.alloc.rate.norm}); las sentencias SQL por llamada se imprimen al final
+ * de cada benchmark a partir de las {@link Statistics} de Hibernate.
+ *
+ * <p>Ejecución:
+ * <pre>
+ * mvn -pl servicio-clientes test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.javacadabra.reservasviaje.cliente.aplicacion.servicio.EstadoClienteBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EstadoClienteBenchmark {
+
+    /**
+     * Cliente ACTIVO con una tarjeta válida en {@code data.sql}.
+     */
+    private static final String CLIENTE_ID = "123e4567-e89b-12d3-a456-426655440000";
+
+    private ConfigurableApplicationContext contexto;
+    private ClienteServicio clienteServicio;
+    private ClienteRepositorio clienteRepositorio;
+    private TransactionTemplate soloLectura;
+    private Statistics estadisticas;
+    private long llamadas;
+
+    @Setup
+    public void arrancar() {
+        contexto = new SpringApplicationBuilder(ServicioClientesApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "camunda.client.worker.defaults.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "reservasviaje.clientes.cifrado.clave=bfbz2zat4MxkWJmQ4WWDnT88RDRwZWnq2/ZTYUv1TbQ=",
+                        "logging.level.root=WARN")
+                .run();
+
+        clienteServicio = contexto.getBean(ClienteServicio.class);
+        clienteRepositorio = contexto.getBean(ClienteRepositorio.class);
+        soloLectura = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        soloLectura.setReadOnly(true);
+        estadisticas = contexto.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        llamadas = 0;
+    }
+
+    @TearDown
+    public void detener() {
+        System.out.printf("%nSentencias SQL por llamada: %.2f (%d sentencias, %d llamadas, %d entidades cargadas)%n",
+                llamadas == 0 ? 0.0 : (double) estadisticas.getPrepareStatementCount() / llamadas,
+                estadisticas.getPrepareStatementCount(), llamadas, estadisticas.getEntityLoadCount());
+        contexto.close();
+    }
+
+    @Benchmark
+    public String agregadoLegado() {
+        llamadas++;
+        return soloLectura.execute(estado -> clienteRepositorio.findById(ClienteId.de(CLIENTE_ID))
+                .orElseThrow()
+                .getEstado()
+                .name());
+    }
+
+    @Benchmark
+    public ClienteDTO dtoCompleto() {
+        llamadas++;
+        return clienteServicio.buscarPorId(CLIENTE_ID);
+    }
+
+    @Benchmark
+    public String proyeccionEstado() {
+        llamadas++;
+        return clienteServicio.obtenerEstadoCliente(CLIENTE_ID);
+    }
+
+    @Benchmark
+    public ResumenEstadoClienteDTO proyeccionResumen() {
+        llamadas++;
+        return clienteServicio.obtenerResumenEstado(CLIENTE_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EstadoClienteBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
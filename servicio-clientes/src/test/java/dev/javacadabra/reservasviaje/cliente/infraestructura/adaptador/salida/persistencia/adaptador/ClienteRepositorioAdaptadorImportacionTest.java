@@ -0,0 +1,87 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.CVV;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.NumeroTarjeta;
+import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Inserción en bloque de {@link ClienteRepositorioAdaptador#guardarNuevos(List)}
+ * cuando un lote choca con un email ya registrado (p. ej. importado a la vez
+ * desde otra réplica, cuyo índice de unicidad no ve esta).
+ *
+ * <p>El lote debe fallar con {@link DataIntegrityViolationException}: es la
+ * señal con la que {@code ImportacionClientesProcesador} reintenta fila a fila.
+ * Usa los clientes de {@code data.sql}; cada test se revierte al terminar.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "camunda.client.worker.defaults.enabled=false",
+                "reservasviaje.clientes.cifrado.clave=bfbz2zat4MxkWJmQ4WWDnT88RDRwZWnq2/ZTYUv1TbQ="
+        })
+@Transactional
+class ClienteRepositorioAdaptadorImportacionTest {
+
+    /**
+     * Cliente de {@code data.sql} cuyos datos personales y dirección se reutilizan.
+     */
+    private static final ClienteId CLIENTE_EXISTENTE = ClienteId.de("123e4567-e89b-12d3-a456-426655440000");
+    private static final String EMAIL_EXISTENTE = "juan.perez@example.com";
+
+    @Autowired
+    private ClienteRepositorio clienteRepositorio;
+
+    @Autowired
+    private CifradorTarjetas cifradorTarjetas;
+
+    @Test
+    void loteConEmailYaRegistradoLanzaDataIntegrityViolation() {
+        List<Cliente> lote = List.of(
+                nuevoCliente("importado.uno@example.com", "00000000T"),
+                nuevoCliente(EMAIL_EXISTENTE, "00000001R"));
+
+        assertThatThrownBy(() -> clienteRepositorio.guardarNuevos(lote))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void loteSinConflictosSeInsertaCompleto() {
+        Cliente uno = nuevoCliente("importado.uno@example.com", "00000000T");
+        Cliente dos = nuevoCliente("importado.dos@example.com", "00000001R");
+
+        clienteRepositorio.guardarNuevos(List.of(uno, dos));
+
+        assertThat(clienteRepositorio.findById(uno.getClienteId())).isPresent();
+        assertThat(clienteRepositorio.findById(dos.getClienteId())).isPresent();
+    }
+
+    private Cliente nuevoCliente(String email, String dni) {
+        Cliente existente = clienteRepositorio.findById(CLIENTE_EXISTENTE).orElseThrow();
+        return Cliente.crear(
+                existente.getDatosPersonales().toBuilder()
+                        .email(email)
+                        .dni(dni)
+                        .build(),
+                existente.getDireccion(),
+                TarjetaCredito.crear(
+                        ClienteId.generar(),
+                        NumeroTarjeta.de("5425233430109903", cifradorTarjetas),
+                        YearMonth.now().plusYears(2),
+                        CVV.crear("123")));
+    }
+}
@@ -0,0 +1,190 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.agregado.Cliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.entidad.TarjetaCredito;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.CVV;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.NumeroTarjeta;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TarjetaId;
+import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.dominio.servicio.CifradorTarjetas;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.ClienteEntidad;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.TarjetaCreditoEntidad;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sentencias SQL que genera {@link ClienteRepositorioAdaptador#save(Cliente)} sobre
+ * las tarjetas: solo las que cambian se escriben, y el agregado devuelto queda sin
+ * cambios pendientes para el siguiente guardado.
+ *
+ * <p>Usa los clientes de {@code data.sql}; cada test se revierte al terminar.
+ * Las tarjetas de {@code data.sql} están en el formato Base64 anterior, así que
+ * salvo el test de migración cada uno parte de un cliente ya guardado una vez.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "camunda.client.worker.defaults.enabled=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "reservasviaje.clientes.cifrado.clave=bfbz2zat4MxkWJmQ4WWDnT88RDRwZWnq2/ZTYUv1TbQ="
+        })
+@Transactional
+class ClienteRepositorioAdaptadorTarjetasTest {
+
+    /**
+     * Cliente ACTIVO con una tarjeta VISA validada en {@code data.sql}.
+     */
+    private static final ClienteId CLIENTE_ID = ClienteId.de("123e4567-e89b-12d3-a456-426655440000");
+    private static final TarjetaId TARJETA_ID = TarjetaId.de("11111111-1111-1111-1111-000000000001");
+    private static final String NUMERO_TARJETA = "4532015112830366";
+
+    @Autowired
+    private ClienteRepositorio clienteRepositorio;
+
+    @Autowired
+    private CifradorTarjetas cifradorTarjetas;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void prepararEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void tarjetaLegadaSeCifraDeNuevoAlGuardar() {
+        Cliente cliente = clienteRepositorio.findById(CLIENTE_ID).orElseThrow();
+        NumeroTarjeta legado = cliente.obtenerTarjeta(TARJETA_ID).getNumeroTarjeta();
+        assertThat(cifradorTarjetas.esFormatoActual(legado.getValorEncriptado())).isFalse();
+        estadisticas.clear();
+
+        clienteRepositorio.save(cliente);
+
+        NumeroTarjeta migrado = cliente.obtenerTarjeta(TARJETA_ID).getNumeroTarjeta();
+        assertThat(cifradorTarjetas.esFormatoActual(migrado.getValorEncriptado())).isTrue();
+        assertThat(migrado.desencriptarNumero(cifradorTarjetas)).isEqualTo(NUMERO_TARJETA);
+        assertThat(migrado.getPrimerosDigitos()).isEqualTo(legado.getPrimerosDigitos());
+        assertThat(estadisticasDe(TarjetaCreditoEntidad.class).getUpdateCount()).isEqualTo(1);
+        assertThat(cliente.tieneCambiosEnTarjetas()).isFalse();
+    }
+
+    @Test
+    void cambiarTelefonoNoEscribeTarjetas() {
+        Cliente cliente = clienteMigrado();
+        cliente.actualizarDatosPersonales(cliente.getDatosPersonales().toBuilder()
+                .telefono("+34600999999")
+                .build());
+        estadisticas.clear();
+
+        clienteRepositorio.save(cliente);
+
+        assertThat(sentencias(ClienteEntidad.class)).isEqualTo(1);
+        assertThat(sentencias(TarjetaCreditoEntidad.class)).isZero();
+        assertThat(cliente.tieneCambiosEnTarjetas()).isFalse();
+    }
+
+    @Test
+    void cambiarSoloElEstadoEmiteUnaSolaSentencia() {
+        clienteMigrado();
+        entityManager.flush();
+        entityManager.clear();
+        Cliente cliente = clienteRepositorio.findById(CLIENTE_ID).orElseThrow();
+        cliente.bloquear("Actividad sospechosa", false);
+        estadisticas.clear();
+
+        clienteRepositorio.save(cliente);
+
+        // Solo el UPDATE de clientes: ni SELECT previo, ni tarjetas, ni outbox
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(estadisticasDe(ClienteEntidad.class).getUpdateCount()).isEqualTo(1);
+        assertThat(sentencias(TarjetaCreditoEntidad.class)).isZero();
+    }
+
+    @Test
+    void modificarUnaTarjetaEmiteUnSoloUpdate() {
+        Cliente cliente = clienteMigrado();
+        cliente.obtenerTarjeta(TARJETA_ID).marcarComoInvalida("Rechazada por el emisor");
+        estadisticas.clear();
+
+        clienteRepositorio.save(cliente);
+
+        EntityStatistics tarjetas = estadisticasDe(TarjetaCreditoEntidad.class);
+        assertThat(tarjetas.getUpdateCount()).isEqualTo(1);
+        assertThat(tarjetas.getInsertCount()).isZero();
+        assertThat(tarjetas.getDeleteCount()).isZero();
+    }
+
+    @Test
+    void agregarTarjetaEmiteUnSoloInsert() {
+        Cliente cliente = clienteMigrado();
+        cliente.agregarTarjeta(TarjetaCredito.crear(
+                CLIENTE_ID,
+                NumeroTarjeta.de("5425233430109903", cifradorTarjetas),
+                YearMonth.now().plusYears(2),
+                CVV.crear("123")));
+        estadisticas.clear();
+
+        clienteRepositorio.save(cliente);
+
+        EntityStatistics tarjetas = estadisticasDe(TarjetaCreditoEntidad.class);
+        assertThat(tarjetas.getInsertCount()).isEqualTo(1);
+        assertThat(tarjetas.getUpdateCount()).isZero();
+        assertThat(tarjetas.getDeleteCount()).isZero();
+    }
+
+    @Test
+    void elAgregadoGuardadoNoVuelveASincronizarTarjetas() {
+        Cliente cliente = clienteMigrado();
+        cliente.obtenerTarjeta(TARJETA_ID).marcarComoInvalida("Rechazada por el emisor");
+        Cliente guardado = clienteRepositorio.save(cliente);
+
+        assertThat(guardado.tieneCambiosEnTarjetas()).isFalse();
+        assertThat(guardado.obtenerTarjeta(TARJETA_ID).isModificada()).isFalse();
+
+        guardado.actualizarDatosPersonales(guardado.getDatosPersonales().toBuilder()
+                .telefono("+34600888888")
+                .build());
+        estadisticas.clear();
+
+        clienteRepositorio.save(guardado);
+
+        assertThat(sentencias(TarjetaCreditoEntidad.class)).isZero();
+    }
+
+    /**
+     * Carga el cliente y lo guarda una vez para migrar sus tarjetas de {@code data.sql}.
+     */
+    private Cliente clienteMigrado() {
+        return clienteRepositorio.save(clienteRepositorio.findById(CLIENTE_ID).orElseThrow());
+    }
+
+    private long sentencias(Class<?> entidad) {
+        EntityStatistics estadisticasEntidad = estadisticasDe(entidad);
+        return estadisticasEntidad.getInsertCount()
+                + estadisticasEntidad.getUpdateCount()
+                + estadisticasEntidad.getDeleteCount();
+    }
+
+    private EntityStatistics estadisticasDe(Class<?> entidad) {
+        return estadisticas.getEntityStatistics(entidad.getName());
+    }
+}
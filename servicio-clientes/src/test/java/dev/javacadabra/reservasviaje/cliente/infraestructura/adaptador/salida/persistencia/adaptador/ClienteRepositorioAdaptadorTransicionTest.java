@@ -0,0 +1,81 @@
+package dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.ClienteId;
+import dev.javacadabra.reservasviaje.cliente.dominio.modelo.objetovalor.TransicionEstadoCliente;
+import dev.javacadabra.reservasviaje.cliente.dominio.repositorio.ClienteRepositorio;
+import dev.javacadabra.reservasviaje.cliente.infraestructura.adaptador.salida.persistencia.entidad.EventoOutboxEntidad;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sentencias SQL que genera {@link ClienteRepositorioAdaptador#aplicarTransicion}:
+ * el UPDATE condicional y, si la transición tiene evento, el INSERT en la
+ * bandeja de salida, sin ningún SELECT.
+ *
+ * <p>Usa los clientes de {@code data.sql}; cada test se revierte al terminar.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "camunda.client.worker.defaults.enabled=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "reservasviaje.clientes.cifrado.clave=bfbz2zat4MxkWJmQ4WWDnT88RDRwZWnq2/ZTYUv1TbQ="
+        })
+@Transactional
+class ClienteRepositorioAdaptadorTransicionTest {
+
+    /**
+     * Cliente ACTIVO en {@code data.sql}.
+     */
+    private static final ClienteId CLIENTE_ID = ClienteId.de("123e4567-e89b-12d3-a456-426655440000");
+    private static final String RESERVA_ID = "RES-TRANSICION-1";
+
+    @Autowired
+    private ClienteRepositorio clienteRepositorio;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void prepararEstadisticas() {
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        estadisticas.clear();
+    }
+
+    @Test
+    void transicionConEventoEmiteUpdateEInsertSinSelect() {
+        boolean aplicada = clienteRepositorio.aplicarTransicion(
+                CLIENTE_ID, TransicionEstadoCliente.INICIAR_PROCESO_RESERVA, RESERVA_ID);
+        entityManager.flush();
+
+        assertThat(aplicada).isTrue();
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(estadisticas.getEntityStatistics(EventoOutboxEntidad.class.getName()).getInsertCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void transicionRechazadaEmiteSoloElUpdate() {
+        boolean aplicada = clienteRepositorio.aplicarTransicion(
+                CLIENTE_ID, TransicionEstadoCliente.FINALIZAR_RESERVA, RESERVA_ID);
+        entityManager.flush();
+
+        assertThat(aplicada).isFalse();
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
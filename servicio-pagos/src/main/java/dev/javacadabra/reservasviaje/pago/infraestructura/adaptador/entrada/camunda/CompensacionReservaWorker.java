@@ -17,7 +17,7 @@ public class CompensacionReservaWorker {
 
     private final CamundaClient camundaClient;
 
-    @JobWorker(type = "publicar-compensacion-reserva", autoComplete = true)
+    @JobWorker(type = "publicar-compensacion-reserva", autoComplete = false, fetchVariables = {"reservaId"})
     public void publicarCompensacion(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
         String reservaId = (String) variables.get("reservaId");
@@ -0,0 +1,24 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.adaptador.entrada.camunda;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un {@code @JobWorker} cuyo resultado debe registrarse para reproducirlo
+ * si Zeebe vuelve a entregar el mismo job (timeout, reintento tras caída...),
+ * sin volver a ejecutar la lógica de negocio.
+ *
+ * @see dev.javacadabra.reservasviaje.pago.infraestructura.configuracion.IdempotenciaJobAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JobIdempotente {
+
+    /**
+     * Variable del resultado que contiene el identificador de negocio generado
+     * (por ejemplo {@code numeroTransaccion}). Se guarda junto al job key para trazabilidad.
+     */
+    String idNegocio() default "";
+}
@@ -22,7 +22,11 @@ public class PagoWorker {
     private final RevertirPagoPuertoEntrada revertirPagoUseCase;
     private final MarcarReservaAdvertenciaPuertoEntrada marcarAdvertenciaUseCase;
 
-    @JobWorker(type = "procesar-pago")
+    @JobIdempotente(idNegocio = "numeroTransaccion")
+    @JobWorker(type = "procesar-pago", autoComplete = false, fetchVariables = {
+            "reservaId", "clienteId", "precioVueloFinal", "precioHotelFinal",
+            "precioCocheFinal"
+    })
     public Map<String, Object> procesarPago(ActivatedJob job) {
         String reservaId = (String) job.getVariablesAsMap().get("reservaId");
         String clienteId = (String) job.getVariablesAsMap().get("clienteId");
@@ -73,7 +77,7 @@ public class PagoWorker {
         }
     }
 
-    @JobWorker(type = "confirmar-reserva")
+    @JobWorker(type = "confirmar-reserva", autoComplete = false, fetchVariables = {"reservaId"})
     public Map<String, Object> confirmarReserva(ActivatedJob job) {
         String reservaId = (String) job.getVariablesAsMap().get("reservaId");
 
@@ -95,7 +99,7 @@ public class PagoWorker {
         }
     }
 
-    @JobWorker(type = "revertir-estado-cliente")
+    @JobWorker(type = "revertir-estado-cliente", autoComplete = false, fetchVariables = {"reservaId", "motivoReversion"})
     public void revertirEstadoCliente(ActivatedJob job) {
         String reservaId = (String) job.getVariablesAsMap().get("reservaId");
         String motivoReversion = (String) job.getVariablesAsMap()
@@ -116,7 +120,7 @@ public class PagoWorker {
         }
     }
 
-    @JobWorker(type = "marcar-reserva-advertencia")
+    @JobWorker(type = "marcar-reserva-advertencia", autoComplete = false, fetchVariables = {"reservaId"})
     public void marcarReservaAdvertencia(ActivatedJob job) {
         String reservaId = (String) job.getVariablesAsMap().get("reservaId");
 
@@ -0,0 +1,51 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA con el resultado de un job ya ejecutado, para reproducirlo si
+ * Zeebe vuelve a entregar el mismo job.
+ */
+@Entity
+@Table(name = "ejecucion_job", indexes = {
+        @Index(name = "idx_ejecucion_job_id_negocio", columnList = "id_negocio"),
+        @Index(name = "idx_ejecucion_job_fecha_registro", columnList = "fecha_registro")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EjecucionJobEntidad {
+
+    @Id
+    @Column(name = "job_key", nullable = false)
+    private Long jobKey;
+
+    @Column(name = "tipo_job", nullable = false, length = 100)
+    private String tipoJob;
+
+    @Column(name = "process_instance_key", nullable = false)
+    private Long processInstanceKey;
+
+    @Column(name = "id_negocio", length = 100)
+    private String idNegocio;
+
+    @Column(name = "resultado", nullable = false, columnDefinition = "TEXT")
+    private String resultado;
+
+    @Column(name = "fecha_registro", nullable = false, updatable = false)
+    private LocalDateTime fechaRegistro;
+
+    @PrePersist
+    protected void onCreate() {
+        if (fechaRegistro == null) {
+            fechaRegistro = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.adaptador.salida.persistencia.repositorio;
+
+import dev.javacadabra.reservasviaje.pago.infraestructura.adaptador.salida.persistencia.entidad.EjecucionJobEntidad;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface EjecucionJobJpaRepositorio extends JpaRepository<EjecucionJobEntidad, Long> {
+
+    /**
+     * Elimina los registros anteriores a la fecha indicada.
+     *
+     * @param limite fecha de registro mínima a conservar
+     * @return número de registros eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM EjecucionJobEntidad e WHERE e.fechaRegistro < :limite")
+    int eliminarAnterioresA(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,35 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del registro de ejecuciones de jobs idempotentes.
+ *
+ * <pre>
+ * reservasviaje:
+ *   worker:
+ *     idempotencia:
+ *       capacidad-cache: 10000
+ *       ttl-cache: 30m
+ *       retencion: 7d
+ * </pre>
+ *
+ * @param capacidadCache resultados máximos en memoria (se descartan los menos usados)
+ * @param ttlCache tiempo que un resultado permanece en memoria
+ * @param retencion antigüedad a partir de la cual se purgan los registros de la tabla
+ */
+@ConfigurationProperties(prefix = "reservasviaje.worker.idempotencia")
+public record IdempotenciaPropiedades(
+        Integer capacidadCache,
+        Duration ttlCache,
+        Duration retencion
+) {
+
+    public IdempotenciaPropiedades {
+        capacidadCache = capacidadCache != null ? capacidadCache : 10_000;
+        ttlCache = ttlCache != null ? ttlCache : Duration.ofMinutes(30);
+        retencion = retencion != null ? retencion : Duration.ofDays(7);
+    }
+}
@@ -0,0 +1,337 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.configuracion;
+
+import io.camunda.client.CamundaClient;
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.api.command.ProblemException;
+import io.camunda.client.api.response.ActivatedJob;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipeline asíncrono que envía al gateway de Camunda los comandos de completado,
+ * error BPMN y fallo de los jobs.
+ *
+ * <p>Los handlers solo encolan el resultado y quedan libres en cuanto termina la
+ * lógica de negocio. Un despachador extrae la cola por lotes y envía los comandos
+ * sin esperar la respuesta, con un máximo de comandos en vuelo. Si el gateway
+ * responde con back-pressure o no está disponible, el comando se reintenta con
+ * espera exponencial (con jitter) hasta {@code maxReintentos}.
+ *
+ * <p>Si la cola se llena, {@link #encolar} bloquea al handler: la presión se
+ * propaga hacia la activación de jobs en lugar de acumular memoria.
+ *
+ * <p>Métricas publicadas:
+ * <ul>
+ *   <li>{@code reservasviaje.worker.completado.cola} - comandos pendientes de envío</li>
+ *   <li>{@code reservasviaje.worker.completado.en.vuelo} - comandos esperando respuesta</li>
+ *   <li>{@code reservasviaje.worker.completado.latencia} - desde que se encola hasta la
+ *       confirmación del gateway (etiquetas {@code tipo}, {@code accion}, {@code resultado})</li>
+ *   <li>{@code reservasviaje.worker.completado.reintentos} - reintentos por tipo de job</li>
+ * </ul>
+ *
+ * @author javacadabra
+ */
+@Component
+@Slf4j
+public class PipelineCompletadoJobs {
+
+    private static final Set<Status.Code> CODIGOS_REINTENTABLES = Set.of(
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.UNAVAILABLE,
+            Status.Code.DEADLINE_EXCEEDED
+    );
+
+    private static final Set<Integer> ESTADOS_HTTP_REINTENTABLES = Set.of(429, 502, 503, 504);
+
+    private final CamundaClient camundaClient;
+    private final CompletadoJobsPropiedades propiedades;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<SolicitudCompletado> cola;
+    private final Semaphore enVuelo;
+    private final AtomicInteger comandosEnVuelo = new AtomicInteger();
+    private final ScheduledExecutorService planificadorReintentos;
+
+    private volatile boolean activo;
+    private Thread despachador;
+
+    public PipelineCompletadoJobs(CamundaClient camundaClient,
+                                  CompletadoJobsPropiedades propiedades,
+                                  MeterRegistry meterRegistry) {
+        this.camundaClient = camundaClient;
+        this.propiedades = propiedades;
+        this.meterRegistry = meterRegistry;
+        this.cola = new ArrayBlockingQueue<>(propiedades.capacidadCola());
+        this.enVuelo = new Semaphore(propiedades.maxEnVuelo());
+        this.planificadorReintentos = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("completado-jobs-reintentos").daemon().factory());
+
+        meterRegistry.gaugeCollectionSize("reservasviaje.worker.completado.cola", List.of(), cola);
+        meterRegistry.gauge("reservasviaje.worker.completado.en.vuelo", comandosEnVuelo);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        activo = true;
+        despachador = Thread.ofPlatform()
+                .name("completado-jobs")
+                .daemon()
+                .start(this::despachar);
+
+        log.info("📮 Pipeline de completado de jobs iniciado - cola: {}, lote: {}, en vuelo: {}",
+                propiedades.capacidadCola(), propiedades.tamanoLote(), propiedades.maxEnVuelo());
+    }
+
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        activo = false;
+        despachador.join(TimeUnit.SECONDS.toMillis(10));
+        planificadorReintentos.shutdown();
+
+        if (!cola.isEmpty()) {
+            log.warn("⚠️ Pipeline detenido con {} comandos sin enviar; Camunda reactivará esos jobs al expirar su timeout",
+                    cola.size());
+        }
+    }
+
+    // ==================== ENCOLADO ====================
+
+    public void completar(ActivatedJob job, Object variables) throws InterruptedException {
+        encolar(SolicitudCompletado.completar(job, variables));
+    }
+
+    public void lanzarErrorBpmn(ActivatedJob job, String codigoError, String mensaje, Object variables)
+            throws InterruptedException {
+        encolar(SolicitudCompletado.errorBpmn(job, codigoError, mensaje, variables));
+    }
+
+    public void fallar(ActivatedJob job, String mensaje) throws InterruptedException {
+        encolar(SolicitudCompletado.fallar(job, mensaje));
+    }
+
+    private void encolar(SolicitudCompletado solicitud) throws InterruptedException {
+        cola.put(solicitud);
+    }
+
+    // ==================== DESPACHO ====================
+
+    private void despachar() {
+        List<SolicitudCompletado> lote = new ArrayList<>(propiedades.tamanoLote());
+
+        while (activo || !cola.isEmpty()) {
+            try {
+                SolicitudCompletado primera = cola.poll(200, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+
+                lote.add(primera);
+                cola.drainTo(lote, propiedades.tamanoLote() - 1);
+
+                for (SolicitudCompletado solicitud : lote) {
+                    enVuelo.acquire();
+                    comandosEnVuelo.incrementAndGet();
+                    enviar(solicitud);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("❌ Error inesperado en el despachador de completado de jobs", e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void enviar(SolicitudCompletado solicitud) {
+        CompletionStage<?> respuesta;
+        try {
+            respuesta = crearComando(solicitud);
+        } catch (RuntimeException e) {
+            liberar();
+            gestionarError(solicitud, e);
+            return;
+        }
+
+        respuesta.whenComplete((resultado, error) -> {
+            liberar();
+            if (error == null) {
+                registrarLatencia(solicitud, "ok");
+            } else {
+                gestionarError(solicitud, error);
+            }
+        });
+    }
+
+    private CompletionStage<?> crearComando(SolicitudCompletado solicitud) {
+        return switch (solicitud.accion()) {
+            case COMPLETAR -> solicitud.variables() != null
+                    ? camundaClient.newCompleteCommand(solicitud.jobKey())
+                            .variables(solicitud.variables())
+                            .send()
+                    : camundaClient.newCompleteCommand(solicitud.jobKey())
+                            .send();
+            case ERROR_BPMN -> solicitud.variables() != null
+                    ? camundaClient.newThrowErrorCommand(solicitud.jobKey())
+                            .errorCode(solicitud.codigoError())
+                            .errorMessage(solicitud.mensaje())
+                            .variables(solicitud.variables())
+                            .send()
+                    : camundaClient.newThrowErrorCommand(solicitud.jobKey())
+                            .errorCode(solicitud.codigoError())
+                            .errorMessage(solicitud.mensaje())
+                            .send();
+            case FALLAR -> camundaClient.newFailCommand(solicitud.jobKey())
+                    .retries(solicitud.reintentosJob())
+                    .errorMessage(solicitud.mensaje())
+                    .send();
+        };
+    }
+
+    private void liberar() {
+        comandosEnVuelo.decrementAndGet();
+        enVuelo.release();
+    }
+
+    // ==================== ERRORES Y REINTENTOS ====================
+
+    private void gestionarError(SolicitudCompletado solicitud, Throwable error) {
+        Throwable causa = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+
+        if (esJobInexistente(causa)) {
+            log.warn("⚠️ Job {} ({}) ya no existe en el broker, se descarta el comando {}",
+                    solicitud.jobKey(), solicitud.tipoJob(), solicitud.accion());
+            registrarLatencia(solicitud, "descartado");
+            return;
+        }
+
+        if (!esReintentable(causa) || solicitud.intento() >= propiedades.maxReintentos()) {
+            log.error("❌ No se pudo enviar {} del job {} ({}) tras {} intentos: {}",
+                    solicitud.accion(), solicitud.jobKey(), solicitud.tipoJob(),
+                    solicitud.intento() + 1, causa.getMessage());
+            registrarLatencia(solicitud, "agotado");
+            return;
+        }
+
+        long espera = calcularEspera(solicitud.intento());
+        log.debug("🔁 Reintentando {} del job {} en {} ms (intento {})",
+                solicitud.accion(), solicitud.jobKey(), espera, solicitud.intento() + 1);
+
+        Counter.builder("reservasviaje.worker.completado.reintentos")
+                .description("Reintentos de comandos de completado por back-pressure del gateway")
+                .tag("tipo", solicitud.tipoJob())
+                .register(meterRegistry)
+                .increment();
+
+        planificarReintento(solicitud.siguienteIntento(), espera);
+    }
+
+    private void planificarReintento(SolicitudCompletado solicitud, long esperaMs) {
+        planificadorReintentos.schedule(() -> {
+            if (!cola.offer(solicitud)) {
+                planificarReintento(solicitud, propiedades.esperaInicial().toMillis());
+            }
+        }, esperaMs, TimeUnit.MILLISECONDS);
+    }
+
+    private long calcularEspera(int intento) {
+        long base = propiedades.esperaInicial().toMillis() << Math.min(intento, 16);
+        long maxima = Math.min(base, propiedades.esperaMaxima().toMillis());
+        return maxima / 2 + ThreadLocalRandom.current().nextLong(maxima / 2 + 1);
+    }
+
+    private boolean esReintentable(Throwable error) {
+        if (error instanceof ClientStatusException e) {
+            return CODIGOS_REINTENTABLES.contains(e.getStatusCode());
+        }
+        if (error instanceof ProblemException e) {
+            return ESTADOS_HTTP_REINTENTABLES.contains(e.code());
+        }
+        return false;
+    }
+
+    private boolean esJobInexistente(Throwable error) {
+        if (error instanceof ClientStatusException e) {
+            return e.getStatusCode() == Status.Code.NOT_FOUND;
+        }
+        if (error instanceof ProblemException e) {
+            return e.code() == 404;
+        }
+        return false;
+    }
+
+    private void registrarLatencia(SolicitudCompletado solicitud, String resultado) {
+        Timer.builder("reservasviaje.worker.completado.latencia")
+                .description("Tiempo desde que el handler termina hasta que el gateway confirma el comando")
+                .tag("tipo", solicitud.tipoJob())
+                .tag("accion", solicitud.accion().name().toLowerCase())
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .record(System.nanoTime() - solicitud.encoladoNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // ==================== SOLICITUD ====================
+
+    enum Accion {
+        COMPLETAR,
+        ERROR_BPMN,
+        FALLAR
+    }
+
+    record SolicitudCompletado(
+            Accion accion,
+            long jobKey,
+            String tipoJob,
+            Object variables,
+            String codigoError,
+            String mensaje,
+            int reintentosJob,
+            long encoladoNanos,
+            int intento
+    ) {
+
+        static SolicitudCompletado completar(ActivatedJob job, Object variables) {
+            return new SolicitudCompletado(Accion.COMPLETAR, job.getKey(), job.getType(),
+                    variables, null, null, job.getRetries(), System.nanoTime(), 0);
+        }
+
+        static SolicitudCompletado errorBpmn(ActivatedJob job, String codigoError, String mensaje,
+                                             Object variables) {
+            return new SolicitudCompletado(Accion.ERROR_BPMN, job.getKey(), job.getType(),
+                    variables, codigoError, mensaje, job.getRetries(), System.nanoTime(), 0);
+        }
+
+        static SolicitudCompletado fallar(ActivatedJob job, String mensaje) {
+            return new SolicitudCompletado(Accion.FALLAR, job.getKey(), job.getType(),
+                    null, null, mensaje, Math.max(job.getRetries() - 1, 0), System.nanoTime(), 0);
+        }
+
+        SolicitudCompletado siguienteIntento() {
+            return new SolicitudCompletado(accion, jobKey, tipoJob, variables, codigoError,
+                    mensaje, reintentosJob, encoladoNanos, intento + 1);
+        }
+    }
+}
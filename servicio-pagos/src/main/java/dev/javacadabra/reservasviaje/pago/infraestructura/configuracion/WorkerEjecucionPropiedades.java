@@ -0,0 +1,43 @@
+package dev.javacadabra.reservasviaje.pago.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del modo de ejecución de los job workers de Camunda.
+ *
+ * <p>Con {@code modo=virtual} cada job activado se ejecuta en su propio hilo
+ * virtual. El número de jobs en curso lo acota el propio cliente de Camunda con
+ * {@code maxJobsActive}: no se activan más jobs de los que se pueden ejecutar, de
+ * modo que ninguno espera en memoria mientras corre su timeout en el broker.
+ *
+ * <pre>
+ * reservasviaje:
+ *   worker:
+ *     ejecucion:
+ *       modo: virtual
+ * camunda:
+ *   client:
+ *     worker:
+ *       defaults:
+ *         max-jobs-active: 32
+ *       override:
+ *         reservar-vuelo:
+ *           max-jobs-active: 16
+ * </pre>
+ *
+ * @param modo modo de ejecución de los handlers
+ */
+@ConfigurationProperties(prefix = "reservasviaje.worker.ejecucion")
+public record WorkerEjecucionPropiedades(Modo modo) {
+
+    public WorkerEjecucionPropiedades {
+        modo = modo != null ? modo : Modo.PLATAFORMA;
+    }
+
+    public enum Modo {
+        /** Pool de hilos de plataforma por defecto del cliente de Camunda. */
+        PLATAFORMA,
+        /** Un hilo virtual por job activado. */
+        VIRTUAL
+    }
+}
@@ -1,39 +1,121 @@
 package dev.javacadabra.reservasviaje.pago.infraestructura.configuracion;
 
+import io.camunda.client.annotation.JobWorker;
 import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.exception.BpmnError;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Contexto de log e instrumentación de los job workers.
+ *
+ * <p>Además de poner {@code processInstanceKey} en el MDC, publica por tipo de job:
+ * <ul>
+ *   <li>{@code reservasviaje.worker.job.retraso.inicio} - desde la activación del job
+ *       hasta que empieza el handler (cola del cliente, arranque del hilo...)</li>
+ *   <li>{@code reservasviaje.worker.job.duracion} - duración del handler
+ *       (etiqueta {@code resultado})</li>
+ *   <li>{@code reservasviaje.worker.job.resultado} - contador por resultado
+ *       ({@code completado}, {@code error_bpmn}, {@code excepcion}) y {@code codigo}
+ *       (código del error BPMN o clase de la excepción)</li>
+ * </ul>
+ * La duración del completado la publica {@link PipelineCompletadoJobs}
+ * ({@code reservasviaje.worker.completado.latencia}).
+ *
+ * <p>El job no trae la fecha de activación; se deduce de su deadline menos el
+ * timeout del worker (el de la anotación o el por defecto del cliente).
+ */
 @Aspect
 @Component
 @Slf4j
 public class ZeebeWorkerContextAspect {
 
-    @Around("@annotation(io.camunda.client.annotation.JobWorker)")
-    public Object enriquecerContextoLog(ProceedingJoinPoint joinPoint) throws Throwable {
+    private final MeterRegistry meterRegistry;
+    private final long timeoutPorDefectoMs;
+
+    public ZeebeWorkerContextAspect(MeterRegistry meterRegistry,
+                                    @Value("${camunda.client.worker.defaults.timeout:PT5M}") Duration timeoutPorDefecto) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutPorDefectoMs = timeoutPorDefecto.toMillis();
+    }
+
+    @Around("@annotation(jobWorker)")
+    public Object enriquecerContextoLog(ProceedingJoinPoint joinPoint, JobWorker jobWorker) throws Throwable {
         ActivatedJob job = Arrays.stream(joinPoint.getArgs())
                 .filter(arg -> arg instanceof ActivatedJob)
                 .map(arg -> (ActivatedJob) arg)
                 .findFirst()
                 .orElse(null);
 
-        if (job != null) {
-            MDC.put("processInstanceKey", String.valueOf(job.getProcessInstanceKey()));
-            log.info("🔗 Proceso: {} [{}] | Job: {}",
-                    job.getProcessInstanceKey(),
-                    job.getBpmnProcessId(),
-                    job.getKey());
+        if (job == null) {
+            return joinPoint.proceed();
         }
+
+        MDC.put("processInstanceKey", String.valueOf(job.getProcessInstanceKey()));
+        log.info("🔗 Proceso: {} [{}] | Job: {}",
+                job.getProcessInstanceKey(),
+                job.getBpmnProcessId(),
+                job.getKey());
+
+        registrarRetrasoInicio(job, jobWorker);
+
+        long inicio = System.nanoTime();
+        String resultado = "completado";
+        String codigo = "ninguno";
         try {
             return joinPoint.proceed();
+        } catch (BpmnError e) {
+            resultado = "error_bpmn";
+            codigo = e.getErrorCode();
+            throw e;
+        } catch (Throwable e) {
+            resultado = "excepcion";
+            codigo = e.getClass().getSimpleName();
+            throw e;
         } finally {
+            registrarEjecucion(job.getType(), resultado, codigo, System.nanoTime() - inicio);
             MDC.clear();
         }
     }
+
+    private void registrarRetrasoInicio(ActivatedJob job, JobWorker jobWorker) {
+        long timeoutMs = jobWorker.timeout() > 0 ? jobWorker.timeout() : timeoutPorDefectoMs;
+        long activacionMs = job.getDeadline() - timeoutMs;
+        long retrasoMs = Math.max(System.currentTimeMillis() - activacionMs, 0);
+
+        Timer.builder("reservasviaje.worker.job.retraso.inicio")
+                .description("Tiempo desde la activación del job hasta el inicio del handler")
+                .tag("tipo", job.getType())
+                .register(meterRegistry)
+                .record(retrasoMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void registrarEjecucion(String tipo, String resultado, String codigo, long duracionNanos) {
+        Timer.builder("reservasviaje.worker.job.duracion")
+                .description("Duración del handler del job")
+                .tag("tipo", tipo)
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .record(duracionNanos, TimeUnit.NANOSECONDS);
+
+        Counter.builder("reservasviaje.worker.job.resultado")
+                .description("Jobs ejecutados por resultado")
+                .tag("tipo", tipo)
+                .tag("resultado", resultado)
+                .tag("codigo", codigo)
+                .register(meterRegistry)
+                .increment();
+    }
 }
@@ -0,0 +1,31 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de entrada para lanzar una cancelación masiva.
+ *
+ * <p>Para {@code VUELO} se requiere {@code numeroVuelo} y la fecha es la de salida;
+ * para {@code HOTEL} se requieren {@code nombreHotel} y {@code ciudad} y la fecha es
+ * la noche de cierre.
+ */
+public record CancelacionMasivaDTO(
+
+        @NotBlank(message = "El tipo (VUELO u HOTEL) es obligatorio")
+        String tipo,
+
+        String numeroVuelo,
+
+        String nombreHotel,
+
+        String ciudad,
+
+        @NotNull(message = "La fecha de la incidencia es obligatoria")
+        LocalDate fecha,
+
+        @NotBlank(message = "El motivo de cancelación es obligatorio")
+        String motivo
+) {}
@@ -45,5 +45,7 @@ public record ReservarCocheDTO(
 
         String observaciones,
 
-        String codigoConfirmacion
+        String codigoConfirmacion,
+
+        String reservaViajeId
 ) {}
@@ -51,5 +51,7 @@ public record ReservarHotelDTO(
 
         String observaciones,
 
-        String codigoConfirmacion
+        String codigoConfirmacion,
+
+        String reservaViajeId
 ) {}
\ No newline at end of file
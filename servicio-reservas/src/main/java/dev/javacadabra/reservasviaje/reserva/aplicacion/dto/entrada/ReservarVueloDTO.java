@@ -53,7 +53,9 @@ public record ReservarVueloDTO(
 
         String observaciones,
 
-        String codigoConfirmacion
+        String codigoConfirmacion,
+
+        String reservaViajeId
 ) {
 
     /**
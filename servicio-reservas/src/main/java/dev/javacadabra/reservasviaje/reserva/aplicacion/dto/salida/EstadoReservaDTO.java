@@ -0,0 +1,33 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con el estado final (o en curso) de un proceso de reserva.
+ *
+ * @param processInstanceKey instancia del proceso principal
+ * @param reservaId ID de negocio de la reserva, si se conoce
+ * @param estado EN_CURSO, COMPLETADA o FALLIDA
+ * @param motivo motivo del fallo, si lo hubo
+ * @param fechaFinalizacion momento en que se registró el final del proceso
+ */
+public record EstadoReservaDTO(
+        long processInstanceKey,
+        String reservaId,
+        String estado,
+        String motivo,
+        LocalDateTime fechaFinalizacion
+) {
+
+    public static final String EN_CURSO = "EN_CURSO";
+    public static final String COMPLETADA = "COMPLETADA";
+    public static final String FALLIDA = "FALLIDA";
+
+    public static EstadoReservaDTO enCurso(long processInstanceKey) {
+        return new EstadoReservaDTO(processInstanceKey, null, EN_CURSO, null, null);
+    }
+
+    public boolean finalizada() {
+        return !EN_CURSO.equals(estado);
+    }
+}
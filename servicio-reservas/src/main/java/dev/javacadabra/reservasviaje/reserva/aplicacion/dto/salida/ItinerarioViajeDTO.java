@@ -0,0 +1,30 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de salida con el itinerario de una reserva de viaje.
+ */
+public record ItinerarioViajeDTO(
+        String reservaViajeId,
+        String clienteId,
+        TramoDTO vuelo,
+        TramoDTO hotel,
+        TramoDTO coche,
+        LocalDateTime fechaModificacion
+) {
+
+    /**
+     * DTO anidado con un tramo del itinerario.
+     */
+    public record TramoDTO(
+            String reservaId,
+            String descripcion,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaFin,
+            BigDecimal precio,
+            String codigoMoneda,
+            String estado
+    ) {}
+}
@@ -0,0 +1,16 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida;
+
+import java.util.List;
+
+/**
+ * DTO de salida con una página de reservas.
+ *
+ * @param reservas reservas de la página
+ * @param siguienteCursor token para pedir la página siguiente (nulo si es la última)
+ * @param hayMas indica si quedan más reservas
+ */
+public record PaginaReservasDTO(
+        List<ResumenReservaDTO> reservas,
+        String siguienteCursor,
+        boolean hayMas
+) {}
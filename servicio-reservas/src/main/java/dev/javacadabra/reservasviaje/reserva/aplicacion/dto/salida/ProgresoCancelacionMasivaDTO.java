@@ -0,0 +1,34 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con el progreso de una cancelación masiva.
+ *
+ * @param id ID de la cancelación
+ * @param criterio descripción del vuelo u hotel afectado
+ * @param motivo motivo de cancelación aplicado a las reservas
+ * @param estado EN_CURSO, COMPLETADA o FALLIDA
+ * @param reservasCanceladas reservas canceladas hasta ahora
+ * @param procesosCompensados procesos a los que se ha pedido compensación
+ * @param lotesProcesados lotes confirmados
+ * @param ultimaReservaId cursor de reanudación
+ * @param error causa del fallo, si lo hubo
+ * @param fechaInicio inicio de la cancelación
+ * @param fechaModificacion último avance registrado
+ * @param fechaFin fin de la cancelación, si ha terminado
+ */
+public record ProgresoCancelacionMasivaDTO(
+        String id,
+        String criterio,
+        String motivo,
+        String estado,
+        long reservasCanceladas,
+        long procesosCompensados,
+        long lotesProcesados,
+        String ultimaReservaId,
+        String error,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaModificacion,
+        LocalDateTime fechaFin
+) {}
@@ -0,0 +1,20 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de salida con la vista resumida de una reserva en los listados.
+ */
+public record ResumenReservaDTO(
+        String tipo,
+        String reservaId,
+        String clienteId,
+        String estado,
+        String descripcion,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaFin,
+        BigDecimal precio,
+        String codigoMoneda,
+        LocalDateTime fechaCreacion
+) {}
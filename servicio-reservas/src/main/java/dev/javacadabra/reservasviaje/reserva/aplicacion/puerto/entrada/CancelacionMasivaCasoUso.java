@@ -0,0 +1,37 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.CancelacionMasivaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ProgresoCancelacionMasivaDTO;
+
+import java.util.Optional;
+
+/**
+ * Puerto de entrada para cancelar en bloque las reservas afectadas por un vuelo
+ * cancelado o un hotel cerrado.
+ */
+public interface CancelacionMasivaCasoUso {
+
+    /**
+     * Registra la cancelación masiva y la ejecuta en segundo plano.
+     *
+     * @param dto criterio y motivo de la cancelación
+     * @return progreso inicial
+     */
+    ProgresoCancelacionMasivaDTO iniciar(CancelacionMasivaDTO dto);
+
+    /**
+     * Consulta el progreso de una cancelación masiva.
+     *
+     * @param id ID de la cancelación
+     * @return Optional con el progreso si existe
+     */
+    Optional<ProgresoCancelacionMasivaDTO> consultar(String id);
+
+    /**
+     * Reanuda una cancelación masiva interrumpida o fallida desde su cursor.
+     *
+     * @param id ID de la cancelación
+     * @return Optional con el progreso si existe
+     */
+    Optional<ProgresoCancelacionMasivaDTO> reanudar(String id);
+}
@@ -9,6 +9,9 @@ public interface CancelarCocheCasoUso {
     /**
      * Ejecuta el caso de uso de cancelar una reserva de coche.
      *
+     * <p>Es idempotente: si la reserva ya está cancelada no hace nada, así
+     * que una compensación repetida no falla.
+     *
      * @param reservaId ID de la reserva a cancelar
      * @param motivo motivo de la cancelación
      */
@@ -0,0 +1,41 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de entrada para consultar el estado final de un proceso de reserva
+ * sin pasar por Operate.
+ */
+public interface ConsultarEstadoReservaCasoUso {
+
+    /**
+     * Consulta el estado sin esperar.
+     *
+     * @param processInstanceKey instancia del proceso principal
+     * @return estado final o EN_CURSO
+     */
+    EstadoReservaDTO consultar(long processInstanceKey);
+
+    /**
+     * Espera a que el proceso finalice, como mucho {@code espera}.
+     *
+     * @param processInstanceKey instancia del proceso principal
+     * @param espera tiempo máximo de espera
+     * @return futuro con el estado final, o EN_CURSO si vence la espera
+     * @throws EsperasAgotadasException si ya hay demasiados procesos distintos en espera
+     */
+    CompletableFuture<EstadoReservaDTO> esperar(long processInstanceKey, Duration espera);
+
+    /**
+     * Se ha alcanzado el máximo de procesos en espera; se puede reintentar más tarde.
+     */
+    class EsperasAgotadasException extends RuntimeException {
+
+        public EsperasAgotadasException(int maxEsperas) {
+            super("Hay " + maxEsperas + " procesos en espera, no se admiten más");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ItinerarioViajeDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de entrada para consultar el itinerario de una reserva de viaje sin
+ * consultar por separado las reservas de vuelo, hotel y coche.
+ */
+public interface ConsultarItinerarioCasoUso {
+
+    /**
+     * Consulta el itinerario de una reserva de viaje.
+     *
+     * @param reservaViajeId ID de la reserva de viaje (variable reservaId del proceso)
+     * @return Optional con el itinerario si existe
+     */
+    Optional<ItinerarioViajeDTO> consultar(String reservaViajeId);
+
+    /**
+     * Lista los itinerarios más recientes de un cliente.
+     *
+     * @param clienteId ID del cliente
+     * @return itinerarios del cliente
+     */
+    List<ItinerarioViajeDTO> listarPorCliente(String clienteId);
+}
@@ -0,0 +1,54 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.PaginaReservasDTO;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Puerto de entrada para consultar reservas por cliente, estado o fechas.
+ *
+ * <p>Para pedir la página siguiente se reenvía el {@code siguienteCursor}
+ * recibido con los mismos filtros.
+ */
+public interface ConsultarReservasCasoUso {
+
+    /**
+     * Lista las reservas de un cliente, de la más antigua a la más reciente.
+     *
+     * @param tipo tipo de reserva
+     * @param clienteId ID del cliente
+     * @param cursor token devuelto en la página anterior (nulo para la primera)
+     * @param tamano tamaño de página solicitado
+     * @return página de reservas
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    PaginaReservasDTO listarPorCliente(TipoReserva tipo, String clienteId, String cursor, int tamano);
+
+    /**
+     * Lista las reservas en un estado, de la más antigua a la más reciente.
+     *
+     * @param tipo tipo de reserva
+     * @param estado nombre del estado
+     * @param cursor token devuelto en la página anterior (nulo para la primera)
+     * @param tamano tamaño de página solicitado
+     * @return página de reservas
+     * @throws IllegalArgumentException si el estado o el cursor no son válidos
+     */
+    PaginaReservasDTO listarPorEstado(TipoReserva tipo, String estado, String cursor, int tamano);
+
+    /**
+     * Lista las reservas con salida, entrada o recogida entre dos fechas,
+     * ordenadas por esa fecha.
+     *
+     * @param tipo tipo de reserva
+     * @param desde primer día (incluido)
+     * @param hasta último día (incluido)
+     * @param cursor token devuelto en la página anterior (nulo para la primera)
+     * @param tamano tamaño de página solicitado
+     * @return página de reservas
+     * @throws IllegalArgumentException si el rango o el cursor no son válidos
+     */
+    PaginaReservasDTO listarPorFechaInicio(TipoReserva tipo, LocalDate desde, LocalDate hasta,
+                                           String cursor, int tamano);
+}
@@ -3,7 +3,17 @@ package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.IniciarReservaDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.IniciarReservaRespuestaDTO;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface IniciarReservaCasoUso {
 
     IniciarReservaRespuestaDTO ejecutar(IniciarReservaDTO dto);
+
+    /**
+     * Inicia el proceso sin bloquear el hilo llamante mientras responde el gateway.
+     *
+     * @param dto datos de la reserva
+     * @return futuro que se completa con la instancia creada
+     */
+    CompletableFuture<IniciarReservaRespuestaDTO> ejecutarAsincrono(IniciarReservaDTO dto);
 }
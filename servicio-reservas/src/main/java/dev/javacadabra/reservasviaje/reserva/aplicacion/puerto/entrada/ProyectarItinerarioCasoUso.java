@@ -0,0 +1,41 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+
+/**
+ * Puerto de entrada para mantener la proyección de itinerarios de viaje.
+ */
+public interface ProyectarItinerarioCasoUso {
+
+    /**
+     * Proyecta un tramo creado en el itinerario de su reserva de viaje.
+     *
+     * @param tramo tramo a proyectar
+     */
+    void proyectarTramo(TramoItinerario tramo);
+
+    /**
+     * Proyecta la cancelación de la reserva de un tramo.
+     *
+     * @param tipo tipo de reserva
+     * @param reservaId ID de la reserva cancelada
+     */
+    void proyectarCancelacion(TipoReserva tipo, String reservaId);
+
+    /**
+     * Reconstruye en segundo plano la proyección completa a partir de las
+     * tablas de reservas.
+     *
+     * @return false si ya hay una reconstrucción en curso en esta u otra réplica
+     */
+    boolean reconstruir();
+
+    /**
+     * Relanza la reconstrucción si la anterior no llegó a terminar y ninguna
+     * otra réplica la ha reclamado ya.
+     *
+     * @return true si se ha relanzado
+     */
+    boolean reanudarReconstruccionPendiente();
+}
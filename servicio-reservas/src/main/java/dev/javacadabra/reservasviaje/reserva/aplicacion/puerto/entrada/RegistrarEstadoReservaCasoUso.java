@@ -0,0 +1,16 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+
+/**
+ * Puerto de entrada para registrar el final de un proceso de reserva.
+ */
+public interface RegistrarEstadoReservaCasoUso {
+
+    /**
+     * Registra el estado final de un proceso y despierta a quien lo esté esperando.
+     *
+     * @param estado estado final del proceso
+     */
+    void registrar(EstadoReservaDTO estado);
+}
@@ -0,0 +1,27 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.CancelacionMasiva;
+
+import java.util.Optional;
+
+/**
+ * Puerto de salida para persistir las cancelaciones masivas y su progreso.
+ */
+public interface CancelacionMasivaPuerto {
+
+    /**
+     * Guarda (crea o actualiza) una cancelación masiva.
+     *
+     * @param cancelacionMasiva cancelación a guardar
+     * @return la cancelación guardada
+     */
+    CancelacionMasiva guardar(CancelacionMasiva cancelacionMasiva);
+
+    /**
+     * Busca una cancelación masiva por su ID.
+     *
+     * @param id ID de la cancelación
+     * @return Optional con la cancelación si existe
+     */
+    Optional<CancelacionMasiva> buscarPorId(String id);
+}
@@ -0,0 +1,17 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import java.util.Collection;
+
+/**
+ * Puerto de salida para pedir la compensación de procesos de reserva en curso.
+ */
+public interface CompensacionProcesoPuerto {
+
+    /**
+     * Correlaciona el mensaje de compensación con cada proceso principal indicado
+     * y espera a que el motor confirme todas las publicaciones.
+     *
+     * @param reservasViajeIds IDs de reserva de viaje (clave de correlación)
+     */
+    void solicitarCompensacion(Collection<String> reservasViajeIds);
+}
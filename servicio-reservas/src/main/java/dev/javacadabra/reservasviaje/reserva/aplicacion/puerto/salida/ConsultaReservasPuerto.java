@@ -0,0 +1,53 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CursorReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.PaginaReservas;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Puerto de salida para los listados de solo lectura de reservas.
+ *
+ * <p>Todos los listados usan paginación por clave: la página empieza justo
+ * después del cursor, así que su coste no depende de la posición en el recorrido.
+ */
+public interface ConsultaReservasPuerto {
+
+    /**
+     * Lista las reservas de un cliente por fecha de creación.
+     *
+     * @param tipo tipo de reserva
+     * @param clienteId ID del cliente
+     * @param despuesDe cursor de la página anterior (nulo para la primera)
+     * @param tamano número máximo de reservas
+     * @return página de reservas con el cursor de la siguiente
+     */
+    PaginaReservas buscarPorCliente(TipoReserva tipo, String clienteId, CursorReserva despuesDe, int tamano);
+
+    /**
+     * Lista las reservas en un estado por fecha de creación.
+     *
+     * @param tipo tipo de reserva
+     * @param estado estado de las reservas
+     * @param despuesDe cursor de la página anterior (nulo para la primera)
+     * @param tamano número máximo de reservas
+     * @return página de reservas con el cursor de la siguiente
+     */
+    PaginaReservas buscarPorEstado(TipoReserva tipo, EstadoReserva estado, CursorReserva despuesDe, int tamano);
+
+    /**
+     * Lista las reservas cuya salida, entrada o recogida cae en el rango
+     * {@code [desde, hasta)}, por esa fecha.
+     *
+     * @param tipo tipo de reserva
+     * @param desde primer día del rango (incluido)
+     * @param hasta último día del rango (excluido)
+     * @param despuesDe cursor de la página anterior (nulo para la primera)
+     * @param tamano número máximo de reservas
+     * @return página de reservas con el cursor de la siguiente
+     */
+    PaginaReservas buscarPorFechaInicio(TipoReserva tipo, LocalDate desde, LocalDate hasta,
+                                        CursorReserva despuesDe, int tamano);
+}
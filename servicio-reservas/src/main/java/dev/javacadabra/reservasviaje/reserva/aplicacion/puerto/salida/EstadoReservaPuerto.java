@@ -0,0 +1,38 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para los estados finales de los procesos de reserva,
+ * compartidos entre réplicas.
+ */
+public interface EstadoReservaPuerto {
+
+    /**
+     * Guarda el estado final de un proceso. Registrar dos veces el mismo proceso
+     * (listener reentregado) sobrescribe el anterior.
+     *
+     * @param estado estado final, con fecha de finalización
+     */
+    void guardar(EstadoReservaDTO estado);
+
+    /**
+     * Busca el estado final de un proceso.
+     *
+     * @param processInstanceKey instancia del proceso principal
+     * @return estado final, si el proceso ha terminado
+     */
+    Optional<EstadoReservaDTO> buscar(long processInstanceKey);
+
+    /**
+     * Busca de una vez los procesos ya terminados entre los indicados.
+     *
+     * @param processInstanceKeys instancias del proceso principal
+     * @return estados finales de las que han terminado
+     */
+    List<EstadoReservaDTO> buscarFinalizados(Collection<Long> processInstanceKeys);
+}
@@ -1,5 +1,7 @@
 package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
 
+import java.util.List;
+
 /**
  * Puerto de salida para publicación de eventos de dominio.
  * Define el contrato que debe implementar el adaptador de eventos.
@@ -22,4 +24,12 @@ public interface EventoPublicadorPuerto {
      * @param <T> tipo del evento
      */
     <T> void publicar(String tema, T evento);
+
+    /**
+     * Publica un lote de eventos de dominio del mismo tipo.
+     *
+     * @param eventos eventos a publicar
+     * @param <T> tipo de los eventos
+     */
+    <T> void publicarLote(List<T> eventos);
 }
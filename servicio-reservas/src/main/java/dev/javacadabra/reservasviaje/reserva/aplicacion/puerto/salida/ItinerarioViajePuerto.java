@@ -0,0 +1,103 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ItinerarioViaje;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para la proyección de itinerarios de viaje (modelo de lectura).
+ */
+public interface ItinerarioViajePuerto {
+
+    /**
+     * Escribe los tramos en el itinerario de su reserva de viaje, creándolo si
+     * no existe. Es idempotente: aplicar dos veces el mismo tramo no cambia el
+     * resultado.
+     *
+     * @param tramos tramos a proyectar
+     * @throws org.springframework.dao.DataIntegrityViolationException si otro
+     *         proceso creó a la vez el mismo itinerario (se puede reintentar)
+     */
+    void proyectarTramos(List<TramoItinerario> tramos);
+
+    /**
+     * Marca como cancelado el tramo con la reserva indicada.
+     *
+     * @param tipo tipo de reserva del tramo
+     * @param reservaId ID de la reserva de vuelo, hotel o coche
+     * @param fecha fecha de modificación
+     * @return itinerarios actualizados (0 si la reserva no está proyectada)
+     */
+    int marcarCancelado(TipoReserva tipo, String reservaId, LocalDateTime fecha);
+
+    /**
+     * Busca el itinerario de una reserva de viaje.
+     *
+     * @param reservaViajeId ID de la reserva de viaje
+     * @return Optional con el itinerario si existe
+     */
+    Optional<ItinerarioViaje> buscarPorReservaViajeId(String reservaViajeId);
+
+    /**
+     * Busca los itinerarios de un cliente, del más reciente al más antiguo.
+     *
+     * @param clienteId ID del cliente
+     * @param limite número máximo de itinerarios
+     * @return itinerarios del cliente
+     */
+    List<ItinerarioViaje> buscarPorCliente(String clienteId, int limite);
+
+    /**
+     * Elimina todos los itinerarios antes de reconstruir la proyección.
+     */
+    void vaciar();
+
+    /**
+     * Reclama la marca de reconstrucción para esta réplica, creándola si no
+     * existe. Solo una réplica puede tenerla: la reclamación falla si otra la
+     * tiene y la sigue renovando.
+     *
+     * @param propietario identificador de la réplica
+     * @param fecha fecha de inicio de la reconstrucción
+     * @param caducidad una marca no renovada desde antes de esta fecha se considera abandonada
+     * @return true si la marca es ahora de esta réplica
+     * @throws org.springframework.dao.DataIntegrityViolationException si otra
+     *         réplica creó la marca a la vez
+     */
+    boolean reclamarReconstruccion(String propietario, LocalDateTime fecha, LocalDateTime caducidad);
+
+    /**
+     * Renueva la marca de reconstrucción de esta réplica.
+     *
+     * @param propietario identificador de la réplica
+     * @param fecha fecha de renovación
+     * @return false si la marca ya no es de esta réplica
+     */
+    boolean renovarReconstruccion(String propietario, LocalDateTime fecha);
+
+    /**
+     * Deja la marca pendiente, sin propietario, para que se relance en el
+     * siguiente arranque de cualquier réplica.
+     *
+     * @param propietario identificador de la réplica que la tenía
+     */
+    void liberarReconstruccion(String propietario);
+
+    /**
+     * Elimina la marca de reconstrucción al terminar.
+     *
+     * @param propietario identificador de la réplica que la tenía
+     */
+    void marcarReconstruccionTerminada(String propietario);
+
+    /**
+     * Indica si quedó una reconstrucción sin terminar (p. ej. por un reinicio).
+     *
+     * @return true si hay que relanzar la reconstrucción
+     */
+    boolean hayReconstruccionPendiente();
+}
@@ -1,8 +1,10 @@
 package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
 
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.ReservaVuelo;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaId;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -41,4 +43,33 @@ public interface ReservaVueloPuerto {
      * @param reservaId ID de la reserva a eliminar
      */
     void eliminar(ReservaId reservaId);
+
+    /**
+     * Cancela la reserva con una actualización condicionada, sin cargar el agregado.
+     *
+     * <p>Solo afecta a la reserva si su estado está en
+     * {@link EstadoReserva#cancelables()} y no tiene motivo de cancelación.
+     *
+     * @param reservaId ID de la reserva
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @return filas actualizadas (0 si no existe o no se puede cancelar)
+     */
+    int cancelarSiPermitido(ReservaId reservaId, String motivo, LocalDateTime fecha);
+
+    /**
+     * Obtiene solo el estado de una reserva de vuelo.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el estado si la reserva existe
+     */
+    Optional<EstadoReserva> buscarEstado(ReservaId reservaId);
+
+    /**
+     * Obtiene solo el ID del cliente de una reserva de vuelo.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el ID del cliente si la reserva existe
+     */
+    Optional<String> buscarClienteId(ReservaId reservaId);
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Puerto de salida para seleccionar y cancelar en bloque las reservas
+ * afectadas por una incidencia, sin cargar los agregados.
+ */
+public interface ReservasAfectadasPuerto {
+
+    /**
+     * Obtiene el siguiente lote de reservas cancelables que cumplen el criterio,
+     * en orden de ID (paginación por clave).
+     *
+     * <p>Solo devuelve reservas en {@link EstadoReserva#cancelables()} sin motivo
+     * de cancelación, así que repetir la búsqueda tras un fallo no vuelve a
+     * devolver las ya canceladas.
+     *
+     * @param criterio criterio de la incidencia
+     * @param despuesDeReservaId último ID del lote anterior ("" para empezar)
+     * @param limite tamaño máximo del lote
+     * @return reservas ordenadas por ID
+     */
+    List<ReservaAfectada> buscarCancelables(CriterioCancelacionMasiva criterio,
+                                            String despuesDeReservaId,
+                                            int limite);
+
+    /**
+     * Cancela un lote de reservas con una única actualización.
+     *
+     * <p>Debe ejecutarse dentro de una transacción: las reservas del lote que
+     * siguen siendo cancelables quedan bloqueadas hasta el commit y solo esas se
+     * cancelan, así que un cambio concurrente no puede colarse entre la
+     * comprobación y la actualización.
+     *
+     * @param tipo tipo de las reservas
+     * @param reservaIds IDs del lote
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @return reservas efectivamente canceladas por esta llamada
+     */
+    List<ReservaAfectada> cancelarLote(CriterioCancelacionMasiva.TipoReservaAfectada tipo,
+                                       List<String> reservaIds,
+                                       String motivo,
+                                       LocalDateTime fecha);
+}
@@ -0,0 +1,36 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para leer los tramos de itinerario directamente de las
+ * tablas de reservas (reconstrucción de la proyección).
+ */
+public interface TramosReservaPuerto {
+
+    /**
+     * Recorre por ID las reservas de un tipo vinculadas a una reserva de viaje.
+     *
+     * @param tipo tipo de reserva
+     * @param despuesDeReservaId último ID leído ("" para empezar)
+     * @param limite número máximo de tramos
+     * @return tramos ordenados por ID de reserva
+     */
+    List<TramoItinerario> buscarTramos(TipoReserva tipo, String despuesDeReservaId, int limite);
+
+    /**
+     * Vuelve a leer las reservas indicadas bloqueándolas hasta el final de la
+     * transacción en curso, que debe existir.
+     *
+     * <p>Mientras el bloqueo dure, ninguna cancelación puede cambiar esas
+     * reservas: su evento se proyecta después de escribir el lote, nunca antes.
+     *
+     * @param tipo tipo de reserva
+     * @param reservaIds IDs de las reservas
+     * @return tramos actuales de las reservas, ordenados por ID
+     */
+    List<TramoItinerario> bloquearTramos(TipoReserva tipo, List<String> reservaIds);
+}
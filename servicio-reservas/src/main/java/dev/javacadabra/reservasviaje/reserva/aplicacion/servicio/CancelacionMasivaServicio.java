@@ -0,0 +1,303 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.CancelacionMasivaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ProgresoCancelacionMasivaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.CancelacionMasivaCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.CancelacionMasivaPuerto;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.CompensacionProcesoPuerto;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EventoPublicadorPuerto;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservasAfectadasPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaHotelCanceladaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaVueloCanceladaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.CancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.CancelacionMasiva.EstadoCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva.TipoReservaAfectada;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de aplicación que cancela en bloque las reservas afectadas por un
+ * vuelo cancelado o un hotel cerrado.
+ *
+ * <p>La cancelación avanza por oleadas: se leen hasta {@code paralelismo} lotes
+ * consecutivos de {@code tamanoLote} reservas (paginación por clave sobre el
+ * índice del criterio) y cada lote se cancela en paralelo en su propia
+ * transacción. Esa transacción bloquea las reservas del lote, las cancela por
+ * ID, publica el mensaje {@code compensar-reserva} de los procesos afectados y
+ * publica los eventos de cancelación. Si algo falla, el lote se revierte y la
+ * cancelación queda FALLIDA para reanudarse más tarde. Al terminar la oleada se
+ * persiste el cursor.
+ *
+ * <p><strong>Garantías de entrega:</strong> los eventos de cancelación se
+ * publican dentro de la transacción del lote y sus listeners
+ * ({@code @TransactionalEventListener}) solo los reciben tras el commit: nunca
+ * se entregan para un lote revertido, pero una caída entre el commit y los
+ * listeners los pierde (como mucho una vez). Los mensajes a Camunda se envían
+ * antes del commit, así que si este falla se repiten al reanudar (al menos una
+ * vez); la compensación de reservas ya canceladas no hace nada. La espera de
+ * sus confirmaciones está acotada para no retener los bloqueos del lote: si
+ * vence, el lote se revierte igual que si el envío hubiera fallado.
+ *
+ * <p>La selección excluye las reservas ya canceladas, así que reanudar una
+ * cancelación (incluso tras un reinicio a mitad de oleada) no repite trabajo.
+ */
+@Service
+@Slf4j
+public class CancelacionMasivaServicio implements CancelacionMasivaCasoUso {
+
+    private final CancelacionMasivaPuerto cancelacionMasivaPuerto;
+    private final ReservasAfectadasPuerto reservasAfectadasPuerto;
+    private final CompensacionProcesoPuerto compensacionProcesoPuerto;
+    private final EventoPublicadorPuerto eventoPublicador;
+    private final TransactionTemplate transaccion;
+    private final int tamanoLote;
+    private final int paralelismo;
+
+    private final ExecutorService ejecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cancelacion-masiva-", 0).factory());
+    private final Set<String> enEjecucion = ConcurrentHashMap.newKeySet();
+
+    public CancelacionMasivaServicio(CancelacionMasivaPuerto cancelacionMasivaPuerto,
+                                     ReservasAfectadasPuerto reservasAfectadasPuerto,
+                                     CompensacionProcesoPuerto compensacionProcesoPuerto,
+                                     EventoPublicadorPuerto eventoPublicador,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${reservasviaje.cancelacion-masiva.tamano-lote:200}") int tamanoLote,
+                                     @Value("${reservasviaje.cancelacion-masiva.paralelismo:4}") int paralelismo) {
+        this.cancelacionMasivaPuerto = cancelacionMasivaPuerto;
+        this.reservasAfectadasPuerto = reservasAfectadasPuerto;
+        this.compensacionProcesoPuerto = compensacionProcesoPuerto;
+        this.eventoPublicador = eventoPublicador;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+        this.paralelismo = paralelismo;
+    }
+
+    @Override
+    public ProgresoCancelacionMasivaDTO iniciar(CancelacionMasivaDTO dto) {
+        CriterioCancelacionMasiva criterio = aCriterio(dto);
+        CancelacionMasiva cancelacion = cancelacionMasivaPuerto.guardar(
+                CancelacionMasiva.crear(criterio, dto.motivo()));
+
+        log.info("🛑 Cancelación masiva {} iniciada: {} - Motivo: {}",
+                cancelacion.getId(), criterio.descripcion(), dto.motivo());
+
+        ProgresoCancelacionMasivaDTO progreso = aDTO(cancelacion);
+        lanzar(cancelacion);
+        return progreso;
+    }
+
+    @Override
+    public Optional<ProgresoCancelacionMasivaDTO> consultar(String id) {
+        return cancelacionMasivaPuerto.buscarPorId(id).map(this::aDTO);
+    }
+
+    @Override
+    public Optional<ProgresoCancelacionMasivaDTO> reanudar(String id) {
+        return cancelacionMasivaPuerto.buscarPorId(id)
+                .map(cancelacion -> {
+                    if (cancelacion.getEstado() == EstadoCancelacionMasiva.COMPLETADA
+                        || enEjecucion.contains(id)) {
+                        return aDTO(cancelacion);
+                    }
+
+                    cancelacion.reanudar();
+                    cancelacionMasivaPuerto.guardar(cancelacion);
+
+                    log.info("▶️ Reanudando cancelación masiva {} desde la reserva {}",
+                            id, cancelacion.getUltimaReservaId());
+
+                    ProgresoCancelacionMasivaDTO progreso = aDTO(cancelacion);
+                    lanzar(cancelacion);
+                    return progreso;
+                });
+    }
+
+    @PreDestroy
+    public void detener() {
+        // Los lotes interrumpidos se revierten; la cancelación queda EN_CURSO y se reanuda por su cursor
+        ejecutor.shutdownNow();
+    }
+
+    private void lanzar(CancelacionMasiva cancelacion) {
+        if (!enEjecucion.add(cancelacion.getId())) {
+            return;
+        }
+        ejecutor.execute(() -> {
+            try {
+                ejecutar(cancelacion);
+            } finally {
+                enEjecucion.remove(cancelacion.getId());
+            }
+        });
+    }
+
+    private void ejecutar(CancelacionMasiva cancelacion) {
+        try {
+            List<List<ReservaAfectada>> oleada;
+            while (!(oleada = leerOleada(cancelacion)).isEmpty()) {
+                List<CompletableFuture<ResultadoLote>> lotes = oleada.stream()
+                        .map(lote -> CompletableFuture.supplyAsync(() -> cancelarLote(cancelacion, lote), ejecutor))
+                        .toList();
+
+                List<ReservaAfectada> canceladas = new ArrayList<>();
+                int compensados = 0;
+                int confirmados = 0;
+                CompletionException fallo = null;
+                for (CompletableFuture<ResultadoLote> lote : lotes) {
+                    try {
+                        ResultadoLote resultado = lote.join();
+                        canceladas.addAll(resultado.canceladas());
+                        compensados += resultado.procesosCompensados();
+                        confirmados++;
+                    } catch (CompletionException e) {
+                        fallo = fallo != null ? fallo : e;
+                    }
+                }
+
+                String cursor = fallo == null
+                        ? oleada.getLast().getLast().reservaId()
+                        : cancelacion.getUltimaReservaId();
+                cancelacion.registrarOleada(cursor, canceladas.size(), compensados, confirmados);
+                cancelacionMasivaPuerto.guardar(cancelacion);
+
+                if (fallo != null) {
+                    throw fallo;
+                }
+
+                log.info("📊 Cancelación masiva {}: {} reservas canceladas, {} procesos compensados, {} lotes",
+                        cancelacion.getId(), cancelacion.getReservasCanceladas(),
+                        cancelacion.getProcesosCompensados(), cancelacion.getLotesProcesados());
+            }
+
+            cancelacion.completar();
+            cancelacionMasivaPuerto.guardar(cancelacion);
+
+            log.info("✅ Cancelación masiva {} completada: {} reservas canceladas",
+                    cancelacion.getId(), cancelacion.getReservasCanceladas());
+
+        } catch (Exception e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            log.error("❌ Cancelación masiva {} detenida en la reserva {}: {}",
+                    cancelacion.getId(), cancelacion.getUltimaReservaId(), causa.getMessage(), causa);
+
+            cancelacion.fallar(causa.getMessage());
+            cancelacionMasivaPuerto.guardar(cancelacion);
+        }
+    }
+
+    /**
+     * Lee hasta {@code paralelismo} lotes consecutivos desde el cursor.
+     */
+    private List<List<ReservaAfectada>> leerOleada(CancelacionMasiva cancelacion) {
+        List<List<ReservaAfectada>> oleada = new ArrayList<>(paralelismo);
+        String despuesDe = cancelacion.getUltimaReservaId() != null ? cancelacion.getUltimaReservaId() : "";
+
+        while (oleada.size() < paralelismo) {
+            List<ReservaAfectada> lote = reservasAfectadasPuerto.buscarCancelables(
+                    cancelacion.getCriterio(), despuesDe, tamanoLote);
+            if (lote.isEmpty()) {
+                break;
+            }
+            oleada.add(lote);
+            despuesDe = lote.getLast().reservaId();
+            if (lote.size() < tamanoLote) {
+                break;
+            }
+        }
+        return oleada;
+    }
+
+    /**
+     * Cancela un lote, pide la compensación de sus procesos y publica sus eventos
+     * en una misma transacción.
+     */
+    private ResultadoLote cancelarLote(CancelacionMasiva cancelacion, List<ReservaAfectada> lote) {
+        List<String> reservaIds = lote.stream().map(ReservaAfectada::reservaId).toList();
+
+        return transaccion.execute(estado -> {
+            List<ReservaAfectada> canceladas = reservasAfectadasPuerto.cancelarLote(
+                    cancelacion.getCriterio().tipo(), reservaIds, cancelacion.getMotivo(), LocalDateTime.now());
+
+            Set<String> procesos = canceladas.stream()
+                    .map(ReservaAfectada::reservaViajeId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            compensacionProcesoPuerto.solicitarCompensacion(procesos);
+            publicarEventos(cancelacion, canceladas);
+
+            return new ResultadoLote(canceladas, procesos.size());
+        });
+    }
+
+    private void publicarEventos(CancelacionMasiva cancelacion, List<ReservaAfectada> canceladas) {
+        if (canceladas.isEmpty()) {
+            return;
+        }
+
+        String motivo = cancelacion.getMotivo();
+        List<Object> eventos = canceladas.stream()
+                .map(reserva -> switch (cancelacion.getCriterio().tipo()) {
+                    case VUELO -> (Object) new ReservaVueloCanceladaEvento(
+                            reserva.reservaId(), reserva.clienteId(), motivo);
+                    case HOTEL -> new ReservaHotelCanceladaEvento(
+                            reserva.reservaId(), reserva.clienteId(), motivo);
+                })
+                .toList();
+        eventoPublicador.publicarLote(eventos);
+    }
+
+    private CriterioCancelacionMasiva aCriterio(CancelacionMasivaDTO dto) {
+        TipoReservaAfectada tipo;
+        try {
+            tipo = TipoReservaAfectada.valueOf(dto.tipo().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de reserva no admitido: " + dto.tipo() + " (VUELO u HOTEL)");
+        }
+
+        return switch (tipo) {
+            case VUELO -> CriterioCancelacionMasiva.porVuelo(dto.numeroVuelo(), dto.fecha());
+            case HOTEL -> CriterioCancelacionMasiva.porHotel(dto.nombreHotel(), dto.ciudad(), dto.fecha());
+        };
+    }
+
+    private ProgresoCancelacionMasivaDTO aDTO(CancelacionMasiva cancelacion) {
+        return new ProgresoCancelacionMasivaDTO(
+                cancelacion.getId(),
+                cancelacion.getCriterio().descripcion(),
+                cancelacion.getMotivo(),
+                cancelacion.getEstado().name(),
+                cancelacion.getReservasCanceladas(),
+                cancelacion.getProcesosCompensados(),
+                cancelacion.getLotesProcesados(),
+                cancelacion.getUltimaReservaId(),
+                cancelacion.getError(),
+                cancelacion.getFechaInicio(),
+                cancelacion.getFechaModificacion(),
+                cancelacion.getFechaFin()
+        );
+    }
+
+    private record ResultadoLote(List<ReservaAfectada> canceladas, int procesosCompensados) {
+    }
+}
@@ -0,0 +1,105 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.PaginaReservasDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ResumenReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarReservasCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ConsultaReservasPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CursorReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.PaginaReservas;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ResumenReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Servicio de aplicación que implementa las consultas de reservas.
+ * Solo lectura: no carga agregados, trabaja con la vista resumida.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultaReservasServicio implements ConsultarReservasCasoUso {
+
+    private static final int TAMANO_MAXIMO_PAGINA = 200;
+    private static final long DIAS_MAXIMOS_RANGO = 366;
+
+    private final ConsultaReservasPuerto consultaReservasPuerto;
+
+    @Override
+    public PaginaReservasDTO listarPorCliente(TipoReserva tipo, String clienteId, String cursor, int tamano) {
+        log.debug("🔍 Listando reservas de {} del cliente {}", tipo, clienteId);
+
+        if (clienteId == null || clienteId.isBlank()) {
+            throw new IllegalArgumentException("El ID de cliente es obligatorio");
+        }
+
+        return aDTO(consultaReservasPuerto.buscarPorCliente(
+                tipo, clienteId, aCursor(cursor), Math.clamp(tamano, 1, TAMANO_MAXIMO_PAGINA)));
+    }
+
+    @Override
+    public PaginaReservasDTO listarPorEstado(TipoReserva tipo, String estado, String cursor, int tamano) {
+        log.debug("🔍 Listando reservas de {} en estado {}", tipo, estado);
+
+        EstadoReserva estadoReserva;
+        try {
+            estadoReserva = EstadoReserva.valueOf(estado.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Estado de reserva no válido: " + estado);
+        }
+
+        return aDTO(consultaReservasPuerto.buscarPorEstado(
+                tipo, estadoReserva, aCursor(cursor), Math.clamp(tamano, 1, TAMANO_MAXIMO_PAGINA)));
+    }
+
+    @Override
+    public PaginaReservasDTO listarPorFechaInicio(TipoReserva tipo, LocalDate desde, LocalDate hasta,
+                                                  String cursor, int tamano) {
+        log.debug("🔍 Listando reservas de {} con inicio entre {} y {}", tipo, desde, hasta);
+
+        if (desde == null || hasta == null || hasta.isBefore(desde)) {
+            throw new IllegalArgumentException("El rango de fechas no es válido");
+        }
+        if (ChronoUnit.DAYS.between(desde, hasta) >= DIAS_MAXIMOS_RANGO) {
+            throw new IllegalArgumentException("El rango de fechas no puede superar " + DIAS_MAXIMOS_RANGO + " días");
+        }
+
+        // El caso de uso recibe el último día incluido; el puerto trabaja con rango semiabierto
+        return aDTO(consultaReservasPuerto.buscarPorFechaInicio(
+                tipo, desde, hasta.plusDays(1), aCursor(cursor), Math.clamp(tamano, 1, TAMANO_MAXIMO_PAGINA)));
+    }
+
+    private CursorReserva aCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : CursorReserva.decodificar(cursor);
+    }
+
+    private PaginaReservasDTO aDTO(PaginaReservas pagina) {
+        log.debug("📊 Página con {} reservas", pagina.reservas().size());
+
+        return new PaginaReservasDTO(
+                pagina.reservas().stream().map(this::aDTO).toList(),
+                pagina.hayMas() ? pagina.siguiente().codificar() : null,
+                pagina.hayMas()
+        );
+    }
+
+    private ResumenReservaDTO aDTO(ResumenReserva reserva) {
+        return new ResumenReservaDTO(
+                reserva.tipo().name(),
+                reserva.reservaId(),
+                reserva.clienteId(),
+                reserva.estado().name(),
+                reserva.descripcion(),
+                reserva.fechaInicio(),
+                reserva.fechaFin(),
+                reserva.precio(),
+                reserva.codigoMoneda(),
+                reserva.fechaCreacion()
+        );
+    }
+}
@@ -0,0 +1,210 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.RegistrarEstadoReservaCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EstadoReservaPuerto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servicio de aplicación que registra los procesos de reserva finalizados.
+ *
+ * <p>Lo alimenta el listener {@code registrar-estado-reserva} de los eventos de fin
+ * de {@code proceso-principal} y lo consultan el long-poll de
+ * estado y el modo síncrono de inicio. Los estados finales se conservan un tiempo
+ * acotado ({@code reservasviaje.api.estado.retencion}) y con capacidad limitada,
+ * para que las consultas tardías sigan viendo el resultado sin ir a Operate.
+ *
+ * <p>Con varias réplicas, el job del listener puede ejecutarse en una réplica
+ * distinta de la que atiende el long-poll. Por eso cada estado final se guarda
+ * también a través de {@link EstadoReservaPuerto}, y la memoria solo es una
+ * caché de esa tabla. Quien espera en la misma réplica que registra despierta al
+ * momento. En otra réplica despierta en el siguiente sondeo de la tabla
+ * ({@code reservasviaje.api.estado.sondeo}, una consulta para todos los procesos
+ * esperados). Al vencer la espera se vuelve a consultar la tabla antes de
+ * responder EN_CURSO.
+ *
+ * <p>Cada proceso esperado ocupa una espera compartida por todos sus clientes,
+ * que caduca con la espera más larga admitida
+ * ({@code reservasviaje.api.estado.espera-maxima}). El número de procesos en
+ * espera está limitado ({@code reservasviaje.api.estado.max-esperas}): al
+ * alcanzarlo, esperar un proceso nuevo se rechaza con
+ * {@link EsperasAgotadasException} en vez de crecer sin control, y el sondeo
+ * de la tabla no pasa de ese número de claves.
+ */
+@Service
+@Slf4j
+public class EstadoReservaServicio implements ConsultarEstadoReservaCasoUso, RegistrarEstadoReservaCasoUso {
+
+    private static final int MAX_CLAVES_POR_SONDEO = 1000;
+
+    private final Duration retencion;
+    private final Duration esperaMaxima;
+    private final int maxEsperas;
+    private final LinkedHashMap<Long, EstadoReservaDTO> finalizadas;
+    private final Map<Long, CompletableFuture<EstadoReservaDTO>> esperas = new ConcurrentHashMap<>();
+    private final EstadoReservaPuerto estadoReservaPuerto;
+
+    // Consulta a la tabla al vencer una espera, fuera del hilo que gestiona los timeouts
+    private final ExecutorService consultasTrasEspera = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EstadoReservaServicio(EstadoReservaPuerto estadoReservaPuerto,
+                                 @Value("${reservasviaje.api.estado.capacidad:10000}") int capacidad,
+                                 @Value("${reservasviaje.api.estado.retencion:PT15M}") Duration retencion,
+                                 @Value("${reservasviaje.api.estado.espera-maxima:PT60S}") Duration esperaMaxima,
+                                 @Value("${reservasviaje.api.estado.max-esperas:1000}") int maxEsperas) {
+        this.estadoReservaPuerto = estadoReservaPuerto;
+        this.retencion = retencion;
+        this.esperaMaxima = esperaMaxima;
+        this.maxEsperas = maxEsperas;
+        this.finalizadas = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, EstadoReservaDTO> eldest) {
+                return size() > capacidad;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Solo despierta a quien espera en esta réplica; las demás lo verán en la tabla.
+     */
+    @Override
+    public void registrar(EstadoReservaDTO estado) {
+        if (estado.fechaFinalizacion() == null) {
+            estado = new EstadoReservaDTO(estado.processInstanceKey(), estado.reservaId(),
+                    estado.estado(), estado.motivo(), LocalDateTime.now());
+        }
+
+        estadoReservaPuerto.guardar(estado);
+        registrarEnMemoria(estado);
+
+        log.debug("🏁 Proceso {} registrado como {}", estado.processInstanceKey(), estado.estado());
+    }
+
+    /**
+     * Completa las esperas de esta réplica cuyo proceso ha terminado en otra.
+     */
+    @Scheduled(fixedDelayString = "${reservasviaje.api.estado.sondeo:PT1S}")
+    public void sondearFinalizadas() {
+        if (esperas.isEmpty()) {
+            return;
+        }
+
+        List<Long> esperadas = new ArrayList<>(esperas.keySet());
+        for (int i = 0; i < esperadas.size(); i += MAX_CLAVES_POR_SONDEO) {
+            List<Long> tramo = esperadas.subList(i, Math.min(i + MAX_CLAVES_POR_SONDEO, esperadas.size()));
+            estadoReservaPuerto.buscarFinalizados(tramo).forEach(this::registrarEnMemoria);
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        consultasTrasEspera.shutdownNow();
+    }
+
+    private void registrarEnMemoria(EstadoReservaDTO estado) {
+        synchronized (finalizadas) {
+            finalizadas.put(estado.processInstanceKey(), estado);
+        }
+
+        CompletableFuture<EstadoReservaDTO> espera = esperas.remove(estado.processInstanceKey());
+        if (espera != null) {
+            espera.complete(estado);
+        }
+    }
+
+    @Override
+    public EstadoReservaDTO consultar(long processInstanceKey) {
+        EstadoReservaDTO estado = buscarFinalizadaOPersistida(processInstanceKey);
+        return estado != null ? estado : EstadoReservaDTO.enCurso(processInstanceKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>La espera no pasa de {@code reservasviaje.api.estado.espera-maxima}.
+     */
+    @Override
+    public CompletableFuture<EstadoReservaDTO> esperar(long processInstanceKey, Duration espera) {
+        EstadoReservaDTO estado = buscarFinalizadaOPersistida(processInstanceKey);
+        if (estado != null) {
+            return CompletableFuture.completedFuture(estado);
+        }
+
+        // El límite es aproximado: dos procesos nuevos a la vez pueden pasarlo por uno
+        if (!esperas.containsKey(processInstanceKey) && esperas.size() >= maxEsperas) {
+            throw new EsperasAgotadasException(maxEsperas);
+        }
+        CompletableFuture<EstadoReservaDTO> compartida = esperas.computeIfAbsent(processInstanceKey, this::crearEspera);
+        Duration limite = espera.compareTo(esperaMaxima) < 0 ? espera : esperaMaxima;
+
+        // Puede haberse registrado entre la consulta y la creación de la espera
+        estado = buscarFinalizada(processInstanceKey);
+        if (estado != null) {
+            compartida.complete(estado);
+            return CompletableFuture.completedFuture(estado);
+        }
+
+        return compartida.copy()
+                .completeOnTimeout(null, limite.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(resultado -> resultado != null ? resultado : consultar(processInstanceKey),
+                        consultasTrasEspera);
+    }
+
+    private CompletableFuture<EstadoReservaDTO> crearEspera(long processInstanceKey) {
+        CompletableFuture<EstadoReservaDTO> espera = new CompletableFuture<>();
+        // Caduca con la espera más larga admitida, para no acumular procesos que nunca se notifican
+        espera.completeOnTimeout(null, esperaMaxima.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((estado, error) -> esperas.remove(processInstanceKey, espera));
+        return espera;
+    }
+
+    /**
+     * Busca en memoria y, si no está, en la tabla compartida (registrado en otra réplica).
+     */
+    private EstadoReservaDTO buscarFinalizadaOPersistida(long processInstanceKey) {
+        EstadoReservaDTO estado = buscarFinalizada(processInstanceKey);
+        if (estado != null) {
+            return estado;
+        }
+
+        estado = estadoReservaPuerto.buscar(processInstanceKey).orElse(null);
+        if (estado != null) {
+            registrarEnMemoria(estado);
+        }
+        return estado;
+    }
+
+    private EstadoReservaDTO buscarFinalizada(long processInstanceKey) {
+        synchronized (finalizadas) {
+            EstadoReservaDTO estado = finalizadas.get(processInstanceKey);
+            if (estado == null) {
+                return null;
+            }
+            if (estado.fechaFinalizacion() != null
+                    && estado.fechaFinalizacion().plus(retencion).isBefore(LocalDateTime.now())) {
+                finalizadas.remove(processInstanceKey);
+                return null;
+            }
+            return estado;
+        }
+    }
+}
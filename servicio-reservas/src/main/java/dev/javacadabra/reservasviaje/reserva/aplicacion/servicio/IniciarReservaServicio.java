@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +22,11 @@ public class IniciarReservaServicio implements IniciarReservaCasoUso {
 
     @Override
     public IniciarReservaRespuestaDTO ejecutar(IniciarReservaDTO dto) {
+        return ejecutarAsincrono(dto).join();
+    }
+
+    @Override
+    public CompletableFuture<IniciarReservaRespuestaDTO> ejecutarAsincrono(IniciarReservaDTO dto) {
         log.info("Iniciando proceso de reserva para cliente: {}", dto.getClienteId());
 
         Map<String, Object> variables = new HashMap<>();
@@ -35,14 +41,17 @@ public class IniciarReservaServicio implements IniciarReservaCasoUso {
             variables.put("origen", dto.getOrigen());
         }
 
-        ProcessInstanceEvent instance = camundaClient
+        return camundaClient
                 .newCreateInstanceCommand()
                 .bpmnProcessId("proceso-principal")
                 .latestVersion()
                 .variables(variables)
                 .send()
-                .join();
+                .toCompletableFuture()
+                .thenApply(this::aRespuesta);
+    }
 
+    private IniciarReservaRespuestaDTO aRespuesta(ProcessInstanceEvent instance) {
         log.info("Proceso iniciado con key: {}", instance.getProcessInstanceKey());
 
         return IniciarReservaRespuestaDTO.builder()
@@ -0,0 +1,325 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ItinerarioViajeDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarItinerarioCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ProyectarItinerarioCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ItinerarioViajePuerto;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.TramosReservaPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ItinerarioViaje;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servicio de aplicación que mantiene y consulta la proyección de itinerarios
+ * de viaje: una fila por reserva de viaje con sus tramos de vuelo, hotel y coche.
+ *
+ * <p>Los tramos se proyectan desde los eventos de reserva creada y cancelada,
+ * cada uno en su propia transacción. Los tramos de un mismo viaje llegan en
+ * paralelo desde workers distintos: si dos crean a la vez el itinerario, el
+ * perdedor recibe una violación de clave y reintenta, ya como actualización.
+ *
+ * <p>La reconstrucción vacía la proyección y reproduce las tres tablas de
+ * reservas en paralelo, por lotes de {@code tamanoLote} tramos leídos por clave,
+ * con como mucho {@code paralelismo} lotes escribiéndose a la vez. Cada lote se
+ * escribe en una transacción que antes vuelve a leer sus reservas con bloqueo:
+ * una cancelación concurrente espera al commit del lote y su evento se proyecta
+ * después, así que la reconstrucción nunca pisa un cambio más reciente.
+ *
+ * <p>Mientras dura, la reconstrucción queda marcada en base de datos a nombre
+ * de esta réplica, que renueva la marca según avanza. Antes de vaciar la
+ * proyección la réplica reclama la marca con una actualización condicional:
+ * si otra la tiene y la sigue renovando, no reconstruye. Si el servicio se
+ * detiene o la reconstrucción falla, la marca queda pendiente y
+ * {@link #reanudarReconstruccionPendiente()} la relanza desde el principio en
+ * el siguiente arranque de la primera réplica que la reclame. Una marca que
+ * nadie renueva en {@code caducidad} (la réplica murió sin liberarla) también
+ * se puede reclamar.
+ */
+@Service
+@Slf4j
+public class ItinerarioViajeServicio implements ConsultarItinerarioCasoUso, ProyectarItinerarioCasoUso {
+
+    private static final int MAX_ITINERARIOS_CLIENTE = 50;
+    private static final int MAX_INTENTOS = 3;
+
+    private final ItinerarioViajePuerto itinerarioViajePuerto;
+    private final TramosReservaPuerto tramosReservaPuerto;
+    private final TransactionTemplate transaccion;
+    private final int tamanoLote;
+    private final int paralelismo;
+    private final Duration caducidad;
+    private final String instancia = UUID.randomUUID().toString();
+
+    private final ExecutorService ejecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("itinerarios-", 0).factory());
+    private final AtomicBoolean reconstruyendo = new AtomicBoolean();
+    private final AtomicLong ultimaRenovacion = new AtomicLong();
+
+    public ItinerarioViajeServicio(ItinerarioViajePuerto itinerarioViajePuerto,
+                                   TramosReservaPuerto tramosReservaPuerto,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${reservasviaje.itinerario.reconstruccion.tamano-lote:500}") int tamanoLote,
+                                   @Value("${reservasviaje.itinerario.reconstruccion.paralelismo:4}") int paralelismo,
+                                   @Value("${reservasviaje.itinerario.reconstruccion.caducidad:PT5M}") Duration caducidad) {
+        this.itinerarioViajePuerto = itinerarioViajePuerto;
+        this.tramosReservaPuerto = tramosReservaPuerto;
+        // Los eventos se proyectan tras el commit de la reserva: siempre en una transacción nueva
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.transaccion.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tamanoLote = tamanoLote;
+        this.paralelismo = paralelismo;
+        this.caducidad = caducidad;
+    }
+
+    @Override
+    public Optional<ItinerarioViajeDTO> consultar(String reservaViajeId) {
+        log.debug("🔍 Consultando itinerario de la reserva de viaje {}", reservaViajeId);
+        return itinerarioViajePuerto.buscarPorReservaViajeId(reservaViajeId).map(this::aDTO);
+    }
+
+    @Override
+    public List<ItinerarioViajeDTO> listarPorCliente(String clienteId) {
+        log.debug("🔍 Listando itinerarios del cliente {}", clienteId);
+        return itinerarioViajePuerto.buscarPorCliente(clienteId, MAX_ITINERARIOS_CLIENTE).stream()
+                .map(this::aDTO)
+                .toList();
+    }
+
+    @Override
+    public void proyectarTramo(TramoItinerario tramo) {
+        log.debug("🗺️ Proyectando tramo {} {} en el itinerario {}",
+                tramo.tipo(), tramo.reservaId(), tramo.reservaViajeId());
+        proyectarConReintentos(List.of(tramo));
+    }
+
+    @Override
+    public void proyectarCancelacion(TipoReserva tipo, String reservaId) {
+        Integer actualizados = transaccion.execute(estado ->
+                itinerarioViajePuerto.marcarCancelado(tipo, reservaId, LocalDateTime.now()));
+
+        log.debug("🗺️ Cancelación de {} {} proyectada en {} itinerarios", tipo, reservaId, actualizados);
+    }
+
+    @Override
+    public boolean reconstruir() {
+        if (!reconstruyendo.compareAndSet(false, true)) {
+            log.warn("⚠️ Ya hay una reconstrucción de itinerarios en curso");
+            return false;
+        }
+
+        boolean reclamada = false;
+        try {
+            reclamada = reclamarMarca();
+        } finally {
+            if (!reclamada) {
+                reconstruyendo.set(false);
+            }
+        }
+        if (!reclamada) {
+            log.warn("⚠️ Otra réplica está reconstruyendo los itinerarios");
+            return false;
+        }
+
+        ejecutor.execute(() -> {
+            try {
+                ejecutarReconstruccion();
+            } finally {
+                reconstruyendo.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean reanudarReconstruccionPendiente() {
+        if (!itinerarioViajePuerto.hayReconstruccionPendiente()) {
+            return false;
+        }
+
+        log.warn("⚠️ La última reconstrucción de itinerarios no terminó: se intenta relanzar");
+        return reconstruir();
+    }
+
+    @PreDestroy
+    public void detener() {
+        // Una reconstrucción interrumpida deja la proyección incompleta; su marca pendiente la relanza al arrancar
+        ejecutor.shutdownNow();
+        if (reconstruyendo.get()) {
+            liberarMarca();
+        }
+    }
+
+    /**
+     * Reclama la marca de reconstrucción para esta réplica.
+     *
+     * @return false si otra réplica la tiene
+     */
+    private boolean reclamarMarca() {
+        LocalDateTime ahora = LocalDateTime.now();
+        try {
+            Boolean reclamada = transaccion.execute(estado -> itinerarioViajePuerto.reclamarReconstruccion(
+                    instancia, ahora, ahora.minus(caducidad)));
+            ultimaRenovacion.set(System.nanoTime());
+            return Boolean.TRUE.equals(reclamada);
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renueva la marca como mucho cada tercio de {@code caducidad}.
+     *
+     * @throws IllegalStateException si otra réplica ha reclamado la marca
+     */
+    private void renovarMarca() {
+        long ahora = System.nanoTime();
+        long ultima = ultimaRenovacion.get();
+        if (ahora - ultima < caducidad.toNanos() / 3 || !ultimaRenovacion.compareAndSet(ultima, ahora)) {
+            return;
+        }
+
+        Boolean renovada = transaccion.execute(estado ->
+                itinerarioViajePuerto.renovarReconstruccion(instancia, LocalDateTime.now()));
+        if (!Boolean.TRUE.equals(renovada)) {
+            throw new IllegalStateException("Otra réplica ha reclamado la reconstrucción de itinerarios");
+        }
+    }
+
+    private void liberarMarca() {
+        try {
+            transaccion.executeWithoutResult(estado -> itinerarioViajePuerto.liberarReconstruccion(instancia));
+        } catch (Exception e) {
+            log.error("❌ Error al liberar la marca de reconstrucción de itinerarios: {}", e.getMessage(), e);
+        }
+    }
+
+    private void ejecutarReconstruccion() {
+        long inicio = System.nanoTime();
+        log.info("🔄 Reconstruyendo itinerarios (lotes de {}, paralelismo {})", tamanoLote, paralelismo);
+
+        try {
+            transaccion.executeWithoutResult(estado -> itinerarioViajePuerto.vaciar());
+
+            Semaphore permisos = new Semaphore(paralelismo);
+            List<CompletableFuture<Long>> lectores = Arrays.stream(TipoReserva.values())
+                    .map(tipo -> CompletableFuture.supplyAsync(() -> reproducir(tipo, permisos), ejecutor))
+                    .toList();
+            long tramos = lectores.stream().mapToLong(CompletableFuture::join).sum();
+
+            transaccion.executeWithoutResult(estado -> itinerarioViajePuerto.marcarReconstruccionTerminada(instancia));
+
+            log.info("✅ Itinerarios reconstruidos: {} tramos en {} ms",
+                    tramos, Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+
+        } catch (Exception e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            log.error("❌ Error al reconstruir itinerarios (se relanzará en el próximo arranque): {}",
+                    causa.getMessage(), causa);
+            liberarMarca();
+        }
+    }
+
+    /**
+     * Recorre por clave las reservas de un tipo y proyecta cada lote en paralelo,
+     * releyendo sus reservas con bloqueo en la transacción que lo escribe.
+     */
+    private long reproducir(TipoReserva tipo, Semaphore permisos) {
+        List<CompletableFuture<Void>> escrituras = new ArrayList<>();
+        String despuesDe = "";
+        long leidos = 0;
+
+        List<TramoItinerario> lote;
+        do {
+            renovarMarca();
+            lote = tramosReservaPuerto.buscarTramos(tipo, despuesDe, tamanoLote);
+            if (lote.isEmpty()) {
+                break;
+            }
+            despuesDe = lote.getLast().reservaId();
+            leidos += lote.size();
+
+            List<String> reservaIds = lote.stream().map(TramoItinerario::reservaId).toList();
+            permisos.acquireUninterruptibly();
+            escrituras.add(CompletableFuture.runAsync(() -> {
+                try {
+                    escribirConReintentos(() -> itinerarioViajePuerto.proyectarTramos(
+                            tramosReservaPuerto.bloquearTramos(tipo, reservaIds)));
+                } finally {
+                    permisos.release();
+                }
+            }, ejecutor));
+            escrituras.removeIf(CompletableFuture::isDone);
+        } while (lote.size() == tamanoLote);
+
+        CompletableFuture.allOf(escrituras.toArray(CompletableFuture[]::new)).join();
+
+        log.info("📊 Reservas de {} reproducidas: {} tramos", tipo, leidos);
+        return leidos;
+    }
+
+    private void proyectarConReintentos(List<TramoItinerario> tramos) {
+        escribirConReintentos(() -> itinerarioViajePuerto.proyectarTramos(tramos));
+    }
+
+    private void escribirConReintentos(Runnable escritura) {
+        for (int intento = 1; ; intento++) {
+            try {
+                transaccion.executeWithoutResult(estado -> escritura.run());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (intento >= MAX_INTENTOS) {
+                    throw e;
+                }
+                log.debug("🔁 Itinerario creado en paralelo, reintentando ({}/{})", intento, MAX_INTENTOS);
+            }
+        }
+    }
+
+    private ItinerarioViajeDTO aDTO(ItinerarioViaje itinerario) {
+        return new ItinerarioViajeDTO(
+                itinerario.reservaViajeId(),
+                itinerario.clienteId(),
+                aDTO(itinerario.vuelo()),
+                aDTO(itinerario.hotel()),
+                aDTO(itinerario.coche()),
+                itinerario.fechaModificacion()
+        );
+    }
+
+    private ItinerarioViajeDTO.TramoDTO aDTO(TramoItinerario tramo) {
+        if (tramo == null) {
+            return null;
+        }
+        return new ItinerarioViajeDTO.TramoDTO(
+                tramo.reservaId(),
+                tramo.descripcion(),
+                tramo.fechaInicio(),
+                tramo.fechaFin(),
+                tramo.precio(),
+                tramo.codigoMoneda(),
+                tramo.estado().name()
+        );
+    }
+}
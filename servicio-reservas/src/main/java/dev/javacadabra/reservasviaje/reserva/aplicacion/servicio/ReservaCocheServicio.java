@@ -8,10 +8,12 @@ import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EventoPubl
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservaCochePuerto;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaCocheCanceladaEvento;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaCocheCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.CancelacionNoPermitidaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.ReservaNoEncontradaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.ReservaCoche;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.entidad.DetalleReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.DatosCoche;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.PrecioReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaId;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Currency;
 
 /**
@@ -59,7 +62,8 @@ public class ReservaCocheServicio implements ReservarCocheCasoUso, CancelarCoche
         DetalleReserva detalleReserva = new DetalleReserva(
                 dto.clienteId(),
                 dto.observaciones(),
-                dto.codigoConfirmacion()
+                dto.codigoConfirmacion(),
+                dto.reservaViajeId()
         );
 
         // 4. Crear agregado de dominio
@@ -83,7 +87,9 @@ public class ReservaCocheServicio implements ReservarCocheCasoUso, CancelarCoche
                 dto.modeloCoche(),
                 dto.fechaRecogida(),
                 dto.fechaDevolucion(),
-                precio.getMonto()
+                precio.getMonto(),
+                precio.getCodigoMoneda(),
+                dto.reservaViajeId()
         );
         eventoPublicador.publicar(evento);
 
@@ -97,22 +103,35 @@ public class ReservaCocheServicio implements ReservarCocheCasoUso, CancelarCoche
     public void ejecutar(String reservaId, String motivo) {
         log.info("🛑 Iniciando cancelación de reserva de coche: {}", reservaId);
 
-        // 1. Buscar reserva
-        ReservaCoche reserva = reservaCochePuerto.buscarPorId(ReservaId.de(reservaId))
-                .orElseThrow(() -> ReservaNoEncontradaException.conId(ReservaId.de(reservaId)));
-
-        // 2. Cancelar en el dominio (valida reglas de negocio)
-        reserva.cancelar(motivo);
+        ReservaId id = ReservaId.de(reservaId);
+
+        // 1. Cancelar con un UPDATE condicionado a las reglas del dominio,
+        //    sin cargar el agregado
+        int filas = reservaCochePuerto.cancelarSiPermitido(id, motivo, LocalDateTime.now());
+
+        // 2. Sin filas afectadas: distinguir reserva inexistente de cancelación no permitida
+        if (filas == 0) {
+            EstadoReserva estado = reservaCochePuerto.buscarEstado(id)
+                    .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
+            if (estado == EstadoReserva.CANCELADA) {
+                // Compensación repetida o reserva ya cancelada en bloque: no hay nada que hacer
+                log.info("⏭️ Reserva de coche ya cancelada, no se vuelve a cancelar: {}", reservaId);
+                return;
+            }
+            if (!estado.permiteCancelacion()) {
+                throw CancelacionNoPermitidaException.porEstado(id, estado);
+            }
+            throw new IllegalStateException("La reserva ya tiene un motivo de cancelación registrado");
+        }
 
         log.info("✅ Reserva de coche cancelada: {}", reservaId);
 
-        // 3. Persistir cambios
-        reservaCochePuerto.guardar(reserva);
-
-        // 4. Publicar evento
+        // 3. Publicar evento
+        String clienteId = reservaCochePuerto.buscarClienteId(id)
+                .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
         ReservaCocheCanceladaEvento evento = new ReservaCocheCanceladaEvento(
                 reservaId,
-                reserva.getDetalleReserva().getClienteId(),
+                clienteId,
                 motivo
         );
         eventoPublicador.publicar(evento);
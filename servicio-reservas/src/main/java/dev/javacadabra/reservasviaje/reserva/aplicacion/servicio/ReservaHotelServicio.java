@@ -8,10 +8,12 @@ import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EventoPubl
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservaHotelPuerto;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaHotelCanceladaEvento;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaHotelCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.CancelacionNoPermitidaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.ReservaNoEncontradaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.ReservaHotel;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.entidad.DetalleReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.DatosHotel;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.PrecioReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaId;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Currency;
 
 /**
@@ -60,7 +63,8 @@ public class ReservaHotelServicio implements ReservarHotelCasoUso, CancelarHotel
         DetalleReserva detalleReserva = new DetalleReserva(
                 dto.clienteId(),
                 dto.observaciones(),
-                dto.codigoConfirmacion()
+                dto.codigoConfirmacion(),
+                dto.reservaViajeId()
         );
 
         // 4. Crear agregado de dominio
@@ -84,7 +88,9 @@ public class ReservaHotelServicio implements ReservarHotelCasoUso, CancelarHotel
                 dto.nombreHotel(),
                 dto.fechaEntrada(),
                 dto.fechaSalida(),
-                precio.getMonto()
+                precio.getMonto(),
+                precio.getCodigoMoneda(),
+                dto.reservaViajeId()
         );
         eventoPublicador.publicar(evento);
 
@@ -98,22 +104,35 @@ public class ReservaHotelServicio implements ReservarHotelCasoUso, CancelarHotel
     public void ejecutar(String reservaId, String motivo) {
         log.info("🛑 Iniciando cancelación de reserva de hotel: {}", reservaId);
 
-        // 1. Buscar reserva
-        ReservaHotel reserva = reservaHotelPuerto.buscarPorId(ReservaId.de(reservaId))
-                .orElseThrow(() -> ReservaNoEncontradaException.conId(ReservaId.de(reservaId)));
-
-        // 2. Cancelar en el dominio (valida reglas de negocio)
-        reserva.cancelar(motivo);
+        ReservaId id = ReservaId.de(reservaId);
+
+        // 1. Cancelar con un UPDATE condicionado a las reglas del dominio,
+        //    sin cargar el agregado
+        int filas = reservaHotelPuerto.cancelarSiPermitido(id, motivo, LocalDateTime.now());
+
+        // 2. Sin filas afectadas: distinguir reserva inexistente de cancelación no permitida
+        if (filas == 0) {
+            EstadoReserva estado = reservaHotelPuerto.buscarEstado(id)
+                    .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
+            if (estado == EstadoReserva.CANCELADA) {
+                // Compensación repetida o reserva ya cancelada en bloque: no hay nada que hacer
+                log.info("⏭️ Reserva de hotel ya cancelada, no se vuelve a cancelar: {}", reservaId);
+                return;
+            }
+            if (!estado.permiteCancelacion()) {
+                throw CancelacionNoPermitidaException.porEstado(id, estado);
+            }
+            throw new IllegalStateException("La reserva ya tiene un motivo de cancelación registrado");
+        }
 
         log.info("✅ Reserva de hotel cancelada: {}", reservaId);
 
-        // 3. Persistir cambios
-        reservaHotelPuerto.guardar(reserva);
-
-        // 4. Publicar evento
+        // 3. Publicar evento
+        String clienteId = reservaHotelPuerto.buscarClienteId(id)
+                .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
         ReservaHotelCanceladaEvento evento = new ReservaHotelCanceladaEvento(
                 reservaId,
-                reserva.getDetalleReserva().getClienteId(),
+                clienteId,
                 motivo
         );
         eventoPublicador.publicar(evento);
@@ -8,6 +8,7 @@ import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EventoPubl
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservaVueloPuerto;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaVueloCanceladaEvento;
 import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaVueloCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.CancelacionNoPermitidaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.excepcion.ReservaNoEncontradaException;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.ReservaVuelo;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.entidad.DetalleReserva;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Currency;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -73,7 +75,8 @@ public class ReservaVueloServicio implements ReservarVueloCasoUso, CancelarVuelo
         DetalleReserva detalleReserva = new DetalleReserva(
                 dto.clienteId(),
                 dto.observaciones(),
-                dto.codigoConfirmacion()
+                dto.codigoConfirmacion(),
+                dto.reservaViajeId()
         );
 
         // 5. Crear agregado de dominio
@@ -97,7 +100,10 @@ public class ReservaVueloServicio implements ReservarVueloCasoUso, CancelarVuelo
                 dto.clienteId(),
                 dto.numeroVuelo(),
                 dto.fechaSalida(),
-                precio.getMonto()
+                dto.fechaLlegada(),
+                precio.getMonto(),
+                precio.getCodigoMoneda(),
+                dto.reservaViajeId()
         );
         eventoPublicador.publicar(evento);
 
@@ -111,22 +117,35 @@ public class ReservaVueloServicio implements ReservarVueloCasoUso, CancelarVuelo
     public void ejecutar(String reservaId, String motivo) {
         log.info("🛑 Iniciando cancelación de reserva de vuelo: {}", reservaId);
 
-        // 1. Buscar reserva
-        ReservaVuelo reserva = reservaVueloPuerto.buscarPorId(ReservaId.de(reservaId))
-                .orElseThrow(() -> ReservaNoEncontradaException.conId(ReservaId.de(reservaId)));
-
-        // 2. Cancelar en el dominio (valida reglas de negocio)
-        reserva.cancelar(motivo);
+        ReservaId id = ReservaId.de(reservaId);
+
+        // 1. Cancelar con un UPDATE condicionado a las reglas del dominio,
+        //    sin cargar el agregado ni sus pasajeros
+        int filas = reservaVueloPuerto.cancelarSiPermitido(id, motivo, LocalDateTime.now());
+
+        // 2. Sin filas afectadas: distinguir reserva inexistente de cancelación no permitida
+        if (filas == 0) {
+            EstadoReserva estado = reservaVueloPuerto.buscarEstado(id)
+                    .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
+            if (estado == EstadoReserva.CANCELADA) {
+                // Compensación repetida o reserva ya cancelada en bloque: no hay nada que hacer
+                log.info("⏭️ Reserva de vuelo ya cancelada, no se vuelve a cancelar: {}", reservaId);
+                return;
+            }
+            if (!estado.permiteCancelacion()) {
+                throw CancelacionNoPermitidaException.porEstado(id, estado);
+            }
+            throw new IllegalStateException("La reserva ya tiene un motivo de cancelación registrado");
+        }
 
         log.info("✅ Reserva de vuelo cancelada: {}", reservaId);
 
-        // 3. Persistir cambios
-        reservaVueloPuerto.guardar(reserva);
-
-        // 4. Publicar evento
+        // 3. Publicar evento
+        String clienteId = reservaVueloPuerto.buscarClienteId(id)
+                .orElseThrow(() -> ReservaNoEncontradaException.conId(id));
         ReservaVueloCanceladaEvento evento = new ReservaVueloCanceladaEvento(
                 reservaId,
-                reserva.getDetalleReserva().getClienteId(),
+                clienteId,
                 motivo
         );
         eventoPublicador.publicar(evento);
@@ -19,6 +19,8 @@ public class ReservaCocheCreadaEvento {
     private final LocalDateTime fechaRecogida;
     private final LocalDateTime fechaDevolucion;
     private final BigDecimal precio;
+    private final String codigoMoneda;
+    private final String reservaViajeId;
     private final LocalDateTime fechaEvento;
 
     public ReservaCocheCreadaEvento(
@@ -27,7 +29,9 @@ public class ReservaCocheCreadaEvento {
             String modeloCoche,
             LocalDateTime fechaRecogida,
             LocalDateTime fechaDevolucion,
-            BigDecimal precio) {
+            BigDecimal precio,
+            String codigoMoneda,
+            String reservaViajeId) {
 
         this.reservaId = reservaId;
         this.clienteId = clienteId;
@@ -35,6 +39,8 @@ public class ReservaCocheCreadaEvento {
         this.fechaRecogida = fechaRecogida;
         this.fechaDevolucion = fechaDevolucion;
         this.precio = precio;
+        this.codigoMoneda = codigoMoneda;
+        this.reservaViajeId = reservaViajeId;
         this.fechaEvento = LocalDateTime.now();
     }
 }
@@ -20,6 +20,8 @@ public class ReservaHotelCreadaEvento {
     private final LocalDate fechaEntrada;
     private final LocalDate fechaSalida;
     private final BigDecimal precio;
+    private final String codigoMoneda;
+    private final String reservaViajeId;
     private final LocalDateTime fechaEvento;
 
     public ReservaHotelCreadaEvento(
@@ -28,7 +30,9 @@ public class ReservaHotelCreadaEvento {
             String nombreHotel,
             LocalDate fechaEntrada,
             LocalDate fechaSalida,
-            BigDecimal precio) {
+            BigDecimal precio,
+            String codigoMoneda,
+            String reservaViajeId) {
 
         this.reservaId = reservaId;
         this.clienteId = clienteId;
@@ -36,6 +40,8 @@ public class ReservaHotelCreadaEvento {
         this.fechaEntrada = fechaEntrada;
         this.fechaSalida = fechaSalida;
         this.precio = precio;
+        this.codigoMoneda = codigoMoneda;
+        this.reservaViajeId = reservaViajeId;
         this.fechaEvento = LocalDateTime.now();
     }
 }
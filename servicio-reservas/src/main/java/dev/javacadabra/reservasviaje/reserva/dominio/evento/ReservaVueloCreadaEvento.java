@@ -17,7 +17,10 @@ public class ReservaVueloCreadaEvento {
     private final String clienteId;
     private final String numeroVuelo;
     private final LocalDateTime fechaSalida;
+    private final LocalDateTime fechaLlegada;
     private final BigDecimal precio;
+    private final String codigoMoneda;
+    private final String reservaViajeId;
     private final LocalDateTime fechaEvento;
 
     public ReservaVueloCreadaEvento(
@@ -25,13 +28,19 @@ public class ReservaVueloCreadaEvento {
             String clienteId,
             String numeroVuelo,
             LocalDateTime fechaSalida,
-            BigDecimal precio) {
+            LocalDateTime fechaLlegada,
+            BigDecimal precio,
+            String codigoMoneda,
+            String reservaViajeId) {
 
         this.reservaId = reservaId;
         this.clienteId = clienteId;
         this.numeroVuelo = numeroVuelo;
         this.fechaSalida = fechaSalida;
+        this.fechaLlegada = fechaLlegada;
         this.precio = precio;
+        this.codigoMoneda = codigoMoneda;
+        this.reservaViajeId = reservaViajeId;
         this.fechaEvento = LocalDateTime.now();
     }
 }
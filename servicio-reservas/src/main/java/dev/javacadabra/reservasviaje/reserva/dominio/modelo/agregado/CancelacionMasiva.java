@@ -0,0 +1,139 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jmolecules.ddd.annotation.AggregateRoot;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Agregado raíz que representa una cancelación masiva de reservas y su progreso.
+ *
+ * <p>El cursor {@code ultimaReservaId} solo avanza cuando todos los lotes hasta
+ * esa reserva se han confirmado, de modo que una cancelación interrumpida se
+ * puede reanudar desde él sin saltarse reservas.
+ */
+@AggregateRoot
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CancelacionMasiva {
+
+    private final String id;
+    private final CriterioCancelacionMasiva criterio;
+    private final String motivo;
+    private EstadoCancelacionMasiva estado;
+    private String ultimaReservaId;
+    private long reservasCanceladas;
+    private long procesosCompensados;
+    private long lotesProcesados;
+    private String error;
+    private final LocalDateTime fechaInicio;
+    private LocalDateTime fechaModificacion;
+    private LocalDateTime fechaFin;
+
+    /**
+     * Crea una nueva cancelación masiva en curso.
+     */
+    public static CancelacionMasiva crear(CriterioCancelacionMasiva criterio, String motivo) {
+        if (criterio == null) {
+            throw new IllegalArgumentException("El criterio de cancelación es obligatorio");
+        }
+        if (motivo == null || motivo.isBlank()) {
+            throw new IllegalArgumentException("El motivo de cancelación es obligatorio");
+        }
+
+        return new CancelacionMasiva(
+                UUID.randomUUID().toString(),
+                criterio,
+                motivo,
+                EstadoCancelacionMasiva.EN_CURSO,
+                null,
+                0,
+                0,
+                0,
+                null,
+                LocalDateTime.now(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * Reconstruye una cancelación masiva desde persistencia.
+     */
+    public static CancelacionMasiva reconstruir(
+            String id,
+            CriterioCancelacionMasiva criterio,
+            String motivo,
+            EstadoCancelacionMasiva estado,
+            String ultimaReservaId,
+            long reservasCanceladas,
+            long procesosCompensados,
+            long lotesProcesados,
+            String error,
+            LocalDateTime fechaInicio,
+            LocalDateTime fechaModificacion,
+            LocalDateTime fechaFin) {
+
+        return new CancelacionMasiva(id, criterio, motivo, estado, ultimaReservaId, reservasCanceladas,
+                procesosCompensados, lotesProcesados, error, fechaInicio, fechaModificacion, fechaFin);
+    }
+
+    /**
+     * Registra una oleada de lotes confirmada y avanza el cursor.
+     *
+     * @param ultimaReservaId última reserva de la oleada (en orden de recorrido)
+     * @param canceladas reservas canceladas en la oleada
+     * @param compensados procesos a los que se pidió compensación
+     * @param lotes lotes procesados en la oleada
+     */
+    public void registrarOleada(String ultimaReservaId, int canceladas, int compensados, int lotes) {
+        this.ultimaReservaId = ultimaReservaId;
+        this.reservasCanceladas += canceladas;
+        this.procesosCompensados += compensados;
+        this.lotesProcesados += lotes;
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
+    /**
+     * Marca la cancelación como completada.
+     */
+    public void completar() {
+        this.estado = EstadoCancelacionMasiva.COMPLETADA;
+        this.error = null;
+        this.fechaModificacion = LocalDateTime.now();
+        this.fechaFin = this.fechaModificacion;
+    }
+
+    /**
+     * Marca la cancelación como fallida; se puede reanudar desde el cursor.
+     */
+    public void fallar(String error) {
+        this.estado = EstadoCancelacionMasiva.FALLIDA;
+        this.error = error;
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
+    /**
+     * Vuelve a poner en curso una cancelación interrumpida o fallida.
+     *
+     * @throws IllegalStateException si ya estaba completada
+     */
+    public void reanudar() {
+        if (estado == EstadoCancelacionMasiva.COMPLETADA) {
+            throw new IllegalStateException("La cancelación masiva " + id + " ya está completada");
+        }
+        this.estado = EstadoCancelacionMasiva.EN_CURSO;
+        this.error = null;
+        this.fechaModificacion = LocalDateTime.now();
+    }
+
+    public enum EstadoCancelacionMasiva {
+        EN_CURSO,
+        COMPLETADA,
+        FALLIDA
+    }
+}
@@ -21,6 +21,11 @@ public class DetalleReserva {
     private final String clienteId;
     private final String observaciones;
     private final String codigoConfirmacion;
+    /**
+     * ID de la reserva de viaje (variable {@code reservaId} del proceso principal)
+     * que originó esta reserva; nulo en reservas anteriores.
+     */
+    private final String reservaViajeId;
     private final LocalDateTime fechaCreacion;
     private LocalDateTime fechaModificacion;
     private String motivoCancelacion;
@@ -33,10 +38,23 @@ public class DetalleReserva {
             String observaciones,
             String codigoConfirmacion) {
 
+        this(clienteId, observaciones, codigoConfirmacion, null);
+    }
+
+    /**
+     * Constructor sin ID para nuevos detalles vinculados a una reserva de viaje.
+     */
+    public DetalleReserva(
+            String clienteId,
+            String observaciones,
+            String codigoConfirmacion,
+            String reservaViajeId) {
+
         this.id = null;
         this.clienteId = clienteId;
         this.observaciones = observaciones;
         this.codigoConfirmacion = codigoConfirmacion;
+        this.reservaViajeId = reservaViajeId;
         this.fechaCreacion = LocalDateTime.now();
         this.fechaModificacion = null;
         this.motivoCancelacion = null;
@@ -0,0 +1,68 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.time.LocalDate;
+
+/**
+ * Value Object con el criterio que selecciona las reservas afectadas por una
+ * incidencia: un vuelo cancelado por la aerolínea en una fecha de salida o un
+ * hotel cerrado en una fecha (reservas cuya estancia incluye esa noche).
+ *
+ * @param tipo tipo de reserva afectada
+ * @param numeroVuelo número de vuelo (solo VUELO)
+ * @param nombreHotel nombre del hotel (solo HOTEL)
+ * @param ciudad ciudad del hotel (solo HOTEL)
+ * @param fecha fecha de salida del vuelo o noche de cierre del hotel
+ */
+@ValueObject
+public record CriterioCancelacionMasiva(
+        TipoReservaAfectada tipo,
+        String numeroVuelo,
+        String nombreHotel,
+        String ciudad,
+        LocalDate fecha
+) {
+
+    public CriterioCancelacionMasiva {
+        if (tipo == null) {
+            throw new IllegalArgumentException("El tipo de reserva afectada es obligatorio");
+        }
+        if (fecha == null) {
+            throw new IllegalArgumentException("La fecha de la incidencia es obligatoria");
+        }
+        if (tipo == TipoReservaAfectada.VUELO && (numeroVuelo == null || numeroVuelo.isBlank())) {
+            throw new IllegalArgumentException("El número de vuelo es obligatorio");
+        }
+        if (tipo == TipoReservaAfectada.HOTEL
+            && (nombreHotel == null || nombreHotel.isBlank() || ciudad == null || ciudad.isBlank())) {
+            throw new IllegalArgumentException("El nombre y la ciudad del hotel son obligatorios");
+        }
+    }
+
+    public static CriterioCancelacionMasiva porVuelo(String numeroVuelo, LocalDate fechaSalida) {
+        return new CriterioCancelacionMasiva(TipoReservaAfectada.VUELO, numeroVuelo, null, null, fechaSalida);
+    }
+
+    public static CriterioCancelacionMasiva porHotel(String nombreHotel, String ciudad, LocalDate fecha) {
+        return new CriterioCancelacionMasiva(TipoReservaAfectada.HOTEL, null, nombreHotel, ciudad, fecha);
+    }
+
+    /**
+     * Descripción legible del criterio, para logs y respuestas.
+     */
+    public String descripcion() {
+        return switch (tipo) {
+            case VUELO -> "Vuelo " + numeroVuelo + " del " + fecha;
+            case HOTEL -> "Hotel " + nombreHotel + " (" + ciudad + ") el " + fecha;
+        };
+    }
+
+    /**
+     * Tipos de reserva que admiten cancelación masiva.
+     */
+    public enum TipoReservaAfectada {
+        VUELO,
+        HOTEL
+    }
+}
@@ -0,0 +1,68 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Posición dentro de un listado de reservas ordenado por (clave de orden, ID).
+ *
+ * <p>La clave de orden es la fecha de creación en los listados por cliente y por
+ * estado, y la fecha de inicio (salida, entrada o recogida) en los listados por
+ * rango de fechas. La página siguiente empieza en la primera reserva
+ * estrictamente posterior (paginación por clave, sin OFFSET). Se expone a los
+ * clientes de la API como un token opaco en Base64 URL-safe.
+ *
+ * @param clave clave de orden de la última reserva devuelta
+ * @param reservaId ID de la última reserva devuelta
+ */
+@ValueObject
+public record CursorReserva(
+        LocalDateTime clave,
+        String reservaId
+) {
+
+    private static final String SEPARADOR = "|";
+
+    public CursorReserva {
+        Objects.requireNonNull(clave, "La clave del cursor no puede ser nula");
+        Objects.requireNonNull(reservaId, "El ID de reserva del cursor no puede ser nulo");
+    }
+
+    /**
+     * Codifica el cursor como token opaco.
+     *
+     * @return token Base64 URL-safe
+     */
+    public String codificar() {
+        String valor = clave + SEPARADOR + reservaId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstruye un cursor a partir de su token.
+     *
+     * @param token token generado por {@link #codificar()}
+     * @return cursor decodificado
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorReserva decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor de paginación no válido");
+            }
+            return new CursorReserva(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    valor.substring(separador + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginación no válido", e);
+        }
+    }
+}
@@ -3,6 +3,12 @@ package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
 import lombok.Getter;
 import org.jmolecules.ddd.annotation.ValueObject;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Value Object que representa los posibles estados de una reserva.
  * Sigue el ciclo de vida definido en el proceso BPMN.
@@ -42,6 +48,11 @@ public enum EstadoReserva {
     CONFIRMADA_CON_ADVERTENCIA("Confirmada con Advertencia",
             "La reserva está confirmada pero requiere atención");
 
+    private static final Set<EstadoReserva> CANCELABLES = Collections.unmodifiableSet(
+            Arrays.stream(values())
+                    .filter(EstadoReserva::permiteCancelacion)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(EstadoReserva.class))));
+
     private final String nombre;
     private final String descripcion;
 
@@ -59,6 +70,18 @@ public enum EstadoReserva {
         return this == PENDIENTE || this == EN_PROCESO || this == CONFIRMADA;
     }
 
+    /**
+     * Estados que permiten cancelación, derivados de {@link #permiteCancelacion()}.
+     *
+     * <p>Permite aplicar la misma regla como condición de un UPDATE sin
+     * cargar el agregado.
+     *
+     * @return conjunto inmutable de estados cancelables
+     */
+    public static Set<EstadoReserva> cancelables() {
+        return CANCELABLES;
+    }
+
     /**
      * Verifica si el estado es terminal (no permite más cambios).
      *
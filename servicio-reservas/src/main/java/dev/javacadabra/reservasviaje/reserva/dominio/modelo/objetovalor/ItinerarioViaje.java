@@ -0,0 +1,28 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vista desnormalizada de una reserva de viaje con sus tramos de vuelo, hotel
+ * y coche. Es un modelo de lectura: se proyecta a partir de los eventos de
+ * reserva y no participa en las reglas de negocio.
+ *
+ * @param reservaViajeId ID de la reserva de viaje
+ * @param clienteId ID del cliente
+ * @param vuelo tramo de vuelo (nulo si aún no existe)
+ * @param hotel tramo de hotel (nulo si aún no existe)
+ * @param coche tramo de coche (nulo si aún no existe)
+ * @param fechaModificacion última actualización de la proyección
+ */
+@ValueObject
+public record ItinerarioViaje(
+        String reservaViajeId,
+        String clienteId,
+        TramoItinerario vuelo,
+        TramoItinerario hotel,
+        TramoItinerario coche,
+        LocalDateTime fechaModificacion
+) {
+}
@@ -0,0 +1,23 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import java.util.List;
+
+/**
+ * Página de reservas obtenida por paginación por clave.
+ *
+ * @param reservas reservas de la página, en el orden del listado
+ * @param siguiente cursor para pedir la página siguiente (nulo si es la última)
+ */
+public record PaginaReservas(
+        List<ResumenReserva> reservas,
+        CursorReserva siguiente
+) {
+
+    public PaginaReservas {
+        reservas = List.copyOf(reservas);
+    }
+
+    public boolean hayMas() {
+        return siguiente != null;
+    }
+}
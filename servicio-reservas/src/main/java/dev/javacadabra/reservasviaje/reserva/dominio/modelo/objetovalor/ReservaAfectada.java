@@ -0,0 +1,20 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+/**
+ * Value Object con los datos mínimos de una reserva afectada por una
+ * cancelación masiva: lo necesario para cancelarla, publicar su evento y
+ * compensar el proceso que la creó.
+ *
+ * @param reservaId ID de la reserva de vuelo u hotel
+ * @param clienteId ID del cliente
+ * @param reservaViajeId ID de la reserva de viaje del proceso principal (nulo en reservas anteriores)
+ */
+@ValueObject
+public record ReservaAfectada(
+        String reservaId,
+        String clienteId,
+        String reservaViajeId
+) {
+}
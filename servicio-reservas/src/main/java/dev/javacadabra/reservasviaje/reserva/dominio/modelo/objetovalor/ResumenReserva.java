@@ -0,0 +1,36 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Value Object con la vista resumida de una reserva de vuelo, hotel o coche
+ * para los listados de consulta.
+ *
+ * @param tipo tipo de reserva
+ * @param reservaId ID de la reserva
+ * @param clienteId ID del cliente
+ * @param estado estado de la reserva
+ * @param descripcion vuelo y trayecto, hotel y ciudad, o coche y empresa
+ * @param fechaInicio salida, entrada o recogida
+ * @param fechaFin llegada, salida o devolución
+ * @param precio precio de la reserva
+ * @param codigoMoneda código ISO de la moneda
+ * @param fechaCreacion fecha de creación de la reserva
+ */
+@ValueObject
+public record ResumenReserva(
+        TipoReserva tipo,
+        String reservaId,
+        String clienteId,
+        EstadoReserva estado,
+        String descripcion,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaFin,
+        BigDecimal precio,
+        String codigoMoneda,
+        LocalDateTime fechaCreacion
+) {
+}
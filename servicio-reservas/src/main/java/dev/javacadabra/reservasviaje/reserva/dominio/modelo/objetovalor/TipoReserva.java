@@ -0,0 +1,16 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+/**
+ * Value Object con los tipos de reserva que gestiona el servicio.
+ */
+@ValueObject
+public enum TipoReserva {
+
+    VUELO,
+
+    HOTEL,
+
+    COCHE
+}
@@ -0,0 +1,44 @@
+package dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor;
+
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value Object con un tramo (vuelo, hotel o coche) del itinerario de una
+ * reserva de viaje.
+ *
+ * @param reservaViajeId ID de la reserva de viaje a la que pertenece el tramo
+ * @param clienteId ID del cliente
+ * @param tipo tipo de reserva del tramo
+ * @param reservaId ID de la reserva de vuelo, hotel o coche
+ * @param descripcion número de vuelo, nombre del hotel o modelo de coche
+ * @param fechaInicio salida, entrada o recogida
+ * @param fechaFin llegada, salida o devolución
+ * @param precio precio del tramo
+ * @param codigoMoneda código ISO de la moneda
+ * @param estado estado de la reserva del tramo
+ */
+@ValueObject
+public record TramoItinerario(
+        String reservaViajeId,
+        String clienteId,
+        TipoReserva tipo,
+        String reservaId,
+        String descripcion,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaFin,
+        BigDecimal precio,
+        String codigoMoneda,
+        EstadoReserva estado
+) {
+
+    public TramoItinerario {
+        Objects.requireNonNull(reservaViajeId, "El ID de la reserva de viaje no puede ser nulo");
+        Objects.requireNonNull(tipo, "El tipo de tramo no puede ser nulo");
+        Objects.requireNonNull(reservaId, "El ID de la reserva del tramo no puede ser nulo");
+        Objects.requireNonNull(estado, "El estado del tramo no puede ser nulo");
+    }
+}
@@ -53,7 +53,10 @@ public class CancelarCocheWorker {
      * @param job Job activado de Zeebe con las variables del proceso
      * @return Mapa con las variables de salida para el proceso
      */
-    @JobWorker(type = "cancelar-coche", autoComplete = true)
+    @JobWorker(type = "cancelar-coche", autoComplete = false, fetchVariables = {
+            "reservaCocheId", "cocheReservaId", "idReservaCoche",
+            "motivoCancelacion"
+    })
     public Map<String, Object> cancelarCoche(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
 
@@ -53,7 +53,10 @@ public class CancelarHotelWorker {
      * @param job Job activado de Zeebe con las variables del proceso
      * @return Mapa con las variables de salida para el proceso
      */
-    @JobWorker(type = "cancelar-hotel", autoComplete = true)
+    @JobWorker(type = "cancelar-hotel", autoComplete = false, fetchVariables = {
+            "reservaHotelId", "hotelReservaId", "idReservaHotel",
+            "motivoCancelacion"
+    })
     public Map<String, Object> cancelarHotel(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
 
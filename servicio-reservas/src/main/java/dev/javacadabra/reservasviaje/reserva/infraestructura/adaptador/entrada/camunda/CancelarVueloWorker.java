@@ -53,7 +53,10 @@ public class CancelarVueloWorker {
      * @param job Job activado de Zeebe con las variables del proceso
      * @return Mapa con las variables de salida para el proceso
      */
-    @JobWorker(type = "cancelar-vuelo", autoComplete = true)
+    @JobWorker(type = "cancelar-vuelo", autoComplete = false, fetchVariables = {
+            "reservaVueloId", "vueloReservaId", "idReservaVuelo",
+            "motivoCancelacion"
+    })
     public Map<String, Object> cancelarVuelo(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
 
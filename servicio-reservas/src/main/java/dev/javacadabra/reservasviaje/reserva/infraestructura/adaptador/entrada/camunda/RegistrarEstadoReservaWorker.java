@@ -0,0 +1,76 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.RegistrarEstadoReservaCasoUso;
+import io.camunda.client.api.response.ActivatedJob;
+import io.camunda.client.annotation.JobWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Worker de Camunda que registra el final del proceso principal en
+ * {@link RegistrarEstadoReservaCasoUso}, para que el long-poll de estado y el modo
+ * síncrono de inicio respondan sin consultar Operate.
+ *
+ * <p>Se ejecuta como execution listener ({@code eventType="start"}) de cada
+ * evento de fin de {@code proceso-principal}. El estado se deduce del evento:
+ * {@code evento-fin-solicitud-completada} es COMPLETADA y cualquier otro fin es
+ * FALLIDA, con {@code motivoFallo} si el proceso lo ha fijado o, si no, el
+ * motivo asociado al evento.
+ *
+ * <p><strong>Job Type:</strong> {@code registrar-estado-reserva}
+ *
+ * <p><strong>Variables de entrada esperadas:</strong>
+ * <ul>
+ *   <li>reservaId (String): ID de negocio de la reserva</li>
+ *   <li>motivoFallo (String, opcional): motivo del fallo</li>
+ * </ul>
+ *
+ * <p>No devuelve variables: los listeners no pueden lanzar errores BPMN y un
+ * fallo aquí no debe impedir que el proceso termine.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrarEstadoReservaWorker {
+
+    private static final String FIN_COMPLETADA = "evento-fin-solicitud-completada";
+
+    private static final Map<String, String> MOTIVOS_POR_FIN = Map.of(
+            "evento-fin-datos-invalidos", "Datos de entrada inválidos",
+            "evento-fin-error-gestion-cliente", "Error en la gestión del cliente",
+            "evento-fin-error-pago", "Pago fallido",
+            "evento-fin-reserva-fallida", "Reserva fallida"
+    );
+
+    private final RegistrarEstadoReservaCasoUso registrarEstadoReservaCasoUso;
+
+    @JobWorker(type = "registrar-estado-reserva", autoComplete = false, fetchVariables = {"reservaId", "motivoFallo"})
+    public Map<String, Object> registrarEstado(ActivatedJob job) {
+        Map<String, Object> variables = job.getVariablesAsMap();
+        String eventoFin = job.getElementId();
+        String reservaId = variables.get("reservaId") != null ? variables.get("reservaId").toString() : null;
+
+        EstadoReservaDTO estado;
+        if (FIN_COMPLETADA.equals(eventoFin)) {
+            estado = new EstadoReservaDTO(job.getProcessInstanceKey(), reservaId,
+                    EstadoReservaDTO.COMPLETADA, null, null);
+        } else {
+            Object motivoFallo = variables.get("motivoFallo");
+            String motivo = motivoFallo != null
+                    ? motivoFallo.toString()
+                    : MOTIVOS_POR_FIN.getOrDefault(eventoFin, "Proceso finalizado en " + eventoFin);
+            estado = new EstadoReservaDTO(job.getProcessInstanceKey(), reservaId,
+                    EstadoReservaDTO.FALLIDA, motivo, null);
+        }
+
+        log.info("🏁 Proceso {} finalizado en {} como {}", job.getProcessInstanceKey(), eventoFin, estado.estado());
+
+        registrarEstadoReservaCasoUso.registrar(estado);
+
+        return Map.of();
+    }
+}
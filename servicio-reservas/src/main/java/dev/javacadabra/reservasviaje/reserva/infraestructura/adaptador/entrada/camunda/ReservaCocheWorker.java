@@ -3,6 +3,7 @@ package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarCocheDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ReservaCocheRespuestaDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ReservarCocheCasoUso;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec.ReservarCocheCodec;
 import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.annotation.JobWorker;
 import io.camunda.client.exception.BpmnError;
@@ -10,10 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 /**
@@ -32,6 +29,7 @@ import java.util.Map;
 public class ReservaCocheWorker {
 
     private final ReservarCocheCasoUso reservarCocheCasoUso;
+    private final ReservarCocheCodec codec;
 
     /**
      * Procesa la tarea de reservar un coche de alquiler.
@@ -66,7 +64,13 @@ public class ReservaCocheWorker {
      * @return Mapa con las variables de salida para el proceso
      * @throws BpmnError Si ocurre un error durante la reserva
      */
-    @JobWorker(type = "reservar-coche", autoComplete = true)
+    @JobIdempotente(idNegocio = "reservaCocheId")
+    @JobWorker(type = "reservar-coche", autoComplete = false, fetchVariables = {
+            "clienteId", "empresaAlquiler", "modeloCoche", "categoriaCoche",
+            "ubicacionRecogida", "ubicacionDevolucion", "fechaRecogida",
+            "fechaDevolucion", "precioCoche", "codigoMoneda", "observacionesCoche",
+            "codigoConfirmacionCoche", "reservaId"
+    })
     public Map<String, Object> reservarCoche(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
 
@@ -74,22 +78,19 @@ public class ReservaCocheWorker {
         log.debug("🔍 Variables recibidas: {}", variables);
 
         try {
-            // 1. Validar variables requeridas
-            validarVariablesRequeridas(variables);
-
-            // 2. Mapear variables de Camunda a DTO
-            ReservarCocheDTO dto = mapearADTO(variables);
+            // 1. Decodificar y validar variables de Camunda a DTO
+            ReservarCocheDTO dto = codec.decodificar(variables);
 
             log.info("🚗 Procesando reserva de coche {} de {} para cliente: {}",
                     dto.modeloCoche(), dto.empresaAlquiler(), dto.clienteId());
 
-            // 3. Ejecutar caso de uso
+            // 2. Ejecutar caso de uso
             ReservaCocheRespuestaDTO respuesta = reservarCocheCasoUso.ejecutar(dto);
 
             log.info("✅ Reserva de coche completada exitosamente - ID: {}",
                     respuesta.reservaId());
 
-            // 4. Preparar variables de salida
+            // 3. Preparar variables de salida
             Map<String, Object> resultado = Map.of(
                     "reservaCocheId", respuesta.reservaId(),
                     "reservaCocheExitosa", true,
@@ -125,149 +126,4 @@ public class ReservaCocheWorker {
             );
         }
     }
-
-    /**
-     * Valida que todas las variables requeridas estén presentes en el job.
-     *
-     * @param variables Variables del proceso
-     * @throws IllegalArgumentException Si falta alguna variable requerida
-     */
-    private void validarVariablesRequeridas(Map<String, Object> variables) {
-        String[] camposRequeridos = {
-                "clienteId", "empresaAlquiler", "modeloCoche", "categoriaCoche",
-                "ubicacionRecogida", "ubicacionDevolucion",
-                "fechaRecogida", "fechaDevolucion", "precioCoche"
-        };
-
-        for (String campo : camposRequeridos) {
-            if (!variables.containsKey(campo) || variables.get(campo) == null) {
-                throw new IllegalArgumentException(
-                        "El campo requerido '" + campo + "' no está presente o es nulo"
-                );
-            }
-        }
-
-        log.debug("✅ Validación de variables requeridas completada");
-    }
-
-    /**
-     * Mapea las variables del proceso de Camunda a un DTO de entrada.
-     *
-     * @param variables Variables del proceso
-     * @return DTO con los datos para crear la reserva
-     */
-    private ReservarCocheDTO mapearADTO(Map<String, Object> variables) {
-        try {
-            // Mapear fechas
-            LocalDateTime fechaRecogida = parseDateTime(variables.get("fechaRecogida"));
-            LocalDateTime fechaDevolucion = parseDateTime(variables.get("fechaDevolucion"));
-
-            // Validar que la fecha de devolución sea posterior a la de recogida
-            if (!fechaDevolucion.isAfter(fechaRecogida)) {
-                throw new IllegalArgumentException(
-                        "La fecha de devolución debe ser posterior a la fecha de recogida"
-                );
-            }
-
-            // Crear DTO
-            return new ReservarCocheDTO(
-                    (String) variables.get("clienteId"),
-                    (String) variables.get("empresaAlquiler"),
-                    (String) variables.get("modeloCoche"),
-                    (String) variables.get("categoriaCoche"),
-                    (String) variables.get("ubicacionRecogida"),
-                    (String) variables.get("ubicacionDevolucion"),
-                    fechaRecogida,
-                    fechaDevolucion,
-                    convertirABigDecimal(variables.get("precioCoche")),
-                    (String) variables.getOrDefault("codigoMoneda", "EUR"),
-                    (String) variables.get("observacionesCoche"),
-                    (String) variables.get("codigoConfirmacionCoche")
-            );
-
-        } catch (IllegalArgumentException e) {
-            throw e; // Re-lanzar excepciones de validación
-        } catch (Exception e) {
-            log.error("❌ Error al mapear variables a DTO: {}", e.getMessage());
-            throw new IllegalArgumentException(
-                    "Error al procesar los datos del coche: " + e.getMessage(), e
-            );
-        }
-    }
-
-    /**
-     * Convierte un objeto a BigDecimal de forma segura.
-     *
-     * @param valor Valor a convertir (puede ser Double, Integer, String, etc.)
-     * @return BigDecimal equivalente
-     */
-    private BigDecimal convertirABigDecimal(Object valor) {
-        if (valor == null) {
-            throw new IllegalArgumentException("El precio no puede ser nulo");
-        }
-
-        if (valor instanceof BigDecimal) {
-            return (BigDecimal) valor;
-        } else if (valor instanceof Number) {
-            return BigDecimal.valueOf(((Number) valor).doubleValue());
-        } else if (valor instanceof String) {
-            return new BigDecimal((String) valor);
-        }
-
-        throw new IllegalArgumentException(
-                "No se puede convertir el precio a BigDecimal: " + valor.getClass()
-        );
-    }
-
-    /**
-     * Parsea una fecha-hora desde diferentes formatos posibles.
-     * <p>
-     * CORREGIDO: Ahora soporta el formato con offset de Camunda.
-     * Formatos soportados:
-     * - "2025-05-20T12:00+02:00" (formato de Camunda con offset)
-     * - "2025-05-20T12:00:00" (formato ISO sin offset)
-     * - LocalDateTime directo
-     *
-     * @param fechaObj Objeto que contiene la fecha (String ISO o LocalDateTime)
-     * @return LocalDateTime parseado
-     * @throws IllegalArgumentException Si el formato no es válido
-     */
-    private LocalDateTime parseDateTime(Object fechaObj) {
-        if (fechaObj == null) {
-            throw new IllegalArgumentException("La fecha no puede ser nula");
-        }
-
-        if (fechaObj instanceof LocalDateTime) {
-            return (LocalDateTime) fechaObj;
-        }
-
-        if (fechaObj instanceof String) {
-            String fechaStr = (String) fechaObj;
-
-            try {
-                // Intentar parsear con offset (formato de Camunda)
-                // "2025-05-20T12:00+02:00" → OffsetDateTime → LocalDateTime
-                OffsetDateTime offsetDateTime = OffsetDateTime.parse(fechaStr);
-                return offsetDateTime.toLocalDateTime();
-
-            } catch (DateTimeParseException e) {
-                // Si falla, intentar parsear como LocalDateTime estándar
-                // "2025-05-20T12:00:00" (sin offset)
-                try {
-                    return LocalDateTime.parse(fechaStr);
-                } catch (DateTimeParseException e2) {
-                    throw new IllegalArgumentException(
-                            "Formato de fecha no válido. Se esperaba ISO 8601 con o sin offset. " +
-                            "Recibido: " + fechaStr, e2
-                    );
-                }
-            }
-        }
-
-        throw new IllegalArgumentException(
-                "Formato de fecha no soportado: " + fechaObj.getClass()
-        );
-    }
-
 }
-
@@ -3,6 +3,7 @@ package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarHotelDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ReservaHotelRespuestaDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ReservarHotelCasoUso;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec.ReservarHotelCodec;
 import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.client.annotation.JobWorker;
 import io.camunda.client.exception.BpmnError;
@@ -10,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.Map;
 
 /**
@@ -30,6 +29,7 @@ import java.util.Map;
 public class ReservaHotelWorker {
 
     private final ReservarHotelCasoUso reservarHotelCasoUso;
+    private final ReservarHotelCodec codec;
 
     /**
      * Procesa la tarea de reservar un hotel.
@@ -65,7 +65,13 @@ public class ReservaHotelWorker {
      * @return Mapa con las variables de salida para el proceso
      * @throws BpmnError Si ocurre un error durante la reserva
      */
-    @JobWorker(type = "reservar-hotel", autoComplete = true)
+    @JobIdempotente(idNegocio = "reservaHotelId")
+    @JobWorker(type = "reservar-hotel", autoComplete = false, fetchVariables = {
+            "clienteId", "nombreHotel", "ciudad", "direccion", "fechaEntrada",
+            "fechaCheckout", "tipoHabitacion", "numeroHabitaciones",
+            "numeroHuespedes", "precioHotel", "codigoMoneda", "observacionesHotel",
+            "codigoConfirmacionHotel", "reservaId"
+    })
     public Map<String, Object> reservarHotel(ActivatedJob job) {
         Map<String, Object> variables = job.getVariablesAsMap();
 
@@ -73,22 +79,19 @@ public class ReservaHotelWorker {
         log.debug("🔍 Variables recibidas: {}", variables);
 
         try {
-            // 1. Validar variables requeridas
-            validarVariablesRequeridas(variables);
-
-            // 2. Mapear variables de Camunda a DTO
-            ReservarHotelDTO dto = mapearADTO(variables);
+            // 1. Decodificar y validar variables de Camunda a DTO
+            ReservarHotelDTO dto = codec.decodificar(variables);
 
             log.info("🏨 Procesando reserva de hotel {} en {} para cliente: {}",
                     dto.nombreHotel(), dto.ciudad(), dto.clienteId());
 
-            // 3. Ejecutar caso de uso
+            // 2. Ejecutar caso de uso
             ReservaHotelRespuestaDTO respuesta = reservarHotelCasoUso.ejecutar(dto);
 
             log.info("✅ Reserva de hotel completada exitosamente - ID: {}",
                     respuesta.reservaId());
 
-            // 4. Preparar variables de salida
+            // 3. Preparar variables de salida
             Map<String, Object> resultado = Map.of(
                     "reservaHotelId", respuesta.reservaId(),
                     "reservaHotelExitosa", true,
@@ -124,166 +127,4 @@ public class ReservaHotelWorker {
             );
         }
     }
-
-    /**
-     * Valida que todas las variables requeridas estén presentes en el job.
-     *
-     * @param variables Variables del proceso
-     * @throws IllegalArgumentException Si falta alguna variable requerida
-     */
-    private void validarVariablesRequeridas(Map<String, Object> variables) {
-        String[] camposRequeridos = {
-                "clienteId", "nombreHotel", "ciudad", "direccion",
-                "fechaEntrada", "fechaCheckout", "tipoHabitacion",
-                "numeroHabitaciones", "numeroHuespedes", "precioHotel"
-        };
-
-        for (String campo : camposRequeridos) {
-            if (!variables.containsKey(campo) || variables.get(campo) == null) {
-                throw new IllegalArgumentException(
-                        "El campo requerido '" + campo + "' no está presente o es nulo"
-                );
-            }
-        }
-
-        // Validaciones adicionales
-        validarNumeroPositivo(variables.get("numeroHabitaciones"), "numeroHabitaciones");
-        validarNumeroPositivo(variables.get("numeroHuespedes"), "numeroHuespedes");
-
-        log.debug("✅ Validación de variables requeridas completada");
-    }
-
-    /**
-     * Valida que un número sea positivo.
-     *
-     * @param valor Valor a validar
-     * @param nombreCampo Nombre del campo para el mensaje de error
-     * @throws IllegalArgumentException Si el valor no es positivo
-     */
-    private void validarNumeroPositivo(Object valor, String nombreCampo) {
-        if (valor instanceof Number) {
-            int numero = ((Number) valor).intValue();
-            if (numero <= 0) {
-                throw new IllegalArgumentException(
-                        "El campo '" + nombreCampo + "' debe ser mayor a cero"
-                );
-            }
-        }
-    }
-
-    /**
-     * Mapea las variables del proceso de Camunda a un DTO de entrada.
-     *
-     * @param variables Variables del proceso
-     * @return DTO con los datos para crear la reserva
-     */
-    private ReservarHotelDTO mapearADTO(Map<String, Object> variables) {
-        try {
-            // Mapear fechas
-            LocalDate fechaEntrada = parseDate(variables.get("fechaEntrada"));
-            LocalDate fechaSalida = parseDate(variables.get("fechaCheckout"));
-
-            // Validar que la fecha de salida sea posterior a la de entrada
-            if (!fechaSalida.isAfter(fechaEntrada)) {
-                throw new IllegalArgumentException(
-                        "La fecha de salida debe ser posterior a la fecha de entrada"
-                );
-            }
-
-            // Crear DTO
-            return new ReservarHotelDTO(
-                    (String) variables.get("clienteId"),
-                    (String) variables.get("nombreHotel"),
-                    (String) variables.get("ciudad"),
-                    (String) variables.get("direccion"),
-                    fechaEntrada,
-                    fechaSalida,
-                    (String) variables.get("tipoHabitacion"),
-                    convertirAEntero(variables.get("numeroHabitaciones")),
-                    convertirAEntero(variables.get("numeroHuespedes")),
-                    convertirABigDecimal(variables.get("precioHotel")),
-                    (String) variables.getOrDefault("codigoMoneda", "EUR"),
-                    (String) variables.get("observacionesHotel"),
-                    (String) variables.get("codigoConfirmacionHotel")
-            );
-
-        } catch (IllegalArgumentException e) {
-            throw e; // Re-lanzar excepciones de validación
-        } catch (Exception e) {
-            log.error("❌ Error al mapear variables a DTO: {}", e.getMessage());
-            throw new IllegalArgumentException(
-                    "Error al procesar los datos del hotel: " + e.getMessage(), e
-            );
-        }
-    }
-
-    /**
-     * Convierte un objeto a Integer de forma segura.
-     *
-     * @param valor Valor a convertir (puede ser Integer, Double, String, etc.)
-     * @return Integer equivalente
-     */
-    private Integer convertirAEntero(Object valor) {
-        if (valor == null) {
-            throw new IllegalArgumentException("El valor numérico no puede ser nulo");
-        }
-
-        if (valor instanceof Integer) {
-            return (Integer) valor;
-        } else if (valor instanceof Number) {
-            return ((Number) valor).intValue();
-        } else if (valor instanceof String) {
-            return Integer.parseInt((String) valor);
-        }
-
-        throw new IllegalArgumentException(
-                "No se puede convertir el valor a Integer: " + valor.getClass()
-        );
-    }
-
-    /**
-     * Convierte un objeto a BigDecimal de forma segura.
-     *
-     * @param valor Valor a convertir (puede ser Double, Integer, String, etc.)
-     * @return BigDecimal equivalente
-     */
-    private BigDecimal convertirABigDecimal(Object valor) {
-        if (valor == null) {
-            throw new IllegalArgumentException("El precio no puede ser nulo");
-        }
-
-        if (valor instanceof BigDecimal) {
-            return (BigDecimal) valor;
-        } else if (valor instanceof Number) {
-            return BigDecimal.valueOf(((Number) valor).doubleValue());
-        } else if (valor instanceof String) {
-            return new BigDecimal((String) valor);
-        }
-
-        throw new IllegalArgumentException(
-                "No se puede convertir el precio a BigDecimal: " + valor.getClass()
-        );
-    }
-
-    /**
-     * Parsea una fecha desde diferentes formatos posibles.
-     *
-     * @param fechaObj Objeto que contiene la fecha (String ISO o LocalDate)
-     * @return LocalDate parseado
-     */
-    private LocalDate parseDate(Object fechaObj) {
-        if (fechaObj == null) {
-            throw new IllegalArgumentException("La fecha no puede ser nula");
-        }
-
-        if (fechaObj instanceof LocalDate) {
-            return (LocalDate) fechaObj;
-        } else if (fechaObj instanceof String) {
-            return LocalDate.parse((String) fechaObj);
-        }
-
-        throw new IllegalArgumentException(
-                "Formato de fecha no soportado: " + fechaObj.getClass()
-        );
-    }
 }
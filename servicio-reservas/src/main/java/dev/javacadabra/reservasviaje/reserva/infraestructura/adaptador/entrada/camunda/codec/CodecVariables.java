@@ -0,0 +1,23 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import java.util.Map;
+
+/**
+ * Convierte las variables de un job de Camunda en un DTO de entrada.
+ *
+ * <p>Cada implementación es explícita (sin reflexión ni mapeo genérico de Jackson)
+ * y aplica las validaciones de forma que hasta ahora vivían en cada worker.
+ *
+ * @param <T> tipo del DTO de entrada
+ */
+public interface CodecVariables<T> {
+
+    /**
+     * Decodifica las variables del job.
+     *
+     * @param variables variables del proceso recibidas con el job
+     * @return DTO de entrada
+     * @throws IllegalArgumentException si falta alguna variable o su formato no es válido
+     */
+    T decodificar(Map<String, Object> variables);
+}
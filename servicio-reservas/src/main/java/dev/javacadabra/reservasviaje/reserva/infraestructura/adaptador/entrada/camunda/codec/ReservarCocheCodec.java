@@ -0,0 +1,49 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarCocheDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Codec de las variables de la tarea "reservar-coche" a {@link ReservarCocheDTO}.
+ */
+@Component
+public class ReservarCocheCodec implements CodecVariables<ReservarCocheDTO> {
+
+    @Override
+    public ReservarCocheDTO decodificar(Map<String, Object> variables) {
+        VariablesJob v = VariablesJob.de(variables);
+
+        v.requeridas(
+                "clienteId", "empresaAlquiler", "modeloCoche", "categoriaCoche",
+                "ubicacionRecogida", "ubicacionDevolucion",
+                "fechaRecogida", "fechaDevolucion", "precioCoche"
+        );
+
+        LocalDateTime fechaRecogida = v.fechaHora("fechaRecogida");
+        LocalDateTime fechaDevolucion = v.fechaHora("fechaDevolucion");
+        if (!fechaDevolucion.isAfter(fechaRecogida)) {
+            throw new IllegalArgumentException(
+                    "La fecha de devolución debe ser posterior a la fecha de recogida"
+            );
+        }
+
+        return new ReservarCocheDTO(
+                v.texto("clienteId"),
+                v.texto("empresaAlquiler"),
+                v.texto("modeloCoche"),
+                v.texto("categoriaCoche"),
+                v.texto("ubicacionRecogida"),
+                v.texto("ubicacionDevolucion"),
+                fechaRecogida,
+                fechaDevolucion,
+                v.decimal("precioCoche"),
+                v.textoOpcional("codigoMoneda", "EUR"),
+                v.textoOpcional("observacionesCoche"),
+                v.textoOpcional("codigoConfirmacionCoche"),
+                v.textoOpcional("reservaId")
+        );
+    }
+}
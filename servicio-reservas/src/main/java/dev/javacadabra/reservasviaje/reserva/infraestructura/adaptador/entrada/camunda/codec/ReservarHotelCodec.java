@@ -0,0 +1,62 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarHotelDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Codec de las variables de la tarea "reservar-hotel" a {@link ReservarHotelDTO}.
+ */
+@Component
+public class ReservarHotelCodec implements CodecVariables<ReservarHotelDTO> {
+
+    @Override
+    public ReservarHotelDTO decodificar(Map<String, Object> variables) {
+        VariablesJob v = VariablesJob.de(variables);
+
+        v.requeridas(
+                "clienteId", "nombreHotel", "ciudad", "direccion",
+                "fechaEntrada", "fechaCheckout", "tipoHabitacion",
+                "numeroHabitaciones", "numeroHuespedes", "precioHotel"
+        );
+
+        Integer numeroHabitaciones = positivo(v.entero("numeroHabitaciones"), "numeroHabitaciones");
+        Integer numeroHuespedes = positivo(v.entero("numeroHuespedes"), "numeroHuespedes");
+
+        LocalDate fechaEntrada = v.fecha("fechaEntrada");
+        LocalDate fechaSalida = v.fecha("fechaCheckout");
+        if (!fechaSalida.isAfter(fechaEntrada)) {
+            throw new IllegalArgumentException(
+                    "La fecha de salida debe ser posterior a la fecha de entrada"
+            );
+        }
+
+        return new ReservarHotelDTO(
+                v.texto("clienteId"),
+                v.texto("nombreHotel"),
+                v.texto("ciudad"),
+                v.texto("direccion"),
+                fechaEntrada,
+                fechaSalida,
+                v.texto("tipoHabitacion"),
+                numeroHabitaciones,
+                numeroHuespedes,
+                v.decimal("precioHotel"),
+                v.textoOpcional("codigoMoneda", "EUR"),
+                v.textoOpcional("observacionesHotel"),
+                v.textoOpcional("codigoConfirmacionHotel"),
+                v.textoOpcional("reservaId")
+        );
+    }
+
+    private Integer positivo(Integer valor, String nombreCampo) {
+        if (valor <= 0) {
+            throw new IllegalArgumentException(
+                    "El campo '" + nombreCampo + "' debe ser mayor a cero"
+            );
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarVueloDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codec de las variables de la tarea "reservar-vuelo" a {@link ReservarVueloDTO}.
+ */
+@Component
+public class ReservarVueloCodec implements CodecVariables<ReservarVueloDTO> {
+
+    @Override
+    public ReservarVueloDTO decodificar(Map<String, Object> variables) {
+        VariablesJob v = VariablesJob.de(variables);
+
+        v.requeridas(
+                "clienteId", "numeroVuelo", "aerolinea", "origen", "destino",
+                "fechaSalida", "fechaLlegada", "clase", "precioVuelo", "pasajeros"
+        );
+
+        List<Map<String, Object>> pasajerosMap = v.listaDeObjetos("pasajeros");
+        if (pasajerosMap.isEmpty()) {
+            throw new IllegalArgumentException("La lista de pasajeros no puede estar vacía");
+        }
+
+        List<ReservarVueloDTO.PasajeroDTO> pasajeros = new ArrayList<>(pasajerosMap.size());
+        for (Map<String, Object> pasajeroMap : pasajerosMap) {
+            pasajeros.add(decodificarPasajero(VariablesJob.de(pasajeroMap)));
+        }
+
+        return new ReservarVueloDTO(
+                v.texto("clienteId"),
+                v.texto("numeroVuelo"),
+                v.texto("aerolinea"),
+                v.texto("origen"),
+                v.texto("destino"),
+                v.fechaHora("fechaSalida"),
+                v.fechaHora("fechaLlegada"),
+                v.texto("clase"),
+                v.decimal("precioVuelo"),
+                v.textoOpcional("codigoMoneda", "EUR"),
+                pasajeros,
+                v.textoOpcional("observacionesVuelo"),
+                v.textoOpcional("codigoConfirmacionVuelo"),
+                v.textoOpcional("reservaId")
+        );
+    }
+
+    private ReservarVueloDTO.PasajeroDTO decodificarPasajero(VariablesJob pasajero) {
+        return new ReservarVueloDTO.PasajeroDTO(
+                pasajero.textoOpcional("nombre"),
+                pasajero.textoOpcional("apellidos"),
+                pasajero.textoOpcional("numeroDocumento"),
+                pasajero.textoOpcional("tipoDocumento"),
+                pasajero.fecha("fechaNacimiento"),
+                pasajero.textoOpcional("nacionalidad")
+        );
+    }
+}
@@ -0,0 +1,302 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Acceso tipado a las variables de un job de Camunda.
+ *
+ * <p>Centraliza las conversiones que antes repetía cada worker
+ * ({@code parseDateTime}, {@code parseDate}, {@code convertirABigDecimal}...):
+ * se decide por tipo con {@code instanceof} y las fechas ISO se parsean en una
+ * sola pasada, con o sin offset, sin usar excepciones como control de flujo.
+ * Cualquier dato inválido se traduce a {@link IllegalArgumentException}, que los
+ * workers ya convierten en su error BPMN de validación.
+ */
+public final class VariablesJob {
+
+    /**
+     * ISO-8601 local con offset opcional: acepta tanto "2025-05-20T12:00:00"
+     * como el formato que envía Camunda "2025-05-20T12:00+02:00".
+     */
+    private static final DateTimeFormatter FECHA_HORA_ISO = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart()
+            .appendOffsetId()
+            .optionalEnd()
+            .toFormatter();
+
+    /**
+     * ISO-8601 de fecha con parte horaria opcional: acepta "2025-05-20" y también
+     * los datetime de Camunda Forms ("2025-05-20T10:00:00", con o sin offset).
+     */
+    private static final DateTimeFormatter FECHA_ISO = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .appendLiteral('T')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalStart()
+            .appendOffsetId()
+            .optionalEnd()
+            .optionalEnd()
+            .toFormatter();
+
+    /** Dígitos de {@link Integer#MAX_VALUE}; con más, el valor no cabe en un int. */
+    private static final int MAX_DIGITOS_ENTERO = 10;
+
+    /** Un exponente de más de 9 dígitos desborda la escala int de BigDecimal. */
+    private static final int MAX_DIGITOS_EXPONENTE = 9;
+
+    private final Map<String, Object> variables;
+
+    private VariablesJob(Map<String, Object> variables) {
+        this.variables = variables;
+    }
+
+    public static VariablesJob de(Map<String, Object> variables) {
+        return new VariablesJob(variables);
+    }
+
+    /**
+     * Verifica que las variables indicadas estén presentes y no sean nulas.
+     *
+     * @param nombres nombres de las variables obligatorias
+     * @throws IllegalArgumentException si alguna falta o es nula
+     */
+    public void requeridas(String... nombres) {
+        for (String nombre : nombres) {
+            if (variables.get(nombre) == null) {
+                throw new IllegalArgumentException(
+                        "El campo requerido '" + nombre + "' no está presente o es nulo"
+                );
+            }
+        }
+    }
+
+    public String texto(String nombre) {
+        Object valor = requerida(nombre);
+        return valor instanceof String texto ? texto : valor.toString();
+    }
+
+    public String textoOpcional(String nombre) {
+        Object valor = variables.get(nombre);
+        if (valor == null) {
+            return null;
+        }
+        return valor instanceof String texto ? texto : valor.toString();
+    }
+
+    public String textoOpcional(String nombre, String porDefecto) {
+        String valor = textoOpcional(nombre);
+        return valor != null ? valor : porDefecto;
+    }
+
+    /**
+     * Obtiene un importe como BigDecimal.
+     *
+     * @param nombre nombre de la variable (Number o String)
+     * @return importe convertido
+     */
+    public BigDecimal decimal(String nombre) {
+        Object valor = requerida(nombre);
+
+        if (valor instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (valor instanceof Number numero) {
+            return BigDecimal.valueOf(numero.doubleValue());
+        }
+        if (valor instanceof String texto && esNumeroDecimal(texto)) {
+            return new BigDecimal(texto);
+        }
+
+        throw new IllegalArgumentException(
+                "No se puede convertir '" + nombre + "' a BigDecimal: " + valor
+        );
+    }
+
+    /**
+     * Obtiene un entero. Los valores fuera del rango de int se rechazan en vez
+     * de truncarse.
+     *
+     * @param nombre nombre de la variable (Number o String)
+     * @return entero convertido
+     */
+    public Integer entero(String nombre) {
+        Object valor = requerida(nombre);
+
+        if (valor instanceof Integer entero) {
+            return entero;
+        }
+        if (valor instanceof Long largo) {
+            return enRangoInt(nombre, largo);
+        }
+        if (valor instanceof Number numero) {
+            return numero.intValue();
+        }
+        if (valor instanceof String texto && esEntero(texto)) {
+            // Hasta 10 dígitos siempre cabe en un long
+            return enRangoInt(nombre, Long.parseLong(texto));
+        }
+
+        throw new IllegalArgumentException(
+                "No se puede convertir '" + nombre + "' a Integer: " + valor
+        );
+    }
+
+    /**
+     * Obtiene una fecha ISO-8601 ({@code yyyy-MM-dd}). Si el valor trae parte
+     * horaria, se descarta.
+     *
+     * @param nombre nombre de la variable (String ISO o LocalDate)
+     * @return fecha parseada
+     */
+    public LocalDate fecha(String nombre) {
+        Object valor = requerida(nombre);
+
+        if (valor instanceof LocalDate fecha) {
+            return fecha;
+        }
+        if (valor instanceof String texto) {
+            try {
+                return LocalDate.from(FECHA_ISO.parse(texto));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                        "Formato de fecha no válido en '" + nombre + "'. Recibido: " + texto, e
+                );
+            }
+        }
+
+        throw new IllegalArgumentException("Formato de fecha no soportado: " + valor.getClass());
+    }
+
+    /**
+     * Obtiene una fecha-hora ISO-8601 con o sin offset. El offset, si existe,
+     * se descarta conservando la hora local (igual que {@code OffsetDateTime#toLocalDateTime}).
+     *
+     * @param nombre nombre de la variable (String ISO o LocalDateTime)
+     * @return fecha-hora parseada
+     */
+    public LocalDateTime fechaHora(String nombre) {
+        Object valor = requerida(nombre);
+
+        if (valor instanceof LocalDateTime fechaHora) {
+            return fechaHora;
+        }
+        if (valor instanceof String texto) {
+            try {
+                return LocalDateTime.from(FECHA_HORA_ISO.parse(texto));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(
+                        "Formato de fecha no válido. Se esperaba ISO 8601 con o sin offset. " +
+                        "Recibido: " + texto, e
+                );
+            }
+        }
+
+        throw new IllegalArgumentException("Formato de fecha no soportado: " + valor.getClass());
+    }
+
+    /**
+     * Obtiene una lista de objetos JSON (cada uno deserializado como mapa).
+     *
+     * @param nombre nombre de la variable
+     * @return lista de mapas
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> listaDeObjetos(String nombre) {
+        Object valor = requerida(nombre);
+
+        if (!(valor instanceof List<?> lista)) {
+            throw new IllegalArgumentException("El campo '" + nombre + "' debe ser una lista");
+        }
+        for (Object elemento : lista) {
+            if (!(elemento instanceof Map)) {
+                throw new IllegalArgumentException(
+                        "El campo '" + nombre + "' debe contener objetos");
+            }
+        }
+        return (List<Map<String, Object>>) lista;
+    }
+
+    private Object requerida(String nombre) {
+        Object valor = variables.get(nombre);
+        if (valor == null) {
+            throw new IllegalArgumentException(
+                    "El campo requerido '" + nombre + "' no está presente o es nulo"
+            );
+        }
+        return valor;
+    }
+
+    private static int enRangoInt(String nombre, long valor) {
+        if (valor < Integer.MIN_VALUE || valor > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "El valor de '" + nombre + "' está fuera del rango de Integer: " + valor
+            );
+        }
+        return (int) valor;
+    }
+
+    /**
+     * Signo opcional y de 1 a {@value #MAX_DIGITOS_ENTERO} dígitos ASCII. El rango
+     * lo comprueba {@link #enRangoInt}.
+     */
+    private static boolean esEntero(String texto) {
+        int inicio = saltarSigno(texto, 0);
+        int fin = saltarDigitos(texto, inicio);
+        int digitos = fin - inicio;
+        return fin == texto.length() && digitos > 0 && digitos <= MAX_DIGITOS_ENTERO;
+    }
+
+    /**
+     * Comprueba la gramática que acepta {@link BigDecimal#BigDecimal(String)}:
+     * signo opcional, dígitos con punto decimal opcional y exponente opcional
+     * ({@code "12"}, {@code "-0.5"}, {@code ".5"}, {@code "1e3"}, {@code "2.5E-4"}).
+     */
+    private static boolean esNumeroDecimal(String texto) {
+        int longitud = texto.length();
+        int i = saltarSigno(texto, 0);
+
+        int inicioEntera = i;
+        i = saltarDigitos(texto, i);
+        int digitos = i - inicioEntera;
+        if (i < longitud && texto.charAt(i) == '.') {
+            int inicioDecimal = ++i;
+            i = saltarDigitos(texto, i);
+            digitos += i - inicioDecimal;
+        }
+        if (digitos == 0) {
+            return false;
+        }
+
+        if (i < longitud && (texto.charAt(i) == 'e' || texto.charAt(i) == 'E')) {
+            int inicioExponente = saltarSigno(texto, i + 1);
+            i = saltarDigitos(texto, inicioExponente);
+            int digitosExponente = i - inicioExponente;
+            if (digitosExponente == 0 || digitosExponente > MAX_DIGITOS_EXPONENTE) {
+                return false;
+            }
+        }
+        return i == longitud;
+    }
+
+    private static int saltarSigno(String texto, int i) {
+        return i < texto.length() && (texto.charAt(i) == '-' || texto.charAt(i) == '+') ? i + 1 : i;
+    }
+
+    private static int saltarDigitos(String texto, int i) {
+        while (i < texto.length() && texto.charAt(i) >= '0' && texto.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,128 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.evento;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ProyectarItinerarioCasoUso;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaCocheCanceladaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaCocheCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaHotelCanceladaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaHotelCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaVueloCanceladaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.evento.ReservaVueloCreadaEvento;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Mantiene la proyección de itinerarios a partir de los eventos de reserva
+ * creada y cancelada.
+ *
+ * <p>Los eventos se aplican tras el commit de la transacción que los publica
+ * (también en la cancelación masiva, que los publica en la transacción de cada
+ * lote), así que la proyección nunca refleja una reserva revertida. Un fallo al proyectar
+ * solo se registra: no afecta a la reserva y la reconstrucción lo repara.
+ * Las reservas sin reserva de viaje (anteriores al vínculo) no se proyectan.
+ *
+ * <p>Al arrancar relanza la reconstrucción de la proyección si la anterior
+ * quedó a medias; con varias réplicas solo la primera que reclama la marca
+ * la ejecuta.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ItinerarioViajeProyector {
+
+    /**
+     * Estado con el que nace toda reserva (crear() de cada agregado).
+     */
+    private static final EstadoReserva ESTADO_INICIAL = EstadoReserva.PENDIENTE;
+
+    private final ProyectarItinerarioCasoUso proyectarItinerarioCasoUso;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alArrancar() {
+        try {
+            proyectarItinerarioCasoUso.reanudarReconstruccionPendiente();
+        } catch (Exception e) {
+            log.error("❌ Error al comprobar la reconstrucción de itinerarios pendiente: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearReservaVuelo(ReservaVueloCreadaEvento evento) {
+        if (sinReservaViaje(evento.getReservaViajeId(), evento.getReservaId())) {
+            return;
+        }
+        proyectar(new TramoItinerario(
+                evento.getReservaViajeId(), evento.getClienteId(), TipoReserva.VUELO, evento.getReservaId(),
+                evento.getNumeroVuelo(), evento.getFechaSalida(), evento.getFechaLlegada(),
+                evento.getPrecio(), evento.getCodigoMoneda(), ESTADO_INICIAL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearReservaHotel(ReservaHotelCreadaEvento evento) {
+        if (sinReservaViaje(evento.getReservaViajeId(), evento.getReservaId())) {
+            return;
+        }
+        proyectar(new TramoItinerario(
+                evento.getReservaViajeId(), evento.getClienteId(), TipoReserva.HOTEL, evento.getReservaId(),
+                evento.getNombreHotel(), evento.getFechaEntrada().atStartOfDay(),
+                evento.getFechaSalida().atStartOfDay(),
+                evento.getPrecio(), evento.getCodigoMoneda(), ESTADO_INICIAL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCrearReservaCoche(ReservaCocheCreadaEvento evento) {
+        if (sinReservaViaje(evento.getReservaViajeId(), evento.getReservaId())) {
+            return;
+        }
+        proyectar(new TramoItinerario(
+                evento.getReservaViajeId(), evento.getClienteId(), TipoReserva.COCHE, evento.getReservaId(),
+                evento.getModeloCoche(), evento.getFechaRecogida(), evento.getFechaDevolucion(),
+                evento.getPrecio(), evento.getCodigoMoneda(), ESTADO_INICIAL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCancelarReservaVuelo(ReservaVueloCanceladaEvento evento) {
+        proyectarCancelacion(TipoReserva.VUELO, evento.getReservaId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCancelarReservaHotel(ReservaHotelCanceladaEvento evento) {
+        proyectarCancelacion(TipoReserva.HOTEL, evento.getReservaId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void alCancelarReservaCoche(ReservaCocheCanceladaEvento evento) {
+        proyectarCancelacion(TipoReserva.COCHE, evento.getReservaId());
+    }
+
+    private boolean sinReservaViaje(String reservaViajeId, String reservaId) {
+        if (reservaViajeId == null) {
+            log.debug("⏭️ Reserva {} sin reserva de viaje: no se proyecta", reservaId);
+            return true;
+        }
+        return false;
+    }
+
+    private void proyectar(TramoItinerario tramo) {
+        try {
+            proyectarItinerarioCasoUso.proyectarTramo(tramo);
+        } catch (Exception e) {
+            log.error("❌ Error al proyectar el tramo {} {} en el itinerario {}: {}",
+                    tramo.tipo(), tramo.reservaId(), tramo.reservaViajeId(), e.getMessage(), e);
+        }
+    }
+
+    private void proyectarCancelacion(TipoReserva tipo, String reservaId) {
+        try {
+            proyectarItinerarioCasoUso.proyectarCancelacion(tipo, reservaId);
+        } catch (Exception e) {
+            log.error("❌ Error al proyectar la cancelación de {} {}: {}", tipo, reservaId, e.getMessage(), e);
+        }
+    }
+}
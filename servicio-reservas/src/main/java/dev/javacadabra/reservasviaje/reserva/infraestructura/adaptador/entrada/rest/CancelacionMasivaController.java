@@ -0,0 +1,67 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.CancelacionMasivaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ProgresoCancelacionMasivaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.CancelacionMasivaCasoUso;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Cancelación masiva de las reservas afectadas por un vuelo cancelado o un
+ * hotel cerrado.
+ *
+ * <p>{@code POST} registra la cancelación y responde 202 con el progreso inicial;
+ * el trabajo sigue en segundo plano y se consulta con {@code GET /{id}}. Una
+ * cancelación FALLIDA o interrumpida se reanuda desde su cursor con
+ * {@code POST /{id}/reanudar}.
+ */
+@RestController
+@RequestMapping("/api/cancelaciones-masivas")
+@RequiredArgsConstructor
+@Slf4j
+public class CancelacionMasivaController {
+
+    private final CancelacionMasivaCasoUso cancelacionMasivaCasoUso;
+
+    @PostMapping
+    public ResponseEntity<ProgresoCancelacionMasivaDTO> iniciar(@Valid @RequestBody CancelacionMasivaDTO dto) {
+        log.info("🛑 Solicitud de cancelación masiva de {}: {}", dto.tipo(), dto.motivo());
+        return ResponseEntity.accepted().body(cancelacionMasivaCasoUso.iniciar(dto));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProgresoCancelacionMasivaDTO> consultar(@PathVariable String id) {
+        return cancelacionMasivaCasoUso.consultar(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/reanudar")
+    public ResponseEntity<ProgresoCancelacionMasivaDTO> reanudar(@PathVariable String id) {
+        return cancelacionMasivaCasoUso.reanudar(id)
+                .map(progreso -> ResponseEntity.accepted().body(progreso))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> criterioNoValido(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> estadoNoValido(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+}
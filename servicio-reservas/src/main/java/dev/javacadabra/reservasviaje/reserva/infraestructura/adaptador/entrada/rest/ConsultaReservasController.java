@@ -0,0 +1,73 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.PaginaReservasDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarReservasCasoUso;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Consulta de solo lectura de reservas de vuelo, hotel o coche.
+ *
+ * <p>{@code GET /api/reservas/{vuelos|hoteles|coches}} admite un único filtro:
+ * {@code clienteId}, {@code estado} o el rango {@code desde}/{@code hasta}
+ * (fechas ISO, ambas incluidas) sobre la salida, entrada o recogida. Los
+ * listados usan paginación por cursor: para la página siguiente se reenvía el
+ * {@code siguienteCursor} recibido con los mismos filtros.
+ */
+@RestController
+@RequestMapping("/api/reservas")
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultaReservasController {
+
+    private final ConsultarReservasCasoUso consultarReservasCasoUso;
+
+    @GetMapping("/{tipo:vuelos|hoteles|coches}")
+    public ResponseEntity<PaginaReservasDTO> listar(
+            @PathVariable String tipo,
+            @RequestParam(required = false) String clienteId,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int tamano) {
+
+        TipoReserva tipoReserva = switch (tipo) {
+            case "vuelos" -> TipoReserva.VUELO;
+            case "hoteles" -> TipoReserva.HOTEL;
+            default -> TipoReserva.COCHE;
+        };
+
+        int filtros = (clienteId != null ? 1 : 0) + (estado != null ? 1 : 0)
+                      + (desde != null || hasta != null ? 1 : 0);
+        if (filtros != 1) {
+            log.warn("⚠️ Consulta de {} con {} filtros (se requiere uno)", tipo, filtros);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            PaginaReservasDTO pagina;
+            if (clienteId != null) {
+                pagina = consultarReservasCasoUso.listarPorCliente(tipoReserva, clienteId, cursor, tamano);
+            } else if (estado != null) {
+                pagina = consultarReservasCasoUso.listarPorEstado(tipoReserva, estado, cursor, tamano);
+            } else {
+                pagina = consultarReservasCasoUso.listarPorFechaInicio(tipoReserva, desde, hasta, cursor, tamano);
+            }
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Consulta de {} no válida: {}", tipo, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
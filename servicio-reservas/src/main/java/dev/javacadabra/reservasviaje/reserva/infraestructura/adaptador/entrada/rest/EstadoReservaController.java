@@ -0,0 +1,63 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso.EsperasAgotadasException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Estado de los procesos de reserva sin pasar por Operate.
+ *
+ * <p>{@code GET /{processInstanceKey}/estado} es un long-poll: responde en cuanto el
+ * proceso finaliza o, como mucho, tras {@code espera} segundos con estado EN_CURSO.
+ * El resultado lo registra {@code RegistrarEstadoReservaWorker} al alcanzar un evento
+ * de fin del proceso; no hay endpoint de escritura. Si ese job se ejecuta en otra
+ * réplica, el resultado llega por la tabla compartida (ver
+ * {@code EstadoReservaServicio}). Si ya hay demasiados procesos en espera, un
+ * long-poll sobre un proceso nuevo se rechaza con 429.
+ */
+@RestController
+@RequestMapping("/api/reservas")
+@RequiredArgsConstructor
+@Slf4j
+public class EstadoReservaController {
+
+    private static final int ESPERA_MAXIMA_SEGUNDOS = 60;
+    private static final String SEGUNDOS_REINTENTO = "1";
+
+    private final ConsultarEstadoReservaCasoUso consultarEstadoReservaCasoUso;
+
+    @GetMapping("/{processInstanceKey}/estado")
+    public CompletableFuture<ResponseEntity<EstadoReservaDTO>> consultarEstado(
+            @PathVariable long processInstanceKey,
+            @RequestParam(defaultValue = "25") int espera) {
+
+        if (espera <= 0) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.ok(consultarEstadoReservaCasoUso.consultar(processInstanceKey)));
+        }
+
+        Duration tiempoEspera = Duration.ofSeconds(Math.min(espera, ESPERA_MAXIMA_SEGUNDOS));
+        try {
+            return consultarEstadoReservaCasoUso.esperar(processInstanceKey, tiempoEspera)
+                    .thenApply(ResponseEntity::ok);
+        } catch (EsperasAgotadasException e) {
+            log.warn("🚫 {}, se rechaza la espera del proceso {}", e.getMessage(), processInstanceKey);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, SEGUNDOS_REINTENTO)
+                    .body(EstadoReservaDTO.enCurso(processInstanceKey)));
+        }
+    }
+}
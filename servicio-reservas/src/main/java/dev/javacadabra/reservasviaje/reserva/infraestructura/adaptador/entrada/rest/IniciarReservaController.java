@@ -1,26 +1,176 @@
 package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
 
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.IniciarReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.IniciarReservaRespuestaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso.EsperasAgotadasException;
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.IniciarReservaCasoUso;
+import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.api.command.ProblemException;
+import io.grpc.Status;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * API de inicio de reservas.
+ *
+ * <p>El proceso se crea de forma asíncrona: el hilo de Tomcat queda libre
+ * mientras el gateway de Camunda responde. Las peticiones en curso se acotan
+ * con {@link LimiteIniciosEnCurso}; por encima del límite, o si
+ * el gateway responde con back-pressure, se rechaza al momento con 429.
+ *
+ * <p>Para agencias que envían muchas reservas a la vez, {@code /iniciar/lote}
+ * acepta un cuerpo NDJSON y responde en streaming (ver {@link IniciarReservaLoteProcesador}).
+ */
 @RestController
 @RequestMapping("/api/reservas")
-@RequiredArgsConstructor
+@Slf4j
 public class IniciarReservaController {
 
+    private static final String SEGUNDOS_REINTENTO = "1";
+    private static final String NDJSON = MediaType.APPLICATION_NDJSON_VALUE;
+
     private final IniciarReservaCasoUso iniciarReservaCasoUso;
+    private final IniciarReservaLoteProcesador loteProcesador;
+    private final ConsultarEstadoReservaCasoUso consultarEstadoReservaCasoUso;
+    private final LimiteIniciosEnCurso enCurso;
+    private final Duration esperaResultado;
 
+    public IniciarReservaController(IniciarReservaCasoUso iniciarReservaCasoUso,
+                                    IniciarReservaLoteProcesador loteProcesador,
+                                    ConsultarEstadoReservaCasoUso consultarEstadoReservaCasoUso,
+                                    LimiteIniciosEnCurso enCurso,
+                                    @Value("${reservasviaje.api.iniciar.espera-resultado:PT30S}") Duration esperaResultado) {
+        this.iniciarReservaCasoUso = iniciarReservaCasoUso;
+        this.loteProcesador = loteProcesador;
+        this.consultarEstadoReservaCasoUso = consultarEstadoReservaCasoUso;
+        this.enCurso = enCurso;
+        this.esperaResultado = esperaResultado;
+    }
+
+    /**
+     * Inicia una reserva. Con {@code esperarResultado=true} espera además a que el
+     * proceso finalice (como mucho {@code reservasviaje.api.iniciar.espera-resultado}):
+     * responde 200 con el estado final o 202 con el processInstanceKey si sigue en curso
+     * o si ya hay demasiados procesos en espera.
+     */
     @PostMapping("/iniciar")
-    public ResponseEntity<IniciarReservaRespuestaDTO> iniciarReserva(@Valid @RequestBody IniciarReservaDTO dto) {
-        IniciarReservaRespuestaDTO respuesta = iniciarReservaCasoUso.ejecutar(dto);
-        return ResponseEntity.accepted().body(respuesta);
+    public CompletableFuture<ResponseEntity<IniciarReservaRespuestaDTO>> iniciarReserva(
+            @Valid @RequestBody IniciarReservaDTO dto,
+            @RequestParam(defaultValue = "false") boolean esperarResultado) {
+
+        if (!enCurso.intentarAdquirir()) {
+            log.warn("🚫 Límite de inicios en curso alcanzado, se rechaza la reserva del cliente {}",
+                    dto.getClienteId());
+            return CompletableFuture.completedFuture(rechazar());
+        }
+
+        CompletableFuture<IniciarReservaRespuestaDTO> inicio;
+        try {
+            inicio = iniciarReservaCasoUso.ejecutarAsincrono(dto);
+        } catch (RuntimeException e) {
+            enCurso.liberar();
+            throw e;
+        }
+
+        CompletableFuture<IniciarReservaRespuestaDTO> iniciada =
+                inicio.whenComplete((respuesta, error) -> enCurso.liberar());
+
+        CompletableFuture<ResponseEntity<IniciarReservaRespuestaDTO>> resultado = esperarResultado
+                ? iniciada.thenCompose(this::esperarFinalizacion)
+                : iniciada.thenApply(respuesta -> ResponseEntity.accepted().body(respuesta));
+
+        return resultado
+                .exceptionally(error -> {
+                    Throwable causa = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (esGatewaySaturado(causa)) {
+                        log.warn("🚫 Gateway de Camunda saturado, se rechaza la reserva del cliente {}",
+                                dto.getClienteId());
+                        return rechazar();
+                    }
+                    throw error instanceof CompletionException completion
+                            ? completion
+                            : new CompletionException(error);
+                });
+    }
+
+    private CompletableFuture<ResponseEntity<IniciarReservaRespuestaDTO>> esperarFinalizacion(
+            IniciarReservaRespuestaDTO respuesta) {
+
+        CompletableFuture<EstadoReservaDTO> espera;
+        try {
+            espera = consultarEstadoReservaCasoUso.esperar(respuesta.getProcessInstanceKey(), esperaResultado);
+        } catch (EsperasAgotadasException e) {
+            // El proceso ya está iniciado: se responde como si siguiera en curso
+            log.warn("🚫 {}, el proceso {} se responde sin esperar", e.getMessage(), respuesta.getProcessInstanceKey());
+            return CompletableFuture.completedFuture(ResponseEntity.accepted().body(respuesta));
+        }
+
+        return espera.thenApply(estado -> {
+            if (!estado.finalizada()) {
+                return ResponseEntity.accepted().body(respuesta);
+            }
+            return ResponseEntity.ok(IniciarReservaRespuestaDTO.builder()
+                    .processInstanceKey(respuesta.getProcessInstanceKey())
+                    .estado(estado.estado())
+                    .mensaje(estado.motivo() != null ? estado.motivo() : "Reserva finalizada")
+                    .build());
+        });
+    }
+
+    private ResponseEntity<IniciarReservaRespuestaDTO> rechazar() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, SEGUNDOS_REINTENTO)
+                .body(IniciarReservaRespuestaDTO.builder()
+                        .estado("RECHAZADA")
+                        .mensaje("Demasiadas reservas en curso, reintente en unos segundos")
+                        .build());
+    }
+
+    /**
+     * Inicia un lote de reservas enviado como NDJSON (un {@link IniciarReservaDTO} por línea).
+     * La respuesta es también NDJSON, con una línea de resultado por reserva y en el
+     * mismo orden, y se va escribiendo mientras se procesa el lote.
+     */
+    @PostMapping(value = "/iniciar/lote", consumes = NDJSON, produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> iniciarLote(HttpServletRequest request) throws IOException {
+        InputStream entrada = request.getInputStream();
+        StreamingResponseBody cuerpo = salida -> loteProcesador.procesar(entrada, salida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(cuerpo);
+    }
+
+    private boolean esGatewaySaturado(Throwable error) {
+        if (error instanceof ClientStatusException e) {
+            return e.getStatusCode() == Status.Code.RESOURCE_EXHAUSTED;
+        }
+        if (error instanceof ProblemException e) {
+            return e.code() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || e.code() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        }
+        return false;
     }
 }
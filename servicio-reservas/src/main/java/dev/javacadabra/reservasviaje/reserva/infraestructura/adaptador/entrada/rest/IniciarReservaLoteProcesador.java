@@ -0,0 +1,182 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.IniciarReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.IniciarReservaCasoUso;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Procesa un lote NDJSON de reservas línea a línea.
+ *
+ * <p>Cada línea se deserializa y valida de forma independiente; las válidas se
+ * envían al gateway sin esperar respuesta, con un máximo de
+ * {@code reservasviaje.api.iniciar.lote.ventana} comandos pendientes. Los
+ * resultados se escriben en el mismo orden que las líneas de entrada a medida
+ * que se resuelven, así que ni la entrada ni la salida se acumulan en memoria.
+ *
+ * <p>Cada línea toma además un permiso de {@link LimiteIniciosEnCurso}, el mismo
+ * límite que {@code /iniciar}: si no queda ninguno libre en
+ * {@code reservasviaje.api.iniciar.lote.espera-permiso}, la línea se rechaza
+ * (estado RECHAZADA) y el lote continúa.
+ */
+@Component
+@Slf4j
+public class IniciarReservaLoteProcesador {
+
+    private static final byte[] SALTO_LINEA = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final IniciarReservaCasoUso iniciarReservaCasoUso;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final LimiteIniciosEnCurso enCurso;
+    private final int ventana;
+    private final Duration esperaPermiso;
+
+    public IniciarReservaLoteProcesador(IniciarReservaCasoUso iniciarReservaCasoUso,
+                                        ObjectMapper objectMapper,
+                                        Validator validator,
+                                        LimiteIniciosEnCurso enCurso,
+                                        @Value("${reservasviaje.api.iniciar.lote.ventana:32}") int ventana,
+                                        @Value("${reservasviaje.api.iniciar.lote.espera-permiso:PT5S}") Duration esperaPermiso) {
+        this.iniciarReservaCasoUso = iniciarReservaCasoUso;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.enCurso = enCurso;
+        this.ventana = ventana;
+        this.esperaPermiso = esperaPermiso;
+    }
+
+    /**
+     * Lee el lote de {@code entrada} y escribe una línea de resultado por reserva en {@code salida}.
+     *
+     * @param entrada cuerpo NDJSON con un {@link IniciarReservaDTO} por línea
+     * @param salida flujo de respuesta NDJSON
+     */
+    public void procesar(InputStream entrada, OutputStream salida) throws IOException {
+        Deque<CompletableFuture<ResultadoLinea>> pendientes = new ArrayDeque<>(ventana);
+        int numeroLinea = 0;
+        int procesadas = 0;
+
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isBlank()) {
+                    continue;
+                }
+
+                pendientes.addLast(iniciar(numeroLinea, linea));
+                procesadas++;
+
+                while (pendientes.size() >= ventana) {
+                    escribir(pendientes.removeFirst().join(), salida);
+                }
+            }
+        }
+
+        while (!pendientes.isEmpty()) {
+            escribir(pendientes.removeFirst().join(), salida);
+        }
+
+        log.info("📦 Lote de reservas procesado: {} reservas", procesadas);
+    }
+
+    private CompletableFuture<ResultadoLinea> iniciar(int numeroLinea, String linea) {
+        IniciarReservaDTO dto;
+        try {
+            dto = objectMapper.readValue(linea, IniciarReservaDTO.class);
+        } catch (JacksonException e) {
+            return CompletableFuture.completedFuture(
+                    ResultadoLinea.error(numeroLinea, "JSON no válido: " + e.getOriginalMessage()));
+        }
+
+        Set<ConstraintViolation<IniciarReservaDTO>> violaciones = validator.validate(dto);
+        if (!violaciones.isEmpty()) {
+            String errores = violaciones.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return CompletableFuture.completedFuture(ResultadoLinea.error(numeroLinea, errores));
+        }
+
+        if (!adquirirPermiso()) {
+            log.warn("🚫 Límite de inicios en curso alcanzado, se rechaza la línea {} del lote", numeroLinea);
+            return CompletableFuture.completedFuture(ResultadoLinea.rechazada(numeroLinea));
+        }
+
+        try {
+            return iniciarReservaCasoUso.ejecutarAsincrono(dto)
+                    .whenComplete((respuesta, error) -> enCurso.liberar())
+                    .handle((respuesta, error) -> error == null
+                            ? new ResultadoLinea(numeroLinea, respuesta.getProcessInstanceKey(),
+                                    respuesta.getEstado(), null)
+                            : ResultadoLinea.error(numeroLinea, mensaje(error)));
+        } catch (RuntimeException e) {
+            enCurso.liberar();
+            return CompletableFuture.completedFuture(ResultadoLinea.error(numeroLinea, mensaje(e)));
+        }
+    }
+
+    private boolean adquirirPermiso() {
+        try {
+            return enCurso.intentarAdquirir(esperaPermiso);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void escribir(ResultadoLinea resultado, OutputStream salida) throws IOException {
+        salida.write(objectMapper.writeValueAsBytes(resultado));
+        salida.write(SALTO_LINEA);
+        salida.flush();
+    }
+
+    private String mensaje(Throwable error) {
+        Throwable causa = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+
+    /**
+     * Resultado de una línea del lote.
+     *
+     * @param linea número de línea en el cuerpo de la petición (desde 1)
+     * @param processInstanceKey instancia creada, si la línea se procesó
+     * @param estado INICIADA, RECHAZADA o ERROR
+     * @param error motivo del error, si lo hubo
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ResultadoLinea(int linea, Long processInstanceKey, String estado, String error) {
+
+        static ResultadoLinea error(int linea, String error) {
+            return new ResultadoLinea(linea, null, "ERROR", error);
+        }
+
+        static ResultadoLinea rechazada(int linea) {
+            return new ResultadoLinea(linea, null, "RECHAZADA",
+                    "Demasiadas reservas en curso, reintente la línea en unos segundos");
+        }
+    }
+}
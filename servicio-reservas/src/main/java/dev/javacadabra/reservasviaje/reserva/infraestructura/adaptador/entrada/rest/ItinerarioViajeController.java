@@ -0,0 +1,54 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.ItinerarioViajeDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarItinerarioCasoUso;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ProyectarItinerarioCasoUso;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Itinerario de una reserva de viaje (vuelo, hotel y coche) leído de la
+ * proyección desnormalizada, con una sola consulta por clave.
+ *
+ * <p>{@code POST /reconstruir} vacía la proyección y la vuelve a generar en
+ * segundo plano a partir de las tablas de reservas.
+ */
+@RestController
+@RequestMapping("/api/itinerarios")
+@RequiredArgsConstructor
+@Slf4j
+public class ItinerarioViajeController {
+
+    private final ConsultarItinerarioCasoUso consultarItinerarioCasoUso;
+    private final ProyectarItinerarioCasoUso proyectarItinerarioCasoUso;
+
+    @GetMapping("/{reservaViajeId}")
+    public ResponseEntity<ItinerarioViajeDTO> consultar(@PathVariable String reservaViajeId) {
+        return consultarItinerarioCasoUso.consultar(reservaViajeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ItinerarioViajeDTO>> listarPorCliente(@RequestParam String clienteId) {
+        return ResponseEntity.ok(consultarItinerarioCasoUso.listarPorCliente(clienteId));
+    }
+
+    @PostMapping("/reconstruir")
+    public ResponseEntity<Void> reconstruir() {
+        log.info("🔄 Solicitud de reconstrucción de itinerarios");
+        return proyectarItinerarioCasoUso.reconstruir()
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
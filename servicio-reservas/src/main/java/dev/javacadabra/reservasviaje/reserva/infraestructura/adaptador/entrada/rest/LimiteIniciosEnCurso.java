@@ -0,0 +1,47 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Límite global de inicios de proceso pendientes de respuesta del gateway.
+ *
+ * <p>Lo comparten {@code /iniciar} y cada línea de {@code /iniciar/lote}, de modo
+ * que un lote NDJSON no puede saltarse {@code reservasviaje.api.iniciar.max-en-curso}.
+ */
+@Component
+public class LimiteIniciosEnCurso {
+
+    private final Semaphore permisos;
+
+    public LimiteIniciosEnCurso(@Value("${reservasviaje.api.iniciar.max-en-curso:200}") int maxEnCurso) {
+        this.permisos = new Semaphore(maxEnCurso);
+    }
+
+    /**
+     * Toma un permiso si hay alguno libre, sin esperar.
+     *
+     * @return true si se ha tomado el permiso
+     */
+    public boolean intentarAdquirir() {
+        return permisos.tryAcquire();
+    }
+
+    /**
+     * Toma un permiso esperando como mucho {@code espera} a que quede uno libre.
+     *
+     * @param espera tiempo máximo de espera
+     * @return true si se ha tomado el permiso
+     */
+    public boolean intentarAdquirir(Duration espera) throws InterruptedException {
+        return permisos.tryAcquire(espera.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void liberar() {
+        permisos.release();
+    }
+}
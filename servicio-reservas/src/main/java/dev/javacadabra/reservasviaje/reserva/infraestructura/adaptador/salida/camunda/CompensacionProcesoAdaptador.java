@@ -0,0 +1,69 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.camunda;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.CompensacionProcesoPuerto;
+import io.camunda.client.CamundaClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptador que pide la compensación de los procesos de reserva publicando el
+ * mensaje {@code compensar-reserva} en Camunda.
+ * Implementa el puerto de salida CompensacionProcesoPuerto.
+ *
+ * <p>Los mensajes se envían en paralelo y se espera a todas las confirmaciones:
+ * si alguna falla, la excepción se propaga y el lote completo se reintenta.
+ * Con TTL cero el mensaje solo correlaciona con procesos que ya lo esperan.
+ *
+ * <p>Se llama dentro de la transacción que tiene bloqueadas las reservas del
+ * lote, así que la espera está acotada
+ * ({@code reservasviaje.cancelacion-masiva.espera-compensacion}): cada envío
+ * lleva ese timeout de petición y, si las confirmaciones no llegan a tiempo,
+ * se lanza {@link java.util.concurrent.TimeoutException} (envuelta en
+ * {@link java.util.concurrent.CompletionException}), el lote se revierte y
+ * libera sus bloqueos.
+ */
+@Component
+@Slf4j
+public class CompensacionProcesoAdaptador implements CompensacionProcesoPuerto {
+
+    static final String MENSAJE_COMPENSACION = "compensar-reserva";
+
+    private final CamundaClient camundaClient;
+    private final Duration esperaConfirmacion;
+
+    public CompensacionProcesoAdaptador(CamundaClient camundaClient,
+                                        @Value("${reservasviaje.cancelacion-masiva.espera-compensacion:PT10S}") Duration esperaConfirmacion) {
+        this.camundaClient = camundaClient;
+        this.esperaConfirmacion = esperaConfirmacion;
+    }
+
+    @Override
+    public void solicitarCompensacion(Collection<String> reservasViajeIds) {
+        if (reservasViajeIds.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] envios = reservasViajeIds.stream()
+                .map(reservaViajeId -> camundaClient
+                        .newPublishMessageCommand()
+                        .messageName(MENSAJE_COMPENSACION)
+                        .correlationKey(reservaViajeId)
+                        .timeToLive(Duration.ZERO)
+                        .requestTimeout(esperaConfirmacion)
+                        .send()
+                        .toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(envios)
+                .orTimeout(esperaConfirmacion.toMillis(), TimeUnit.MILLISECONDS)
+                .join();
+
+        log.debug("↩️ Compensación solicitada para {} procesos de reserva", envios.length);
+    }
+}
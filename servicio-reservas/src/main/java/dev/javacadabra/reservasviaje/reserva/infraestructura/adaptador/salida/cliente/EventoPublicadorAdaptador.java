@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Adaptador para publicar eventos de dominio.
  * Implementa el puerto de salida EventoPublicadorPuerto.
@@ -77,6 +79,29 @@ public class EventoPublicadorAdaptador implements EventoPublicadorPuerto {
         }
     }
 
+    @Override
+    public <T> void publicarLote(List<T> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+
+        String tipo = eventos.getFirst().getClass().getSimpleName();
+        try {
+            for (T evento : eventos) {
+                if (log.isDebugEnabled()) {
+                    log.debug("📋 Contenido del evento: {}", serializarEvento(evento));
+                }
+                springEventPublisher.publishEvent(evento);
+            }
+
+            log.info("✅ Lote de {} eventos {} publicado correctamente", eventos.size(), tipo);
+
+        } catch (Exception e) {
+            log.error("❌ Error al publicar lote de eventos {}: {}", tipo, e.getMessage(), e);
+            throw new RuntimeException("Error al publicar lote de eventos", e);
+        }
+    }
+
     /**
      * Serializa el evento a JSON para logging.
      */
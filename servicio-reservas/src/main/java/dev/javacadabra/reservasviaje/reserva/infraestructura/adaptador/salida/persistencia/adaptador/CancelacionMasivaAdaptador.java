@@ -0,0 +1,86 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.CancelacionMasivaPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.CancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.CancelacionMasivaEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.CancelacionMasivaJpaRepositorio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia para las cancelaciones masivas.
+ * Implementa el puerto de salida CancelacionMasivaPuerto.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CancelacionMasivaAdaptador implements CancelacionMasivaPuerto {
+
+    private final CancelacionMasivaJpaRepositorio repositorio;
+
+    @Override
+    public CancelacionMasiva guardar(CancelacionMasiva cancelacionMasiva) {
+        log.debug("💾 Guardando cancelación masiva: {} ({})",
+                cancelacionMasiva.getId(), cancelacionMasiva.getEstado());
+
+        repositorio.save(aEntidad(cancelacionMasiva));
+        return cancelacionMasiva;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CancelacionMasiva> buscarPorId(String id) {
+        return repositorio.findById(id).map(this::aDominio);
+    }
+
+    private CancelacionMasivaEntidad aEntidad(CancelacionMasiva cancelacion) {
+        CriterioCancelacionMasiva criterio = cancelacion.getCriterio();
+        return CancelacionMasivaEntidad.builder()
+                .id(cancelacion.getId())
+                .tipo(criterio.tipo().name())
+                .numeroVuelo(criterio.numeroVuelo())
+                .nombreHotel(criterio.nombreHotel())
+                .ciudad(criterio.ciudad())
+                .fecha(criterio.fecha())
+                .motivo(cancelacion.getMotivo())
+                .estado(cancelacion.getEstado().name())
+                .ultimaReservaId(cancelacion.getUltimaReservaId())
+                .reservasCanceladas(cancelacion.getReservasCanceladas())
+                .procesosCompensados(cancelacion.getProcesosCompensados())
+                .lotesProcesados(cancelacion.getLotesProcesados())
+                .error(cancelacion.getError())
+                .fechaInicio(cancelacion.getFechaInicio())
+                .fechaModificacion(cancelacion.getFechaModificacion())
+                .fechaFin(cancelacion.getFechaFin())
+                .build();
+    }
+
+    private CancelacionMasiva aDominio(CancelacionMasivaEntidad entidad) {
+        return CancelacionMasiva.reconstruir(
+                entidad.getId(),
+                new CriterioCancelacionMasiva(
+                        CriterioCancelacionMasiva.TipoReservaAfectada.valueOf(entidad.getTipo()),
+                        entidad.getNumeroVuelo(),
+                        entidad.getNombreHotel(),
+                        entidad.getCiudad(),
+                        entidad.getFecha()
+                ),
+                entidad.getMotivo(),
+                CancelacionMasiva.EstadoCancelacionMasiva.valueOf(entidad.getEstado()),
+                entidad.getUltimaReservaId(),
+                entidad.getReservasCanceladas(),
+                entidad.getProcesosCompensados(),
+                entidad.getLotesProcesados(),
+                entidad.getError(),
+                entidad.getFechaInicio(),
+                entidad.getFechaModificacion(),
+                entidad.getFechaFin()
+        );
+    }
+}
@@ -0,0 +1,141 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ConsultaReservasPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CursorReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.PaginaReservas;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ResumenReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaCocheJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaHotelJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaVueloJpaRepositorio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Adaptador de persistencia para los listados de reservas.
+ * Implementa el puerto de salida ConsultaReservasPuerto.
+ *
+ * <p>Las consultas proyectan solo las columnas del resumen y recorren los
+ * índices compuestos de cada tabla por clave (sin OFFSET). Se pide una fila de
+ * más para saber si hay página siguiente sin contar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ConsultaReservasAdaptador implements ConsultaReservasPuerto {
+
+    /**
+     * Clave anterior a cualquier fecha de creación, para la primera página.
+     */
+    private static final LocalDateTime CLAVE_INICIAL = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReservaVueloJpaRepositorio reservaVueloRepositorio;
+    private final ReservaHotelJpaRepositorio reservaHotelRepositorio;
+    private final ReservaCocheJpaRepositorio reservaCocheRepositorio;
+
+    @Override
+    public PaginaReservas buscarPorCliente(TipoReserva tipo, String clienteId, CursorReserva despuesDe, int tamano) {
+        log.debug("🔍 Reservas de {} del cliente {} (tamaño {}) tras {}", tipo, clienteId, tamano, despuesDe);
+
+        LocalDateTime clave = despuesDe != null ? despuesDe.clave() : CLAVE_INICIAL;
+        String reservaId = despuesDe != null ? despuesDe.reservaId() : "";
+        Limit limite = limite(tamano);
+
+        List<ResumenReservaFila> filas = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findResumenPorCliente(clienteId, clave, reservaId, limite);
+            case HOTEL -> reservaHotelRepositorio.findResumenPorCliente(clienteId, clave, reservaId, limite);
+            case COCHE -> reservaCocheRepositorio.findResumenPorCliente(clienteId, clave, reservaId, limite);
+        };
+
+        return aPagina(tipo, filas, tamano, ResumenReservaFila::fechaCreacion);
+    }
+
+    @Override
+    public PaginaReservas buscarPorEstado(TipoReserva tipo, EstadoReserva estado, CursorReserva despuesDe, int tamano) {
+        log.debug("🔍 Reservas de {} en estado {} (tamaño {}) tras {}", tipo, estado, tamano, despuesDe);
+
+        LocalDateTime clave = despuesDe != null ? despuesDe.clave() : CLAVE_INICIAL;
+        String reservaId = despuesDe != null ? despuesDe.reservaId() : "";
+        Limit limite = limite(tamano);
+
+        List<ResumenReservaFila> filas = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findResumenPorEstado(estado.name(), clave, reservaId, limite);
+            case HOTEL -> reservaHotelRepositorio.findResumenPorEstado(estado.name(), clave, reservaId, limite);
+            case COCHE -> reservaCocheRepositorio.findResumenPorEstado(estado.name(), clave, reservaId, limite);
+        };
+
+        return aPagina(tipo, filas, tamano, ResumenReservaFila::fechaCreacion);
+    }
+
+    @Override
+    public PaginaReservas buscarPorFechaInicio(TipoReserva tipo, LocalDate desde, LocalDate hasta,
+                                               CursorReserva despuesDe, int tamano) {
+        log.debug("🔍 Reservas de {} con inicio en [{}, {}) (tamaño {}) tras {}",
+                tipo, desde, hasta, tamano, despuesDe);
+
+        LocalDateTime clave = despuesDe != null ? despuesDe.clave() : desde.atStartOfDay();
+        String reservaId = despuesDe != null ? despuesDe.reservaId() : "";
+        Limit limite = limite(tamano);
+
+        List<ResumenReservaFila> filas = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findResumenPorFechaInicio(
+                    desde.atStartOfDay(), hasta.atStartOfDay(), clave, reservaId, limite);
+            case HOTEL -> reservaHotelRepositorio.findResumenPorFechaInicio(
+                    desde, hasta, clave.toLocalDate(), reservaId, limite);
+            case COCHE -> reservaCocheRepositorio.findResumenPorFechaInicio(
+                    desde.atStartOfDay(), hasta.atStartOfDay(), clave, reservaId, limite);
+        };
+
+        return aPagina(tipo, filas, tamano, ResumenReservaFila::fechaInicio);
+    }
+
+    private Limit limite(int tamano) {
+        if (tamano <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+        }
+        return Limit.of(tamano + 1);
+    }
+
+    private PaginaReservas aPagina(TipoReserva tipo,
+                                   List<ResumenReservaFila> filas,
+                                   int tamano,
+                                   Function<ResumenReservaFila, LocalDateTime> claveOrden) {
+        boolean hayMas = filas.size() > tamano;
+        List<ResumenReservaFila> pagina = hayMas ? filas.subList(0, tamano) : filas;
+
+        CursorReserva siguiente = null;
+        if (hayMas) {
+            ResumenReservaFila ultima = pagina.getLast();
+            siguiente = new CursorReserva(claveOrden.apply(ultima), ultima.reservaId());
+        }
+
+        log.debug("✅ Página con {} reservas de {} (hay más: {})", pagina.size(), tipo, hayMas);
+        return new PaginaReservas(pagina.stream().map(fila -> aResumen(tipo, fila)).toList(), siguiente);
+    }
+
+    private ResumenReserva aResumen(TipoReserva tipo, ResumenReservaFila fila) {
+        return new ResumenReserva(
+                tipo,
+                fila.reservaId(),
+                fila.clienteId(),
+                EstadoReserva.valueOf(fila.estado()),
+                fila.descripcion(),
+                fila.fechaInicio(),
+                fila.fechaFin(),
+                fila.precio(),
+                fila.codigoMoneda(),
+                fila.fechaCreacion()
+        );
+    }
+}
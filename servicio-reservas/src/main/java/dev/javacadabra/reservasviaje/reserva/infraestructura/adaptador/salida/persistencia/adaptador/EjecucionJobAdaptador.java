@@ -0,0 +1,187 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.EjecucionJobEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.EjecucionJobJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion.IdempotenciaPropiedades;
+import io.camunda.client.api.response.ActivatedJob;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registro de resultados de jobs ya ejecutados.
+ *
+ * <p>Combina una caché en memoria acotada (LRU con expiración) con la tabla
+ * {@code ejecucion_job}. La caché absorbe las reentregas habituales (timeouts
+ * durante tormentas de reintentos) sin ir a base de datos; la tabla cubre los
+ * reinicios del servicio y las reentregas a otra instancia.
+ *
+ * <p>El registro se escribe dentro de la transacción del worker, de modo que
+ * solo existe si el cambio de dominio se ha confirmado.
+ */
+@Component
+@Slf4j
+public class EjecucionJobAdaptador {
+
+    private static final TypeReference<Map<String, Object>> TIPO_RESULTADO = new TypeReference<>() {
+    };
+
+    private final EjecucionJobJpaRepositorio repositorio;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final IdempotenciaPropiedades propiedades;
+    private final CacheResultados cache;
+
+    public EjecucionJobAdaptador(EjecucionJobJpaRepositorio repositorio,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 IdempotenciaPropiedades propiedades) {
+        this.repositorio = repositorio;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.propiedades = propiedades;
+        this.cache = new CacheResultados(propiedades.capacidadCache(), propiedades.ttlCache().toNanos());
+    }
+
+    /**
+     * Busca el resultado registrado para un job.
+     *
+     * @param jobKey clave del job en Zeebe
+     * @return variables de salida de la ejecución previa, si existe
+     */
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> buscarResultado(long jobKey) {
+        Map<String, Object> enCache = cache.obtener(jobKey);
+        if (enCache != null) {
+            return Optional.of(enCache);
+        }
+
+        return repositorio.findById(jobKey)
+                .map(entidad -> {
+                    Map<String, Object> resultado = objectMapper.readValue(entidad.getResultado(), TIPO_RESULTADO);
+                    cache.guardar(jobKey, resultado);
+                    return resultado;
+                });
+    }
+
+    /**
+     * Registra el resultado de un job ejecutado con éxito dentro de la transacción
+     * en curso, la misma en la que el worker ha modificado el dominio.
+     *
+     * <p>Usa {@code persist} + {@code flush}: con el ID asignado, un {@code save}
+     * haría merge y sobrescribiría en silencio el registro de otra instancia.
+     *
+     * @param job job ejecutado
+     * @param idNegocio identificador de negocio generado (puede ser nulo)
+     * @param resultado variables de salida devueltas al proceso
+     * @throws EjecucionYaRegistradaException si otra instancia ya registró el job;
+     *         la transacción debe revertirse
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(ActivatedJob job, String idNegocio, Map<String, Object> resultado) {
+        // Primero los cambios de dominio pendientes: sus violaciones no son duplicados del job
+        entityManager.flush();
+        try {
+            entityManager.persist(EjecucionJobEntidad.builder()
+                    .jobKey(job.getKey())
+                    .tipoJob(job.getType())
+                    .processInstanceKey(job.getProcessInstanceKey())
+                    .idNegocio(idNegocio)
+                    .resultado(objectMapper.writeValueAsString(resultado))
+                    .build());
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (!ViolacionesRestriccion.esViolacion(e)) {
+                throw e;
+            }
+            throw new EjecucionYaRegistradaException(job.getKey(), e);
+        }
+
+        // A la caché solo cuando la transacción se confirma
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.guardar(job.getKey(), resultado);
+            }
+        });
+
+        log.debug("🧾 Ejecución registrada - job: {}, tipo: {}, idNegocio: {}",
+                job.getKey(), job.getType(), idNegocio);
+    }
+
+    /**
+     * Purga periódicamente los registros más antiguos que la retención configurada.
+     */
+    @Scheduled(fixedDelayString = "${reservasviaje.worker.idempotencia.purga:PT1H}")
+    @Transactional
+    public void purgar() {
+        int eliminados = repositorio.eliminarAnterioresA(LocalDateTime.now().minus(propiedades.retencion()));
+        if (eliminados > 0) {
+            log.info("🧹 Purgados {} registros de ejecuciones de jobs", eliminados);
+        }
+    }
+
+    /**
+     * Otra instancia ya registró la ejecución del mismo job.
+     */
+    public static class EjecucionYaRegistradaException extends DataIntegrityViolationException {
+
+        public EjecucionYaRegistradaException(long jobKey, Throwable causa) {
+            super("La ejecución del job " + jobKey + " ya estaba registrada", causa);
+        }
+    }
+
+    /**
+     * Caché LRU acotada con expiración por entrada.
+     */
+    private static final class CacheResultados {
+
+        private final long ttlNanos;
+        private final LinkedHashMap<Long, Entrada> entradas;
+
+        private CacheResultados(int capacidad, long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entrada> eldest) {
+                    return size() > capacidad;
+                }
+            };
+        }
+
+        synchronized Map<String, Object> obtener(long jobKey) {
+            Entrada entrada = entradas.get(jobKey);
+            if (entrada == null) {
+                return null;
+            }
+            if (System.nanoTime() - entrada.guardadaNanos() > ttlNanos) {
+                entradas.remove(jobKey);
+                return null;
+            }
+            return entrada.resultado();
+        }
+
+        synchronized void guardar(long jobKey, Map<String, Object> resultado) {
+            entradas.put(jobKey, new Entrada(Collections.unmodifiableMap(new HashMap<>(resultado)), System.nanoTime()));
+        }
+
+        private record Entrada(Map<String, Object> resultado, long guardadaNanos) {
+        }
+    }
+}
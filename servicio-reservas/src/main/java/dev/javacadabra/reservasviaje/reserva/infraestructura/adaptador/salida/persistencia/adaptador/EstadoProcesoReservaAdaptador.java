@@ -0,0 +1,83 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EstadoReservaPuerto;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.EstadoProcesoReservaEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.EstadoProcesoReservaJpaRepositorio;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia de los estados finales de los procesos de reserva
+ * (tabla {@code estado_proceso_reserva}). Implementa el puerto de salida
+ * EstadoReservaPuerto.
+ *
+ * <p>Es la parte compartida entre réplicas del registro de estados: el listener
+ * de fin de proceso escribe aquí y el long-poll lo lee cuando el proceso ha
+ * terminado en otra réplica. Las filas se purgan pasada
+ * {@code reservasviaje.api.estado.retencion-persistida}.
+ */
+@Component
+@Slf4j
+@Transactional
+public class EstadoProcesoReservaAdaptador implements EstadoReservaPuerto {
+
+    private final EstadoProcesoReservaJpaRepositorio repositorio;
+    private final Duration retencion;
+
+    public EstadoProcesoReservaAdaptador(EstadoProcesoReservaJpaRepositorio repositorio,
+                                         @Value("${reservasviaje.api.estado.retencion-persistida:P1D}") Duration retencion) {
+        this.repositorio = repositorio;
+        this.retencion = retencion;
+    }
+
+    @Override
+    public void guardar(EstadoReservaDTO estado) {
+        repositorio.save(EstadoProcesoReservaEntidad.builder()
+                .processInstanceKey(estado.processInstanceKey())
+                .reservaId(estado.reservaId())
+                .estado(estado.estado())
+                .motivo(estado.motivo())
+                .fechaFinalizacion(estado.fechaFinalizacion())
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EstadoReservaDTO> buscar(long processInstanceKey) {
+        return repositorio.findById(processInstanceKey).map(this::aDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EstadoReservaDTO> buscarFinalizados(Collection<Long> processInstanceKeys) {
+        return repositorio.findAllById(processInstanceKeys).stream()
+                .map(this::aDTO)
+                .toList();
+    }
+
+    /**
+     * Purga periódicamente los estados más antiguos que la retención configurada.
+     */
+    @Scheduled(fixedDelayString = "${reservasviaje.api.estado.purga:PT1H}")
+    public void purgar() {
+        int eliminados = repositorio.eliminarAnterioresA(LocalDateTime.now().minus(retencion));
+        if (eliminados > 0) {
+            log.info("🧹 Purgados {} estados de procesos de reserva", eliminados);
+        }
+    }
+
+    private EstadoReservaDTO aDTO(EstadoProcesoReservaEntidad entidad) {
+        return new EstadoReservaDTO(entidad.getProcessInstanceKey(), entidad.getReservaId(),
+                entidad.getEstado(), entidad.getMotivo(), entidad.getFechaFinalizacion());
+    }
+}
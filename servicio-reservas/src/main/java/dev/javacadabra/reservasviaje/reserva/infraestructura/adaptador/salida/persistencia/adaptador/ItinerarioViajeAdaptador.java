@@ -0,0 +1,227 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ItinerarioViajePuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ItinerarioViaje;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ItinerarioViajeEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReconstruccionItinerarioEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReconstruccionItinerarioEntidad.Estado;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ItinerarioViajeJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReconstruccionItinerarioJpaRepositorio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia para la proyección de itinerarios de viaje.
+ * Implementa el puerto de salida ItinerarioViajePuerto.
+ *
+ * <p>Cada tramo se escribe con un UPDATE de sus columnas; si el itinerario aún
+ * no existe se inserta con persist(), que falla con violación de clave (en
+ * lugar de sobrescribir los otros tramos, como haría un merge) si otro proceso
+ * lo ha creado a la vez.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ItinerarioViajeAdaptador implements ItinerarioViajePuerto {
+
+    private final ItinerarioViajeJpaRepositorio repositorio;
+    private final ReconstruccionItinerarioJpaRepositorio reconstruccionRepositorio;
+    private final EntityManager entityManager;
+
+    @Override
+    public void proyectarTramos(List<TramoItinerario> tramos) {
+        log.debug("💾 Proyectando {} tramos de itinerario", tramos.size());
+
+        LocalDateTime fecha = LocalDateTime.now();
+        try {
+            for (TramoItinerario tramo : tramos) {
+                if (actualizarTramo(tramo, fecha) == 0) {
+                    entityManager.persist(nuevoItinerario(tramo, fecha));
+                }
+            }
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (!ViolacionesRestriccion.esViolacion(e)) {
+                throw e;
+            }
+            throw new DataIntegrityViolationException("Itinerario creado en paralelo al proyectar el lote", e);
+        }
+        entityManager.clear();
+    }
+
+    @Override
+    public int marcarCancelado(TipoReserva tipo, String reservaId, LocalDateTime fecha) {
+        String cancelada = EstadoReserva.CANCELADA.name();
+        return switch (tipo) {
+            case VUELO -> repositorio.actualizarEstadoVuelo(reservaId, cancelada, fecha);
+            case HOTEL -> repositorio.actualizarEstadoHotel(reservaId, cancelada, fecha);
+            case COCHE -> repositorio.actualizarEstadoCoche(reservaId, cancelada, fecha);
+        };
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ItinerarioViaje> buscarPorReservaViajeId(String reservaViajeId) {
+        return repositorio.findById(reservaViajeId).map(this::aDominio);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ItinerarioViaje> buscarPorCliente(String clienteId, int limite) {
+        return repositorio.findByClienteIdOrderByFechaCreacionDesc(clienteId, Limit.of(limite)).stream()
+                .map(this::aDominio)
+                .toList();
+    }
+
+    @Override
+    public void vaciar() {
+        log.info("🗑️ Vaciando la proyección de itinerarios");
+        repositorio.deleteAllInBatch();
+    }
+
+    @Override
+    public boolean reclamarReconstruccion(String propietario, LocalDateTime fecha, LocalDateTime caducidad) {
+        if (reconstruccionRepositorio.reclamar(ReconstruccionItinerarioEntidad.ID, propietario, fecha, caducidad,
+                Estado.PENDIENTE, Estado.EN_CURSO) == 1) {
+            return true;
+        }
+        if (reconstruccionRepositorio.existsById(ReconstruccionItinerarioEntidad.ID)) {
+            return false;
+        }
+
+        // Sin marca: la crea ya reclamada; si otra réplica la crea a la vez, falla por clave
+        try {
+            entityManager.persist(ReconstruccionItinerarioEntidad.builder()
+                    .id(ReconstruccionItinerarioEntidad.ID)
+                    .fechaInicio(fecha)
+                    .estado(Estado.EN_CURSO)
+                    .propietario(propietario)
+                    .fechaRenovacion(fecha)
+                    .build());
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            if (!ViolacionesRestriccion.esViolacion(e)) {
+                throw e;
+            }
+            throw new DataIntegrityViolationException("Reconstrucción de itinerarios reclamada en paralelo", e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean renovarReconstruccion(String propietario, LocalDateTime fecha) {
+        return reconstruccionRepositorio.renovar(
+                ReconstruccionItinerarioEntidad.ID, propietario, fecha, Estado.EN_CURSO) == 1;
+    }
+
+    @Override
+    public void liberarReconstruccion(String propietario) {
+        reconstruccionRepositorio.liberar(ReconstruccionItinerarioEntidad.ID, propietario, Estado.PENDIENTE);
+    }
+
+    @Override
+    public void marcarReconstruccionTerminada(String propietario) {
+        reconstruccionRepositorio.eliminar(ReconstruccionItinerarioEntidad.ID, propietario);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hayReconstruccionPendiente() {
+        return reconstruccionRepositorio.existsById(ReconstruccionItinerarioEntidad.ID);
+    }
+
+    private int actualizarTramo(TramoItinerario tramo, LocalDateTime fecha) {
+        return switch (tramo.tipo()) {
+            case VUELO -> repositorio.actualizarTramoVuelo(tramo.reservaViajeId(), tramo.reservaId(),
+                    tramo.descripcion(), tramo.fechaInicio(), tramo.fechaFin(), tramo.precio(),
+                    tramo.codigoMoneda(), tramo.estado().name(), fecha);
+            case HOTEL -> repositorio.actualizarTramoHotel(tramo.reservaViajeId(), tramo.reservaId(),
+                    tramo.descripcion(), tramo.fechaInicio(), tramo.fechaFin(), tramo.precio(),
+                    tramo.codigoMoneda(), tramo.estado().name(), fecha);
+            case COCHE -> repositorio.actualizarTramoCoche(tramo.reservaViajeId(), tramo.reservaId(),
+                    tramo.descripcion(), tramo.fechaInicio(), tramo.fechaFin(), tramo.precio(),
+                    tramo.codigoMoneda(), tramo.estado().name(), fecha);
+        };
+    }
+
+    private ItinerarioViajeEntidad nuevoItinerario(TramoItinerario tramo, LocalDateTime fecha) {
+        ItinerarioViajeEntidad.ItinerarioViajeEntidadBuilder builder = ItinerarioViajeEntidad.builder()
+                .reservaViajeId(tramo.reservaViajeId())
+                .clienteId(tramo.clienteId())
+                .fechaCreacion(fecha)
+                .fechaModificacion(fecha);
+
+        String estado = tramo.estado().name();
+        switch (tramo.tipo()) {
+            case VUELO -> builder
+                    .vueloReservaId(tramo.reservaId())
+                    .vueloDescripcion(tramo.descripcion())
+                    .vueloFechaInicio(tramo.fechaInicio())
+                    .vueloFechaFin(tramo.fechaFin())
+                    .vueloPrecio(tramo.precio())
+                    .vueloCodigoMoneda(tramo.codigoMoneda())
+                    .vueloEstado(estado);
+            case HOTEL -> builder
+                    .hotelReservaId(tramo.reservaId())
+                    .hotelDescripcion(tramo.descripcion())
+                    .hotelFechaInicio(tramo.fechaInicio())
+                    .hotelFechaFin(tramo.fechaFin())
+                    .hotelPrecio(tramo.precio())
+                    .hotelCodigoMoneda(tramo.codigoMoneda())
+                    .hotelEstado(estado);
+            case COCHE -> builder
+                    .cocheReservaId(tramo.reservaId())
+                    .cocheDescripcion(tramo.descripcion())
+                    .cocheFechaInicio(tramo.fechaInicio())
+                    .cocheFechaFin(tramo.fechaFin())
+                    .cochePrecio(tramo.precio())
+                    .cocheCodigoMoneda(tramo.codigoMoneda())
+                    .cocheEstado(estado);
+        }
+        return builder.build();
+    }
+
+    private ItinerarioViaje aDominio(ItinerarioViajeEntidad entidad) {
+        String reservaViajeId = entidad.getReservaViajeId();
+        String clienteId = entidad.getClienteId();
+        return new ItinerarioViaje(
+                reservaViajeId,
+                clienteId,
+                aTramo(reservaViajeId, clienteId, TipoReserva.VUELO, entidad.getVueloReservaId(),
+                        entidad.getVueloDescripcion(), entidad.getVueloFechaInicio(), entidad.getVueloFechaFin(),
+                        entidad.getVueloPrecio(), entidad.getVueloCodigoMoneda(), entidad.getVueloEstado()),
+                aTramo(reservaViajeId, clienteId, TipoReserva.HOTEL, entidad.getHotelReservaId(),
+                        entidad.getHotelDescripcion(), entidad.getHotelFechaInicio(), entidad.getHotelFechaFin(),
+                        entidad.getHotelPrecio(), entidad.getHotelCodigoMoneda(), entidad.getHotelEstado()),
+                aTramo(reservaViajeId, clienteId, TipoReserva.COCHE, entidad.getCocheReservaId(),
+                        entidad.getCocheDescripcion(), entidad.getCocheFechaInicio(), entidad.getCocheFechaFin(),
+                        entidad.getCochePrecio(), entidad.getCocheCodigoMoneda(), entidad.getCocheEstado()),
+                entidad.getFechaModificacion()
+        );
+    }
+
+    private TramoItinerario aTramo(String reservaViajeId, String clienteId, TipoReserva tipo, String reservaId,
+                                   String descripcion, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                                   BigDecimal precio, String codigoMoneda, String estado) {
+        if (reservaId == null) {
+            return null;
+        }
+        return new TramoItinerario(reservaViajeId, clienteId, tipo, reservaId, descripcion,
+                fechaInicio, fechaFin, precio, codigoMoneda, EstadoReserva.valueOf(estado));
+    }
+}
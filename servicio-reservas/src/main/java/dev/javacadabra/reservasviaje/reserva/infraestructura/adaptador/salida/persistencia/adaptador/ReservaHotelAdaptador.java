@@ -2,6 +2,7 @@ package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.p
 
 import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservaHotelPuerto;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.agregado.ReservaHotel;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
 import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaId;
 import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReservaHotelEntidad;
 import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.mapeador.ReservaHotelMapeador;
@@ -11,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -79,4 +82,30 @@ public class ReservaHotelAdaptador implements ReservaHotelPuerto {
 
         log.debug("✅ Reserva de hotel eliminada: {}", reservaId.getValor());
     }
+
+    @Override
+    public int cancelarSiPermitido(ReservaId reservaId, String motivo, LocalDateTime fecha) {
+        log.debug("🛑 Cancelando reserva de hotel: {}", reservaId.getValor());
+
+        List<String> estados = EstadoReserva.cancelables().stream()
+                .map(EstadoReserva::name)
+                .toList();
+        int filas = repositorio.cancelarSiEstadoEn(
+                reservaId.getValor(), EstadoReserva.CANCELADA.name(), motivo, fecha, estados);
+
+        log.debug("✅ Filas canceladas para reserva de hotel {}: {}", reservaId.getValor(), filas);
+
+        return filas;
+    }
+
+    @Override
+    public Optional<EstadoReserva> buscarEstado(ReservaId reservaId) {
+        return repositorio.findEstadoByReservaId(reservaId.getValor())
+                .map(EstadoReserva::desdeNombre);
+    }
+
+    @Override
+    public Optional<String> buscarClienteId(ReservaId reservaId) {
+        return repositorio.findClienteIdByReservaId(reservaId.getValor());
+    }
 }
\ No newline at end of file
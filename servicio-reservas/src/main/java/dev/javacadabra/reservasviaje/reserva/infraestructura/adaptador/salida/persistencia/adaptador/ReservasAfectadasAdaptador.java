@@ -0,0 +1,87 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.ReservasAfectadasPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaHotelJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaVueloJpaRepositorio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adaptador de persistencia para la selección y cancelación en bloque de
+ * reservas de vuelo y hotel afectadas por una incidencia.
+ * Implementa el puerto de salida ReservasAfectadasPuerto.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ReservasAfectadasAdaptador implements ReservasAfectadasPuerto {
+
+    private static final List<String> ESTADOS_CANCELABLES = EstadoReserva.cancelables().stream()
+            .map(EstadoReserva::name)
+            .toList();
+
+    private final ReservaVueloJpaRepositorio reservaVueloRepositorio;
+    private final ReservaHotelJpaRepositorio reservaHotelRepositorio;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservaAfectada> buscarCancelables(CriterioCancelacionMasiva criterio,
+                                                   String despuesDeReservaId,
+                                                   int limite) {
+        return switch (criterio.tipo()) {
+            case VUELO -> reservaVueloRepositorio.findCancelablesPorVuelo(
+                    criterio.numeroVuelo(),
+                    criterio.fecha().atStartOfDay(),
+                    criterio.fecha().plusDays(1).atStartOfDay(),
+                    ESTADOS_CANCELABLES,
+                    despuesDeReservaId,
+                    Limit.of(limite));
+            case HOTEL -> reservaHotelRepositorio.findCancelablesPorHotel(
+                    criterio.nombreHotel(),
+                    criterio.ciudad(),
+                    criterio.fecha(),
+                    ESTADOS_CANCELABLES,
+                    despuesDeReservaId,
+                    Limit.of(limite));
+        };
+    }
+
+    @Override
+    public List<ReservaAfectada> cancelarLote(CriterioCancelacionMasiva.TipoReservaAfectada tipo,
+                                              List<String> reservaIds,
+                                              String motivo,
+                                              LocalDateTime fecha) {
+        // Bloquear las candidatas que siguen siendo cancelables y cancelar exactamente esas por ID
+        List<ReservaAfectada> canceladas = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findCancelablesParaCancelar(reservaIds, ESTADOS_CANCELABLES).stream()
+                    .map(r -> new ReservaAfectada(r.getReservaId(), r.getClienteId(), r.getReservaViajeId()))
+                    .toList();
+            case HOTEL -> reservaHotelRepositorio.findCancelablesParaCancelar(reservaIds, ESTADOS_CANCELABLES).stream()
+                    .map(r -> new ReservaAfectada(r.getReservaId(), r.getClienteId(), r.getReservaViajeId()))
+                    .toList();
+        };
+
+        if (!canceladas.isEmpty()) {
+            List<String> bloqueadas = canceladas.stream().map(ReservaAfectada::reservaId).toList();
+            String cancelada = EstadoReserva.CANCELADA.name();
+            switch (tipo) {
+                case VUELO -> reservaVueloRepositorio.cancelarPorIds(bloqueadas, cancelada, motivo, fecha);
+                case HOTEL -> reservaHotelRepositorio.cancelarPorIds(bloqueadas, cancelada, motivo, fecha);
+            }
+        }
+
+        log.debug("🛑 Lote de {} reservas de {}: {} canceladas", reservaIds.size(), tipo, canceladas.size());
+
+        return canceladas;
+    }
+}
@@ -0,0 +1,92 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.TramosReservaPuerto;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaCocheJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaHotelJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaVueloJpaRepositorio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Adaptador de persistencia que lee los tramos de itinerario de las tablas de
+ * reservas. El recorrido por clave no materializa entidades; la relectura con
+ * bloqueo sí, porque el bloqueo se aplica a las filas de la entidad.
+ * Implementa el puerto de salida TramosReservaPuerto.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TramosReservaAdaptador implements TramosReservaPuerto {
+
+    private final ReservaVueloJpaRepositorio reservaVueloRepositorio;
+    private final ReservaHotelJpaRepositorio reservaHotelRepositorio;
+    private final ReservaCocheJpaRepositorio reservaCocheRepositorio;
+
+    @Override
+    public List<TramoItinerario> buscarTramos(TipoReserva tipo, String despuesDeReservaId, int limite) {
+        Limit filas = Limit.of(limite);
+        List<TramoItinerarioFila> tramos = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findTramosItinerario(despuesDeReservaId, filas);
+            case HOTEL -> reservaHotelRepositorio.findTramosItinerario(despuesDeReservaId, filas);
+            case COCHE -> reservaCocheRepositorio.findTramosItinerario(despuesDeReservaId, filas);
+        };
+
+        log.debug("📖 {} tramos de {} leídos tras {}", tramos.size(), tipo, despuesDeReservaId);
+
+        return aTramos(tipo, tramos);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<TramoItinerario> bloquearTramos(TipoReserva tipo, List<String> reservaIds) {
+        List<TramoItinerarioFila> tramos = switch (tipo) {
+            case VUELO -> reservaVueloRepositorio.findVinculadasParaProyectar(reservaIds).stream()
+                    .map(r -> new TramoItinerarioFila(r.getReservaViajeId(), r.getClienteId(), r.getReservaId(),
+                            r.getNumeroVuelo(), r.getFechaSalida(), r.getFechaLlegada(), r.getPrecio(),
+                            r.getCodigoMoneda(), r.getEstado()))
+                    .toList();
+            case HOTEL -> reservaHotelRepositorio.findVinculadasParaProyectar(reservaIds).stream()
+                    .map(r -> new TramoItinerarioFila(r.getReservaViajeId(), r.getClienteId(), r.getReservaId(),
+                            r.getNombreHotel(), r.getFechaEntrada(), r.getFechaSalida(), r.getPrecio(),
+                            r.getCodigoMoneda(), r.getEstado()))
+                    .toList();
+            case COCHE -> reservaCocheRepositorio.findVinculadasParaProyectar(reservaIds).stream()
+                    .map(r -> new TramoItinerarioFila(r.getReservaViajeId(), r.getClienteId(), r.getReservaId(),
+                            r.getModeloCoche(), r.getFechaRecogida(), r.getFechaDevolucion(), r.getPrecio(),
+                            r.getCodigoMoneda(), r.getEstado()))
+                    .toList();
+        };
+
+        log.debug("🔒 {} tramos de {} bloqueados para proyectar", tramos.size(), tipo);
+
+        return aTramos(tipo, tramos);
+    }
+
+    private List<TramoItinerario> aTramos(TipoReserva tipo, List<TramoItinerarioFila> tramos) {
+        return tramos.stream()
+                .map(fila -> new TramoItinerario(
+                        fila.reservaViajeId(),
+                        fila.clienteId(),
+                        tipo,
+                        fila.reservaId(),
+                        fila.descripcion(),
+                        fila.fechaInicio(),
+                        fila.fechaFin(),
+                        fila.precio(),
+                        fila.codigoMoneda(),
+                        EstadoReserva.valueOf(fila.estado())
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+
+/**
+ * Reconoce las violaciones de restricción en los fallos de {@code persist}/{@code flush}.
+ *
+ * <p>Las llamadas directas al {@code EntityManager} no pasan por la traducción de
+ * excepciones de Spring, y Hibernate puede envolver la
+ * {@link ConstraintViolationException} en una {@link PersistenceException}
+ * genérica: hay que buscarla en la cadena de causas.
+ */
+final class ViolacionesRestriccion {
+
+    private ViolacionesRestriccion() {
+    }
+
+    /**
+     * Indica si el fallo lo provoca una restricción de BD (clave duplicada, único...).
+     *
+     * @param e excepción lanzada por el {@code EntityManager}
+     * @return true si hay una violación de restricción en la cadena de causas
+     */
+    static boolean esViolacion(PersistenceException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
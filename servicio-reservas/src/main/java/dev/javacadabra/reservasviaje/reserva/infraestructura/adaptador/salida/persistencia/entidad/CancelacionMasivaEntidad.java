@@ -0,0 +1,76 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA con una cancelación masiva de reservas y su progreso.
+ */
+@Entity
+@Table(name = "cancelacion_masiva", indexes = {
+        @Index(name = "idx_cancelacion_masiva_estado", columnList = "estado")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancelacionMasivaEntidad {
+
+    @Id
+    @Column(name = "id", nullable = false, length = 100)
+    private String id;
+
+    // Criterio
+    @Column(name = "tipo", nullable = false, length = 20)
+    private String tipo;
+
+    @Column(name = "numero_vuelo", length = 20)
+    private String numeroVuelo;
+
+    @Column(name = "nombre_hotel", length = 200)
+    private String nombreHotel;
+
+    @Column(name = "ciudad", length = 100)
+    private String ciudad;
+
+    @Column(name = "fecha", nullable = false)
+    private LocalDate fecha;
+
+    @Column(name = "motivo", nullable = false, columnDefinition = "TEXT")
+    private String motivo;
+
+    // Progreso
+    @Column(name = "estado", nullable = false, length = 20)
+    private String estado;
+
+    @Column(name = "ultima_reserva_id", length = 100)
+    private String ultimaReservaId;
+
+    @Column(name = "reservas_canceladas", nullable = false)
+    private long reservasCanceladas;
+
+    @Column(name = "procesos_compensados", nullable = false)
+    private long procesosCompensados;
+
+    @Column(name = "lotes_procesados", nullable = false)
+    private long lotesProcesados;
+
+    @Column(name = "error", columnDefinition = "TEXT")
+    private String error;
+
+    // Fechas
+    @Column(name = "fecha_inicio", nullable = false, updatable = false)
+    private LocalDateTime fechaInicio;
+
+    @Column(name = "fecha_modificacion")
+    private LocalDateTime fechaModificacion;
+
+    @Column(name = "fecha_fin")
+    private LocalDateTime fechaFin;
+}
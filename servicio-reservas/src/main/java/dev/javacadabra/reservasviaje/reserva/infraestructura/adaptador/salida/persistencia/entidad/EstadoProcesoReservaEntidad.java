@@ -0,0 +1,41 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA con el estado final de un proceso de reserva, para que cualquier
+ * réplica pueda responder al long-poll de estado aunque el proceso haya
+ * terminado en otra.
+ */
+@Entity
+@Table(name = "estado_proceso_reserva", indexes = {
+        @Index(name = "idx_estado_proceso_reserva_fecha", columnList = "fecha_finalizacion")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstadoProcesoReservaEntidad {
+
+    @Id
+    @Column(name = "process_instance_key", nullable = false)
+    private Long processInstanceKey;
+
+    @Column(name = "reserva_id", length = 100)
+    private String reservaId;
+
+    @Column(name = "estado", nullable = false, length = 20)
+    private String estado;
+
+    @Column(name = "motivo", columnDefinition = "TEXT")
+    private String motivo;
+
+    @Column(name = "fecha_finalizacion", nullable = false)
+    private LocalDateTime fechaFinalizacion;
+}
@@ -0,0 +1,111 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA de la proyección de itinerarios: una fila por reserva de viaje
+ * con los tramos de vuelo, hotel y coche desnormalizados.
+ *
+ * <p>Modelo de lectura: se escribe solo desde la proyección de eventos y la
+ * reconstrucción, nunca desde los casos de uso de reserva.
+ */
+@Entity
+@Table(name = "itinerario_viaje", indexes = {
+        @Index(name = "idx_itinerario_viaje_cliente", columnList = "cliente_id, fecha_creacion"),
+        @Index(name = "idx_itinerario_viaje_vuelo", columnList = "vuelo_reserva_id"),
+        @Index(name = "idx_itinerario_viaje_hotel", columnList = "hotel_reserva_id"),
+        @Index(name = "idx_itinerario_viaje_coche", columnList = "coche_reserva_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItinerarioViajeEntidad {
+
+    @Id
+    @Column(name = "reserva_viaje_id", nullable = false, length = 100)
+    private String reservaViajeId;
+
+    @Column(name = "cliente_id", nullable = false, length = 100)
+    private String clienteId;
+
+    // Tramo de vuelo
+    @Column(name = "vuelo_reserva_id", length = 100)
+    private String vueloReservaId;
+
+    @Column(name = "vuelo_descripcion", length = 200)
+    private String vueloDescripcion;
+
+    @Column(name = "vuelo_fecha_inicio")
+    private LocalDateTime vueloFechaInicio;
+
+    @Column(name = "vuelo_fecha_fin")
+    private LocalDateTime vueloFechaFin;
+
+    @Column(name = "vuelo_precio", precision = 10, scale = 2)
+    private BigDecimal vueloPrecio;
+
+    @Column(name = "vuelo_codigo_moneda", length = 3)
+    private String vueloCodigoMoneda;
+
+    @Column(name = "vuelo_estado", length = 50)
+    private String vueloEstado;
+
+    // Tramo de hotel
+    @Column(name = "hotel_reserva_id", length = 100)
+    private String hotelReservaId;
+
+    @Column(name = "hotel_descripcion", length = 200)
+    private String hotelDescripcion;
+
+    @Column(name = "hotel_fecha_inicio")
+    private LocalDateTime hotelFechaInicio;
+
+    @Column(name = "hotel_fecha_fin")
+    private LocalDateTime hotelFechaFin;
+
+    @Column(name = "hotel_precio", precision = 10, scale = 2)
+    private BigDecimal hotelPrecio;
+
+    @Column(name = "hotel_codigo_moneda", length = 3)
+    private String hotelCodigoMoneda;
+
+    @Column(name = "hotel_estado", length = 50)
+    private String hotelEstado;
+
+    // Tramo de coche
+    @Column(name = "coche_reserva_id", length = 100)
+    private String cocheReservaId;
+
+    @Column(name = "coche_descripcion", length = 200)
+    private String cocheDescripcion;
+
+    @Column(name = "coche_fecha_inicio")
+    private LocalDateTime cocheFechaInicio;
+
+    @Column(name = "coche_fecha_fin")
+    private LocalDateTime cocheFechaFin;
+
+    @Column(name = "coche_precio", precision = 10, scale = 2)
+    private BigDecimal cochePrecio;
+
+    @Column(name = "coche_codigo_moneda", length = 3)
+    private String cocheCodigoMoneda;
+
+    @Column(name = "coche_estado", length = 50)
+    private String cocheEstado;
+
+    // Auditoría
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_modificacion", nullable = false)
+    private LocalDateTime fechaModificacion;
+}
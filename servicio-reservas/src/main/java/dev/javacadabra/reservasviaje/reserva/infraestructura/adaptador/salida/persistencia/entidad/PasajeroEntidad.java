@@ -7,6 +7,10 @@ import java.time.LocalDate;
 
 /**
  * Entidad JPA que representa un pasajero en la base de datos.
+ *
+ * <p>El ID sale de una secuencia con asignación en bloque: a diferencia de
+ * IDENTITY, Hibernate conoce el ID antes del INSERT y puede agrupar los
+ * pasajeros de una reserva en un único batch JDBC.
  */
 @Entity
 @Table(name = "pasajero")
@@ -18,7 +22,8 @@ import java.time.LocalDate;
 public class PasajeroEntidad {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pasajero_seq")
+    @SequenceGenerator(name = "pasajero_seq", sequenceName = "pasajero_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nombre", nullable = false, length = 100)
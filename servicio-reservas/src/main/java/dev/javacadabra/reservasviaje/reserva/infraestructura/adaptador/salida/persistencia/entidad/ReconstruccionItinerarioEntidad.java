@@ -0,0 +1,60 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA que marca una reconstrucción de la proyección de itinerarios sin
+ * terminar. La fila existe mientras dura la reconstrucción; si sigue ahí al
+ * arrancar, la reconstrucción se interrumpió y hay que relanzarla.
+ *
+ * <p>La réplica que reconstruye reclama la fila ({@code EN_CURSO} con su
+ * identificador) y la renueva mientras avanza. Otra réplica solo puede
+ * reclamarla si está {@code PENDIENTE} o si su propietaria dejó de renovarla.
+ */
+@Entity
+@Table(name = "reconstruccion_itinerario")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconstruccionItinerarioEntidad {
+
+    /**
+     * Única fila de la tabla.
+     */
+    public static final String ID = "itinerario_viaje";
+
+    @Id
+    @Column(name = "id", nullable = false, length = 50)
+    private String id;
+
+    @Column(name = "fecha_inicio", nullable = false)
+    private LocalDateTime fechaInicio;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado", nullable = false, length = 20)
+    private Estado estado;
+
+    @Column(name = "propietario", length = 36)
+    private String propietario;
+
+    @Column(name = "fecha_renovacion", nullable = false)
+    private LocalDateTime fechaRenovacion;
+
+    public enum Estado {
+        /**
+         * Interrumpida y sin réplica que la esté ejecutando.
+         */
+        PENDIENTE,
+        /**
+         * En ejecución en la réplica {@code propietario}.
+         */
+        EN_CURSO
+    }
+}
@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
  * Separada del agregado de dominio para mantener la arquitectura hexagonal.
  */
 @Entity
-@Table(name = "reserva_coche")
+@Table(name = "reserva_coche", indexes = {
+        @Index(name = "idx_reserva_coche_cliente", columnList = "cliente_id, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_coche_estado", columnList = "estado, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_coche_recogida", columnList = "fecha_recogida, reserva_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -68,6 +72,10 @@ public class ReservaCocheEntidad {
     @Column(name = "codigo_confirmacion", length = 50)
     private String codigoConfirmacion;
 
+    // Reserva de viaje (proceso principal) que originó esta reserva
+    @Column(name = "reserva_viaje_id", length = 100)
+    private String reservaViajeId;
+
     @Column(name = "motivo_cancelacion", columnDefinition = "TEXT")
     private String motivoCancelacion;
 
@@ -15,7 +15,12 @@ import java.time.LocalDateTime;
  * Separada del agregado de dominio para mantener la arquitectura hexagonal.
  */
 @Entity
-@Table(name = "reserva_hotel")
+@Table(name = "reserva_hotel", indexes = {
+        @Index(name = "idx_reserva_hotel_hotel_entrada", columnList = "nombre_hotel, ciudad, fecha_entrada"),
+        @Index(name = "idx_reserva_hotel_cliente", columnList = "cliente_id, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_hotel_estado", columnList = "estado, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_hotel_entrada", columnList = "fecha_entrada, reserva_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -72,6 +77,10 @@ public class ReservaHotelEntidad {
     @Column(name = "codigo_confirmacion", length = 50)
     private String codigoConfirmacion;
 
+    // Reserva de viaje (proceso principal) que originó esta reserva
+    @Column(name = "reserva_viaje_id", length = 100)
+    private String reservaViajeId;
+
     @Column(name = "motivo_cancelacion", columnDefinition = "TEXT")
     private String motivoCancelacion;
 
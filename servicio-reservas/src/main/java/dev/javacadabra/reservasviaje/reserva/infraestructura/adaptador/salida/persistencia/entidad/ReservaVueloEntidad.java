@@ -16,7 +16,12 @@ import java.util.List;
  * Separada del agregado de dominio para mantener la arquitectura hexagonal.
  */
 @Entity
-@Table(name = "reserva_vuelo")
+@Table(name = "reserva_vuelo", indexes = {
+        @Index(name = "idx_reserva_vuelo_vuelo_salida", columnList = "numero_vuelo, fecha_salida, reserva_id"),
+        @Index(name = "idx_reserva_vuelo_cliente", columnList = "cliente_id, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_vuelo_estado", columnList = "estado, fecha_creacion, reserva_id"),
+        @Index(name = "idx_reserva_vuelo_salida", columnList = "fecha_salida, reserva_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -77,6 +82,10 @@ public class ReservaVueloEntidad {
     @Column(name = "codigo_confirmacion", length = 50)
     private String codigoConfirmacion;
 
+    // Reserva de viaje (proceso principal) que originó esta reserva
+    @Column(name = "reserva_viaje_id", length = 100)
+    private String reservaViajeId;
+
     @Column(name = "motivo_cancelacion", columnDefinition = "TEXT")
     private String motivoCancelacion;
 
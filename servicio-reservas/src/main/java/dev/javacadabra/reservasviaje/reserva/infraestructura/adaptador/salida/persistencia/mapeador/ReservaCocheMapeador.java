@@ -26,6 +26,7 @@ public interface ReservaCocheMapeador {
     @Mapping(target = "clienteId", source = "detalleReserva.clienteId")
     @Mapping(target = "observaciones", source = "detalleReserva.observaciones")
     @Mapping(target = "codigoConfirmacion", source = "detalleReserva.codigoConfirmacion")
+    @Mapping(target = "reservaViajeId", source = "detalleReserva.reservaViajeId")
     @Mapping(target = "motivoCancelacion", source = "detalleReserva.motivoCancelacion")
     @Mapping(target = "fechaCreacion", source = "fechaCreacion")
     @Mapping(target = "fechaModificacion", source = "fechaModificacion")
@@ -71,6 +72,7 @@ public interface ReservaCocheMapeador {
                 .clienteId(entidad.getClienteId())
                 .observaciones(entidad.getObservaciones())
                 .codigoConfirmacion(entidad.getCodigoConfirmacion())
+                .reservaViajeId(entidad.getReservaViajeId())
                 .fechaCreacion(entidad.getFechaCreacion())
                 .fechaModificacion(entidad.getFechaModificacion())
                 .motivoCancelacion(entidad.getMotivoCancelacion())
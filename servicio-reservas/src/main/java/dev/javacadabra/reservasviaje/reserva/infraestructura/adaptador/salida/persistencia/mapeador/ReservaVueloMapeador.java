@@ -31,6 +31,7 @@ public interface ReservaVueloMapeador {
     @Mapping(target = "clienteId", source = "detalleReserva.clienteId")
     @Mapping(target = "observaciones", source = "detalleReserva.observaciones")
     @Mapping(target = "codigoConfirmacion", source = "detalleReserva.codigoConfirmacion")
+    @Mapping(target = "reservaViajeId", source = "detalleReserva.reservaViajeId")
     @Mapping(target = "motivoCancelacion", source = "detalleReserva.motivoCancelacion")
     @Mapping(target = "fechaCreacion", source = "fechaCreacion")
     @Mapping(target = "fechaModificacion", source = "fechaModificacion")
@@ -91,6 +92,7 @@ public interface ReservaVueloMapeador {
                 .clienteId(entidad.getClienteId())
                 .observaciones(entidad.getObservaciones())
                 .codigoConfirmacion(entidad.getCodigoConfirmacion())
+                .reservaViajeId(entidad.getReservaViajeId())
                 .fechaCreacion(entidad.getFechaCreacion())
                 .fechaModificacion(entidad.getFechaModificacion())
                 .motivoCancelacion(entidad.getMotivoCancelacion())
@@ -0,0 +1,42 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con las columnas de una reserva que necesitan los listados de
+ * consulta, sin materializar la entidad ni sus relaciones.
+ *
+ * @param reservaId ID de la reserva
+ * @param clienteId ID del cliente
+ * @param estado estado de la reserva
+ * @param descripcion descripción compuesta en la consulta
+ * @param fechaInicio salida, entrada o recogida
+ * @param fechaFin llegada, salida o devolución
+ * @param precio precio de la reserva
+ * @param codigoMoneda código ISO de la moneda
+ * @param fechaCreacion fecha de creación
+ */
+public record ResumenReservaFila(
+        String reservaId,
+        String clienteId,
+        String estado,
+        String descripcion,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaFin,
+        BigDecimal precio,
+        String codigoMoneda,
+        LocalDateTime fechaCreacion
+) {
+
+    /**
+     * Constructor para las reservas de hotel, cuyas fechas de estancia son días.
+     */
+    public ResumenReservaFila(String reservaId, String clienteId, String estado, String descripcion,
+                              LocalDate fechaEntrada, LocalDate fechaSalida, BigDecimal precio,
+                              String codigoMoneda, LocalDateTime fechaCreacion) {
+        this(reservaId, clienteId, estado, descripcion, fechaEntrada.atStartOfDay(), fechaSalida.atStartOfDay(),
+                precio, codigoMoneda, fechaCreacion);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con las columnas de una reserva que forman un tramo de
+ * itinerario (reconstrucción de la proyección de itinerarios).
+ *
+ * @param reservaViajeId ID de la reserva de viaje
+ * @param clienteId ID del cliente
+ * @param reservaId ID de la reserva
+ * @param descripcion número de vuelo, nombre del hotel o modelo de coche
+ * @param fechaInicio salida, entrada o recogida
+ * @param fechaFin llegada, salida o devolución
+ * @param precio precio de la reserva
+ * @param codigoMoneda código ISO de la moneda
+ * @param estado estado de la reserva
+ */
+public record TramoItinerarioFila(
+        String reservaViajeId,
+        String clienteId,
+        String reservaId,
+        String descripcion,
+        LocalDateTime fechaInicio,
+        LocalDateTime fechaFin,
+        BigDecimal precio,
+        String codigoMoneda,
+        String estado
+) {
+
+    /**
+     * Constructor para las reservas de hotel, cuyas fechas de estancia son días.
+     */
+    public TramoItinerarioFila(String reservaViajeId, String clienteId, String reservaId, String descripcion,
+                               LocalDate fechaEntrada, LocalDate fechaSalida, BigDecimal precio,
+                               String codigoMoneda, String estado) {
+        this(reservaViajeId, clienteId, reservaId, descripcion, fechaEntrada.atStartOfDay(),
+                fechaSalida.atStartOfDay(), precio, codigoMoneda, estado);
+    }
+}
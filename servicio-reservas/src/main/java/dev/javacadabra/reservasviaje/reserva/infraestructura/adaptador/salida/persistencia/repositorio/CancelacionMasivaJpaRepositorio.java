@@ -0,0 +1,7 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.CancelacionMasivaEntidad;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CancelacionMasivaJpaRepositorio extends JpaRepository<CancelacionMasivaEntidad, String> {
+}
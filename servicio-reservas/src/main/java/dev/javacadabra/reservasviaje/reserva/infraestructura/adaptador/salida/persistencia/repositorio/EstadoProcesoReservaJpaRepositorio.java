@@ -0,0 +1,22 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.EstadoProcesoReservaEntidad;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface EstadoProcesoReservaJpaRepositorio extends JpaRepository<EstadoProcesoReservaEntidad, Long> {
+
+    /**
+     * Elimina los estados finalizados antes de la fecha indicada.
+     *
+     * @param limite fecha de finalización mínima a conservar
+     * @return número de estados eliminados
+     */
+    @Modifying
+    @Query("DELETE FROM EstadoProcesoReservaEntidad e WHERE e.fechaFinalizacion < :limite")
+    int eliminarAnterioresA(@Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,177 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ItinerarioViajeEntidad;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ItinerarioViajeJpaRepositorio extends JpaRepository<ItinerarioViajeEntidad, String> {
+
+    /**
+     * Itinerarios de un cliente, del más reciente al más antiguo.
+     *
+     * @param clienteId ID del cliente
+     * @param limite número máximo de filas
+     * @return itinerarios del cliente
+     */
+    List<ItinerarioViajeEntidad> findByClienteIdOrderByFechaCreacionDesc(String clienteId, Limit limite);
+
+    /**
+     * Escribe el tramo de vuelo de un itinerario existente.
+     *
+     * @param reservaViajeId ID de la reserva de viaje
+     * @param reservaId ID de la reserva del tramo
+     * @param descripcion descripción del tramo
+     * @param fechaInicio inicio del tramo
+     * @param fechaFin fin del tramo
+     * @param precio precio del tramo
+     * @param codigoMoneda código ISO de la moneda
+     * @param estado estado de la reserva del tramo
+     * @param fecha fecha de modificación
+     * @return filas actualizadas (0 si el itinerario aún no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.vueloReservaId = :reservaId, i.vueloDescripcion = :descripcion,
+                   i.vueloFechaInicio = :fechaInicio, i.vueloFechaFin = :fechaFin,
+                   i.vueloPrecio = :precio, i.vueloCodigoMoneda = :codigoMoneda,
+                   i.vueloEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.reservaViajeId = :reservaViajeId
+            """)
+    int actualizarTramoVuelo(@Param("reservaViajeId") String reservaViajeId,
+                             @Param("reservaId") String reservaId,
+                             @Param("descripcion") String descripcion,
+                             @Param("fechaInicio") LocalDateTime fechaInicio,
+                             @Param("fechaFin") LocalDateTime fechaFin,
+                             @Param("precio") BigDecimal precio,
+                             @Param("codigoMoneda") String codigoMoneda,
+                             @Param("estado") String estado,
+                             @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Cambia el estado del tramo de vuelo con la reserva indicada.
+     *
+     * @param reservaId ID de la reserva del tramo
+     * @param estado nuevo estado
+     * @param fecha fecha de modificación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.vueloEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.vueloReservaId = :reservaId
+            """)
+    int actualizarEstadoVuelo(@Param("reservaId") String reservaId,
+                              @Param("estado") String estado,
+                              @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Escribe el tramo de hotel de un itinerario existente.
+     *
+     * @param reservaViajeId ID de la reserva de viaje
+     * @param reservaId ID de la reserva del tramo
+     * @param descripcion descripción del tramo
+     * @param fechaInicio inicio del tramo
+     * @param fechaFin fin del tramo
+     * @param precio precio del tramo
+     * @param codigoMoneda código ISO de la moneda
+     * @param estado estado de la reserva del tramo
+     * @param fecha fecha de modificación
+     * @return filas actualizadas (0 si el itinerario aún no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.hotelReservaId = :reservaId, i.hotelDescripcion = :descripcion,
+                   i.hotelFechaInicio = :fechaInicio, i.hotelFechaFin = :fechaFin,
+                   i.hotelPrecio = :precio, i.hotelCodigoMoneda = :codigoMoneda,
+                   i.hotelEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.reservaViajeId = :reservaViajeId
+            """)
+    int actualizarTramoHotel(@Param("reservaViajeId") String reservaViajeId,
+                             @Param("reservaId") String reservaId,
+                             @Param("descripcion") String descripcion,
+                             @Param("fechaInicio") LocalDateTime fechaInicio,
+                             @Param("fechaFin") LocalDateTime fechaFin,
+                             @Param("precio") BigDecimal precio,
+                             @Param("codigoMoneda") String codigoMoneda,
+                             @Param("estado") String estado,
+                             @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Cambia el estado del tramo de hotel con la reserva indicada.
+     *
+     * @param reservaId ID de la reserva del tramo
+     * @param estado nuevo estado
+     * @param fecha fecha de modificación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.hotelEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.hotelReservaId = :reservaId
+            """)
+    int actualizarEstadoHotel(@Param("reservaId") String reservaId,
+                              @Param("estado") String estado,
+                              @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Escribe el tramo de coche de un itinerario existente.
+     *
+     * @param reservaViajeId ID de la reserva de viaje
+     * @param reservaId ID de la reserva del tramo
+     * @param descripcion descripción del tramo
+     * @param fechaInicio inicio del tramo
+     * @param fechaFin fin del tramo
+     * @param precio precio del tramo
+     * @param codigoMoneda código ISO de la moneda
+     * @param estado estado de la reserva del tramo
+     * @param fecha fecha de modificación
+     * @return filas actualizadas (0 si el itinerario aún no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.cocheReservaId = :reservaId, i.cocheDescripcion = :descripcion,
+                   i.cocheFechaInicio = :fechaInicio, i.cocheFechaFin = :fechaFin,
+                   i.cochePrecio = :precio, i.cocheCodigoMoneda = :codigoMoneda,
+                   i.cocheEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.reservaViajeId = :reservaViajeId
+            """)
+    int actualizarTramoCoche(@Param("reservaViajeId") String reservaViajeId,
+                             @Param("reservaId") String reservaId,
+                             @Param("descripcion") String descripcion,
+                             @Param("fechaInicio") LocalDateTime fechaInicio,
+                             @Param("fechaFin") LocalDateTime fechaFin,
+                             @Param("precio") BigDecimal precio,
+                             @Param("codigoMoneda") String codigoMoneda,
+                             @Param("estado") String estado,
+                             @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Cambia el estado del tramo de coche con la reserva indicada.
+     *
+     * @param reservaId ID de la reserva del tramo
+     * @param estado nuevo estado
+     * @param fecha fecha de modificación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ItinerarioViajeEntidad i
+               SET i.cocheEstado = :estado, i.fechaModificacion = :fecha
+             WHERE i.cocheReservaId = :reservaId
+            """)
+    int actualizarEstadoCoche(@Param("reservaId") String reservaId,
+                              @Param("estado") String estado,
+                              @Param("fecha") LocalDateTime fecha);
+}
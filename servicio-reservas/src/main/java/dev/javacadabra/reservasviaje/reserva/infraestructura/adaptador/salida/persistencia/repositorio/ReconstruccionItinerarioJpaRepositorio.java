@@ -0,0 +1,89 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReconstruccionItinerarioEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReconstruccionItinerarioEntidad.Estado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ReconstruccionItinerarioJpaRepositorio extends JpaRepository<ReconstruccionItinerarioEntidad, String> {
+
+    /**
+     * Pasa la marca a {@code EN_CURSO} para el propietario indicado si está
+     * {@code PENDIENTE} o si su propietaria no la renueva desde antes de
+     * {@code caducidad}.
+     *
+     * @param id ID de la marca
+     * @param propietario réplica que reclama la reconstrucción
+     * @param fecha fecha de inicio y de renovación
+     * @param caducidad renovaciones anteriores a esta fecha se consideran abandonadas
+     * @param pendiente estado {@code PENDIENTE}
+     * @param enCurso estado {@code EN_CURSO}
+     * @return 1 si se ha reclamado, 0 si otra réplica la tiene
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReconstruccionItinerarioEntidad r
+               SET r.estado = :enCurso, r.propietario = :propietario,
+                   r.fechaInicio = :fecha, r.fechaRenovacion = :fecha
+             WHERE r.id = :id AND (r.estado = :pendiente OR r.fechaRenovacion < :caducidad)
+            """)
+    int reclamar(@Param("id") String id,
+                 @Param("propietario") String propietario,
+                 @Param("fecha") LocalDateTime fecha,
+                 @Param("caducidad") LocalDateTime caducidad,
+                 @Param("pendiente") Estado pendiente,
+                 @Param("enCurso") Estado enCurso);
+
+    /**
+     * Renueva la marca si sigue siendo del propietario indicado.
+     *
+     * @param id ID de la marca
+     * @param propietario réplica que reconstruye
+     * @param fecha fecha de renovación
+     * @param enCurso estado {@code EN_CURSO}
+     * @return 0 si otra réplica la ha reclamado
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReconstruccionItinerarioEntidad r
+               SET r.fechaRenovacion = :fecha
+             WHERE r.id = :id AND r.propietario = :propietario AND r.estado = :enCurso
+            """)
+    int renovar(@Param("id") String id,
+                @Param("propietario") String propietario,
+                @Param("fecha") LocalDateTime fecha,
+                @Param("enCurso") Estado enCurso);
+
+    /**
+     * Devuelve la marca a {@code PENDIENTE} si sigue siendo del propietario indicado.
+     *
+     * @param id ID de la marca
+     * @param propietario réplica que reconstruía
+     * @param pendiente estado {@code PENDIENTE}
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReconstruccionItinerarioEntidad r
+               SET r.estado = :pendiente, r.propietario = NULL
+             WHERE r.id = :id AND r.propietario = :propietario
+            """)
+    int liberar(@Param("id") String id,
+                @Param("propietario") String propietario,
+                @Param("pendiente") Estado pendiente);
+
+    /**
+     * Elimina la marca si sigue siendo del propietario indicado.
+     *
+     * @param id ID de la marca
+     * @param propietario réplica que ha terminado la reconstrucción
+     * @return filas eliminadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ReconstruccionItinerarioEntidad r WHERE r.id = :id AND r.propietario = :propietario")
+    int eliminar(@Param("id") String id, @Param("propietario") String propietario);
+}
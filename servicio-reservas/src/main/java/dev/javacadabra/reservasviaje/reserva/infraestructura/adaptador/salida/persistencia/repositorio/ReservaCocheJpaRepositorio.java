@@ -1,8 +1,22 @@
 package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
 
 import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReservaCocheEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservaCocheJpaRepositorio extends JpaRepository<ReservaCocheEntidad, String> {
@@ -29,4 +43,161 @@ public interface ReservaCocheJpaRepositorio extends JpaRepository<ReservaCocheEn
      * @param reservaId ID de la reserva
      */
     void deleteByReservaId(String reservaId);
-}
\ No newline at end of file
+
+    /**
+     * Marca la reserva como cancelada si está en uno de los estados indicados y
+     * aún no tiene motivo de cancelación.
+     *
+     * @param reservaId ID de la reserva
+     * @param cancelada nombre del estado CANCELADA
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @param estados estados que permiten la cancelación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReservaCocheEntidad r
+               SET r.estado = :cancelada, r.motivoCancelacion = :motivo, r.fechaModificacion = :fecha
+             WHERE r.reservaId = :reservaId
+               AND r.estado IN :estados
+               AND r.motivoCancelacion IS NULL
+            """)
+    int cancelarSiEstadoEn(@Param("reservaId") String reservaId,
+                           @Param("cancelada") String cancelada,
+                           @Param("motivo") String motivo,
+                           @Param("fecha") LocalDateTime fecha,
+                           @Param("estados") Collection<String> estados);
+
+    /**
+     * Obtiene solo la columna de estado de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el estado si la reserva existe
+     */
+    @Query("SELECT r.estado FROM ReservaCocheEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findEstadoByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Obtiene solo el ID del cliente de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el ID del cliente si la reserva existe
+     */
+    @Query("SELECT r.clienteId FROM ReservaCocheEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findClienteIdByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Página de reservas de un cliente posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_coche_cliente}.
+     *
+     * @param clienteId ID del cliente
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.modeloCoche, ' (', r.empresaAlquiler, ')'),
+                r.fechaRecogida, r.fechaDevolucion, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaCocheEntidad r
+            WHERE r.clienteId = :clienteId
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorCliente(@Param("clienteId") String clienteId,
+                                                   @Param("clave") LocalDateTime clave,
+                                                   @Param("reservaId") String reservaId,
+                                                   Limit limite);
+
+    /**
+     * Página de reservas en un estado posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_coche_estado}.
+     *
+     * @param estado nombre del estado
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.modeloCoche, ' (', r.empresaAlquiler, ')'),
+                r.fechaRecogida, r.fechaDevolucion, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaCocheEntidad r
+            WHERE r.estado = :estado
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorEstado(@Param("estado") String estado,
+                                                  @Param("clave") LocalDateTime clave,
+                                                  @Param("reservaId") String reservaId,
+                                                  Limit limite);
+
+    /**
+     * Página de reservas con recogida en {@code [desde, hasta)} posteriores
+     * a la clave (recogida, ID) indicada, sobre {@code idx_reserva_coche_recogida}.
+     *
+     * @param desde inicio del rango (incluido)
+     * @param hasta fin del rango (excluido)
+     * @param clave recogida de la última reserva devuelta ({@code desde} para empezar)
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por recogida e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.modeloCoche, ' (', r.empresaAlquiler, ')'),
+                r.fechaRecogida, r.fechaDevolucion, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaCocheEntidad r
+            WHERE r.fechaRecogida >= :desde AND r.fechaRecogida < :hasta
+              AND (r.fechaRecogida > :clave OR (r.fechaRecogida = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaRecogida, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorFechaInicio(@Param("desde") LocalDateTime desde,
+                                                       @Param("hasta") LocalDateTime hasta,
+                                                       @Param("clave") LocalDateTime clave,
+                                                       @Param("reservaId") String reservaId,
+                                                       Limit limite);
+
+    /**
+     * Recorre por ID las reservas vinculadas a una reserva de viaje como tramos
+     * de itinerario (reconstrucción de la proyección).
+     *
+     * @param despuesDe último ID de reserva leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return tramos ordenados por ID de reserva
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila(
+                r.reservaViajeId, r.clienteId, r.reservaId, r.modeloCoche,
+                r.fechaRecogida, r.fechaDevolucion, r.precio, r.codigoMoneda, r.estado)
+            FROM ReservaCocheEntidad r
+            WHERE r.reservaViajeId IS NOT NULL
+              AND r.reservaId > :despuesDe
+            ORDER BY r.reservaId
+            """)
+    List<TramoItinerarioFila> findTramosItinerario(@Param("despuesDe") String despuesDe, Limit limite);
+
+    /**
+     * Lee con bloqueo compartido las reservas indicadas vinculadas a una reserva
+     * de viaje, para proyectarlas sin que una cancelación concurrente se cuele
+     * entre la lectura y la escritura del itinerario.
+     *
+     * @param reservaIds IDs de las reservas del lote
+     * @return reservas bloqueadas, ordenadas por ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            SELECT r FROM ReservaCocheEntidad r
+            WHERE r.reservaId IN :reservaIds
+              AND r.reservaViajeId IS NOT NULL
+            ORDER BY r.reservaId
+            """)
+    List<ReservaCocheEntidad> findVinculadasParaProyectar(@Param("reservaIds") Collection<String> reservaIds);
+}
@@ -1,8 +1,24 @@
 package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
 
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
 import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReservaHotelEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservaHotelJpaRepositorio extends JpaRepository<ReservaHotelEntidad, String> {
@@ -29,4 +45,236 @@ public interface ReservaHotelJpaRepositorio extends JpaRepository<ReservaHotelEn
      * @param reservaId ID de la reserva
      */
     void deleteByReservaId(String reservaId);
+
+    /**
+     * Marca la reserva como cancelada si está en uno de los estados indicados y
+     * aún no tiene motivo de cancelación.
+     *
+     * @param reservaId ID de la reserva
+     * @param cancelada nombre del estado CANCELADA
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @param estados estados que permiten la cancelación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReservaHotelEntidad r
+               SET r.estado = :cancelada, r.motivoCancelacion = :motivo, r.fechaModificacion = :fecha
+             WHERE r.reservaId = :reservaId
+               AND r.estado IN :estados
+               AND r.motivoCancelacion IS NULL
+            """)
+    int cancelarSiEstadoEn(@Param("reservaId") String reservaId,
+                           @Param("cancelada") String cancelada,
+                           @Param("motivo") String motivo,
+                           @Param("fecha") LocalDateTime fecha,
+                           @Param("estados") Collection<String> estados);
+
+    /**
+     * Obtiene solo la columna de estado de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el estado si la reserva existe
+     */
+    @Query("SELECT r.estado FROM ReservaHotelEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findEstadoByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Obtiene solo el ID del cliente de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el ID del cliente si la reserva existe
+     */
+    @Query("SELECT r.clienteId FROM ReservaHotelEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findClienteIdByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Recorre por ID las reservas cancelables afectadas por una incidencia
+     * (estancia en el hotel que incluye la fecha), sin materializar entidades.
+     *
+     * @param nombreHotel nombre del hotel
+     * @param ciudad ciudad del hotel
+     * @param fecha noche afectada
+     * @param estados estados que permiten la cancelación
+     * @param despuesDe último ID de reserva leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return reservas afectadas ordenadas por ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada(
+                r.reservaId, r.clienteId, r.reservaViajeId)
+            FROM ReservaHotelEntidad r
+            WHERE r.nombreHotel = :nombreHotel
+              AND r.ciudad = :ciudad
+              AND r.fechaEntrada <= :fecha AND r.fechaSalida > :fecha
+              AND r.estado IN :estados
+              AND r.motivoCancelacion IS NULL
+              AND r.reservaId > :despuesDe
+            ORDER BY r.reservaId
+            """)
+    List<ReservaAfectada> findCancelablesPorHotel(@Param("nombreHotel") String nombreHotel,
+                                                  @Param("ciudad") String ciudad,
+                                                  @Param("fecha") LocalDate fecha,
+                                                  @Param("estados") Collection<String> estados,
+                                                  @Param("despuesDe") String despuesDe,
+                                                  Limit limite);
+
+    /**
+     * Bloquea ({@code SELECT ... FOR UPDATE}) las reservas del lote que siguen
+     * en un estado cancelable y sin motivo de cancelación.
+     *
+     * <p>Mientras dure la transacción ninguna otra cancelación o cambio de estado
+     * puede tocar esas filas, así que se cancelan después por ID sin volver a
+     * comprobarlas. El orden por ID fija el orden de bloqueo.
+     *
+     * @param reservaIds IDs de las reservas del lote
+     * @param estados estados que permiten la cancelación
+     * @return reservas bloqueadas, ordenadas por ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT r FROM ReservaHotelEntidad r
+            WHERE r.reservaId IN :reservaIds
+              AND r.estado IN :estados
+              AND r.motivoCancelacion IS NULL
+            ORDER BY r.reservaId
+            """)
+    List<ReservaHotelEntidad> findCancelablesParaCancelar(@Param("reservaIds") Collection<String> reservaIds,
+                                                          @Param("estados") Collection<String> estados);
+
+    /**
+     * Cancela en una sola sentencia las reservas indicadas, ya bloqueadas por
+     * {@link #findCancelablesParaCancelar}.
+     *
+     * @param reservaIds IDs de las reservas a cancelar
+     * @param cancelada nombre del estado CANCELADA
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ReservaHotelEntidad r
+               SET r.estado = :cancelada, r.motivoCancelacion = :motivo, r.fechaModificacion = :fecha
+             WHERE r.reservaId IN :reservaIds
+            """)
+    int cancelarPorIds(@Param("reservaIds") Collection<String> reservaIds,
+                       @Param("cancelada") String cancelada,
+                       @Param("motivo") String motivo,
+                       @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Página de reservas de un cliente posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_hotel_cliente}.
+     *
+     * @param clienteId ID del cliente
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.nombreHotel, ', ', r.ciudad),
+                r.fechaEntrada, r.fechaSalida, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaHotelEntidad r
+            WHERE r.clienteId = :clienteId
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorCliente(@Param("clienteId") String clienteId,
+                                                   @Param("clave") LocalDateTime clave,
+                                                   @Param("reservaId") String reservaId,
+                                                   Limit limite);
+
+    /**
+     * Página de reservas en un estado posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_hotel_estado}.
+     *
+     * @param estado nombre del estado
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.nombreHotel, ', ', r.ciudad),
+                r.fechaEntrada, r.fechaSalida, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaHotelEntidad r
+            WHERE r.estado = :estado
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorEstado(@Param("estado") String estado,
+                                                  @Param("clave") LocalDateTime clave,
+                                                  @Param("reservaId") String reservaId,
+                                                  Limit limite);
+
+    /**
+     * Página de reservas con entrada en {@code [desde, hasta)} posteriores
+     * a la clave (entrada, ID) indicada, sobre {@code idx_reserva_hotel_entrada}.
+     *
+     * @param desde inicio del rango (incluido)
+     * @param hasta fin del rango (excluido)
+     * @param clave entrada de la última reserva devuelta ({@code desde} para empezar)
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por entrada e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.nombreHotel, ', ', r.ciudad),
+                r.fechaEntrada, r.fechaSalida, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaHotelEntidad r
+            WHERE r.fechaEntrada >= :desde AND r.fechaEntrada < :hasta
+              AND (r.fechaEntrada > :clave OR (r.fechaEntrada = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaEntrada, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorFechaInicio(@Param("desde") LocalDate desde,
+                                                       @Param("hasta") LocalDate hasta,
+                                                       @Param("clave") LocalDate clave,
+                                                       @Param("reservaId") String reservaId,
+                                                       Limit limite);
+
+    /**
+     * Recorre por ID las reservas vinculadas a una reserva de viaje como tramos
+     * de itinerario (reconstrucción de la proyección).
+     *
+     * @param despuesDe último ID de reserva leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return tramos ordenados por ID de reserva
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila(
+                r.reservaViajeId, r.clienteId, r.reservaId, r.nombreHotel,
+                r.fechaEntrada, r.fechaSalida, r.precio, r.codigoMoneda, r.estado)
+            FROM ReservaHotelEntidad r
+            WHERE r.reservaViajeId IS NOT NULL
+              AND r.reservaId > :despuesDe
+            ORDER BY r.reservaId
+            """)
+    List<TramoItinerarioFila> findTramosItinerario(@Param("despuesDe") String despuesDe, Limit limite);
+
+    /**
+     * Lee con bloqueo compartido las reservas indicadas vinculadas a una reserva
+     * de viaje, para proyectarlas sin que una cancelación concurrente se cuele
+     * entre la lectura y la escritura del itinerario.
+     *
+     * @param reservaIds IDs de las reservas del lote
+     * @return reservas bloqueadas, ordenadas por ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            SELECT r FROM ReservaHotelEntidad r
+            WHERE r.reservaId IN :reservaIds
+              AND r.reservaViajeId IS NOT NULL
+            ORDER BY r.reservaId
+            """)
+    List<ReservaHotelEntidad> findVinculadasParaProyectar(@Param("reservaIds") Collection<String> reservaIds);
 }
@@ -1,10 +1,23 @@
 package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio;
 
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
 import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReservaVueloEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservaVueloJpaRepositorio extends JpaRepository<ReservaVueloEntidad, String> {
@@ -40,4 +53,235 @@ public interface ReservaVueloJpaRepositorio extends JpaRepository<ReservaVueloEn
      * @param reservaId ID de la reserva
      */
     void deleteByReservaId(String reservaId);
+
+    /**
+     * Marca la reserva como cancelada si está en uno de los estados indicados y
+     * aún no tiene motivo de cancelación.
+     *
+     * @param reservaId ID de la reserva
+     * @param cancelada nombre del estado CANCELADA
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @param estados estados que permiten la cancelación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReservaVueloEntidad r
+               SET r.estado = :cancelada, r.motivoCancelacion = :motivo, r.fechaModificacion = :fecha
+             WHERE r.reservaId = :reservaId
+               AND r.estado IN :estados
+               AND r.motivoCancelacion IS NULL
+            """)
+    int cancelarSiEstadoEn(@Param("reservaId") String reservaId,
+                           @Param("cancelada") String cancelada,
+                           @Param("motivo") String motivo,
+                           @Param("fecha") LocalDateTime fecha,
+                           @Param("estados") Collection<String> estados);
+
+    /**
+     * Obtiene solo la columna de estado de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el estado si la reserva existe
+     */
+    @Query("SELECT r.estado FROM ReservaVueloEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findEstadoByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Obtiene solo el ID del cliente de una reserva.
+     *
+     * @param reservaId ID de la reserva
+     * @return Optional con el ID del cliente si la reserva existe
+     */
+    @Query("SELECT r.clienteId FROM ReservaVueloEntidad r WHERE r.reservaId = :reservaId")
+    Optional<String> findClienteIdByReservaId(@Param("reservaId") String reservaId);
+
+    /**
+     * Recorre por ID las reservas cancelables afectadas por una incidencia
+     * (mismo vuelo y día de salida), sin materializar entidades.
+     *
+     * @param numeroVuelo número de vuelo
+     * @param desde inicio del día de salida (incluido)
+     * @param hasta inicio del día siguiente (excluido)
+     * @param estados estados que permiten la cancelación
+     * @param despuesDe último ID de reserva leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return reservas afectadas ordenadas por ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada(
+                r.reservaId, r.clienteId, r.reservaViajeId)
+            FROM ReservaVueloEntidad r
+            WHERE r.numeroVuelo = :numeroVuelo
+              AND r.fechaSalida >= :desde AND r.fechaSalida < :hasta
+              AND r.estado IN :estados
+              AND r.motivoCancelacion IS NULL
+              AND r.reservaId > :despuesDe
+            ORDER BY r.reservaId
+            """)
+    List<ReservaAfectada> findCancelablesPorVuelo(@Param("numeroVuelo") String numeroVuelo,
+                                                  @Param("desde") LocalDateTime desde,
+                                                  @Param("hasta") LocalDateTime hasta,
+                                                  @Param("estados") Collection<String> estados,
+                                                  @Param("despuesDe") String despuesDe,
+                                                  Limit limite);
+
+    /**
+     * Bloquea ({@code SELECT ... FOR UPDATE}) las reservas del lote que siguen
+     * en un estado cancelable y sin motivo de cancelación.
+     *
+     * <p>Mientras dure la transacción ninguna otra cancelación o cambio de estado
+     * puede tocar esas filas, así que se cancelan después por ID sin volver a
+     * comprobarlas. El orden por ID fija el orden de bloqueo.
+     *
+     * @param reservaIds IDs de las reservas del lote
+     * @param estados estados que permiten la cancelación
+     * @return reservas bloqueadas, ordenadas por ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT r FROM ReservaVueloEntidad r
+            WHERE r.reservaId IN :reservaIds
+              AND r.estado IN :estados
+              AND r.motivoCancelacion IS NULL
+            ORDER BY r.reservaId
+            """)
+    List<ReservaVueloEntidad> findCancelablesParaCancelar(@Param("reservaIds") Collection<String> reservaIds,
+                                                          @Param("estados") Collection<String> estados);
+
+    /**
+     * Cancela en una sola sentencia las reservas indicadas, ya bloqueadas por
+     * {@link #findCancelablesParaCancelar}.
+     *
+     * @param reservaIds IDs de las reservas a cancelar
+     * @param cancelada nombre del estado CANCELADA
+     * @param motivo motivo de la cancelación
+     * @param fecha fecha de modificación
+     * @return filas actualizadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ReservaVueloEntidad r
+               SET r.estado = :cancelada, r.motivoCancelacion = :motivo, r.fechaModificacion = :fecha
+             WHERE r.reservaId IN :reservaIds
+            """)
+    int cancelarPorIds(@Param("reservaIds") Collection<String> reservaIds,
+                       @Param("cancelada") String cancelada,
+                       @Param("motivo") String motivo,
+                       @Param("fecha") LocalDateTime fecha);
+
+    /**
+     * Página de reservas de un cliente posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_vuelo_cliente}.
+     *
+     * @param clienteId ID del cliente
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.numeroVuelo, ' ', r.origen, '-', r.destino),
+                r.fechaSalida, r.fechaLlegada, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaVueloEntidad r
+            WHERE r.clienteId = :clienteId
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorCliente(@Param("clienteId") String clienteId,
+                                                   @Param("clave") LocalDateTime clave,
+                                                   @Param("reservaId") String reservaId,
+                                                   Limit limite);
+
+    /**
+     * Página de reservas en un estado posteriores a la clave
+     * (fecha de creación, ID) indicada, sobre {@code idx_reserva_vuelo_estado}.
+     *
+     * @param estado nombre del estado
+     * @param clave fecha de creación de la última reserva devuelta
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por fecha de creación e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.numeroVuelo, ' ', r.origen, '-', r.destino),
+                r.fechaSalida, r.fechaLlegada, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaVueloEntidad r
+            WHERE r.estado = :estado
+              AND (r.fechaCreacion > :clave OR (r.fechaCreacion = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaCreacion, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorEstado(@Param("estado") String estado,
+                                                  @Param("clave") LocalDateTime clave,
+                                                  @Param("reservaId") String reservaId,
+                                                  Limit limite);
+
+    /**
+     * Página de reservas con salida en {@code [desde, hasta)} posteriores
+     * a la clave (salida, ID) indicada, sobre {@code idx_reserva_vuelo_salida}.
+     *
+     * @param desde inicio del rango (incluido)
+     * @param hasta fin del rango (excluido)
+     * @param clave salida de la última reserva devuelta ({@code desde} para empezar)
+     * @param reservaId ID de la última reserva devuelta ("" para empezar)
+     * @param limite número máximo de filas
+     * @return filas ordenadas por salida e ID
+     */
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.numeroVuelo, ' ', r.origen, '-', r.destino),
+                r.fechaSalida, r.fechaLlegada, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaVueloEntidad r
+            WHERE r.fechaSalida >= :desde AND r.fechaSalida < :hasta
+              AND (r.fechaSalida > :clave OR (r.fechaSalida = :clave AND r.reservaId > :reservaId))
+            ORDER BY r.fechaSalida, r.reservaId
+            """)
+    List<ResumenReservaFila> findResumenPorFechaInicio(@Param("desde") LocalDateTime desde,
+                                                       @Param("hasta") LocalDateTime hasta,
+                                                       @Param("clave") LocalDateTime clave,
+                                                       @Param("reservaId") String reservaId,
+                                                       Limit limite);
+
+    /**
+     * Recorre por ID las reservas vinculadas a una reserva de viaje como tramos
+     * de itinerario (reconstrucción de la proyección).
+     *
+     * @param despuesDe último ID de reserva leído ("" para empezar)
+     * @param limite número máximo de filas
+     * @return tramos ordenados por ID de reserva
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.TramoItinerarioFila(
+                r.reservaViajeId, r.clienteId, r.reservaId, r.numeroVuelo,
+                r.fechaSalida, r.fechaLlegada, r.precio, r.codigoMoneda, r.estado)
+            FROM ReservaVueloEntidad r
+            WHERE r.reservaViajeId IS NOT NULL
+              AND r.reservaId > :despuesDe
+            ORDER BY r.reservaId
+            """)
+    List<TramoItinerarioFila> findTramosItinerario(@Param("despuesDe") String despuesDe, Limit limite);
+
+    /**
+     * Lee con bloqueo compartido las reservas indicadas vinculadas a una reserva
+     * de viaje, para proyectarlas sin que una cancelación concurrente se cuele
+     * entre la lectura y la escritura del itinerario.
+     *
+     * @param reservaIds IDs de las reservas del lote
+     * @return reservas bloqueadas, ordenadas por ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            SELECT r FROM ReservaVueloEntidad r
+            WHERE r.reservaId IN :reservaIds
+              AND r.reservaViajeId IS NOT NULL
+            ORDER BY r.reservaId
+            """)
+    List<ReservaVueloEntidad> findVinculadasParaProyectar(@Param("reservaIds") Collection<String> reservaIds);
 }
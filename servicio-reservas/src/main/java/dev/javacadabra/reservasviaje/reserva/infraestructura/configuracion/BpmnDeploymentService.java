@@ -1,134 +1,203 @@
 package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
 
 import io.camunda.client.CamundaClient;
+import io.camunda.client.api.command.DeployResourceCommandStep1;
 import io.camunda.client.api.response.DeploymentEvent;
 import io.camunda.client.api.response.Process;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import io.camunda.client.api.search.response.ProcessDefinition;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Servicio para desplegar automáticamente procesos BPMN en Camunda 8 (Zeebe).
  *
- * <p>Se ejecuta automáticamente al iniciar la aplicación usando @PostConstruct.
- * Los archivos BPMN deben estar en src/main/resources/bpmn/
+ * <p>El despliegue se ejecuta en un hilo virtual tras el arranque de la aplicación,
+ * fuera del camino de inicio: el servicio arranca aunque Zeebe tarde en responder
+ * y la readiness ({@link DespliegueBpmnHealthIndicator}) no acepta tráfico hasta
+ * que los procesos existen. Los archivos deben estar en src/main/resources/bpmn/
  *
- * <p>Orden de despliegue:
- * 1. Subprocesos (para que estén disponibles cuando se despliegue el proceso principal)
- * 2. Proceso principal
+ * <p>Todos los recursos viajan en un único comando de despliegue: Zeebe resuelve
+ * las call activities en tiempo de ejecución, así que no hace falta desplegar los
+ * subprocesos antes, y los forms enlazados (start event de proceso-principal)
+ * quedan en el mismo deployment que su proceso, como exige Tasklist Self-Managed.
+ *
+ * <p>Antes de desplegar se compara el hash SHA-256 de cada BPMN con el XML de la
+ * última versión desplegada en el broker, y el del form de inicio con el form enlazado
+ * a proceso-principal; si todos coinciden no se envía ningún comando. El broker es la
+ * única fuente de verdad, así que la comparación sobrevive a reinicios del servicio.
+ * Los forms de user tasks no se pueden consultar en el broker sin una tarea activa:
+ * viajan con cada despliegue, y un cambio solo en ellos necesita
+ * {@code reservasviaje.despliegue-bpmn.forzar=true}.
+ *
+ * <p>Si una ronda de reintentos se agota, el estado pasa a FALLIDO (readiness DOWN)
+ * pero el despliegue se vuelve a programar con espera exponencial hasta
+ * {@code reservasviaje.despliegue-bpmn.espera-maxima-tras-fallo}, de modo que el
+ * servicio se recupera solo cuando Zeebe vuelve.
  *
  * @author JavaCadabra
  * @see CamundaClient
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class BpmnDeploymentService {
 
     private final CamundaClient camundaClient;
+    private final boolean forzar;
+    private final Duration esperaTrasFallo;
+    private final Duration esperaMaximaTrasFallo;
 
     /**
-     * Orden de despliegue de procesos BPMN.
-     * Los subprocesos DEBEN desplegarse primero.
-     * proceso-principal.bpmn e iniciar-reserva.form se despliegan juntos en un
-     * único batch (ver desplegarFormYProcesoPrincipal) para que Tasklist
-     * Self-Managed pueda resolver la referencia del start event form.
+     * Recursos a desplegar. Van todos en el mismo deployment.
      */
-    private static final List<String> ORDEN_DESPLIEGUE = Arrays.asList(
+    private static final List<String> RECURSOS = List.of(
             "bpmn/subproceso-gestion-cliente.bpmn",
             "bpmn/subproceso-reserva.bpmn",
             "bpmn/subproceso-pago.bpmn",
             "bpmn/forms/gestionar-reserva-vuelo.form",
             "bpmn/forms/gestionar-reserva-hotel.form",
-            "bpmn/forms/gestionar-reserva-coche.form"
+            "bpmn/forms/gestionar-reserva-coche.form",
+            "bpmn/forms/iniciar-reserva.form",
+            "bpmn/proceso-principal.bpmn"
+    );
+
+    /**
+     * Form de inicio y proceso al que está enlazado.
+     */
+    private static final Map<String, String> FORMS_DE_INICIO = Map.of(
+            "iniciar-reserva.form", "proceso-principal"
     );
 
-    private static final int MAX_REINTENTOS = 3;
-    private static final long TIEMPO_ESPERA_REINTENTO_MS = 5000; // 5 segundos
+    private static final Pattern ID_PROCESO = Pattern.compile("<bpmn:process id=\"([^\"]+)\"");
+
+    private static final int MAX_REINTENTOS = 5;
+    private static final long ESPERA_INICIAL_REINTENTO_MS = 2000;
+    private static final long ESPERA_MAXIMA_REINTENTO_MS = 30000;
+
+    private volatile EstadoDespliegue estado = EstadoDespliegue.PENDIENTE;
+
+    public BpmnDeploymentService(
+            CamundaClient camundaClient,
+            @Value("${reservasviaje.despliegue-bpmn.forzar:false}") boolean forzar,
+            @Value("${reservasviaje.despliegue-bpmn.espera-tras-fallo:PT1M}") Duration esperaTrasFallo,
+            @Value("${reservasviaje.despliegue-bpmn.espera-maxima-tras-fallo:PT15M}") Duration esperaMaximaTrasFallo) {
+        this.camundaClient = camundaClient;
+        this.forzar = forzar;
+        this.esperaTrasFallo = esperaTrasFallo;
+        this.esperaMaximaTrasFallo = esperaMaximaTrasFallo;
+    }
+
+    public enum EstadoDespliegue {
+        PENDIENTE,
+        DESPLEGANDO,
+        DESPLEGADO,
+        FALLIDO
+    }
+
+    public EstadoDespliegue getEstado() {
+        return estado;
+    }
 
     /**
-     * Despliega automáticamente los procesos BPMN al iniciar la aplicación.
-     *
-     * <p>Se ejecuta después de la inyección de dependencias.
-     * Si falla, registra el error pero NO detiene la aplicación (permite que el servicio inicie).
+     * Lanza el despliegue en segundo plano una vez arrancado el contexto.
      */
-    @PostConstruct
-    public void desplegarProcesos() {
-        log.info("🚀 Iniciando despliegue de procesos BPMN en Camunda...");
+    @EventListener(ApplicationStartedEvent.class)
+    public void iniciarDespliegue() {
+        Thread.ofVirtual()
+                .name("despliegue-bpmn")
+                .start(this::desplegarHastaConseguirlo);
+    }
 
-        // Verificar conectividad con Zeebe antes de intentar desplegar
-        if (!verificarConexionZeebe()) {
-            log.error("❌ No se pudo conectar con Zeebe. Los procesos NO se desplegaron.");
-            log.warn("⚠️  La aplicación continuará, pero los procesos BPMN no estarán disponibles.");
-            return;
+    /**
+     * Repite rondas de despliegue hasta que una termina bien. Entre rondas fallidas
+     * el estado queda en FALLIDO y la espera se duplica hasta el máximo configurado.
+     */
+    private void desplegarHastaConseguirlo() {
+        Duration espera = esperaTrasFallo;
+        while (!desplegarProcesos()) {
+            log.warn("⏳ Se reintentará el despliegue BPMN en {}", espera);
+            try {
+                TimeUnit.MILLISECONDS.sleep(espera.toMillis());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                log.error("❌ Despliegue BPMN interrumpido");
+                return;
+            }
+            espera = espera.multipliedBy(2).compareTo(esperaMaximaTrasFallo) > 0
+                    ? esperaMaximaTrasFallo
+                    : espera.multipliedBy(2);
         }
+    }
 
-        int procesosExitosos = 0;
-        int procesosFallidos = 0;
-        int total = ORDEN_DESPLIEGUE.size() + 1; // +1 por el batch form+proceso-principal
+    /**
+     * Despliega los recursos BPMN y forms que hayan cambiado, con reintentos
+     * y espera exponencial si Zeebe no está disponible.
+     *
+     * @return true si los procesos quedan desplegados
+     */
+    public boolean desplegarProcesos() {
+        estado = EstadoDespliegue.DESPLEGANDO;
+        log.info("🚀 Iniciando despliegue de procesos BPMN en Camunda...");
 
-        for (String rutaProceso : ORDEN_DESPLIEGUE) {
+        long espera = ESPERA_INICIAL_REINTENTO_MS;
+        for (int intento = 1; intento <= MAX_REINTENTOS; intento++) {
             try {
-                if (desplegarProcesoConReintentos(rutaProceso)) {
-                    procesosExitosos++;
-                } else {
-                    procesosFallidos++;
-                }
+                verificarConexionZeebe();
+                desplegarSiHayCambios();
+                estado = EstadoDespliegue.DESPLEGADO;
+                return true;
+
             } catch (Exception e) {
-                log.error("❌ Error crítico al desplegar {}: {}", rutaProceso, e.getMessage(), e);
-                procesosFallidos++;
-            }
-        }
+                if (intento == MAX_REINTENTOS) {
+                    break;
+                }
 
-        // Desplegar proceso-principal junto con su start event form en un único batch.
-        // En Camunda 8 Self-Managed, la linked form del start event solo se resuelve
-        // si form y BPMN pertenecen al mismo deployment.
-        try {
-            if (desplegarFormYProcesoPrincipalConReintentos()) {
-                procesosExitosos++;
-            } else {
-                procesosFallidos++;
+                log.warn("⚠️  Intento {}/{} de despliegue fallido: {}. Reintentando en {}ms...",
+                        intento, MAX_REINTENTOS, e.getMessage(), espera);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(espera);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    log.error("❌ Despliegue BPMN interrumpido");
+                    estado = EstadoDespliegue.FALLIDO;
+                    return false;
+                }
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_REINTENTO_MS);
             }
-        } catch (Exception e) {
-            log.error("❌ Error crítico al desplegar batch form+proceso-principal: {}", e.getMessage(), e);
-            procesosFallidos++;
         }
 
-        // Resumen final
-        log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-        log.info("📊 Resumen de despliegue:");
-        log.info("   ✅ Exitosos: {}", procesosExitosos);
-        log.info("   ❌ Fallidos:  {}", procesosFallidos);
-        log.info("   📋 Total:     {}", total);
-        log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
-
-        if (procesosExitosos == total) {
-            log.info("✅ Todos los procesos BPMN desplegados correctamente");
-        } else if (procesosExitosos > 0) {
-            log.warn("⚠️  Despliegue parcial: {}/{} procesos desplegados", procesosExitosos, total);
-        } else {
-            log.error("❌ Ningún proceso BPMN pudo ser desplegado");
-        }
+        log.error("❌ Ningún proceso BPMN pudo ser desplegado tras {} intentos", MAX_REINTENTOS);
+        estado = EstadoDespliegue.FALLIDO;
+        return false;
     }
 
     /**
-     * Verifica que Zeebe esté accesible antes de intentar desplegar.
+     * Verifica la conexión con Zeebe pidiendo la topología del cluster.
      *
-     * @return true si Zeebe responde, false en caso contrario
+     * @throws IllegalStateException si el gateway no responde, para que cuente como intento fallido
      */
-    private boolean verificarConexionZeebe() {
+    private void verificarConexionZeebe() {
         log.info("🔍 Verificando conexión con Zeebe...");
 
         try {
-            // Intentar obtener la topología del cluster como health check
             var topology = camundaClient.newTopologyRequest()
                     .send()
                     .join();
@@ -138,94 +207,139 @@ public class BpmnDeploymentService {
                     topology.getBrokers().size(),
                     topology.getPartitionsCount());
 
-            return true;
-
         } catch (Exception e) {
-            log.error("❌ No se pudo conectar con Zeebe: {}", e.getMessage());
-            return false;
+            throw new IllegalStateException("No se pudo conectar con Zeebe: " + e.getMessage(), e);
         }
     }
 
+    private void desplegarSiHayCambios() throws IOException {
+        List<RecursoBpmn> recursos = cargarRecursos();
+
+        if (!forzar && recursosDesplegadosSinCambios(recursos)) {
+            log.info("✅ Recursos BPMN sin cambios respecto al broker ({} recursos), no se despliega nada",
+                    recursos.size());
+            return;
+        }
+
+        log.info("📋 Desplegando {} recursos en un único deployment", recursos.size());
+
+        DeployResourceCommandStep1.DeployResourceCommandStep2 comando = null;
+        for (RecursoBpmn recurso : recursos) {
+            comando = comando == null
+                    ? camundaClient.newDeployResourceCommand().addResourceBytes(recurso.contenido(), recurso.nombre())
+                    : comando.addResourceBytes(recurso.contenido(), recurso.nombre());
+        }
+
+        logDetallesDespliegue(comando.send().join());
+    }
+
     /**
-     * Despliega un proceso BPMN con mecanismo de reintentos.
+     * Compara cada BPMN con el XML de su última versión en el broker y el form de
+     * inicio con el form enlazado a su proceso.
      *
-     * @param rutaProceso Ruta del archivo BPMN (relativa a resources/)
-     * @return true si el despliegue fue exitoso, false en caso contrario
+     * @return true si todo lo comprobable coincide; false si algo difiere o no se pudo consultar
      */
-    private boolean desplegarProcesoConReintentos(String rutaProceso) {
-        for (int intento = 1; intento <= MAX_REINTENTOS; intento++) {
-            try {
-                desplegarProceso(rutaProceso);
-                return true;
+    private boolean recursosDesplegadosSinCambios(List<RecursoBpmn> recursos) {
+        try {
+            for (RecursoBpmn recurso : recursos) {
+                if (recurso.idProceso().isPresent()) {
+                    Optional<ProcessDefinition> ultima = ultimaVersion(recurso.idProceso().get());
+                    if (ultima.isEmpty()) {
+                        log.info("🔍 El proceso {} no existe en el broker", recurso.idProceso().get());
+                        return false;
+                    }
+                    String xml = camundaClient.newProcessDefinitionGetXmlRequest(ultima.get().getProcessDefinitionKey())
+                            .send()
+                            .join();
+                    if (!recurso.hash().equals(sha256(xml.getBytes(StandardCharsets.UTF_8)))) {
+                        log.info("🔍 {} ha cambiado respecto a la versión {} del broker",
+                                recurso.nombre(), ultima.get().getVersion());
+                        return false;
+                    }
 
-            } catch (Exception e) {
-                if (intento < MAX_REINTENTOS) {
-                    log.warn("⚠️  Intento {}/{} fallido para {}: {}. Reintentando en {}ms...",
-                            intento, MAX_REINTENTOS, rutaProceso, e.getMessage(), TIEMPO_ESPERA_REINTENTO_MS);
-
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(TIEMPO_ESPERA_REINTENTO_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.error("❌ Reintentos interrumpidos para {}", rutaProceso);
+                } else if (FORMS_DE_INICIO.containsKey(recurso.nombre())) {
+                    Optional<ProcessDefinition> proceso = ultimaVersion(FORMS_DE_INICIO.get(recurso.nombre()));
+                    if (proceso.isEmpty()) {
+                        return false;
+                    }
+                    String esquema = camundaClient.newProcessDefinitionGetFormRequest(proceso.get().getProcessDefinitionKey())
+                            .send()
+                            .join()
+                            .getSchema();
+                    if (!recurso.hash().equals(sha256(esquema.getBytes(StandardCharsets.UTF_8)))) {
+                        log.info("🔍 {} ha cambiado respecto al form desplegado", recurso.nombre());
                         return false;
                     }
-                } else {
-                    log.error("❌ Todos los intentos fallaron para {}: {}", rutaProceso, e.getMessage());
-                    return false;
                 }
             }
+            return true;
+
+        } catch (Exception e) {
+            log.debug("No se pudo comparar con el broker, se desplegará: {}", e.getMessage());
+            return false;
         }
-        return false;
     }
 
-    /**
-     * Despliega un único proceso BPMN en Zeebe.
-     *
-     * @param rutaProceso Ruta del archivo BPMN (relativa a resources/)
-     * @throws IOException Si el archivo no se encuentra o no se puede leer
-     */
-    private void desplegarProceso(String rutaProceso) throws IOException {
-        log.info("📋 Desplegando: {}", rutaProceso);
+    private Optional<ProcessDefinition> ultimaVersion(String idProceso) {
+        return camundaClient.newProcessDefinitionSearchRequest()
+                .filter(filtro -> filtro.processDefinitionId(idProceso))
+                .sort(orden -> orden.version().desc())
+                .page(pagina -> pagina.limit(1))
+                .send()
+                .join()
+                .items()
+                .stream()
+                .findFirst();
+    }
 
-        // Usar PathMatchingResourcePatternResolver para mejor compatibilidad con JAR/Docker
+    private List<RecursoBpmn> cargarRecursos() throws IOException {
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-        Resource resource = resolver.getResource("classpath:" + rutaProceso);
+        List<RecursoBpmn> recursos = new ArrayList<>(RECURSOS.size());
 
-        if (!resource.exists()) {
-            log.warn("⚠️  Recurso no encontrado: {}", rutaProceso);
-            throw new IOException("Archivo BPMN no encontrado: " + rutaProceso);
-        }
+        for (String ruta : RECURSOS) {
+            Resource resource = resolver.getResource("classpath:" + ruta);
+            if (!resource.exists() || !resource.isReadable()) {
+                throw new IOException("Recurso BPMN no encontrado o no legible: " + ruta);
+            }
 
-        if (!resource.isReadable()) {
-            log.error("❌ Recurso no legible: {}", rutaProceso);
-            throw new IOException("Archivo BPMN no legible: " + rutaProceso);
+            byte[] contenido = resource.getContentAsByteArray();
+            recursos.add(new RecursoBpmn(
+                    resource.getFilename(),
+                    contenido,
+                    sha256(contenido),
+                    idProceso(ruta, contenido)
+            ));
         }
+        return recursos;
+    }
 
-        // Desplegar en Zeebe
-        DeploymentEvent deployment = camundaClient.newDeployResourceCommand()
-                .addResourceStream(resource.getInputStream(), resource.getFilename())
-                .send()
-                .join();
+    private static Optional<String> idProceso(String ruta, byte[] contenido) {
+        if (!ruta.endsWith(".bpmn")) {
+            return Optional.empty();
+        }
+        Matcher matcher = ID_PROCESO.matcher(new String(contenido, StandardCharsets.UTF_8));
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
 
-        // Loguear información detallada del despliegue
-        logDetallesDespliegue(resource.getFilename(), deployment);
+    private static String sha256(byte[] contenido) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(contenido));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
     }
 
     /**
      * Registra información detallada sobre el despliegue exitoso.
      *
-     * @param nombreArchivo Nombre del archivo BPMN desplegado
      * @param deployment Evento de despliegue de Zeebe
      */
-    private void logDetallesDespliegue(String nombreArchivo, DeploymentEvent deployment) {
-        log.info("✅ Desplegado exitosamente: {}", nombreArchivo);
-        log.info("   📌 Deployment Key: {}", deployment.getKey());
+    private void logDetallesDespliegue(DeploymentEvent deployment) {
+        log.info("✅ Desplegado exitosamente — Deployment Key: {}", deployment.getKey());
 
         // Información de procesos desplegados
         for (Process process : deployment.getProcesses()) {
-            log.info("   🔧 Proceso: {} (ID: {}, Versión: {}, Key: {})",
-                    process.getBpmnProcessId(),
+            log.info("   🔧 Proceso: {} (Versión: {}, Key: {})",
                     process.getBpmnProcessId(),
                     process.getVersion(),
                     process.getProcessDefinitionKey());
@@ -233,61 +347,8 @@ public class BpmnDeploymentService {
     }
 
     /**
-     * Despliega iniciar-reserva.form y proceso-principal.bpmn en un único batch.
-     * En Camunda 8 Self-Managed, la linked form del start event solo se resuelve
-     * en Tasklist si form y proceso pertenecen al mismo deployment.
-     */
-    private boolean desplegarFormYProcesoPrincipalConReintentos() {
-        for (int intento = 1; intento <= MAX_REINTENTOS; intento++) {
-            try {
-                desplegarFormYProcesoPrincipal();
-                return true;
-            } catch (Exception e) {
-                if (intento < MAX_REINTENTOS) {
-                    log.warn("⚠️  Intento {}/{} fallido para batch form+proceso-principal: {}. Reintentando en {}ms...",
-                            intento, MAX_REINTENTOS, e.getMessage(), TIEMPO_ESPERA_REINTENTO_MS);
-                    try {
-                        TimeUnit.MILLISECONDS.sleep(TIEMPO_ESPERA_REINTENTO_MS);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.error("❌ Reintentos interrumpidos para batch form+proceso-principal");
-                        return false;
-                    }
-                } else {
-                    log.error("❌ Todos los intentos fallaron para batch form+proceso-principal: {}", e.getMessage());
-                    return false;
-                }
-            }
-        }
-        return false;
-    }
-
-    private void desplegarFormYProcesoPrincipal() throws IOException {
-        log.info("📋 Desplegando batch: iniciar-reserva.form + proceso-principal.bpmn");
-
-        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
-        Resource form = resolver.getResource("classpath:bpmn/forms/iniciar-reserva.form");
-        Resource bpmn = resolver.getResource("classpath:bpmn/proceso-principal.bpmn");
-
-        if (!form.exists()) throw new IOException("Archivo no encontrado: bpmn/forms/iniciar-reserva.form");
-        if (!bpmn.exists()) throw new IOException("Archivo no encontrado: bpmn/proceso-principal.bpmn");
-
-        DeploymentEvent deployment = camundaClient.newDeployResourceCommand()
-                .addResourceStream(form.getInputStream(), form.getFilename())
-                .addResourceStream(bpmn.getInputStream(), bpmn.getFilename())
-                .send()
-                .join();
-
-        log.info("✅ Batch desplegado — key: {}", deployment.getKey());
-        for (Process process : deployment.getProcesses()) {
-            log.info("   🔧 Proceso: {} (versión: {}, key: {})",
-                    process.getBpmnProcessId(), process.getVersion(), process.getProcessDefinitionKey());
-        }
-    }
-
-    /**
-     * Método auxiliar para desplegar todos los archivos BPMN de un directorio.
-     * Útil para desarrollo/testing.
+     * Método auxiliar para desplegar todos los archivos BPMN de un directorio
+     * en un único deployment. Útil para desarrollo/testing.
      *
      * @param directorioPatron Patrón del directorio (ej: "classpath:bpmn/*.bpmn")
      */
@@ -299,23 +360,25 @@ public class BpmnDeploymentService {
             Resource[] recursos = resolver.getResources(directorioPatron);
 
             log.info("📋 Encontrados {} archivos BPMN", recursos.length);
+            if (recursos.length == 0) {
+                return;
+            }
 
+            DeployResourceCommandStep1.DeployResourceCommandStep2 comando = null;
             for (Resource resource : recursos) {
-                try {
-                    DeploymentEvent deployment = camundaClient.newDeployResourceCommand()
-                            .addResourceStream(resource.getInputStream(), resource.getFilename())
-                            .send()
-                            .join();
-
-                    logDetallesDespliegue(resource.getFilename(), deployment);
-
-                } catch (Exception e) {
-                    log.error("❌ Error al desplegar {}: {}", resource.getFilename(), e.getMessage());
-                }
+                comando = comando == null
+                        ? camundaClient.newDeployResourceCommand()
+                                .addResourceBytes(resource.getContentAsByteArray(), resource.getFilename())
+                        : comando.addResourceBytes(resource.getContentAsByteArray(), resource.getFilename());
             }
 
-        } catch (IOException e) {
-            log.error("❌ Error al buscar archivos BPMN: {}", e.getMessage());
+            logDetallesDespliegue(comando.send().join());
+
+        } catch (Exception e) {
+            log.error("❌ Error al desplegar {}: {}", directorioPatron, e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private record RecursoBpmn(String nombre, byte[] contenido, String hash, Optional<String> idProceso) {
+    }
+}
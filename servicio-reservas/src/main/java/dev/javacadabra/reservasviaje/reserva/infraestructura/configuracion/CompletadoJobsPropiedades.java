@@ -0,0 +1,47 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del pipeline asíncrono de completado de jobs.
+ *
+ * <pre>
+ * reservasviaje:
+ *   worker:
+ *     completado:
+ *       capacidad-cola: 1024
+ *       tamano-lote: 64
+ *       max-en-vuelo: 256
+ *       max-reintentos: 5
+ *       espera-inicial: 100ms
+ *       espera-maxima: 5s
+ * </pre>
+ *
+ * @param capacidadCola comandos pendientes admitidos antes de bloquear a los handlers
+ * @param tamanoLote comandos que el despachador extrae de la cola en cada pasada
+ * @param maxEnVuelo comandos enviados al gateway pendientes de respuesta
+ * @param maxReintentos reintentos ante back-pressure o indisponibilidad del gateway
+ * @param esperaInicial espera antes del primer reintento (crece exponencialmente)
+ * @param esperaMaxima techo de la espera entre reintentos
+ */
+@ConfigurationProperties(prefix = "reservasviaje.worker.completado")
+public record CompletadoJobsPropiedades(
+        Integer capacidadCola,
+        Integer tamanoLote,
+        Integer maxEnVuelo,
+        Integer maxReintentos,
+        Duration esperaInicial,
+        Duration esperaMaxima
+) {
+
+    public CompletadoJobsPropiedades {
+        capacidadCola = capacidadCola != null ? capacidadCola : 1024;
+        tamanoLote = tamanoLote != null ? tamanoLote : 64;
+        maxEnVuelo = maxEnVuelo != null ? maxEnVuelo : 256;
+        maxReintentos = maxReintentos != null ? maxReintentos : 5;
+        esperaInicial = esperaInicial != null ? esperaInicial : Duration.ofMillis(100);
+        esperaMaxima = esperaMaxima != null ? esperaMaxima : Duration.ofSeconds(5);
+    }
+}
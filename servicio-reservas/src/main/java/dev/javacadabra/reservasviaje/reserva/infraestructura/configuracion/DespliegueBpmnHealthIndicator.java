@@ -0,0 +1,34 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Indicador de salud del despliegue BPMN.
+ *
+ * <p>Forma parte del grupo {@code readiness}: mientras los procesos no estén
+ * desplegados el servicio no debe recibir tráfico, porque iniciar una reserva
+ * fallaría con "proceso no encontrado". FALLIDO no es definitivo: el servicio
+ * reprograma el despliegue y la readiness vuelve a UP cuando Zeebe responde.
+ */
+@Component("despliegueBpmn")
+@RequiredArgsConstructor
+public class DespliegueBpmnHealthIndicator implements HealthIndicator {
+
+    private final BpmnDeploymentService bpmnDeploymentService;
+
+    @Override
+    public Health health() {
+        BpmnDeploymentService.EstadoDespliegue estado = bpmnDeploymentService.getEstado();
+
+        Health.Builder builder = switch (estado) {
+            case DESPLEGADO -> Health.up();
+            case FALLIDO -> Health.down();
+            case PENDIENTE, DESPLEGANDO -> Health.outOfService();
+        };
+
+        return builder.withDetail("estado", estado.name()).build();
+    }
+}
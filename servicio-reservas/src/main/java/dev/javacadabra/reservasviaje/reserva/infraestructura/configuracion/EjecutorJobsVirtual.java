@@ -0,0 +1,78 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor planificado para el cliente de Camunda que ejecuta cada tarea
+ * inmediata en un hilo virtual nuevo.
+ *
+ * <p>El cliente usa el mismo {@link java.util.concurrent.ScheduledExecutorService}
+ * para planificar los ciclos de polling y para lanzar los handlers de los jobs
+ * activados. Las planificaciones se quedan en un único hilo de plataforma (solo
+ * disparan peticiones asíncronas al gateway) y todo lo que se envía con
+ * {@code execute}/{@code submit} se despacha a un executor de un hilo virtual
+ * por tarea, sin pool ni techo de hilos.
+ *
+ * @author javacadabra
+ */
+class EjecutorJobsVirtual extends ScheduledThreadPoolExecutor {
+
+    private final ExecutorService hilosVirtuales;
+
+    EjecutorJobsVirtual() {
+        super(1, Thread.ofPlatform().name("job-worker-planificador").daemon(true).factory());
+        this.hilosVirtuales = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("job-worker-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        hilosVirtuales.execute(command);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return hilosVirtuales.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return hilosVirtuales.submit(task, result);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return hilosVirtuales.submit(task);
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        hilosVirtuales.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pendientes = super.shutdownNow();
+        hilosVirtuales.shutdownNow();
+        return pendientes;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long limite = System.nanoTime() + unit.toNanos(timeout);
+        return super.awaitTermination(timeout, unit)
+                && hilosVirtuales.awaitTermination(limite - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return super.isTerminated() && hilosVirtuales.isTerminated();
+    }
+}
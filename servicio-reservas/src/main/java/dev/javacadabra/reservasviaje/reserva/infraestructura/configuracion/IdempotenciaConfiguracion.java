@@ -0,0 +1,19 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuración del registro de ejecuciones de jobs idempotentes.
+ *
+ * <p>Habilita la planificación para la purga periódica de la tabla
+ * {@code ejecucion_job}.
+ *
+ * @author javacadabra
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(IdempotenciaPropiedades.class)
+public class IdempotenciaConfiguracion {
+}
@@ -0,0 +1,181 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.JobIdempotente;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador.EjecucionJobAdaptador;
+import io.camunda.client.api.response.ActivatedJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hace idempotentes los workers marcados con {@link JobIdempotente}.
+ *
+ * <p>Si el job ya se ejecutó con éxito, devuelve el resultado registrado sin
+ * tocar el dominio. Si otra entrega del mismo job se está ejecutando en esta
+ * instancia, espera a su resultado en lugar de ejecutar la lógica dos veces.
+ * Solo se registran las ejecuciones exitosas: los errores BPMN y los fallos se
+ * vuelven a evaluar en la siguiente entrega.
+ *
+ * <p>El worker se ejecuta dentro de una transacción a la que se unen los casos de
+ * uso, y el registro se inserta en esa misma transacción: el cambio de dominio y
+ * el registro se confirman o se revierten juntos. Si otra instancia registró el
+ * mismo job antes, el insert viola la clave primaria, la transacción completa se
+ * revierte y se devuelve el resultado de la otra instancia.
+ *
+ * <p>Va dentro de {@link CompletadoAsincronoAspect} y {@link WorkerConcurrenciaAspect},
+ * de modo que el resultado reproducido se completa igual que uno nuevo.
+ *
+ * @author javacadabra
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Slf4j
+public class IdempotenciaJobAspect {
+
+    private final EjecucionJobAdaptador ejecucionJobAdaptador;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaccion;
+
+    private final Map<Long, CompletableFuture<Object>> enCurso = new ConcurrentHashMap<>();
+
+    public IdempotenciaJobAspect(EjecucionJobAdaptador ejecucionJobAdaptador,
+                                 MeterRegistry meterRegistry,
+                                 PlatformTransactionManager transactionManager) {
+        this.ejecucionJobAdaptador = ejecucionJobAdaptador;
+        this.meterRegistry = meterRegistry;
+        this.transaccion = new TransactionTemplate(transactionManager);
+    }
+
+    @Around("@annotation(jobIdempotente)")
+    public Object ejecutarUnaVez(ProceedingJoinPoint joinPoint, JobIdempotente jobIdempotente) throws Throwable {
+        ActivatedJob job = Arrays.stream(joinPoint.getArgs())
+                .filter(arg -> arg instanceof ActivatedJob)
+                .map(arg -> (ActivatedJob) arg)
+                .findFirst()
+                .orElse(null);
+
+        if (job == null) {
+            return joinPoint.proceed();
+        }
+
+        Optional<Map<String, Object>> previo = ejecucionJobAdaptador.buscarResultado(job.getKey());
+        if (previo.isPresent()) {
+            log.info("♻️ Job {} ({}) ya ejecutado, se reproduce el resultado registrado",
+                    job.getKey(), job.getType());
+            contarReproduccion(job);
+            return previo.get();
+        }
+
+        CompletableFuture<Object> propia = new CompletableFuture<>();
+        CompletableFuture<Object> existente = enCurso.putIfAbsent(job.getKey(), propia);
+        if (existente != null) {
+            log.info("⏳ Job {} ({}) ya en ejecución, se espera su resultado", job.getKey(), job.getType());
+            contarReproduccion(job);
+            return esperar(existente);
+        }
+
+        try {
+            Object resultado = ejecutarYRegistrar(joinPoint, job, jobIdempotente);
+            propia.complete(resultado);
+            return resultado;
+
+        } catch (Throwable e) {
+            propia.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(job.getKey(), propia);
+        }
+    }
+
+    /**
+     * Ejecuta el worker y registra su resultado en una única transacción.
+     */
+    private Object ejecutarYRegistrar(ProceedingJoinPoint joinPoint, ActivatedJob job,
+                                      JobIdempotente jobIdempotente) throws Throwable {
+        try {
+            return transaccion.execute(estado -> {
+                Object resultado = proceder(joinPoint);
+
+                if (resultado instanceof Map<?, ?> variables) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> salida = (Map<String, Object>) variables;
+                    ejecucionJobAdaptador.registrar(job, idNegocio(salida, jobIdempotente), salida);
+                }
+                return resultado;
+            });
+
+        } catch (EjecucionJobAdaptador.EjecucionYaRegistradaException e) {
+            log.info("♻️ Job {} ({}) registrado por otra instancia, se revierte esta ejecución",
+                    job.getKey(), job.getType());
+            contarReproduccion(job);
+            return ejecucionJobAdaptador.buscarResultado(job.getKey())
+                    .orElseThrow(() -> new DataIntegrityViolationException(
+                            "Ejecución del job " + job.getKey() + " registrada pero no encontrada", e));
+
+        } catch (ExcepcionWorker e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object proceder(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExcepcionWorker(e);
+        }
+    }
+
+    private Object esperar(CompletableFuture<Object> ejecucion) throws Throwable {
+        try {
+            return ejecucion.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private String idNegocio(Map<String, Object> resultado, JobIdempotente jobIdempotente) {
+        if (jobIdempotente.idNegocio().isEmpty()) {
+            return null;
+        }
+        Object valor = resultado.get(jobIdempotente.idNegocio());
+        return valor != null ? valor.toString() : null;
+    }
+
+    /**
+     * Transporta una excepción comprobada del worker fuera del callback transaccional
+     * (y provoca el rollback).
+     */
+    private static final class ExcepcionWorker extends RuntimeException {
+
+        private ExcepcionWorker(Throwable causa) {
+            super(causa);
+        }
+    }
+
+    private void contarReproduccion(ActivatedJob job) {
+        Counter.builder("reservasviaje.worker.jobs.reproducidos")
+                .description("Reentregas de jobs resueltas sin volver a ejecutar la lógica de negocio")
+                .tag("tipo", job.getType())
+                .register(meterRegistry)
+                .increment();
+    }
+}
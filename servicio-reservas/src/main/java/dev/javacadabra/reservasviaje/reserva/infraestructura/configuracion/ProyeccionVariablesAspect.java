@@ -0,0 +1,68 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import io.camunda.client.annotation.JobWorker;
+import io.camunda.client.api.response.ActivatedJob;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+/**
+ * Sustituye el {@link ActivatedJob} recibido por los workers por una vista que
+ * vigila que solo se lean las variables declaradas en {@code fetchVariables}.
+ *
+ * <p>Los workers sin proyección declarada (o con {@code fetchAllVariables = true})
+ * reciben el job original; esos casos ya los señala {@link ProyeccionVariablesVerificador}
+ * al arrancar.
+ *
+ * @see VariablesProyectadas
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "reservasviaje.worker.variables", name = "verificar-lecturas",
+        havingValue = "true", matchIfMissing = true)
+public class ProyeccionVariablesAspect {
+
+    @Around("@annotation(jobWorker)")
+    public Object vigilarLecturas(ProceedingJoinPoint joinPoint, JobWorker jobWorker) throws Throwable {
+        if (jobWorker.fetchAllVariables() || jobWorker.fetchVariables().length == 0) {
+            return joinPoint.proceed();
+        }
+
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof ActivatedJob job) {
+                args[i] = proyectar(job, Set.of(jobWorker.fetchVariables()));
+            }
+        }
+        return joinPoint.proceed(args);
+    }
+
+    private ActivatedJob proyectar(ActivatedJob job, Set<String> declaradas) {
+        VariablesProyectadas variables =
+                new VariablesProyectadas(job.getType(), declaradas, job.getVariablesAsMap());
+
+        return (ActivatedJob) Proxy.newProxyInstance(
+                ActivatedJob.class.getClassLoader(),
+                new Class<?>[]{ActivatedJob.class},
+                (proxy, metodo, argumentos) -> {
+                    if ("getVariablesAsMap".equals(metodo.getName())) {
+                        return variables;
+                    }
+                    if ("getVariable".equals(metodo.getName()) && argumentos != null && argumentos.length == 1) {
+                        variables.verificar(argumentos[0]);
+                    }
+                    try {
+                        return metodo.invoke(job, argumentos);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,56 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import io.camunda.client.annotation.JobWorker;
+import io.camunda.client.api.response.ActivatedJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * Comprobación de arranque de las proyecciones de variables de los job workers.
+ *
+ * <p>Recorre todos los métodos anotados con {@link JobWorker} y señala los que
+ * reciben el {@link ActivatedJob} sin declarar {@code fetchVariables}, porque
+ * esos workers reciben el scope completo de la instancia (incluidas listas como
+ * {@code pasajeros} o {@code clientesDisponibles}).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProyeccionVariablesVerificador implements SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String nombreBean : applicationContext.getBeanDefinitionNames()) {
+            Class<?> tipo = applicationContext.getType(nombreBean);
+            if (tipo == null) {
+                continue;
+            }
+            ReflectionUtils.doWithMethods(ClassUtils.getUserClass(tipo), metodo -> {
+                JobWorker jobWorker = AnnotationUtils.findAnnotation(metodo, JobWorker.class);
+                if (jobWorker == null) {
+                    return;
+                }
+                boolean recibeJob = Arrays.stream(metodo.getParameterTypes())
+                        .anyMatch(ActivatedJob.class::isAssignableFrom);
+
+                if (recibeJob && !jobWorker.fetchAllVariables() && jobWorker.fetchVariables().length == 0) {
+                    log.warn("⚠️ El worker '{}' ({}.{}) no declara fetchVariables y recibirá todas las variables del proceso",
+                            jobWorker.type(), metodo.getDeclaringClass().getSimpleName(), metodo.getName());
+                } else {
+                    log.debug("📥 Worker '{}' - variables declaradas: {}",
+                            jobWorker.type(), Arrays.toString(jobWorker.fetchVariables()));
+                }
+            });
+        }
+    }
+}
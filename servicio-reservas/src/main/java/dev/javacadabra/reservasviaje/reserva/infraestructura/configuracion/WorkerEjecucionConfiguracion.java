@@ -0,0 +1,32 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion;
+
+import io.camunda.client.jobhandling.CamundaClientExecutorService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del modo de ejecución de los job workers.
+ *
+ * <p>Por defecto no altera nada: el cliente de Camunda usa su pool de hilos de
+ * plataforma. Con {@code reservasviaje.worker.ejecucion.modo=virtual} se sustituye
+ * el executor del cliente por {@link EjecutorJobsVirtual}, que lanza un hilo
+ * virtual por job, de modo que las esperas JDBC de los handlers no retienen hilos
+ * de plataforma. La concurrencia la acota {@code maxJobsActive} en la activación.
+ *
+ * @author javacadabra
+ */
+@Configuration
+@EnableConfigurationProperties({WorkerEjecucionPropiedades.class, CompletadoJobsPropiedades.class})
+@Slf4j
+public class WorkerEjecucionConfiguracion {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "reservasviaje.worker.ejecucion", name = "modo", havingValue = "virtual")
+    public CamundaClientExecutorService camundaClientExecutorService() {
+        log.info("🧵 Job workers en modo VIRTUAL - un hilo virtual por job, límite por maxJobsActive");
+        return new CamundaClientExecutorService(new EjecutorJobsVirtual(), true);
+    }
+}
@@ -0,0 +1,231 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.ServicioReservasApplication;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.PaginaReservasDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarReservasCasoUso;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas de {@link ConsultarReservasCasoUso} sobre una tabla
+ * {@code reserva_vuelo} con millones de filas.
+ *
+ * <ul>
+ *   <li>{@code porCliente}, {@code porEstado} y {@code porFechaSalida} - primera
+ *       página de cada filtro sobre su índice compuesto</li>
+ *   <li>{@code porEstadoProfundo} - la misma página tras {@value #PROFUNDIDAD} filas,
+ *       con el cursor por clave</li>
+ *   <li>{@code porEstadoOffset} - esa página con {@code OFFSET}, como referencia de
+ *       lo que cuesta paginar sin clave</li>
+ * </ul>
+ *
+ * <p>Arranca el contexto completo sobre H2 con los job workers desactivados y
+ * carga las filas por JDBC en lotes antes de medir. Imprime el plan de H2 de cada
+ * consulta para comprobar qué índice usa. Las asignaciones por llamada salen del
+ * perfilador de GC ({@code gc.alloc.rate.norm}).
+ *
+ * <p>Ejecución:
+ * <pre>
+ * mvn -pl servicio-reservas test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.javacadabra.reservasviaje.reserva.aplicacion.servicio.ConsultaReservasBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ConsultaReservasBenchmark {
+
+    private static final int CLIENTES = 50_000;
+    private static final int TAMANO_PAGINA = 50;
+    private static final int PROFUNDIDAD = 20_000;
+    private static final int FILAS_POR_LOTE = 10_000;
+    private static final String ESTADO = "CONFIRMADA";
+    private static final String[] ESTADOS = {
+            "CONFIRMADA", "CONFIRMADA", "CONFIRMADA", "CONFIRMADA", "CONFIRMADA",
+            "CONFIRMADA", "PENDIENTE", "CANCELADA", "FALLIDA", "EN_PROCESO"
+    };
+    private static final LocalDateTime INICIO = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String INSERTAR = """
+            INSERT INTO reserva_vuelo (reserva_id, numero_vuelo, aerolinea, origen, destino,
+                fecha_salida, fecha_llegada, clase, numero_pasajeros, precio, codigo_moneda,
+                estado, cliente_id, fecha_creacion)
+            VALUES (?, ?, 'Iberia', 'MAD', 'BCN', ?, ?, 'ECONOMICA', 1, ?, 'EUR', ?, ?, ?)
+            """;
+
+    private static final String POR_ESTADO_OFFSET = """
+            SELECT new dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.proyeccion.ResumenReservaFila(
+                r.reservaId, r.clienteId, r.estado,
+                CONCAT(r.numeroVuelo, ' ', r.origen, '-', r.destino),
+                r.fechaSalida, r.fechaLlegada, r.precio, r.codigoMoneda, r.fechaCreacion)
+            FROM ReservaVueloEntidad r
+            WHERE r.estado = :estado
+            ORDER BY r.fechaCreacion, r.reservaId
+            """;
+
+    /**
+     * Filas sembradas en {@code reserva_vuelo}.
+     */
+    @Param({"2000000"})
+    public int filas;
+
+    private ConfigurableApplicationContext contexto;
+    private ConsultarReservasCasoUso consultarReservas;
+    private EntityManager entityManager;
+    private String cursorProfundo;
+    private long llamadas;
+
+    @Setup
+    public void arrancar() {
+        contexto = new SpringApplicationBuilder(ServicioReservasApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "camunda.client.worker.defaults.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        sembrar(contexto.getBean(JdbcTemplate.class));
+
+        consultarReservas = contexto.getBean(ConsultarReservasCasoUso.class);
+        entityManager = contexto.getBean(EntityManagerFactory.class).createEntityManager();
+        cursorProfundo = cursorTras(PROFUNDIDAD);
+        llamadas = 0;
+    }
+
+    @TearDown
+    public void detener() {
+        entityManager.close();
+        contexto.close();
+    }
+
+    @Benchmark
+    public PaginaReservasDTO porCliente() {
+        String clienteId = "CLI-%05d".formatted(llamadas++ % CLIENTES);
+        return consultarReservas.listarPorCliente(TipoReserva.VUELO, clienteId, null, TAMANO_PAGINA);
+    }
+
+    @Benchmark
+    public PaginaReservasDTO porEstado() {
+        return consultarReservas.listarPorEstado(TipoReserva.VUELO, ESTADO, null, TAMANO_PAGINA);
+    }
+
+    @Benchmark
+    public PaginaReservasDTO porEstadoProfundo() {
+        return consultarReservas.listarPorEstado(TipoReserva.VUELO, ESTADO, cursorProfundo, TAMANO_PAGINA);
+    }
+
+    @Benchmark
+    public List<ResumenReservaFila> porEstadoOffset() {
+        List<ResumenReservaFila> pagina = entityManager.createQuery(POR_ESTADO_OFFSET, ResumenReservaFila.class)
+                .setParameter("estado", ESTADO)
+                .setFirstResult(PROFUNDIDAD)
+                .setMaxResults(TAMANO_PAGINA + 1)
+                .getResultList();
+        entityManager.clear();
+        return pagina;
+    }
+
+    @Benchmark
+    public PaginaReservasDTO porFechaSalida() {
+        LocalDate dia = INICIO.toLocalDate().plusDays(llamadas++ % 730);
+        return consultarReservas.listarPorFechaInicio(TipoReserva.VUELO, dia, dia, null, TAMANO_PAGINA);
+    }
+
+    /**
+     * Inserta {@link #filas} reservas repartidas entre {@value #CLIENTES} clientes,
+     * los estados de {@link #ESTADOS} y dos años de salidas.
+     */
+    private void sembrar(JdbcTemplate jdbc) {
+        long inicio = System.nanoTime();
+        List<Object[]> lote = new ArrayList<>(FILAS_POR_LOTE);
+        for (int i = 0; i < filas; i++) {
+            LocalDateTime salida = INICIO.plusDays((i * 7919L) % 730).plusHours(i % 24);
+            lote.add(new Object[]{
+                    "VUE-%08d".formatted(i),
+                    "IB%04d".formatted(i % 5000),
+                    Timestamp.valueOf(salida),
+                    Timestamp.valueOf(salida.plusMinutes(75)),
+                    BigDecimal.valueOf(50 + i % 400),
+                    ESTADOS[i % ESTADOS.length],
+                    "CLI-%05d".formatted(i % CLIENTES),
+                    Timestamp.valueOf(INICIO.minusYears(1).plusSeconds(i * 15L))
+            });
+            if (lote.size() == FILAS_POR_LOTE) {
+                jdbc.batchUpdate(INSERTAR, lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            jdbc.batchUpdate(INSERTAR, lote);
+        }
+
+        System.out.printf("%nSembradas %d reservas de vuelo en %d ms%n",
+                filas, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+
+        imprimirPlan(jdbc, "cliente", "WHERE cliente_id = 'CLI-00001' ORDER BY fecha_creacion, reserva_id");
+        imprimirPlan(jdbc, "estado", "WHERE estado = '" + ESTADO + "' ORDER BY fecha_creacion, reserva_id");
+        imprimirPlan(jdbc, "fecha de salida",
+                "WHERE fecha_salida >= TIMESTAMP '2025-03-01 00:00:00' AND fecha_salida < TIMESTAMP '2025-03-02 00:00:00'"
+                + " ORDER BY fecha_salida, reserva_id");
+    }
+
+    private void imprimirPlan(JdbcTemplate jdbc, String filtro, String condicion) {
+        String plan = jdbc.queryForObject(
+                "EXPLAIN SELECT reserva_id FROM reserva_vuelo " + condicion + " FETCH FIRST 51 ROWS ONLY",
+                String.class);
+        System.out.printf("Plan por %s:%n%s%n", filtro, plan);
+    }
+
+    /**
+     * Recorre páginas por estado hasta pasar {@code profundidad} filas y devuelve
+     * el cursor de la siguiente.
+     */
+    private String cursorTras(int profundidad) {
+        String cursor = null;
+        for (int leidas = 0; leidas < profundidad; leidas += 200) {
+            cursor = consultarReservas.listarPorEstado(TipoReserva.VUELO, ESTADO, cursor, 200).siguienteCursor();
+        }
+        return cursor;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConsultaReservasBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package dev.javacadabra.reservasviaje.reserva.aplicacion.servicio;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.EstadoReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.ConsultarEstadoReservaCasoUso.EsperasAgotadasException;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.EstadoReservaPuerto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Límite de procesos en espera de {@link EstadoReservaServicio}: un proceso
+ * nuevo por encima del límite se rechaza, pero quien espera un proceso que ya
+ * tiene espera comparte la existente.
+ */
+class EstadoReservaServicioTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(30);
+
+    private EstadoReservaPuerto puerto;
+    private EstadoReservaServicio servicio;
+
+    @BeforeEach
+    void preparar() {
+        puerto = mock(EstadoReservaPuerto.class);
+        when(puerto.buscar(anyLong())).thenReturn(Optional.empty());
+        servicio = new EstadoReservaServicio(puerto, 100, Duration.ofMinutes(15), Duration.ofSeconds(60), 2);
+    }
+
+    @AfterEach
+    void detener() {
+        servicio.detener();
+    }
+
+    @Test
+    void rechazaUnProcesoNuevoConElLimiteAlcanzado() {
+        servicio.esperar(1L, ESPERA);
+        servicio.esperar(2L, ESPERA);
+
+        assertThatThrownBy(() -> servicio.esperar(3L, ESPERA))
+                .isInstanceOf(EsperasAgotadasException.class);
+    }
+
+    @Test
+    void admiteMasEsperasDeUnProcesoYaEsperado() {
+        CompletableFuture<EstadoReservaDTO> primera = servicio.esperar(1L, ESPERA);
+        servicio.esperar(2L, ESPERA);
+        CompletableFuture<EstadoReservaDTO> segunda = servicio.esperar(1L, ESPERA);
+
+        EstadoReservaDTO completada = new EstadoReservaDTO(1L, "RES-1", EstadoReservaDTO.COMPLETADA, null, null);
+        servicio.registrar(completada);
+
+        assertThat(primera.join().estado()).isEqualTo(EstadoReservaDTO.COMPLETADA);
+        assertThat(segunda.join().estado()).isEqualTo(EstadoReservaDTO.COMPLETADA);
+    }
+
+    @Test
+    void elProcesoRegistradoLiberaSuPlaza() {
+        servicio.esperar(1L, ESPERA);
+        servicio.esperar(2L, ESPERA);
+
+        servicio.registrar(new EstadoReservaDTO(1L, "RES-1", EstadoReservaDTO.FALLIDA, "Pago fallido", null));
+
+        assertThat(servicio.esperar(3L, ESPERA)).isNotDone();
+    }
+}
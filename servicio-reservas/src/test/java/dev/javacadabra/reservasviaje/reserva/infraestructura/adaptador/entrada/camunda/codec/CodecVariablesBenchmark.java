@@ -0,0 +1,191 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.ReservarVueloDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara {@link ReservarVueloCodec} con el mapeo que hacía {@code ReservaVueloWorker}
+ * antes del codec ({@code mapearADTO}), reproducido tal cual en {@link MapeoLegado}.
+ *
+ * <p>Los escenarios cubren las tres formas en que llegan las fechas y el precio
+ * desde Camunda: con offset (la rama rápida del mapeo antiguo), sin offset (la que
+ * pasaba por la excepción de {@code OffsetDateTime.parse}) y con el precio como texto.
+ *
+ * <p>Ejecución (con {@code -prof gc} para ver asignaciones por operación):
+ * <pre>
+ * mvn -pl servicio-reservas test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec.CodecVariablesBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecVariablesBenchmark {
+
+    @Param({"CON_OFFSET", "SIN_OFFSET", "PRECIO_TEXTO"})
+    public String escenario;
+
+    private final ReservarVueloCodec codec = new ReservarVueloCodec();
+    private final MapeoLegado legado = new MapeoLegado();
+
+    private Map<String, Object> variables;
+
+    @Setup
+    public void preparar() {
+        boolean conOffset = !"SIN_OFFSET".equals(escenario);
+        variables = Map.ofEntries(
+                Map.entry("clienteId", "6f1c2a4e-8b3d-4c5f-9a7e-1d2b3c4d5e6f"),
+                Map.entry("numeroVuelo", "IB3456"),
+                Map.entry("aerolinea", "Iberia"),
+                Map.entry("origen", "MAD"),
+                Map.entry("destino", "BCN"),
+                Map.entry("fechaSalida", conOffset ? "2026-05-20T12:00+02:00" : "2026-05-20T12:00:00"),
+                Map.entry("fechaLlegada", conOffset ? "2026-05-20T13:15+02:00" : "2026-05-20T13:15:00"),
+                Map.entry("clase", "ECONOMICA"),
+                Map.entry("precioVuelo", "PRECIO_TEXTO".equals(escenario) ? "189.90" : 189.90),
+                Map.entry("pasajeros", List.of(
+                        pasajero("Ana", "García López", "12345678Z", "1985-03-14"),
+                        pasajero("Luis", "Pérez Martín", "87654321X", "1990-11-02")
+                ))
+        );
+    }
+
+    @Benchmark
+    public ReservarVueloDTO codec() {
+        return codec.decodificar(variables);
+    }
+
+    @Benchmark
+    public ReservarVueloDTO mapeoLegado() {
+        return legado.mapearADTO(variables);
+    }
+
+    private static Map<String, Object> pasajero(String nombre, String apellidos,
+                                                String documento, String fechaNacimiento) {
+        return Map.of(
+                "nombre", nombre,
+                "apellidos", apellidos,
+                "numeroDocumento", documento,
+                "tipoDocumento", "DNI",
+                "fechaNacimiento", fechaNacimiento,
+                "nacionalidad", "ES"
+        );
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CodecVariablesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * Copia de {@code ReservaVueloWorker#mapearADTO} y sus helpers previos al codec.
+     */
+    static class MapeoLegado {
+
+        @SuppressWarnings("unchecked")
+        ReservarVueloDTO mapearADTO(Map<String, Object> variables) {
+            try {
+                List<Map<String, Object>> pasajerosMap = (List<Map<String, Object>>)
+                        variables.get("pasajeros");
+
+                List<ReservarVueloDTO.PasajeroDTO> pasajeros = pasajerosMap.stream()
+                        .map(this::mapearPasajero)
+                        .collect(Collectors.toList());
+
+                LocalDateTime fechaSalida = parseDateTime(variables.get("fechaSalida"));
+                LocalDateTime fechaLlegada = parseDateTime(variables.get("fechaLlegada"));
+
+                return new ReservarVueloDTO(
+                        (String) variables.get("clienteId"),
+                        (String) variables.get("numeroVuelo"),
+                        (String) variables.get("aerolinea"),
+                        (String) variables.get("origen"),
+                        (String) variables.get("destino"),
+                        fechaSalida,
+                        fechaLlegada,
+                        (String) variables.get("clase"),
+                        convertirABigDecimal(variables.get("precioVuelo")),
+                        (String) variables.getOrDefault("codigoMoneda", "EUR"),
+                        pasajeros,
+                        (String) variables.get("observacionesVuelo"),
+                        (String) variables.get("codigoConfirmacionVuelo"),
+                        (String) variables.get("reservaId")
+                );
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Error al procesar los datos del vuelo: " + e.getMessage(), e
+                );
+            }
+        }
+
+        private ReservarVueloDTO.PasajeroDTO mapearPasajero(Map<String, Object> pasajeroMap) {
+            return new ReservarVueloDTO.PasajeroDTO(
+                    (String) pasajeroMap.get("nombre"),
+                    (String) pasajeroMap.get("apellidos"),
+                    (String) pasajeroMap.get("numeroDocumento"),
+                    (String) pasajeroMap.get("tipoDocumento"),
+                    parseDate(pasajeroMap.get("fechaNacimiento")),
+                    (String) pasajeroMap.get("nacionalidad")
+            );
+        }
+
+        private BigDecimal convertirABigDecimal(Object valor) {
+            if (valor instanceof BigDecimal decimal) {
+                return decimal;
+            } else if (valor instanceof Number numero) {
+                return BigDecimal.valueOf(numero.doubleValue());
+            } else if (valor instanceof String texto) {
+                return new BigDecimal(texto);
+            }
+            throw new IllegalArgumentException("No se puede convertir el precio a BigDecimal: " + valor);
+        }
+
+        private LocalDateTime parseDateTime(Object fechaObj) {
+            if (fechaObj instanceof LocalDateTime fechaHora) {
+                return fechaHora;
+            }
+            String fechaStr = (String) fechaObj;
+            try {
+                return OffsetDateTime.parse(fechaStr).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                return LocalDateTime.parse(fechaStr);
+            }
+        }
+
+        private LocalDate parseDate(Object fechaObj) {
+            if (fechaObj instanceof LocalDate fecha) {
+                return fecha;
+            }
+            return LocalDate.parse((String) fechaObj);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.camunda.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Conversión de enteros de {@link VariablesJob}: los valores que no caben en
+ * un int se rechazan con {@link IllegalArgumentException} nombrando la variable,
+ * que es lo que los workers convierten en su error BPMN de validación.
+ */
+class VariablesJobTest {
+
+    @Test
+    void aceptaLosLimitesDeInt() {
+        VariablesJob variables = VariablesJob.de(Map.of(
+                "maximo", "+2147483647",
+                "minimo", "-2147483648",
+                "largo", 42L));
+
+        assertThat(variables.entero("maximo")).isEqualTo(Integer.MAX_VALUE);
+        assertThat(variables.entero("minimo")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(variables.entero("largo")).isEqualTo(42);
+    }
+
+    @Test
+    void rechazaTextoFueraDeRango() {
+        VariablesJob variables = VariablesJob.de(Map.of("numeroPasajeros", "9999999999"));
+
+        assertThatThrownBy(() -> variables.entero("numeroPasajeros"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("numeroPasajeros");
+    }
+
+    @Test
+    void rechazaLongFueraDeRango() {
+        VariablesJob variables = VariablesJob.de(Map.of("numeroPasajeros", 2147483648L));
+
+        assertThatThrownBy(() -> variables.entero("numeroPasajeros"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("numeroPasajeros");
+    }
+
+    @Test
+    void rechazaTextoQueNoEsEntero() {
+        VariablesJob variables = VariablesJob.de(Map.of("numeroPasajeros", "12345678901"));
+
+        assertThatThrownBy(() -> variables.entero("numeroPasajeros"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("numeroPasajeros");
+    }
+}
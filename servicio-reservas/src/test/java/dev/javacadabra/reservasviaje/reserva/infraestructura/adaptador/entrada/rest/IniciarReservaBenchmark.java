@@ -0,0 +1,180 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.entrada.IniciarReservaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.dto.salida.IniciarReservaRespuestaDTO;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.entrada.IniciarReservaCasoUso;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compara los dos caminos de inicio de reserva con muchas peticiones a la vez:
+ *
+ * <ul>
+ *   <li>{@code sincrono} - cada petición ocupa un hilo del servidor hasta que el
+ *       gateway responde ({@link IniciarReservaCasoUso#ejecutar}, como hacía el
+ *       controlador antes de devolver un {@code CompletableFuture})</li>
+ *   <li>{@code asincrono} - {@link IniciarReservaController#iniciarReserva} libera el
+ *       hilo en cuanto envía el comando y responde al completarse el futuro</li>
+ * </ul>
+ *
+ * <p>Cada invocación lanza {@link #peticiones} inicios sobre un pool de
+ * {@value #HILOS_SERVIDOR} hilos (el máximo por defecto de Tomcat) y mide cuánto
+ * tarda en responder a todas. El gateway se sustituye por un caso de uso que
+ * completa cada inicio tras {@link #latenciaGatewayMs} ms, así que la diferencia
+ * entre los dos caminos es solo de ocupación de hilos. El límite de inicios en
+ * curso se fija en {@link #peticiones} para que ninguna acabe en 429.
+ *
+ * <p>Ejecución:
+ * <pre>
+ * mvn -pl servicio-reservas test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.entrada.rest.IniciarReservaBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IniciarReservaBenchmark {
+
+    private static final int HILOS_SERVIDOR = 200;
+
+    /**
+     * Inicios concurrentes por invocación.
+     */
+    @Param({"2000"})
+    public int peticiones;
+
+    /**
+     * Tiempo de respuesta simulado del gateway de Camunda.
+     */
+    @Param({"5", "20"})
+    public int latenciaGatewayMs;
+
+    private ExecutorService hilosServidor;
+    private ScheduledExecutorService gateway;
+    private IniciarReservaCasoUso casoUso;
+    private IniciarReservaController controller;
+    private IniciarReservaDTO dto;
+
+    @Setup
+    public void preparar() {
+        hilosServidor = Executors.newFixedThreadPool(HILOS_SERVIDOR);
+        gateway = Executors.newScheduledThreadPool(4);
+        casoUso = new GatewaySimulado(gateway, latenciaGatewayMs);
+        controller = new IniciarReservaController(
+                casoUso, null, null, new LimiteIniciosEnCurso(peticiones), Duration.ZERO);
+        dto = IniciarReservaDTO.builder()
+                .clienteId("123e4567-e89b-12d3-a456-426655440000")
+                .origen("MAD")
+                .destino("BCN")
+                .fechaInicio("2026-05-20")
+                .fechaFin("2026-05-27")
+                .numeroPasajeros(2)
+                .emailContacto("cliente@example.com")
+                .telefonoContacto("+34600000000")
+                .build();
+    }
+
+    @TearDown
+    public void detener() {
+        hilosServidor.shutdownNow();
+        gateway.shutdownNow();
+    }
+
+    @Benchmark
+    public int sincrono() throws InterruptedException, ExecutionException {
+        List<Future<IniciarReservaRespuestaDTO>> respuestas = new ArrayList<>(peticiones);
+        for (int i = 0; i < peticiones; i++) {
+            respuestas.add(hilosServidor.submit(() -> casoUso.ejecutar(dto)));
+        }
+        for (Future<IniciarReservaRespuestaDTO> respuesta : respuestas) {
+            respuesta.get();
+        }
+        return respuestas.size();
+    }
+
+    @Benchmark
+    public int asincrono() throws InterruptedException, ExecutionException {
+        List<Future<CompletableFuture<ResponseEntity<IniciarReservaRespuestaDTO>>>> enviadas =
+                new ArrayList<>(peticiones);
+        for (int i = 0; i < peticiones; i++) {
+            enviadas.add(hilosServidor.submit(() -> controller.iniciarReserva(dto, false)));
+        }
+        for (Future<CompletableFuture<ResponseEntity<IniciarReservaRespuestaDTO>>> enviada : enviadas) {
+            ResponseEntity<IniciarReservaRespuestaDTO> respuesta = enviada.get().join();
+            if (respuesta.getStatusCode() != HttpStatus.ACCEPTED) {
+                throw new IllegalStateException("Inicio rechazado: " + respuesta.getStatusCode());
+            }
+        }
+        return enviadas.size();
+    }
+
+    /**
+     * Caso de uso que responde como el gateway, tras una latencia fija y sin ocupar
+     * hilo mientras espera. {@code ejecutar} bloquea sobre el mismo futuro, igual
+     * que {@code IniciarReservaServicio}.
+     */
+    private static final class GatewaySimulado implements IniciarReservaCasoUso {
+
+        private final ScheduledExecutorService planificador;
+        private final long latenciaMs;
+        private final AtomicLong claves = new AtomicLong();
+
+        GatewaySimulado(ScheduledExecutorService planificador, long latenciaMs) {
+            this.planificador = planificador;
+            this.latenciaMs = latenciaMs;
+        }
+
+        @Override
+        public IniciarReservaRespuestaDTO ejecutar(IniciarReservaDTO dto) {
+            return ejecutarAsincrono(dto).join();
+        }
+
+        @Override
+        public CompletableFuture<IniciarReservaRespuestaDTO> ejecutarAsincrono(IniciarReservaDTO dto) {
+            CompletableFuture<IniciarReservaRespuestaDTO> respuesta = new CompletableFuture<>();
+            IniciarReservaRespuestaDTO iniciada = IniciarReservaRespuestaDTO.builder()
+                    .processInstanceKey(claves.incrementAndGet())
+                    .estado("INICIADA")
+                    .mensaje("Reserva iniciada correctamente")
+                    .build();
+            planificador.schedule(() -> respuesta.complete(iniciada), latenciaMs, TimeUnit.MILLISECONDS);
+            return respuesta;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IniciarReservaBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
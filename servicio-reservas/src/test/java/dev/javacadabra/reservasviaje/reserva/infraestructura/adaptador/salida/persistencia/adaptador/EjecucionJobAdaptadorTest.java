@@ -0,0 +1,84 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.infraestructura.configuracion.IdempotenciaPropiedades;
+import io.camunda.client.api.response.ActivatedJob;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Registro de ejecuciones cuando dos instancias ejecutan el mismo job: la
+ * segunda inserción choca con la clave y se traduce a
+ * {@link EjecucionJobAdaptador.EjecucionYaRegistradaException}, que es lo que
+ * hace al aspecto reproducir el resultado guardado.
+ *
+ * <p>Entre los dos registros se vacía el contexto de persistencia, como si el
+ * segundo viniera de otra instancia: el duplicado lo detecta la BD, no Hibernate.
+ */
+@DataJpaTest
+@Import({EjecucionJobAdaptador.class, EjecucionJobAdaptadorTest.Configuracion.class})
+class EjecucionJobAdaptadorTest {
+
+    private static final long JOB_KEY = 2251799813685249L;
+
+    @Autowired
+    private EjecucionJobAdaptador adaptador;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void registrarDosVecesElMismoJobLanzaEjecucionYaRegistrada() {
+        ActivatedJob job = job();
+        adaptador.registrar(job, "VUE-1", Map.of("reservaVueloId", "VUE-1"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> adaptador.registrar(job, "VUE-2", Map.of("reservaVueloId", "VUE-2")))
+                .isInstanceOf(EjecucionJobAdaptador.EjecucionYaRegistradaException.class);
+    }
+
+    @Test
+    void elResultadoRegistradoSePuedeReproducir() {
+        adaptador.registrar(job(), "VUE-1", Map.of("reservaVueloId", "VUE-1"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(adaptador.buscarResultado(JOB_KEY)).contains(Map.of("reservaVueloId", "VUE-1"));
+    }
+
+    private ActivatedJob job() {
+        ActivatedJob job = mock(ActivatedJob.class);
+        when(job.getKey()).thenReturn(JOB_KEY);
+        when(job.getType()).thenReturn("reservar-vuelo");
+        when(job.getProcessInstanceKey()).thenReturn(2251799813685200L);
+        return job;
+    }
+
+    @TestConfiguration
+    static class Configuracion {
+
+        @Bean
+        IdempotenciaPropiedades idempotenciaPropiedades() {
+            return new IdempotenciaPropiedades(null, null, null);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.aplicacion.puerto.salida.TramosReservaPuerto;
+import dev.javacadabra.reservasviaje.reserva.aplicacion.servicio.ItinerarioViajeServicio;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.EstadoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ItinerarioViaje;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TipoReserva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.TramoItinerario;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ItinerarioViajeJpaRepositorio;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReconstruccionItinerarioJpaRepositorio;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Escritura de tramos en la proyección de itinerarios a través de
+ * {@link ItinerarioViajeServicio}, que es quien abre la transacción de cada
+ * escritura y reintenta cuando otro proceso ha creado a la vez el itinerario.
+ *
+ * <p>Sin transacción de test: cada escritura se confirma como en producción y
+ * las tablas se vacían al terminar. El repositorio es un espía que delega en el
+ * real, para simular el proceso que pierde la carrera (su UPDATE no encuentra
+ * la fila, pero la fila existe cuando intenta insertarla).
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ItinerarioViajeAdaptadorTest {
+
+    private static final String RESERVA_VIAJE_ID = "VIAJE-ITI-1";
+    private static final String CLIENTE_ID = "123e4567-e89b-12d3-a456-426655440000";
+
+    @Autowired
+    private ItinerarioViajeJpaRepositorio repositorio;
+
+    @Autowired
+    private ReconstruccionItinerarioJpaRepositorio reconstruccionRepositorio;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ItinerarioViajeJpaRepositorio espia;
+    private ItinerarioViajeAdaptador adaptador;
+    private ItinerarioViajeServicio servicio;
+    private TransactionTemplate transaccion;
+
+    @BeforeEach
+    void preparar() {
+        espia = mock(ItinerarioViajeJpaRepositorio.class, delegatesTo(repositorio));
+        adaptador = new ItinerarioViajeAdaptador(espia, reconstruccionRepositorio, entityManager);
+        servicio = new ItinerarioViajeServicio(adaptador, mock(TramosReservaPuerto.class),
+                transactionManager, 500, 4, Duration.ofMinutes(5));
+        transaccion = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void limpiar() {
+        servicio.detener();
+        transaccion.executeWithoutResult(estado -> {
+            repositorio.deleteAllInBatch();
+            reconstruccionRepositorio.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void elSegundoTramoActualizaElItinerarioCreadoPorElPrimero() {
+        servicio.proyectarTramo(tramo(TipoReserva.VUELO, "VUE-1"));
+        servicio.proyectarTramo(tramo(TipoReserva.HOTEL, "HOT-1"));
+
+        ItinerarioViaje itinerario = adaptador.buscarPorReservaViajeId(RESERVA_VIAJE_ID).orElseThrow();
+        assertThat(itinerario.vuelo().reservaId()).isEqualTo("VUE-1");
+        assertThat(itinerario.hotel().reservaId()).isEqualTo("HOT-1");
+        assertThat(itinerario.coche()).isNull();
+        assertThat(repositorio.count()).isEqualTo(1);
+    }
+
+    @Test
+    void elTramoQuePierdeLaInsercionSeReintentaComoActualizacion() {
+        servicio.proyectarTramo(tramo(TipoReserva.VUELO, "VUE-1"));
+
+        // Primer intento: el UPDATE no ve el itinerario, como si el vuelo aún no se hubiera confirmado
+        doAnswer(invocacion -> 0)
+                .doAnswer(delegatesTo(repositorio))
+                .when(espia).actualizarTramoHotel(any(), any(), any(), any(), any(), any(), any(), any(), any());
+
+        servicio.proyectarTramo(tramo(TipoReserva.HOTEL, "HOT-1"));
+
+        verify(espia, times(2)).actualizarTramoHotel(any(), any(), any(), any(), any(), any(), any(), any(), any());
+        ItinerarioViaje itinerario = adaptador.buscarPorReservaViajeId(RESERVA_VIAJE_ID).orElseThrow();
+        assertThat(itinerario.vuelo().reservaId()).isEqualTo("VUE-1");
+        assertThat(itinerario.hotel().reservaId()).isEqualTo("HOT-1");
+    }
+
+    @Test
+    void otraReplicaNoPuedeReclamarUnaReconstruccionEnCurso() {
+        LocalDateTime ahora = LocalDateTime.now();
+
+        Boolean primera = transaccion.execute(estado ->
+                adaptador.reclamarReconstruccion("replica-a", ahora, ahora.minusMinutes(5)));
+        Boolean segunda = transaccion.execute(estado ->
+                adaptador.reclamarReconstruccion("replica-b", ahora, ahora.minusMinutes(5)));
+
+        assertThat(primera).isTrue();
+        assertThat(segunda).isFalse();
+    }
+
+    private TramoItinerario tramo(TipoReserva tipo, String reservaId) {
+        return new TramoItinerario(RESERVA_VIAJE_ID, CLIENTE_ID, tipo, reservaId, "Tramo " + reservaId,
+                LocalDateTime.of(2027, 3, 15, 10, 30), LocalDateTime.of(2027, 3, 20, 12, 0),
+                new BigDecimal("120.00"), "EUR", EstadoReserva.PENDIENTE);
+    }
+}
@@ -0,0 +1,126 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.adaptador;
+
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.CriterioCancelacionMasiva.TipoReservaAfectada;
+import dev.javacadabra.reservasviaje.reserva.dominio.modelo.objetovalor.ReservaAfectada;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad.ReservaVueloEntidad;
+import dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.repositorio.ReservaVueloJpaRepositorio;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Selección por clave y cancelación por lotes de las reservas de vuelo
+ * afectadas por una incidencia.
+ *
+ * <p>El vuelo afectado tiene cinco reservas cancelables y, para comprobar los
+ * filtros, otra del mismo vuelo ya cancelada, otra fallida, otra del día
+ * siguiente y otra de otro vuelo.
+ */
+@DataJpaTest
+@Import(ReservasAfectadasAdaptador.class)
+class ReservasAfectadasAdaptadorTest {
+
+    private static final String VUELO = "IB3456";
+    private static final LocalDate DIA = LocalDate.of(2027, 3, 15);
+    private static final CriterioCancelacionMasiva CRITERIO = CriterioCancelacionMasiva.porVuelo(VUELO, DIA);
+
+    @Autowired
+    private ReservasAfectadasAdaptador adaptador;
+
+    @Autowired
+    private ReservaVueloJpaRepositorio repositorio;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void preparar() {
+        for (int i = 1; i <= 5; i++) {
+            persistir("VUE-0" + i, VUELO, DIA, "CONFIRMADA", null);
+        }
+        persistir("VUE-06", VUELO, DIA, "CANCELADA", "Cancelada por el cliente");
+        persistir("VUE-07", VUELO, DIA, "FALLIDA", null);
+        persistir("VUE-08", VUELO, DIA.plusDays(1), "CONFIRMADA", null);
+        persistir("VUE-09", "UX1094", DIA, "CONFIRMADA", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void recorreLasCancelablesPorClaveSinSaltosNiRepeticiones() {
+        List<ReservaAfectada> primera = adaptador.buscarCancelables(CRITERIO, "", 2);
+        List<ReservaAfectada> segunda = adaptador.buscarCancelables(CRITERIO, primera.getLast().reservaId(), 2);
+        List<ReservaAfectada> tercera = adaptador.buscarCancelables(CRITERIO, segunda.getLast().reservaId(), 2);
+        List<ReservaAfectada> cuarta = adaptador.buscarCancelables(CRITERIO, tercera.getLast().reservaId(), 2);
+
+        assertThat(ids(primera)).containsExactly("VUE-01", "VUE-02");
+        assertThat(ids(segunda)).containsExactly("VUE-03", "VUE-04");
+        assertThat(ids(tercera)).containsExactly("VUE-05");
+        assertThat(cuarta).isEmpty();
+        assertThat(primera.getFirst().reservaViajeId()).isEqualTo("VIAJE-VUE-01");
+    }
+
+    @Test
+    void cancelaSoloLasDelLoteQueSiguenSiendoCancelables() {
+        LocalDateTime fecha = LocalDateTime.of(2027, 3, 14, 9, 0);
+
+        List<ReservaAfectada> canceladas = adaptador.cancelarLote(TipoReservaAfectada.VUELO,
+                List.of("VUE-01", "VUE-02", "VUE-06", "VUE-07"), "Vuelo cancelado", fecha);
+
+        assertThat(ids(canceladas)).containsExactly("VUE-01", "VUE-02");
+        ReservaVueloEntidad cancelada = repositorio.findById("VUE-01").orElseThrow();
+        assertThat(cancelada.getEstado()).isEqualTo("CANCELADA");
+        assertThat(cancelada.getMotivoCancelacion()).isEqualTo("Vuelo cancelado");
+        assertThat(cancelada.getFechaModificacion()).isEqualTo(fecha);
+        assertThat(repositorio.findById("VUE-06").orElseThrow().getMotivoCancelacion())
+                .isEqualTo("Cancelada por el cliente");
+        assertThat(repositorio.findById("VUE-07").orElseThrow().getEstado()).isEqualTo("FALLIDA");
+    }
+
+    @Test
+    void lasCanceladasDesaparecenDeLaSeleccion() {
+        adaptador.cancelarLote(TipoReservaAfectada.VUELO, List.of("VUE-01", "VUE-02"),
+                "Vuelo cancelado", LocalDateTime.now());
+
+        assertThat(ids(adaptador.buscarCancelables(CRITERIO, "", 10)))
+                .containsExactly("VUE-03", "VUE-04", "VUE-05");
+        assertThat(adaptador.cancelarLote(TipoReservaAfectada.VUELO, List.of("VUE-01"),
+                "Vuelo cancelado", LocalDateTime.now())).isEmpty();
+    }
+
+    private void persistir(String reservaId, String numeroVuelo, LocalDate dia, String estado, String motivo) {
+        entityManager.persist(ReservaVueloEntidad.builder()
+                .reservaId(reservaId)
+                .numeroVuelo(numeroVuelo)
+                .aerolinea("Iberia")
+                .origen("MAD")
+                .destino("BCN")
+                .fechaSalida(dia.atTime(10, 30))
+                .fechaLlegada(dia.atTime(11, 45))
+                .clase("ECONOMICA")
+                .numeroPasajeros(1)
+                .precio(new BigDecimal("89.90"))
+                .codigoMoneda("EUR")
+                .estado(estado)
+                .clienteId("123e4567-e89b-12d3-a456-426655440000")
+                .reservaViajeId("VIAJE-" + reservaId)
+                .motivoCancelacion(motivo)
+                .fechaCreacion(LocalDateTime.of(2027, 1, 10, 12, 0))
+                .build());
+    }
+
+    private static List<String> ids(List<ReservaAfectada> reservas) {
+        return reservas.stream().map(ReservaAfectada::reservaId).toList();
+    }
+}
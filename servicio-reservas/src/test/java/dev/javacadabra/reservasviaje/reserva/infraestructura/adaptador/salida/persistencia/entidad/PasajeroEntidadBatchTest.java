@@ -0,0 +1,91 @@
+package dev.javacadabra.reservasviaje.reserva.infraestructura.adaptador.salida.persistencia.entidad;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lotes JDBC al insertar una reserva de vuelo con sus pasajeros.
+ *
+ * <p>Los IDs de {@link PasajeroEntidad} salen de {@code pasajero_seq} al hacer
+ * {@code persist()}, así que las estadísticas se limpian justo antes del flush:
+ * cada sentencia preparada a partir de ahí es un lote de INSERT. Con
+ * {@code hibernate.jdbc.batch_size: 50} de {@code application.yml}, la reserva
+ * va en una sentencia y los pasajeros en una por cada 50.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PasajeroEntidadBatchTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics estadisticas;
+
+    @BeforeEach
+    void prepararEstadisticas() {
+        estadisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void reservaConVariosPasajerosInsertaLosPasajerosEnUnLote() {
+        persistirReserva("RES-BATCH-3", 3);
+        estadisticas.clear();
+
+        entityManager.flush();
+
+        assertThat(estadisticas.getEntityInsertCount()).isEqualTo(4);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void grupoDeCienPasajerosSeInsertaEnDosLotes() {
+        persistirReserva("RES-BATCH-100", 100);
+        estadisticas.clear();
+
+        entityManager.flush();
+
+        assertThat(estadisticas.getEntityInsertCount()).isEqualTo(101);
+        assertThat(estadisticas.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private void persistirReserva(String reservaId, int numeroPasajeros) {
+        ReservaVueloEntidad reserva = ReservaVueloEntidad.builder()
+                .reservaId(reservaId)
+                .numeroVuelo("IB3456")
+                .aerolinea("Iberia")
+                .origen("MAD")
+                .destino("BCN")
+                .fechaSalida(LocalDateTime.of(2027, 3, 15, 10, 30))
+                .fechaLlegada(LocalDateTime.of(2027, 3, 15, 11, 45))
+                .clase("ECONOMICA")
+                .numeroPasajeros(numeroPasajeros)
+                .precio(new BigDecimal("89.90").multiply(BigDecimal.valueOf(numeroPasajeros)))
+                .codigoMoneda("EUR")
+                .estado("CONFIRMADA")
+                .clienteId("123e4567-e89b-12d3-a456-426655440000")
+                .build();
+
+        for (int i = 0; i < numeroPasajeros; i++) {
+            reserva.agregarPasajero(PasajeroEntidad.builder()
+                    .nombre("Pasajero" + i)
+                    .apellidos("Grupo Prueba")
+                    .numeroDocumento(String.format("%08dX", i))
+                    .tipoDocumento("DNI")
+                    .fechaNacimiento(LocalDate.of(1990, 1, 1).plusDays(i))
+                    .nacionalidad("ES")
+                    .build());
+        }
+
+        entityManager.persist(reserva);
+    }
+}